@@ -0,0 +1,32 @@
+package com.ll.quizzle.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/**
+ * 반복 실행으로 측정한 호출당 처리 시간과 할당량
+ * JMH 를 쓸 수 없는 환경이라 워밍업 후 같은 스레드에서 반복 실행해 nanoTime 과 스레드 할당량을 잰다.
+ * 결과는 비교용 로그로만 쓰고, 실행 환경에 따라 값이 달라지므로 검증 조건으로 쓰지 않는다.
+ */
+public record Measurement(long nanosPerCall, long bytesPerCall) {
+
+    public static Measurement of(Supplier<?> task, int warmup, int iterations) {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < warmup; i++) {
+            task.get();
+        }
+        long allocatedBefore = threadBean.getCurrentThreadAllocatedBytes();
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            task.get();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        long allocated = threadBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        return new Measurement(elapsed / iterations, allocated / iterations);
+    }
+
+    public long perSecond() {
+        return 1_000_000_000L / Math.max(1, nanosPerCall);
+    }
+}
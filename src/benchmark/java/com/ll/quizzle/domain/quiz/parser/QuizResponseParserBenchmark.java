@@ -0,0 +1,34 @@
+package com.ll.quizzle.domain.quiz.parser;
+
+import static com.ll.quizzle.domain.quiz.parser.QuizResponseFixtures.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ll.quizzle.benchmark.Measurement;
+
+class QuizResponseParserBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(QuizResponseParserBenchmark.class);
+
+    private final QuizResponseParser parser = new QuizResponseParser();
+
+    @Test
+    @DisplayName("파서별 처리 시간 비교 (10/50 문제)")
+    void benchmarkParsers() throws Exception {
+        for (int count : new int[]{10, 50}) {
+            String textContent = textContent(count);
+            String textBody = responseBody(textContent);
+            String jsonBody = responseBody(structuredContent(count));
+
+            Measurement legacy = Measurement.of(() -> legacyParse(textContent), 1_000, 2_000);
+            Measurement text = Measurement.of(() -> parser.parse(textBody), 1_000, 2_000);
+            Measurement json = Measurement.of(() -> parser.parse(jsonBody), 1_000, 2_000);
+
+            log.info("{}문제 파싱 평균 - 기존 정규식(content): {}ns, 텍스트(본문): {}ns, JSON(본문): {}ns",
+                    count, legacy.nanosPerCall(), text.nanosPerCall(), json.nanosPerCall());
+        }
+    }
+}
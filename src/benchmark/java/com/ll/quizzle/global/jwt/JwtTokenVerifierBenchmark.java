@@ -0,0 +1,55 @@
+package com.ll.quizzle.global.jwt;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ll.quizzle.benchmark.Measurement;
+import com.ll.quizzle.global.config.JwtClaimsCacheProperties;
+import com.ll.quizzle.global.jwt.dto.JwtProperties;
+import com.ll.quizzle.standard.util.Ut;
+
+class JwtTokenVerifierBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtTokenVerifierBenchmark.class);
+
+    @Test
+    @DisplayName("같은 토큰 반복 검증 - 기존 방식(키/파서 재생성 + 매번 파싱) / 공유 파서 / 클레임 캐시")
+    void benchmarkVerification() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret("quizzle-jwt-verifier-test-secret-key-0123456789");
+        jwtProperties.setAccessTokenExpiration(3600);
+        jwtProperties.setRefreshTokenExpiration(86400);
+        String token = accessToken(jwtProperties);
+
+        JwtTokenVerifier verifier = new JwtTokenVerifier(jwtProperties, new JwtClaimsCacheProperties());
+        JwtClaimsCacheProperties uncachedProperties = new JwtClaimsCacheProperties();
+        uncachedProperties.setEnabled(false);
+        JwtTokenVerifier uncachedVerifier = new JwtTokenVerifier(jwtProperties, uncachedProperties);
+
+        Supplier<Object> legacy = () -> Ut.jwt.getClaims(jwtProperties, token).getSubject();
+        Supplier<Object> sharedParser = () -> uncachedVerifier.verify(token).orElseThrow().subject();
+        Supplier<Object> cached = () -> verifier.verify(token).orElseThrow().subject();
+
+        Measurement legacyResult = Measurement.of(legacy, 5_000, 20_000);
+        Measurement sharedParserResult = Measurement.of(sharedParser, 5_000, 20_000);
+        Measurement cachedResult = Measurement.of(cached, 5_000, 20_000);
+        log.info("토큰 검증 - 기존: {}회/초 {} bytes/회, 공유 파서: {}회/초 {} bytes/회, 캐시: {}회/초 {} bytes/회",
+                legacyResult.perSecond(), legacyResult.bytesPerCall(),
+                sharedParserResult.perSecond(), sharedParserResult.bytesPerCall(),
+                cachedResult.perSecond(), cachedResult.bytesPerCall());
+    }
+
+    private String accessToken(JwtProperties jwtProperties) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("sub", "verifier@example.com");
+        claims.put("role", "MEMBER");
+        claims.put("type", "access");
+        return Ut.jwt.toString(jwtProperties, claims);
+    }
+}
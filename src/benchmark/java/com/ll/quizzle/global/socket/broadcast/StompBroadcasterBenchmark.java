@@ -0,0 +1,54 @@
+package com.ll.quizzle.global.socket.broadcast;
+
+import static org.mockito.Mockito.*;
+
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.quizzle.benchmark.Measurement;
+
+class StompBroadcasterBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(StompBroadcasterBenchmark.class);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("8인 방 메시지 한 건당 할당 바이트 비교 (기존 Map + convertAndSend 변환 / 레코드 + 한 번 인코딩)")
+    void benchmarkRoomMessageAllocation() {
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(objectMapper);
+        StompBroadcaster broadcaster = new StompBroadcaster(mock(SimpMessagingTemplate.class), objectMapper);
+
+        Supplier<Object> legacy = () -> {
+            try {
+                String data = objectMapper.writeValueAsString(RoomMessageFixtures.legacyPlayers());
+                return converter.toMessage(RoomMessageFixtures.roomMessage(data), null).getPayload();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+        Supplier<Object> encodedOnce = () -> {
+            try {
+                String data = objectMapper.writeValueAsString(RoomMessageFixtures.players());
+                return broadcaster.toMessage(broadcaster.encode(RoomMessageFixtures.roomMessage(data)), true)
+                        .getPayload();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+
+        Measurement legacyResult = Measurement.of(legacy, 5_000, 10_000);
+        Measurement encodedOnceResult = Measurement.of(encodedOnce, 5_000, 10_000);
+        log.info("{}인 방 메시지 1건 - 기존: {} bytes {}ns, 한 번 인코딩: {} bytes {}ns", RoomMessageFixtures.PLAYERS,
+                legacyResult.bytesPerCall(), legacyResult.nanosPerCall(),
+                encodedOnceResult.bytesPerCall(), encodedOnceResult.nanosPerCall());
+    }
+}
@@ -0,0 +1,113 @@
+package com.ll.quizzle.domain.member.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ll.quizzle.domain.member.dto.MemberPrincipal;
+import com.ll.quizzle.domain.member.repository.MemberRepository;
+import com.ll.quizzle.global.config.MemberPrincipalCacheProperties;
+import com.ll.quizzle.global.jwt.dto.TokenClaims;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청 인증용 회원 정보(id, 이메일, 닉네임, 권한) 노드 로컬 캐시
+ * - 토큰이 검증되면 이 캐시에서 SecurityUser 를 만들므로, 평소 요청은 회원 테이블을 조회하지 않는다.
+ * - 캐시에 없으면 토큰의 회원 ID(mid) 로 필요한 컬럼만 조회하고, mid 가 없는 이전 토큰은 이메일로 조회한다.
+ * - 권한이나 닉네임이 바뀌면 커밋 후 INVALIDATION_CHANNEL 로 이메일을 발행해 모든 노드의 항목을 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberPrincipalCache {
+
+    public static final String INVALIDATION_CHANNEL = "member:principal:invalidate";
+
+    private final MemberPrincipalCacheProperties properties;
+    private final MemberRepository memberRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> entries.remove(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 토큰 주인의 인증 정보를 반환한다. 회원이 없으면 빈 값을 반환한다.
+     */
+    public Optional<MemberPrincipal> get(TokenClaims claims) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(claims.subject());
+        if (entry != null && entry.expiresAt() > now) {
+            return Optional.of(entry.principal());
+        }
+
+        Optional<MemberPrincipal> loaded = claims.memberId() != null
+                ? memberRepository.findPrincipalById(claims.memberId())
+                : memberRepository.findPrincipalByEmail(claims.subject());
+        // 토큰의 회원 ID 와 이메일이 가리키는 회원이 다르면 믿지 않는다.
+        loaded = loaded.filter(principal -> principal.email().equals(claims.subject()));
+
+        loaded.ifPresent(principal -> {
+            entries.put(principal.email(), new Entry(principal, now + properties.getTtl().toMillis()));
+            trimIfNeeded(now);
+        });
+        log.debug("인증 회원 정보 DB 조회 - 이메일: {}, 결과: {}", claims.subject(), loaded.isPresent());
+        return loaded;
+    }
+
+    /**
+     * 권한/닉네임이 바뀌면 호출한다. 트랜잭션 안이면 커밋 후에 무효화해서 이전 값이 다시 캐시되지 않게 한다.
+     */
+    public void evict(String email) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(email);
+                }
+            });
+            return;
+        }
+        invalidate(email);
+    }
+
+    private void invalidate(String email) {
+        entries.remove(email);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, email);
+        } catch (Exception e) {
+            log.warn("인증 회원 정보 무효화 메시지 발행 실패 - 이메일: {}, 오류: {}", email, e.getMessage());
+        }
+    }
+
+    private void trimIfNeeded(long now) {
+        if (entries.size() <= properties.getMaxEntries()) {
+            return;
+        }
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+        if (entries.size() > properties.getMaxEntries()) {
+            log.debug("인증 회원 정보 캐시 초과 - 전체 비움: {}", entries.size());
+            entries.clear();
+        }
+    }
+
+    private record Entry(MemberPrincipal principal, long expiresAt) {
+    }
+}
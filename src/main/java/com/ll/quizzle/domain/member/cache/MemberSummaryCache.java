@@ -0,0 +1,175 @@
+package com.ll.quizzle.domain.member.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ll.quizzle.domain.member.dto.MemberSummary;
+import com.ll.quizzle.domain.member.repository.MemberRepository;
+import com.ll.quizzle.global.config.MemberSummaryCacheProperties;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원 요약 정보(id, 닉네임, 아바타 URL) 노드 로컬 캐시
+ * - 접속자 목록/방 플레이어 목록을 만들 때 회원마다 엔티티를 조회하지 않고, 캐시에 없는 회원만 IN 조회 한 번으로 읽는다.
+ * - 이메일 기준으로 저장하고, 회원 ID 로 찾을 때는 ID -> 이메일 색인을 거친다.
+ * - 닉네임/아바타가 바뀌면 커밋 후 INVALIDATION_CHANNEL 로 이메일을 발행해 모든 노드의 항목을 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberSummaryCache {
+
+    public static final String INVALIDATION_CHANNEL = "member:summary:invalidate";
+
+    private static final int QUERY_BATCH_SIZE = 500;
+
+    private final MemberSummaryCacheProperties properties;
+    private final MemberRepository memberRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Long, String> emailsById = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> entries.remove(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 이메일별 요약 정보를 반환한다. 회원이 없는 이메일은 결과에 포함되지 않는다.
+     */
+    public Map<String, MemberSummary> getAll(Collection<String> emails) {
+        Map<String, MemberSummary> result = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        long now = System.currentTimeMillis();
+
+        for (String email : emails) {
+            Entry entry = entries.get(email);
+            if (entry != null && entry.expiresAt() > now) {
+                result.put(email, entry.summary());
+            } else {
+                misses.add(email);
+            }
+        }
+
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        long expiresAt = now + properties.getTtl().toMillis();
+        for (int from = 0; from < misses.size(); from += QUERY_BATCH_SIZE) {
+            List<String> batch = misses.subList(from, Math.min(misses.size(), from + QUERY_BATCH_SIZE));
+            for (MemberSummary summary : memberRepository.findSummariesByEmailIn(batch)) {
+                if (result.putIfAbsent(summary.email(), summary) == null) {
+                    put(summary, expiresAt);
+                }
+            }
+        }
+
+        log.debug("회원 요약 정보 조회 - 요청: {}, 캐시 적중: {}, DB 조회: {}",
+                emails.size(), emails.size() - misses.size(), misses.size());
+        trimIfNeeded(now);
+        return result;
+    }
+
+    /**
+     * 회원 ID 별 요약 정보를 반환한다. 회원이 없는 ID 는 결과에 포함되지 않는다.
+     */
+    public Map<Long, MemberSummary> getAllByIds(Collection<Long> memberIds) {
+        Map<Long, MemberSummary> result = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        long now = System.currentTimeMillis();
+
+        for (Long memberId : memberIds) {
+            String email = emailsById.get(memberId);
+            Entry entry = email != null ? entries.get(email) : null;
+            if (entry != null && entry.expiresAt() > now) {
+                result.put(memberId, entry.summary());
+            } else {
+                misses.add(memberId);
+            }
+        }
+
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        long expiresAt = now + properties.getTtl().toMillis();
+        for (int from = 0; from < misses.size(); from += QUERY_BATCH_SIZE) {
+            List<Long> batch = misses.subList(from, Math.min(misses.size(), from + QUERY_BATCH_SIZE));
+            for (MemberSummary summary : memberRepository.findSummariesByIdIn(batch)) {
+                if (result.putIfAbsent(summary.id(), summary) == null) {
+                    put(summary, expiresAt);
+                }
+            }
+        }
+
+        log.debug("회원 요약 정보 ID 조회 - 요청: {}, 캐시 적중: {}, DB 조회: {}",
+                memberIds.size(), memberIds.size() - misses.size(), misses.size());
+        trimIfNeeded(now);
+        return result;
+    }
+
+    /**
+     * 회원 정보가 바뀌면 호출한다. 트랜잭션 안이면 커밋 후에 무효화해서 이전 값이 다시 캐시되지 않게 한다.
+     */
+    public void evict(String email) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(email);
+                }
+            });
+            return;
+        }
+        invalidate(email);
+    }
+
+    private void invalidate(String email) {
+        entries.remove(email);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, email);
+        } catch (Exception e) {
+            log.warn("회원 요약 정보 무효화 메시지 발행 실패 - 이메일: {}, 오류: {}", email, e.getMessage());
+        }
+    }
+
+    private void put(MemberSummary summary, long expiresAt) {
+        entries.put(summary.email(), new Entry(summary, expiresAt));
+        emailsById.put(summary.id(), summary.email());
+    }
+
+    private void trimIfNeeded(long now) {
+        if (entries.size() <= properties.getMaxEntries()) {
+            return;
+        }
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+        if (entries.size() > properties.getMaxEntries()) {
+            log.debug("회원 요약 정보 캐시 초과 - 전체 비움: {}", entries.size());
+            entries.clear();
+        }
+        emailsById.values().retainAll(entries.keySet());
+    }
+
+    private record Entry(MemberSummary summary, long expiresAt) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.ll.quizzle.domain.member.dto;
+
+import com.ll.quizzle.domain.member.type.Role;
+import com.ll.quizzle.global.security.oauth2.dto.SecurityUser;
+
+/**
+ * 요청 인증에 필요한 회원 정보 (엔티티 대신 필요한 컬럼만 조회)
+ */
+public record MemberPrincipal(
+        Long id,
+        String email,
+        String nickname,
+        Role role
+) {
+
+    public SecurityUser toSecurityUser() {
+        return SecurityUser.of(id, nickname, email, "ROLE_" + role);
+    }
+}
@@ -0,0 +1,12 @@
+package com.ll.quizzle.domain.member.dto;
+
+/**
+ * 접속자 목록, 방 플레이어 목록 등에서 쓰는 회원 요약 정보 (엔티티 대신 필요한 컬럼만 조회)
+ */
+public record MemberSummary(
+        Long id,
+        String email,
+        String nickname,
+        String avatarUrl
+) {
+}
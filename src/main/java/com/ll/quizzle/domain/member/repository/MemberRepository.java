@@ -1,5 +1,6 @@
 package com.ll.quizzle.domain.member.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -7,6 +8,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.ll.quizzle.domain.member.dto.MemberPrincipal;
+import com.ll.quizzle.domain.member.dto.MemberSummary;
 import com.ll.quizzle.domain.member.entity.Member;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -18,4 +21,20 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     boolean existsByNickname(String nickname);
     
     List<Member> findAllByOrderByExpDesc();
+
+    @Query("SELECT new com.ll.quizzle.domain.member.dto.MemberSummary(m.id, m.email, m.nickname, a.url) "
+            + "FROM Member m LEFT JOIN m.avatar a WHERE m.email IN :emails")
+    List<MemberSummary> findSummariesByEmailIn(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT new com.ll.quizzle.domain.member.dto.MemberSummary(m.id, m.email, m.nickname, a.url) "
+            + "FROM Member m LEFT JOIN m.avatar a WHERE m.id IN :ids")
+    List<MemberSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.ll.quizzle.domain.member.dto.MemberPrincipal(m.id, m.email, m.nickname, m.role) "
+            + "FROM Member m WHERE m.email = :email")
+    Optional<MemberPrincipal> findPrincipalByEmail(@Param("email") String email);
+
+    @Query("SELECT new com.ll.quizzle.domain.member.dto.MemberPrincipal(m.id, m.email, m.nickname, m.role) "
+            + "FROM Member m WHERE m.id = :id")
+    Optional<MemberPrincipal> findPrincipalById(@Param("id") Long id);
 }
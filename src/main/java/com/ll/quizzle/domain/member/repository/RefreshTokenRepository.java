@@ -4,13 +4,9 @@ import com.ll.quizzle.global.jwt.dto.RefreshToken;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
-
+/**
+ * 이전 형식(rt:{이메일}) 리프레시 토큰, 새 토큰은 RefreshTokenStore 에 저장하고 여기서는 이전과 삭제만 한다.
+ */
 @Repository
 public interface RefreshTokenRepository extends CrudRepository<RefreshToken, String> {
-    Optional<RefreshToken> findByRefreshToken(String refreshToken);
-
-    Optional<RefreshToken> findByAccessToken(String accessToken);
-
-    boolean existsByRefreshToken(String refreshToken);
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.ll.quizzle.domain.member.repository;
+
+import static com.ll.quizzle.domain.member.util.RefreshTokenScripts.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원별 리프레시 토큰 저장소
+ * - 이메일 키 하나로 조회하므로 보조 인덱스가 필요 없고, 확인과 교체는 스크립트 한 번으로 원자적으로 처리한다.
+ * - 같은 토큰으로 동시에 교체를 시도하면 하나만 ROTATED 가 되고, 유예 시간 안의 나머지는 이미 발급한 토큰 쌍의
+ *   발급 시각과 리프레시 토큰 해시를 받는다(RECENT). 토큰 쌍은 호출 측이 다시 만든다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public void save(String email, String refreshToken, String accessToken, long ttlSeconds) {
+        redisTemplate.execute(SAVE_SCRIPT, List.of(refreshKey(email)),
+                hash(refreshToken), accessToken, String.valueOf(ttlSeconds));
+    }
+
+    /**
+     * issuedAt 은 새 토큰 쌍의 발급 시각(epoch 초)으로, 유예 시간 안의 재요청이 같은 토큰 쌍을 다시 만들 때 쓰인다.
+     */
+    public Rotation rotate(String email, String refreshToken, String newRefreshToken, String newAccessToken,
+                           long issuedAt, long ttlSeconds, long graceSeconds) {
+        String tokenHash = hash(refreshToken);
+        String result = redisTemplate.execute(ROTATE_SCRIPT, List.of(refreshKey(email), recentKey(tokenHash)),
+                tokenHash, hash(newRefreshToken), newAccessToken, String.valueOf(ttlSeconds), String.valueOf(issuedAt),
+                String.valueOf(graceSeconds));
+        if (ROTATED.equals(result)) {
+            return Rotation.rotated(newAccessToken, newRefreshToken);
+        }
+        if (result != null && result.startsWith(RECENT)) {
+            String[] issued = result.split(SEPARATOR, -1);
+            return Rotation.recent(Long.parseLong(issued[1]), issued[2]);
+        }
+        if (result != null && result.startsWith(REUSED)) {
+            String lastAccessToken = result.substring(REUSED.length() + SEPARATOR.length());
+            return Rotation.reused(lastAccessToken.isEmpty() ? null : lastAccessToken);
+        }
+        return Rotation.notFound();
+    }
+
+    public void delete(String email) {
+        redisTemplate.delete(refreshKey(email));
+    }
+
+    public static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public enum Status {
+        ROTATED, RECENT, REUSED, NOT_FOUND
+    }
+
+    /**
+     * 교체 결과
+     * - ROTATED: 클라이언트에 내려줄 토큰 쌍
+     * - RECENT: 이미 발급한 토큰 쌍의 발급 시각(epoch 초)과 리프레시 토큰 해시 (토큰 원문은 null)
+     * - REUSED: 폐기할 계열의 마지막 액세스 토큰 (리프레시 토큰은 null)
+     */
+    public record Rotation(Status status, String accessToken, String refreshToken, long issuedAt,
+                           String refreshTokenHash) {
+
+        public static Rotation rotated(String accessToken, String refreshToken) {
+            return new Rotation(Status.ROTATED, accessToken, refreshToken, 0, null);
+        }
+
+        public static Rotation recent(long issuedAt, String refreshTokenHash) {
+            return new Rotation(Status.RECENT, null, null, issuedAt, refreshTokenHash);
+        }
+
+        public static Rotation reused(String lastAccessToken) {
+            return new Rotation(Status.REUSED, lastAccessToken, null, 0, null);
+        }
+
+        public static Rotation notFound() {
+            return new Rotation(Status.NOT_FOUND, null, null, 0, null);
+        }
+
+        /**
+         * RECENT 결과가 가리키는 리프레시 토큰인지 확인한다.
+         */
+        public boolean issued(String refreshToken) {
+            return refreshTokenHash != null && refreshTokenHash.equals(hash(refreshToken));
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.ll.quizzle.domain.member.service;
 
+import com.ll.quizzle.global.jwt.JwtTokenVerifier;
 import com.ll.quizzle.global.jwt.dto.GeneratedToken;
 import com.ll.quizzle.global.jwt.dto.JwtProperties;
+import com.ll.quizzle.global.jwt.dto.TokenClaims;
 import com.ll.quizzle.standard.util.Ut;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
@@ -11,9 +13,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 @Service
 @Slf4j
@@ -21,43 +24,52 @@ import java.util.Map;
 public class AuthTokenService {
     private final JwtProperties jwtProperties;
     private final RefreshTokenService refreshTokenService;
+    private final JwtTokenVerifier jwtTokenVerifier;
     private static final int EXPIRATION_TIME = 5 * 60 * 1000;
 
     public GeneratedToken generateToken(String email, String role) {
-        String accessToken = genAccessToken(email, role);
-        String refreshToken = refreshTokenService.generateRefreshToken(email);
+        return generateToken(null, email, role);
+    }
+
+    /**
+     * 회원 ID 를 토큰에 담아 두면, 요청 인증 시 캐시에 없는 회원도 기본 키로 조회한다.
+     */
+    public GeneratedToken generateToken(Long memberId, String email, String role) {
+        String accessToken = genAccessToken(memberId, email, role);
+        String refreshToken = refreshTokenService.generateRefreshToken(memberId, email);
 
         refreshTokenService.saveTokenInfo(email, refreshToken, accessToken);
         return new GeneratedToken(accessToken, refreshToken);
     }
 
-    String genAccessToken(String email, String role) {
+    String genAccessToken(Long memberId, String email, String role) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("sub", email);
         claims.put("role", role);
         claims.put("type", "access");
+        claims.put("jti", UUID.randomUUID().toString());
+        if (memberId != null) {
+            claims.put(TokenClaims.MEMBER_ID_CLAIM, memberId);
+        }
 
         return Ut.jwt.toString(jwtProperties, claims);
     }
 
     boolean verifyToken(String token) {
-        try {
-            Claims claims = Ut.jwt.getClaims(jwtProperties, token);
-            return claims.getExpiration().after(new Date());
-        } catch (ExpiredJwtException e) {
-            log.debug("Access Token 만료됨: {}", e.getMessage());
-        } catch (SignatureException e) {
-            log.debug("Access Token 서명 불일치: {}", e.getMessage());
-        } catch (MalformedJwtException e) {
-            log.debug("Access Token 구조 이상: {}", e.getMessage());
-        } catch (Exception e) {
-            log.debug("Access Token 검증 실패: {}", e.getMessage());
-        }
-        return false;
+        return verify(token).isPresent();
+    }
+
+    /**
+     * 토큰을 한 번만 검증하고 클레임을 반환한다. 유효하지 않으면 빈 값을 반환한다.
+     */
+    Optional<TokenClaims> verify(String token) {
+        return jwtTokenVerifier.verify(token);
     }
 
     String getEmail(String token) {
-        return Ut.jwt.getClaims(jwtProperties, token).getSubject();
+        return verify(token)
+                .map(TokenClaims::subject)
+                .orElseGet(() -> jwtTokenVerifier.parseClaims(token).getSubject());
     }
 
 
@@ -66,8 +78,13 @@ public class AuthTokenService {
             return System.currentTimeMillis() + EXPIRATION_TIME;
         }
 
+        Optional<TokenClaims> verified = verify(token);
+        if (verified.isPresent()) {
+            return verified.get().expiresAt();
+        }
+
         try {
-            Claims claims = Ut.jwt.getClaims(jwtProperties, token);
+            Claims claims = jwtTokenVerifier.parseClaims(token);
             if (claims.getExpiration() != null) {
                 long expiryTime = claims.getExpiration().getTime();
                 log.debug("토큰 만료 시간 추출 (밀리초): {}, Date: {}", expiryTime, claims.getExpiration());
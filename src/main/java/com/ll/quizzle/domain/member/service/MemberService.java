@@ -8,10 +8,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +18,9 @@ import com.ll.quizzle.domain.avatar.entity.OwnedAvatar;
 import com.ll.quizzle.domain.avatar.repository.AvatarRepository;
 import com.ll.quizzle.domain.avatar.repository.OwnedAvatarRepository;
 import com.ll.quizzle.domain.avatar.type.AvatarTemplate;
+import com.ll.quizzle.domain.member.cache.MemberPrincipalCache;
+import com.ll.quizzle.domain.member.cache.MemberSummaryCache;
+import com.ll.quizzle.domain.member.dto.MemberPrincipal;
 import com.ll.quizzle.domain.member.dto.response.MemberProfileEditResponse;
 import com.ll.quizzle.domain.member.dto.response.MemberRankingResponse;
 import com.ll.quizzle.domain.member.dto.response.UserProfileResponse;
@@ -30,6 +31,8 @@ import com.ll.quizzle.domain.point.type.PointReason;
 import com.ll.quizzle.global.exceptions.ErrorCode;
 import com.ll.quizzle.global.jwt.dto.GeneratedToken;
 import com.ll.quizzle.global.jwt.dto.JwtProperties;
+import com.ll.quizzle.global.jwt.dto.TokenClaims;
+import com.ll.quizzle.global.jwt.revocation.TokenRevocationService;
 import com.ll.quizzle.global.request.Rq;
 import com.ll.quizzle.global.response.RsData;
 import com.ll.quizzle.global.security.oauth2.repository.OAuthRepository;
@@ -50,12 +53,12 @@ public class MemberService {
 	private final PointService pointService;
 	private final OAuthRepository oAuthRepository;
 	private final RefreshTokenService refreshTokenService;
-	private final RedisTemplate<String, String> redisTemplate;
 	private final AuthTokenService authTokenService;
+	private final TokenRevocationService tokenRevocationService;
 	private final JwtProperties jwtProperties;
 	private final Rq rq;
-
-	private static final String LOGOUT_PREFIX = "LOGOUT:";
+	private final MemberSummaryCache memberSummaryCache;
+	private final MemberPrincipalCache memberPrincipalCache;
 
 	@Transactional(readOnly = true)
 	public Member findByProviderAndOauthId(String provider, String oauthId) {
@@ -85,17 +88,26 @@ public class MemberService {
 	}
 
 	public String extractEmailIfValid(String token) {
-		if (isLoggedOut(token)) {
-			TOKEN_LOGGED_OUT.throwServiceException();
-		}
-		if (!verifyToken(token)) {
-			TOKEN_INVALID.throwServiceException();
-		}
-		return getEmailFromToken(token);
+		return verifyActiveToken(token).subject();
+	}
+
+	/**
+	 * 토큰을 검증하고 요청 인증에 필요한 회원 정보를 반환한다. (평소에는 캐시에서 읽어 DB 를 조회하지 않는다)
+	 */
+	public MemberPrincipal extractPrincipalIfValid(String token) {
+		TokenClaims claims = verifyActiveToken(token);
+		return memberPrincipalCache.get(claims)
+			.orElseThrow(MEMBER_NOT_FOUND::throwServiceException);
 	}
 
-	public boolean isLoggedOut(String token) {
-		return Boolean.TRUE.equals(redisTemplate.hasKey(LOGOUT_PREFIX + token));
+	// 검증과 클레임 추출을 토큰 한 번 파싱으로 처리하고, 폐기 여부는 로컬 블룸 필터에 걸린 토큰만 Redis 로 확인한다.
+	private TokenClaims verifyActiveToken(String token) {
+		TokenClaims claims = authTokenService.verify(token)
+			.orElseThrow(TOKEN_INVALID::throwServiceException);
+		if (tokenRevocationService.isRevoked(claims, token)) {
+			TOKEN_LOGGED_OUT.throwServiceException();
+		}
+		return claims;
 	}
 
 	public boolean verifyToken(String accessToken) {
@@ -114,6 +126,16 @@ public class MemberService {
 		return refreshTokenService.refreshAccessToken(refreshToken);
 	}
 
+	/**
+	 * 리프레시 토큰을 교체하고 새 액세스/리프레시 토큰 쿠키를 내려준다.
+	 * 제출한 리프레시 토큰은 교체되어 다시 쓸 수 없으므로, 세션을 이어 갈 때는 refreshAccessToken 대신 이 메서드를 쓴다.
+	 */
+	public GeneratedToken refreshTokens(String refreshToken, HttpServletResponse response) {
+		GeneratedToken tokens = refreshTokenService.rotate(refreshToken);
+		addTokenCookies(response, tokens);
+		return tokens;
+	}
+
 	@Transactional
 	public void oAuth2Login(Member member, HttpServletResponse response) {
 		if (member.getAvatar() == null) {
@@ -133,6 +155,7 @@ public class MemberService {
 		}
 
 		GeneratedToken tokens = authTokenService.generateToken(
+			member.getId(),
 			member.getEmail(),
 			member.getUserRole()
 		);
@@ -142,6 +165,22 @@ public class MemberService {
 
 
 	private void addAuthCookies(HttpServletResponse response, GeneratedToken tokens, Member member) {
+		addTokenCookies(response, tokens);
+
+		Map<String, Object> roleData = new HashMap<>();
+		roleData.put("role", member.getUserRole());
+
+		CookieUtil.addCookie(
+			response,
+			"role",
+			URLEncoder.encode(Ut.json.toString(roleData), StandardCharsets.UTF_8),
+			(int)jwtProperties.getAccessTokenExpiration(),
+			false,
+			true
+		);
+	}
+
+	private void addTokenCookies(HttpServletResponse response, GeneratedToken tokens) {
 		CookieUtil.addCookie(
 			response,
 			"access_token",
@@ -159,18 +198,6 @@ public class MemberService {
 			true,
 			true
 		);
-
-		Map<String, Object> roleData = new HashMap<>();
-		roleData.put("role", member.getUserRole());
-
-		CookieUtil.addCookie(
-			response,
-			"role",
-			URLEncoder.encode(Ut.json.toString(roleData), StandardCharsets.UTF_8),
-			(int)jwtProperties.getAccessTokenExpiration(),
-			false,
-			true
-		);
 	}
 
 	public void logout(HttpServletRequest request, HttpServletResponse response) {
@@ -199,14 +226,13 @@ public class MemberService {
 			UNAUTHORIZED.throwServiceException();
 		}
 
-		String email = authTokenService.getEmail(accessToken);
+		String token = accessToken;
+		Optional<TokenClaims> claims = authTokenService.verify(token);
+		String email = claims.map(TokenClaims::subject)
+			.orElseGet(() -> authTokenService.getEmail(token));
 
-		redisTemplate.opsForValue().set(
-			LOGOUT_PREFIX + accessToken,
-			email,
-			jwtProperties.getAccessTokenExpiration(),
-			TimeUnit.MILLISECONDS
-		);
+		// 이미 만료된 토큰은 폐기할 필요가 없다.
+		claims.ifPresent(tokenClaims -> tokenRevocationService.revoke(tokenClaims, token));
 
 		refreshTokenService.removeRefreshToken(email);
 
@@ -232,6 +258,8 @@ public class MemberService {
 
 		member.changeNickname(newNickname);
 		memberRepository.save(member);
+		memberSummaryCache.evict(member.getEmail());
+		memberPrincipalCache.evict(member.getEmail());
 		return MemberProfileEditResponse.from(member);
 	}
 
@@ -252,6 +280,7 @@ public class MemberService {
 
 		member.changeAvatar(avatar);
 		memberRepository.save(member);
+		memberSummaryCache.evict(member.getEmail());
 	}
 
 
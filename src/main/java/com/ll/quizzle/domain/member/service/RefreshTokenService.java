@@ -2,103 +2,242 @@ package com.ll.quizzle.domain.member.service;
 
 
 import com.ll.quizzle.domain.member.repository.RefreshTokenRepository;
+import com.ll.quizzle.domain.member.repository.RefreshTokenStore;
+import com.ll.quizzle.domain.member.repository.RefreshTokenStore.Rotation;
+import com.ll.quizzle.domain.member.repository.RefreshTokenStore.Status;
+import com.ll.quizzle.global.config.RefreshTokenProperties;
+import com.ll.quizzle.global.jwt.JwtTokenVerifier;
+import com.ll.quizzle.global.jwt.dto.GeneratedToken;
 import com.ll.quizzle.global.jwt.dto.JwtProperties;
-import com.ll.quizzle.global.jwt.dto.RefreshToken;
+import com.ll.quizzle.global.jwt.dto.TokenClaims;
+import com.ll.quizzle.global.jwt.revocation.TokenRevocationService;
 import com.ll.quizzle.global.response.RsData;
 import com.ll.quizzle.standard.util.Ut;
-import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static com.ll.quizzle.global.exceptions.ErrorCode.*;
 
+/**
+ * 리프레시 토큰 발급/교체
+ * - 갱신할 때마다 리프레시 토큰도 새로 발급하고(rotation), 저장소에는 현재 토큰과 직전 토큰의 해시만 남긴다.
+ * - 교체된 토큰이 다시 쓰이면 탈취로 보고 해당 회원의 리프레시 토큰 계열과 마지막 액세스 토큰을 폐기한다.
+ * - 리프레시 토큰은 한 번만 파싱하고, 저장소 조회는 토큰의 이메일 키 하나로 끝난다.
+ * - 같은 리프레시 토큰의 교체는 노드 안에서 하나만 실행하고, 동시에 들어온 요청은 그 결과를 기다려 같은 토큰 쌍을 받는다.
+ *   다른 노드나 조금 늦게 온 요청은 저장소의 유예 기록(rt:recent)에 남은 발급 시각으로 같은 토큰 쌍을 다시 만든다.
+ * - 교체로 발급하는 토큰 쌍의 jti 는 제출된 토큰에서 서버 비밀키로 유도하므로, 같은 발급 시각이면 같은 토큰이 만들어진다.
+ *   그래서 저장소에는 새 리프레시 토큰 원문을 남기지 않는다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RefreshTokenService {
 
-    private final RefreshTokenRepository repository;
+    private final RefreshTokenStore store;
+    private final RefreshTokenRepository legacyRepository;
     private final JwtProperties jwtProperties;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final JwtTokenVerifier jwtTokenVerifier;
+    private final TokenRevocationService tokenRevocationService;
+    private final RefreshTokenProperties properties;
+
+    private final Map<String, CompletableFuture<GeneratedToken>> inFlight = new ConcurrentHashMap<>();
 
-    @Transactional
     void saveTokenInfo(String email, String refreshToken, String accessToken) {
-        try {
-            log.debug("Saving token for email: {}", email);
-            RefreshToken token = new RefreshToken(email, refreshToken, accessToken);
-            repository.save(token);
-
-            String key = "rt:refreshToken:" + refreshToken;
-            redisTemplate.expire(key, 86400, TimeUnit.SECONDS);
-            log.debug("Token saved successfully for email: {}", email);
-        } catch (Exception e) {
-            throw e;
-        }
+        log.debug("Saving token for email: {}", email);
+        store.save(email, refreshToken, accessToken, jwtProperties.getRefreshTokenExpiration());
+        log.debug("Token saved successfully for email: {}", email);
     }
 
     String generateRefreshToken(String email) {
+        return generateRefreshToken(null, email);
+    }
+
+    String generateRefreshToken(Long memberId, String email) {
+        // 같은 초에 발급해도 매번 다른 토큰이 되도록 한다.
+        return generateRefreshToken(memberId, email, UUID.randomUUID().toString(), new Date());
+    }
+
+    private String generateRefreshToken(Long memberId, String email, String tokenId, Date issuedAt) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("sub", email);
         claims.put("role", "ROLE_MEMBER");
         claims.put("type", "refresh");
-        return Ut.jwt.toString(jwtProperties, claims);
+        claims.put("jti", tokenId);
+        if (memberId != null) {
+            claims.put(TokenClaims.MEMBER_ID_CLAIM, memberId);
+        }
+        return Ut.jwt.toString(jwtProperties, claims, issuedAt);
     }
 
-    @Transactional
-    RsData<String> refreshAccessToken(String refreshToken) {
+    /**
+     * 리프레시 토큰을 새 액세스 토큰/리프레시 토큰으로 교체한다. 제출한 리프레시 토큰은 더 이상 쓸 수 없다.
+     */
+    GeneratedToken rotate(String refreshToken) {
+        String token = refreshToken.replace("Bearer ", "").trim();
+
+        CompletableFuture<GeneratedToken> rotation = new CompletableFuture<>();
+        CompletableFuture<GeneratedToken> running = inFlight.putIfAbsent(token, rotation);
+        if (running != null) {
+            return await(running);
+        }
+
         try {
-            String token = refreshToken.replace("Bearer ", "").trim();
+            GeneratedToken tokens = rotateOnce(token);
+            rotation.complete(tokens);
+            return tokens;
+        } catch (RuntimeException e) {
+            rotation.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(token, rotation);
+        }
+    }
 
-            String tokenType = Ut.jwt.getClaims(jwtProperties, token).get("type", String.class);
-            if (!"refresh".equals(tokenType)) {
-                REFRESH_TOKEN_INVALID.throwServiceException();
-            }
+    private GeneratedToken rotateOnce(String token) {
+        Claims claims;
+        try {
+            claims = jwtTokenVerifier.parseClaims(token);
+        } catch (ExpiredJwtException e) {
+            throw REFRESH_TOKEN_INVALID.throwServiceException();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw TOKEN_INVALID.throwServiceException();
+        }
+        if (!"refresh".equals(claims.get("type", String.class))) {
+            throw REFRESH_TOKEN_INVALID.throwServiceException();
+        }
 
-            boolean tokenExists = repository.existsByRefreshToken(token);
-            log.debug("Found refresh token in repository: {}", tokenExists);
+        String email = claims.getSubject();
+        long issuedAt = Instant.now().getEpochSecond();
+        GeneratedToken issued = issuePair(token, claims, issuedAt);
+        long ttl = jwtProperties.getRefreshTokenExpiration();
+        long grace = properties.getReuseGracePeriod().toSeconds();
 
-            if (!tokenExists) {
-                REFRESH_TOKEN_NOT_FOUND.throwServiceException();
-            }
-            RefreshToken resultToken = repository.findByRefreshToken(token)
-                    .orElseThrow(REFRESH_TOKEN_NOT_FOUND::throwServiceException);
+        Rotation rotation = store.rotate(email, token, issued.refreshToken(), issued.accessToken(), issuedAt, ttl, grace);
+        if (rotation.status() == Status.NOT_FOUND && migrateLegacyToken(email, token)) {
+            rotation = store.rotate(email, token, issued.refreshToken(), issued.accessToken(), issuedAt, ttl, grace);
+        }
 
-            String email = resultToken.getId();
-            String role = Ut.jwt.getClaims(jwtProperties, token).get("role", String.class);
-            String newAccessToken = Ut.jwt.toString(jwtProperties, Map.of("sub", email, "role", role));
+        if (rotation.status() == Status.REUSED) {
+            log.warn("교체된 리프레시 토큰 재사용 감지 - 이메일: {}", email);
+            revokeQuietly(rotation.accessToken());
+            throw REFRESH_TOKEN_REUSED.throwServiceException();
+        }
+        if (rotation.status() == Status.NOT_FOUND) {
+            throw REFRESH_TOKEN_NOT_FOUND.throwServiceException();
+        }
+        if (rotation.status() == Status.RECENT) {
+            log.debug("방금 교체된 리프레시 토큰 - 발급된 토큰 쌍 다시 생성, 이메일: {}", email);
+            GeneratedToken reissued = issuePair(token, claims, rotation.issuedAt());
+            if (!rotation.issued(reissued.refreshToken())) {
+                // 노드 간 서명 키나 만료 설정이 달라 같은 토큰을 만들 수 없는 경우
+                log.warn("방금 교체된 리프레시 토큰을 다시 만들지 못함 - 이메일: {}", email);
+                throw REFRESH_TOKEN_NOT_FOUND.throwServiceException();
+            }
+            return reissued;
+        }
+        return new GeneratedToken(rotation.accessToken(), rotation.refreshToken());
+    }
 
-            resultToken.updateAccessToken(newAccessToken);
-            repository.save(resultToken);
+    /**
+     * 제출된 리프레시 토큰과 발급 시각으로 교체용 토큰 쌍을 만든다. 입력이 같으면 항상 같은 토큰 쌍이 된다.
+     */
+    private GeneratedToken issuePair(String token, Claims claims, long issuedAt) {
+        String email = claims.getSubject();
+        Long memberId = claims.get(TokenClaims.MEMBER_ID_CLAIM, Long.class);
+        Date issuedDate = new Date(TimeUnit.SECONDS.toMillis(issuedAt));
+        String accessToken = genAccessToken(memberId, email, claims.get("role", String.class),
+                derivedTokenId("access", token), issuedDate);
+        String refreshToken = generateRefreshToken(memberId, email, derivedTokenId("refresh", token), issuedDate);
+        return new GeneratedToken(accessToken, refreshToken);
+    }
 
-            return RsData.success(HttpStatus.OK, newAccessToken);
-        } catch (MalformedJwtException e) {
-            throw TOKEN_INVALID.throwServiceException();
-        } catch (Exception e) {
-            throw INTERNAL_SERVER_ERROR.throwServiceException();
+    private String derivedTokenId(String purpose, String token) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return UUID.nameUUIDFromBytes(mac.doFinal((purpose + ":" + token).getBytes(StandardCharsets.UTF_8)))
+                    .toString();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
         }
     }
 
-    @Transactional
-    public void removeRefreshToken(String email) {
+    private GeneratedToken await(CompletableFuture<GeneratedToken> running) {
         try {
-            log.debug("Attempting to remove token for email: {}", email);
-            if (repository.existsById(email)) {
-                repository.deleteById(email);
-                log.debug("Token removed successfully for email: {}", email);
-            } else {
-                log.debug("No token found for email: {}", email);
-                // 토큰이 없어도 오류로 처리하지 않음
+            return running.get(properties.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
-        } catch (Exception e) {
-            throw e;
+            throw INTERNAL_SERVER_ERROR.throwServiceException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw INTERNAL_SERVER_ERROR.throwServiceException(e);
+        } catch (TimeoutException e) {
+            log.warn("리프레시 토큰 교체 대기 시간 초과");
+            throw INTERNAL_SERVER_ERROR.throwServiceException(e);
+        }
+    }
+
+    RsData<String> refreshAccessToken(String refreshToken) {
+        return RsData.success(HttpStatus.OK, rotate(refreshToken).accessToken());
+    }
+
+    public void removeRefreshToken(String email) {
+        log.debug("Attempting to remove token for email: {}", email);
+        store.delete(email);
+        legacyRepository.deleteById(email);
+    }
+
+    private String genAccessToken(Long memberId, String email, String role, String tokenId, Date issuedAt) {
+        Map<String, Object> accessClaims = new HashMap<>();
+        accessClaims.put("sub", email);
+        accessClaims.put("role", role);
+        accessClaims.put("jti", tokenId);
+        if (memberId != null) {
+            accessClaims.put(TokenClaims.MEMBER_ID_CLAIM, memberId);
+        }
+        return Ut.jwt.toString(jwtProperties, accessClaims, issuedAt);
+    }
+
+    // 이전 형식(rt:{이메일} 엔티티)으로 저장된 토큰이면 새 저장소로 옮긴다. 기본 키 조회라 인덱스를 쓰지 않는다.
+    private boolean migrateLegacyToken(String email, String token) {
+        return legacyRepository.findById(email)
+                .filter(legacy -> token.equals(legacy.getRefreshToken()))
+                .map(legacy -> {
+                    store.save(email, token, legacy.getAccessToken(), jwtProperties.getRefreshTokenExpiration());
+                    legacyRepository.deleteById(email);
+                    log.debug("이전 형식 리프레시 토큰 이전 - 이메일: {}", email);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    private void revokeQuietly(String accessToken) {
+        if (accessToken == null) {
+            return;
         }
+        jwtTokenVerifier.verify(accessToken)
+                .ifPresent(claims -> tokenRevocationService.revoke(claims, accessToken));
     }
-}
\ No newline at end of file
+}
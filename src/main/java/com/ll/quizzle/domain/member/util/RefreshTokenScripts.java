@@ -0,0 +1,77 @@
+package com.ll.quizzle.domain.member.util;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * 리프레시 토큰 저장/교체 스크립트
+ *
+ * 회원마다 auth:refresh:{이메일} 해시 하나에 현재 리프레시 토큰 해시(token), 직전에 교체된 토큰 해시(previous),
+ * 마지막으로 발급한 액세스 토큰(access) 을 두고, 확인과 교체를 한 번의 왕복으로 처리한다.
+ * 리프레시 토큰 원문은 저장하지 않는다. (액세스 토큰은 재사용 감지 시 폐기하기 위해 남긴다)
+ *
+ * 교체 직후 같은 토큰으로 들어오는 요청(만료 직후 브라우저가 동시에 보낸 요청, 다른 노드로 간 요청)을 위해
+ * rt:recent:{제출된 토큰 해시} 에 새 토큰 쌍의 발급 시각과 새 리프레시 토큰 해시만 잠시 남긴다.
+ * 토큰 쌍은 제출된 토큰과 발급 시각으로 다시 만들 수 있으므로(RefreshTokenService) 원문을 남길 필요가 없다.
+ */
+public final class RefreshTokenScripts {
+
+    public static final String ROTATED = "ROTATED";
+    public static final String RECENT = "RECENT";
+    public static final String REUSED = "REUSED";
+    public static final String NOT_FOUND = "NOT_FOUND";
+    public static final String SEPARATOR = "\u001f";
+
+    // KEYS: auth:refresh:{이메일}
+    // ARGV: 리프레시 토큰 해시, 액세스 토큰, TTL(초)
+    // 로그인할 때마다 이전 토큰 계열을 버리고 새로 시작한다.
+    public static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'token', ARGV[1], 'access', ARGV[2])
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    // KEYS: auth:refresh:{이메일}, rt:recent:{제출된 리프레시 토큰 해시}
+    // ARGV: 제출된 리프레시 토큰 해시, 새 리프레시 토큰 해시, 새 액세스 토큰, TTL(초), 새 토큰 쌍 발급 시각(epoch 초), 유예 시간(초)
+    // 현재 토큰이면 새 토큰으로 교체하고, 유예 시간 동안 발급 시각과 새 리프레시 토큰 해시를 rt:recent 에 남긴 뒤 ROTATED 를 반환한다.
+    // 직전 토큰이 다시 오면 유예 시간 안이면 RECENT 와 이미 발급한 토큰 쌍의 (발급 시각, 리프레시 토큰 해시)를 반환하고,
+    // 지났으면 탈취된 것으로 보고 계열 전체(해시)를 지운 뒤 REUSED 와 마지막 액세스 토큰을 반환한다.
+    // 둘 다 아니면 NOT_FOUND 를 반환한다.
+    public static final RedisScript<String> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local fields = redis.call('HMGET', KEYS[1], 'token', 'previous', 'access')
+            if not fields[1] then
+                return 'NOT_FOUND'
+            end
+
+            if fields[1] == ARGV[1] then
+                redis.call('HSET', KEYS[1], 'token', ARGV[2], 'previous', ARGV[1], 'access', ARGV[3])
+                redis.call('EXPIRE', KEYS[1], ARGV[4])
+                if tonumber(ARGV[6]) > 0 then
+                    redis.call('SET', KEYS[2], ARGV[5] .. '\\31' .. ARGV[2], 'EX', ARGV[6])
+                end
+                return 'ROTATED'
+            end
+
+            if fields[2] == ARGV[1] then
+                local recent = redis.call('GET', KEYS[2])
+                if recent then
+                    return 'RECENT' .. '\\31' .. recent
+                end
+                redis.call('DEL', KEYS[1])
+                return 'REUSED' .. '\\31' .. (fields[3] or '')
+            end
+            return 'NOT_FOUND'
+            """, String.class);
+
+    private RefreshTokenScripts() {
+    }
+
+    public static String refreshKey(String email) {
+        return "auth:refresh:" + email;
+    }
+
+    public static String recentKey(String tokenHash) {
+        return "rt:recent:" + tokenHash;
+    }
+}
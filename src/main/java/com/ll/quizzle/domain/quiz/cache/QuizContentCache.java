@@ -0,0 +1,236 @@
+package com.ll.quizzle.domain.quiz.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.ll.quizzle.domain.quiz.dto.QuizContent;
+import com.ll.quizzle.domain.quiz.service.RedisQuizAnswerService;
+import com.ll.quizzle.domain.quiz.util.QuizContentScripts;
+import com.ll.quizzle.global.config.QuizContentCacheProperties;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 저장이 끝난 퀴즈의 문제/정답을 노드 메모리에 보관하는 캐시 (quizId 기준)
+ * - 퀴즈 내용은 저장 후 바뀌지 않으므로 한 번 HGETALL 로 읽은 뒤에는 출제/채점을 Redis 없이 처리한다.
+ * - 스트리밍 생성 중인 퀴즈는 아직 내용이 늘어나는 중이므로 캐시하지 않는다.
+ *   대신 캐시하지 못했다는 결과를 missTtl 동안 기억해, 그동안의 출제/채점마다 생성 여부를 다시 확인하지 않는다.
+ * - 항목은 ttl 이 지나거나 maxEntries 를 넘으면 먼저 들어온 순서대로 제거한다.
+ * - 퀴즈가 삭제되면 INVALIDATION_CHANNEL 로 quizId 를 발행해 모든 노드의 항목을 지운다.
+ */
+@Slf4j
+@Component
+public class QuizContentCache {
+
+    public static final String INVALIDATION_CHANNEL = "quiz:content:invalidate";
+
+    private final QuizContentCacheProperties properties;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final Map<String, CompletableFuture<Optional<QuizContent>>> loading = new ConcurrentHashMap<>();
+    // 캐시하지 못한 퀴즈 -> 다시 확인할 시각(nanoTime)
+    private final Map<String, Long> absentUntil = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public QuizContentCache(QuizContentCacheProperties properties,
+                            RedisTemplate<String, String> redisTemplate,
+                            RedisMessageListenerContainer listenerContainer) {
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!properties.isEnabled()) {
+            log.info("퀴즈 내용 로컬 캐시 비활성화 상태");
+            return;
+        }
+
+        listenerContainer.addMessageListener(
+                (message, pattern) -> invalidateLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 캐시된 퀴즈 내용을 반환하고, 없으면 Redis 에서 한 번 읽어 캐시한다.
+     * 같은 퀴즈를 동시에 조회하면 한 요청만 Redis 를 읽고 나머지는 그 결과를 기다린다.
+     */
+    public Optional<QuizContent> get(String quizId) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+
+        long now = System.nanoTime();
+        Entry entry = entries.get(quizId);
+        if (entry != null) {
+            if (!entry.isExpired(now)) {
+                hits.increment();
+                return Optional.of(entry.content);
+            }
+            entries.remove(quizId, entry);
+        }
+        misses.increment();
+
+        Long recheckAt = absentUntil.get(quizId);
+        if (recheckAt != null) {
+            if (recheckAt - now > 0) {
+                return Optional.empty();
+            }
+            absentUntil.remove(quizId, recheckAt);
+        }
+
+        CompletableFuture<Optional<QuizContent>> created = new CompletableFuture<>();
+        CompletableFuture<Optional<QuizContent>> inFlight = loading.putIfAbsent(quizId, created);
+        if (inFlight != null) {
+            try {
+                return inFlight.join();
+            } catch (CompletionException e) {
+                return Optional.empty();
+            }
+        }
+
+        try {
+            Optional<QuizContent> loaded = load(quizId);
+            if (loaded.isPresent()) {
+                put(quizId, loaded.get());
+            } else {
+                markAbsent(quizId, now);
+            }
+            created.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(quizId, created);
+        }
+    }
+
+    /**
+     * 모든 노드의 캐시에서 퀴즈를 제거한다. (이 노드는 발행 결과와 관계없이 즉시 제거)
+     */
+    public void invalidate(String quizId) {
+        invalidateLocal(quizId);
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, quizId);
+    }
+
+    public QuizContentCacheStats getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        long bytes = 0;
+        for (Entry entry : entries.values()) {
+            bytes += entry.content.approximateBytes();
+        }
+
+        return new QuizContentCacheStats(
+                hitCount,
+                missCount,
+                total == 0 ? 0 : (double) hitCount / total,
+                evictions.sum(),
+                invalidations.sum(),
+                entries.size(),
+                properties.getMaxEntries(),
+                bytes
+        );
+    }
+
+    private void invalidateLocal(String quizId) {
+        absentUntil.remove(quizId);
+        if (entries.remove(quizId) != null) {
+            invalidations.increment();
+            log.debug("퀴즈 내용 캐시 무효화 - 퀴즈 ID: {}", quizId);
+        }
+    }
+
+    private Optional<QuizContent> load(String quizId) {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(RedisQuizAnswerService.generatingKey(quizId)))) {
+            return Optional.empty();
+        }
+
+        String setId = redisTemplate.opsForValue().get(RedisQuizAnswerService.setLinkKey(quizId));
+        String base = setId != null
+                ? RedisQuizAnswerService.setContentKey(setId.replace("\"", ""))
+                : String.format("quiz:%s", quizId);
+
+        // 이전 리스트 형식 퀴즈는 캐시하지 않는다. (호출 측이 Redis 조회로 처리)
+        return QuizContent.fromHash(redisTemplate.opsForHash().entries(QuizContentScripts.contentKey(base)));
+    }
+
+    private void markAbsent(String quizId, long now) {
+        long missTtl = properties.getMissTtl().toNanos();
+        if (missTtl <= 0) {
+            return;
+        }
+
+        absentUntil.put(quizId, now + missTtl);
+        if (absentUntil.size() > properties.getMaxEntries()) {
+            absentUntil.values().removeIf(recheckAt -> recheckAt - now <= 0);
+            if (absentUntil.size() > properties.getMaxEntries()) {
+                absentUntil.clear();
+            }
+        }
+    }
+
+    private void put(String quizId, QuizContent content) {
+        long now = System.nanoTime();
+        Entry entry = new Entry(quizId, content, now + properties.getTtl().toNanos());
+        entries.put(quizId, entry);
+        insertionOrder.offer(entry);
+
+        // 같은 ttl 을 쓰므로 들어온 순서가 곧 만료 순서다. 맨 앞부터 만료/교체/초과 항목을 정리한다.
+        while (true) {
+            Entry head = insertionOrder.peek();
+            if (head == null) {
+                return;
+            }
+            boolean current = entries.get(head.quizId) == head;
+            if (current && !head.isExpired(now) && entries.size() <= properties.getMaxEntries()) {
+                return;
+            }
+            if (!insertionOrder.remove(head)) {
+                continue;
+            }
+            if (current && entries.remove(head.quizId, head) && !head.isExpired(now)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final String quizId;
+        private final QuizContent content;
+        private final long expiresAtNanos;
+
+        private Entry(String quizId, QuizContent content, long expiresAtNanos) {
+            this.quizId = quizId;
+            this.content = content;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAtNanos - now <= 0;
+        }
+    }
+}
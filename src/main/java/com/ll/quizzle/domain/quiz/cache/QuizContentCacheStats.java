@@ -0,0 +1,17 @@
+package com.ll.quizzle.domain.quiz.cache;
+
+/**
+ * 노드 로컬 퀴즈 문제/정답 캐시 지표
+ * hitRatio 가 낮으면 maxEntries 가 동시에 진행되는 퀴즈 수보다 작은지 확인한다.
+ */
+public record QuizContentCacheStats(
+        long hits,
+        long misses,
+        double hitRatio,
+        long evictions,
+        long invalidations,
+        int size,
+        int maxEntries,
+        long approximateBytes
+) {
+}
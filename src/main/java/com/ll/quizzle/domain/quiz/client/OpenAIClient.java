@@ -4,68 +4,258 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ll.quizzle.global.config.OpenAIProperties;
 import com.ll.quizzle.global.exceptions.ErrorCode;
+import com.ll.quizzle.global.exceptions.ServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
+/**
+ * OpenAI Chat Completions 클라이언트
+ * - 하나의 HTTP/2 HttpClient 를 공유해 커넥션(TLS 세션)을 재사용한다.
+ * - 동시에 나가는 요청 수는 maxInFlight 로 제한하고, 초과 요청은 스레드를 점유하지 않고 대기열에서 기다린다.
+ * - 429 / 5xx / 네트워크 오류는 지터가 적용된 지수 백오프로 재시도한다.
+ */
+@Slf4j
+@Component
 public class OpenAIClient {
 
     private final OpenAIProperties openAIProperties;
     private final String apiUrl;
     private final String model;
     private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    private final Semaphore inFlightPermits;
+    private final Queue<Runnable> waitingRequests = new ConcurrentLinkedQueue<>();
 
     public OpenAIClient(OpenAIProperties openAIProperties) {
         this.openAIProperties = openAIProperties;
         this.apiUrl = openAIProperties.getApiUrl();
         this.model = openAIProperties.getModel();
         this.objectMapper = new ObjectMapper();
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(openAIProperties.getConnectTimeoutMillis()))
+                .build();
+        this.inFlightPermits = new Semaphore(Math.max(1, openAIProperties.getMaxInFlight()));
     }
 
     public String sendRequest(String systemPrompt, String userMessage) {
-        Map<String, Object> body = Map.of(
-                "model", model,
-                "messages", List.of(
-                        Map.of("role", "system", "content", systemPrompt),
-                        Map.of("role", "user", "content", userMessage)
-                ),
-                "temperature", 0.7
-        );
-
-        String requestBody;
         try {
-            requestBody = objectMapper.writeValueAsString(body);
-        } catch (JsonProcessingException e) {
-            ErrorCode.INTERNAL_SERVER_ERROR.throwServiceException(e);
+            return sendRequestAsync(systemPrompt, userMessage).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof ServiceException serviceException) {
+                throw serviceException;
+            }
+            ErrorCode.INTERNAL_SERVER_ERROR.throwServiceException(e.getCause());
             return null; // Unreachable
         }
+    }
+
+    public CompletableFuture<String> sendRequestAsync(String systemPrompt, String userMessage) {
+        return sendRequestAsync(systemPrompt, userMessage, null);
+    }
+
+    /**
+     * responseFormat 이 있으면 response_format 으로 함께 보낸다. (구조화 출력)
+     */
+    public CompletableFuture<String> sendRequestAsync(String systemPrompt, String userMessage,
+                                                      Map<String, Object> responseFormat) {
+        HttpRequest request;
+        try {
+            request = buildRequest(systemPrompt, userMessage, responseFormat, false);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(generationFailed(e));
+        }
 
-        HttpRequest request = HttpRequest.newBuilder()
+        CompletableFuture<String> result = new CompletableFuture<>();
+        enqueue(() -> attempt(request, info -> HttpResponse.BodySubscribers.ofString(StandardCharsets.UTF_8), 0, result,
+                null));
+        return result;
+    }
+
+    /**
+     * stream=true 로 요청해 SSE 로 도착하는 content 조각을 순서대로 onContentDelta 에 전달한다.
+     * 200 이 아닌 응답은 본문을 버리고 일반 요청과 같은 기준으로 재시도한다. (스트림이 시작된 뒤에는 재시도하지 않음)
+     */
+    public CompletableFuture<Void> streamRequestAsync(String systemPrompt, String userMessage,
+                                                      Consumer<String> onContentDelta) {
+        return streamRequestAsync(systemPrompt, userMessage, null, onContentDelta);
+    }
+
+    public CompletableFuture<Void> streamRequestAsync(String systemPrompt, String userMessage,
+                                                      Map<String, Object> responseFormat,
+                                                      Consumer<String> onContentDelta) {
+        HttpRequest request;
+        try {
+            request = buildRequest(systemPrompt, userMessage, responseFormat, true);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(generationFailed(e));
+        }
+
+        // 200 본문을 받기 시작하면 이미 전달한 조각을 되돌릴 수 없으므로, 이후 오류는 재시도하지 않는다.
+        AtomicBoolean streamStarted = new AtomicBoolean();
+        HttpResponse.BodyHandler<Void> handler = info -> {
+            if (info.statusCode() != 200) {
+                return HttpResponse.BodySubscribers.discarding();
+            }
+            streamStarted.set(true);
+            return HttpResponse.BodySubscribers.fromLineSubscriber(
+                    new ServerSentEventSubscriber(objectMapper, onContentDelta));
+        };
+
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        enqueue(() -> attempt(request, handler, 0, result, streamStarted));
+        return result;
+    }
+
+    public int getAvailablePermits() {
+        return inFlightPermits.availablePermits();
+    }
+
+    private HttpRequest buildRequest(String systemPrompt, String userMessage, Map<String, Object> responseFormat,
+                                     boolean stream) throws JsonProcessingException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("model", model);
+        body.put("messages", List.of(
+                Map.of("role", "system", "content", systemPrompt),
+                Map.of("role", "user", "content", userMessage)
+        ));
+        body.put("temperature", 0.7);
+        if (responseFormat != null) {
+            body.put("response_format", responseFormat);
+        }
+        if (stream) {
+            body.put("stream", true);
+        }
+
+        String requestBody = objectMapper.writeValueAsString(body);
+
+        return HttpRequest.newBuilder()
                 .uri(URI.create(apiUrl))
+                .timeout(Duration.ofMillis(openAIProperties.getRequestTimeoutMillis()))
                 .header("Content-Type", "application/json")
                 .header("Authorization", "Bearer " + openAIProperties.getApiKey())
                 .POST(HttpRequest.BodyPublishers.ofString(requestBody))
                 .build();
+    }
 
+    // streamStarted: 스트리밍 요청이면 본문 수신 시작 여부, 일반 요청이면 null
+    private <T> void attempt(HttpRequest request, HttpResponse.BodyHandler<T> handler,
+                             int attempt, CompletableFuture<T> result, AtomicBoolean streamStarted) {
+        CompletableFuture<HttpResponse<T>> sent;
         try {
-            HttpResponse<String> response = HttpClient.newHttpClient()
-                    .send(request, HttpResponse.BodyHandlers.ofString());
+            sent = httpClient.sendAsync(request, handler);
+        } catch (RuntimeException e) {
+            releasePermit();
+            result.completeExceptionally(generationFailed(e));
+            return;
+        }
 
-            if (response.statusCode() != 200) {
-                ErrorCode.INTERNAL_SERVER_ERROR.throwServiceException(
-                        new RuntimeException("OpenAI API returned status " + response.statusCode()));
+        sent.whenComplete((response, throwable) -> {
+            releasePermit();
+
+            if (throwable != null) {
+                Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+                boolean started = streamStarted != null && streamStarted.get();
+                if (cause instanceof IOException && !started && attempt < openAIProperties.getMaxRetries()) {
+                    retry(request, handler, attempt, backoffMillis(attempt), result, cause.getMessage(), streamStarted);
+                    return;
+                }
+                result.completeExceptionally(generationFailed(cause));
+                return;
             }
 
-            return response.body();
+            int status = response.statusCode();
+            if (status == 200) {
+                result.complete(response.body());
+                return;
+            }
 
-        } catch (IOException | InterruptedException e) {
-            ErrorCode.INTERNAL_SERVER_ERROR.throwServiceException(e);
-            return null; // Unreachable
+            if (isRetryable(status) && attempt < openAIProperties.getMaxRetries()) {
+                long delay = Math.max(backoffMillis(attempt), retryAfterMillis(response));
+                retry(request, handler, attempt, delay, result, "status " + status, streamStarted);
+                return;
+            }
+
+            result.completeExceptionally(generationFailed(
+                    new RuntimeException("OpenAI API returned status " + status)));
+        });
+    }
+
+    private <T> void retry(HttpRequest request, HttpResponse.BodyHandler<T> handler, int attempt, long delayMillis,
+                           CompletableFuture<T> result, String reason, AtomicBoolean streamStarted) {
+        log.warn("OpenAI 요청 재시도 예정 - 시도: {}, 대기: {}ms, 사유: {}", attempt + 1, delayMillis, reason);
+        CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS)
+                .execute(() -> enqueue(() -> attempt(request, handler, attempt + 1, result, streamStarted)));
+    }
+
+    private void enqueue(Runnable task) {
+        waitingRequests.offer(task);
+        drain();
+    }
+
+    private void releasePermit() {
+        inFlightPermits.release();
+        drain();
+    }
+
+    private void drain() {
+        while (!waitingRequests.isEmpty() && inFlightPermits.tryAcquire()) {
+            Runnable task = waitingRequests.poll();
+            if (task == null) {
+                inFlightPermits.release();
+                continue;
+            }
+            task.run();
         }
     }
+
+    private boolean isRetryable(int status) {
+        return status == 429 || status >= 500;
+    }
+
+    // full jitter: [0, min(max, base * 2^attempt)]
+    private long backoffMillis(int attempt) {
+        long ceiling = Math.min(
+                openAIProperties.getRetryMaxDelayMillis(),
+                openAIProperties.getRetryBaseDelayMillis() << Math.min(attempt, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private long retryAfterMillis(HttpResponse<?> response) {
+        return response.headers().firstValue("Retry-After")
+                .map(value -> {
+                    try {
+                        return Math.min(Long.parseLong(value.trim()) * 1000, openAIProperties.getRetryMaxDelayMillis());
+                    } catch (NumberFormatException e) {
+                        return 0L;
+                    }
+                })
+                .orElse(0L);
+    }
+
+    private ServiceException generationFailed(Throwable cause) {
+        ErrorCode errorCode = ErrorCode.QUIZ_GENERATION_FAILED;
+        return new ServiceException(errorCode.getHttpStatus(), errorCode.getMessage(), cause);
+    }
 }
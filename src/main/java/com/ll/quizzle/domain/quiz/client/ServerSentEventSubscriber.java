@@ -0,0 +1,71 @@
+package com.ll.quizzle.domain.quiz.client;
+
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Chat Completions 스트리밍 응답(SSE)을 줄 단위로 받아 delta.content 만 전달하는 구독자
+ * 예) data: {"choices":[{"delta":{"content":"1. "}}]}
+ *     data: [DONE]
+ */
+@Slf4j
+class ServerSentEventSubscriber implements Flow.Subscriber<String> {
+
+    private static final String DATA_PREFIX = "data:";
+    private static final String DONE = "[DONE]";
+
+    private final ObjectMapper objectMapper;
+    private final Consumer<String> onContentDelta;
+
+    ServerSentEventSubscriber(ObjectMapper objectMapper, Consumer<String> onContentDelta) {
+        this.objectMapper = objectMapper;
+        this.onContentDelta = onContentDelta;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(String line) {
+        if (!line.startsWith(DATA_PREFIX)) {
+            return;
+        }
+
+        String data = line.substring(DATA_PREFIX.length()).trim();
+        if (data.isEmpty() || DONE.equals(data)) {
+            return;
+        }
+
+        JsonNode content;
+        try {
+            content = objectMapper.readTree(data)
+                    .path("choices")
+                    .path(0)
+                    .path("delta")
+                    .path("content");
+        } catch (Exception e) {
+            log.warn("스트리밍 이벤트 파싱 실패, 해당 이벤트를 건너뜁니다: {}", e.getMessage());
+            return;
+        }
+
+        if (content.isTextual() && !content.asText().isEmpty()) {
+            onContentDelta.accept(content.asText());
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        log.warn("스트리밍 응답 수신 중 오류: {}", throwable.getMessage());
+    }
+
+    @Override
+    public void onComplete() {
+    }
+}
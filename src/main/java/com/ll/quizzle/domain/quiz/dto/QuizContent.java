@@ -0,0 +1,83 @@
+package com.ll.quizzle.domain.quiz.dto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
+import com.ll.quizzle.domain.quiz.util.QuizContentScripts;
+
+/**
+ * 저장이 끝난 퀴즈의 전체 문제/정답 (인덱스 순서)
+ * questions 는 "번호: 문제\n" 형식, answers 는 보기 기호만 담는다.
+ */
+public record QuizContent(
+        List<String> questions,
+        List<String> answers
+) {
+
+    public QuizContent {
+        questions = List.copyOf(questions);
+        answers = List.copyOf(answers);
+    }
+
+    public int questionCount() {
+        return questions.size();
+    }
+
+    public QuizRound round(int questionIndex) {
+        if (questionIndex < 0 || questionIndex >= questions.size()) {
+            return new QuizRound(questions.size(), null, null);
+        }
+        return new QuizRound(questions.size(), questions.get(questionIndex), answers.get(questionIndex));
+    }
+
+    public long approximateBytes() {
+        long chars = 0;
+        for (int index = 0; index < questions.size(); index++) {
+            chars += questions.get(index).length() + answers.get(index).length();
+        }
+        return chars * Character.BYTES;
+    }
+
+    public QuizGenerationResponse toGenerationResponse() {
+        Map<Integer, String> quizTextMap = new LinkedHashMap<>();
+        Map<Integer, String> answerMap = new LinkedHashMap<>();
+        for (int index = 0; index < questions.size(); index++) {
+            String entry = questions.get(index);
+            int separator = entry.indexOf(':');
+            int number = Integer.parseInt(entry.substring(0, separator).trim());
+            quizTextMap.put(number, entry.substring(separator + 1).trim());
+            answerMap.put(number, answers.get(index));
+        }
+        return new QuizGenerationResponse(quizTextMap, answerMap);
+    }
+
+    /**
+     * {base}:content 해시(HGETALL 결과)로부터 만든다. 문제 수가 없거나 0 이면 빈 Optional 을 반환한다.
+     * 중간에 빠진 문제가 있으면 그 앞까지만 사용한다.
+     */
+    public static Optional<QuizContent> fromHash(Map<?, ?> hash) {
+        Object count = hash.get(QuizContentScripts.COUNT_FIELD);
+        if (count == null) {
+            return Optional.empty();
+        }
+
+        int questionCount = Integer.parseInt(count.toString());
+        List<String> questions = new ArrayList<>(questionCount);
+        List<String> answers = new ArrayList<>(questionCount);
+        for (int index = 0; index < questionCount; index++) {
+            Object question = hash.get(QuizContentScripts.questionField(index));
+            Object answer = hash.get(QuizContentScripts.answerField(index));
+            if (question == null || answer == null) {
+                break;
+            }
+            questions.add(question.toString());
+            answers.add(answer.toString());
+        }
+
+        return questions.isEmpty() ? Optional.empty() : Optional.of(new QuizContent(questions, answers));
+    }
+}
@@ -0,0 +1,20 @@
+package com.ll.quizzle.domain.quiz.dto;
+
+/**
+ * 한 라운드 출제/채점에 필요한 퀴즈 데이터
+ * questionText, answer 는 해당 인덱스의 문제가 없으면 null 이다.
+ */
+public record QuizRound(
+        int questionCount,
+        String questionText,
+        String answer
+) {
+
+    public static QuizRound empty() {
+        return new QuizRound(0, null, null);
+    }
+
+    public boolean hasQuestion() {
+        return questionText != null;
+    }
+}
@@ -0,0 +1,33 @@
+package com.ll.quizzle.domain.quiz.dto;
+
+/**
+ * 답안 제출 스크립트의 처리 결과
+ * status 가 ACCEPTED 일 때만 나머지 값이 채워진다. event 는 모든 참가자가 제출했을 때 발행한 이벤트(없으면 null)이다.
+ */
+public record QuizSubmissionResult(
+        Status status,
+        boolean correct,
+        String correctAnswer,
+        int totalQuestions,
+        long submittedCount,
+        long participantCount,
+        String event
+) {
+
+    public enum Status {
+        ACCEPTED,
+        INVALID_QUESTION,
+        ANSWER_NOT_FOUND,
+        MALFORMED_ANSWER,
+        NOT_CURRENT_ROUND,
+        DUPLICATE
+    }
+
+    public static QuizSubmissionResult rejected(Status status) {
+        return new QuizSubmissionResult(status, false, null, 0, 0, 0, null);
+    }
+
+    public boolean isAccepted() {
+        return status == Status.ACCEPTED;
+    }
+}
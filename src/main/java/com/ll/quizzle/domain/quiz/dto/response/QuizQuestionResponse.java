@@ -0,0 +1,13 @@
+package com.ll.quizzle.domain.quiz.dto.response;
+
+/**
+ * 문제 출제 메시지 (/topic/room/{roomId}/question)
+ */
+public record QuizQuestionResponse(
+        int questionIndex,
+        String questionText,
+        String correctAnswer,
+        boolean isLastQuestion,
+        long timestamp
+) {
+}
@@ -0,0 +1,10 @@
+package com.ll.quizzle.domain.quiz.dto.response;
+
+/**
+ * 문제 제한 시간 만료 메시지 (/topic/room/{roomId}/timer/expired)
+ */
+public record QuizTimerExpiredResponse(
+        int questionIndex,
+        long timestamp
+) {
+}
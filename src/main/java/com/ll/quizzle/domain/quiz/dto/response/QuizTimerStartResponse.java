@@ -0,0 +1,12 @@
+package com.ll.quizzle.domain.quiz.dto.response;
+
+/**
+ * 문제 제한 시간 시작 메시지 (/topic/room/{roomId}/timer/start)
+ */
+public record QuizTimerStartResponse(
+        int questionIndex,
+        long durationMillis,
+        long deadline,
+        long timestamp
+) {
+}
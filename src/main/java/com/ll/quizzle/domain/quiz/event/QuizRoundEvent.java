@@ -0,0 +1,27 @@
+package com.ll.quizzle.domain.quiz.event;
+
+/**
+ * 문제 출제/게임 종료 시 발행되는 애플리케이션 이벤트
+ * 라운드 스케줄러는 QUESTION_SENT 로 제한 시간 타이머를 시작하고, FINISHED 로 라운드 상태를 정리한다.
+ */
+public record QuizRoundEvent(
+        Type type,
+        String roomId,
+        String quizId,
+        int questionIndex,
+        boolean lastQuestion
+) {
+
+    public enum Type {
+        QUESTION_SENT,
+        FINISHED
+    }
+
+    public static QuizRoundEvent questionSent(String roomId, String quizId, int questionIndex, boolean lastQuestion) {
+        return new QuizRoundEvent(Type.QUESTION_SENT, roomId, quizId, questionIndex, lastQuestion);
+    }
+
+    public static QuizRoundEvent finished(String roomId, String quizId, int questionIndex) {
+        return new QuizRoundEvent(Type.FINISHED, roomId, quizId, questionIndex, true);
+    }
+}
@@ -0,0 +1,86 @@
+package com.ll.quizzle.domain.quiz.parser;
+
+import java.util.function.Consumer;
+
+/**
+ * 스트리밍으로 도착하는 content 조각을 줄 단위로 파싱하는 파서
+ * QuizResponseParser.parseContent 와 같은 규칙을 쓰지만, 문제의 "정답:" 줄이 도착하는 즉시 해당 문제를 내보낸다.
+ * 하나의 스트림에서만 사용한다. (스레드 안전하지 않음)
+ */
+public class IncrementalQuizParser implements QuizStreamParser {
+
+    private final Consumer<ParsedQuestion> onQuestion;
+    private final StringBuilder pendingLine = new StringBuilder();
+    private StringBuilder currentQuestionText = new StringBuilder();
+    private int currentQuestion = 0;
+    private int emittedCount = 0;
+
+    public IncrementalQuizParser(Consumer<ParsedQuestion> onQuestion) {
+        this.onQuestion = onQuestion;
+    }
+
+    @Override
+    public void accept(String chunk) {
+        int start = 0;
+        for (int i = 0; i < chunk.length(); i++) {
+            if (chunk.charAt(i) == '\n') {
+                pendingLine.append(chunk, start, i);
+                processLine(pendingLine.toString());
+                pendingLine.setLength(0);
+                start = i + 1;
+            }
+        }
+        pendingLine.append(chunk, start, chunk.length());
+    }
+
+    /**
+     * 스트림 종료 시 마지막 줄(개행 없이 끝난 줄)을 처리한다.
+     */
+    @Override
+    public void finish() {
+        if (!pendingLine.isEmpty()) {
+            processLine(pendingLine.toString());
+            pendingLine.setLength(0);
+        }
+    }
+
+    @Override
+    public int getEmittedCount() {
+        return emittedCount;
+    }
+
+    private void processLine(String rawLine) {
+        String line = rawLine.endsWith("\r") ? rawLine.substring(0, rawLine.length() - 1) : rawLine;
+        String trimmedLine = line.trim();
+        if (trimmedLine.isEmpty()) {
+            return;
+        }
+
+        int questionNumber = QuizResponseParser.questionNumber(trimmedLine);
+        if (questionNumber >= 0) {
+            currentQuestion = questionNumber;
+            currentQuestionText = new StringBuilder();
+            currentQuestionText.append(QuizResponseParser.stripNumberPrefix(trimmedLine)).append("\n");
+            return;
+        }
+
+        String answer = QuizResponseParser.answerOf(trimmedLine);
+        if (answer != null) {
+            if (currentQuestion > 0) {
+                emittedCount++;
+                onQuestion.accept(new ParsedQuestion(
+                        currentQuestion,
+                        currentQuestionText.toString().trim(),
+                        answer
+                ));
+                // 같은 문제에 정답이 두 번 나오더라도 한 번만 내보낸다.
+                currentQuestion = 0;
+            }
+            return;
+        }
+
+        if (currentQuestion != 0) {
+            currentQuestionText.append(line).append("\n");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.ll.quizzle.domain.quiz.parser;
+
+/**
+ * 정답 줄까지 파싱이 끝난 문제 하나
+ */
+public record ParsedQuestion(
+        int number,
+        String questionText,
+        String answer
+) {
+}
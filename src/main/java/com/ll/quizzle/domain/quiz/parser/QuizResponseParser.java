@@ -1,23 +1,27 @@
 package com.ll.quizzle.domain.quiz.parser;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
 import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
 import com.ll.quizzle.global.exceptions.ErrorCode;
 
 import java.io.IOException;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
+/**
+ * Chat Completions 응답 본문에서 문제/정답을 파싱한다.
+ * content 가 JSON(구조화 출력)이면 StructuredQuizParser 로, 아니면 텍스트 형식("번호. 문제" / "정답: x")으로 파싱한다.
+ * 텍스트 형식은 정규식 없이 한 번의 순회로 처리한다.
+ */
 public class QuizResponseParser {
 
-    private static final Pattern QUESTION_PATTERN =
-            Pattern.compile("^(?:Question\\s+|문제\\s*)?(\\d+)\\.");
-    private static final Pattern ANSWER_PATTERN =
-            Pattern.compile("(?i)(?:정답|answer)[:：]\\s*([A-DOX])");
+    private static final String QUESTION_PREFIX = "Question";
+    private static final String KOREAN_QUESTION_PREFIX = "문제";
+    private static final String ANSWER_LABEL = "answer";
+    private static final String KOREAN_ANSWER_LABEL = "정답";
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -31,42 +35,94 @@ public class QuizResponseParser {
         }
     }
 
+    /**
+     * JSON 으로 문제를 얻지 못하면(형식이 다르거나 비어 있으면) 텍스트 형식으로 다시 파싱한다.
+     */
+    public QuizGenerationResponse parseContent(String content) {
+        if (StructuredQuizParser.looksLikeJson(content)) {
+            List<ParsedQuestion> questions = StructuredQuizParser.parseAll(content);
+            if (!questions.isEmpty()) {
+                return toResponse(questions);
+            }
+        }
+        return parseText(content);
+    }
+
+    // choices[0].message.content 만 찾아 읽고 나머지는 트리로 만들지 않고 건너뛴다.
     private String extractContent(String responseBody) throws IOException {
-        JsonNode root = objectMapper.readTree(responseBody);
-        return root.path("choices")
-                .get(0)
-                .path("message")
-                .path("content")
-                .asText();
+        try (JsonParser parser = objectMapper.getFactory().createParser(responseBody)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return "";
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("choices".equals(name) && value == JsonToken.START_ARRAY) {
+                    return parser.nextToken() == JsonToken.START_OBJECT ? readMessageContent(parser) : "";
+                }
+                parser.skipChildren();
+            }
+        }
+        return "";
+    }
+
+    private String readMessageContent(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("message".equals(name) && value == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken fieldValue = parser.nextToken();
+                    if ("content".equals(field)) {
+                        return fieldValue == JsonToken.VALUE_STRING ? parser.getText() : "";
+                    }
+                    parser.skipChildren();
+                }
+                return "";
+            }
+            parser.skipChildren();
+        }
+        return "";
     }
 
-    private QuizGenerationResponse parseContent(String content) {
+    private QuizGenerationResponse parseText(String content) {
         Map<Integer, String> questionMap = new LinkedHashMap<>();
         Map<Integer, String> answerMap = new LinkedHashMap<>();
         int currentQuestion = 0;
         StringBuilder currentQuestionText = new StringBuilder();
 
-        for (String line : content.split("\\r?\\n")) {
+        int length = content.length();
+        int start = 0;
+        while (start < length) {
+            int end = content.indexOf('\n', start);
+            if (end < 0) {
+                end = length;
+            }
+            int lineEnd = end > start && content.charAt(end - 1) == '\r' ? end - 1 : end;
+            String line = content.substring(start, lineEnd);
+            start = end + 1;
+
             String trimmedLine = line.trim();
             if (trimmedLine.isEmpty()) {
                 continue;
             }
 
-            if (processQuestionLine(trimmedLine, questionMap, currentQuestionText)) {
+            int questionNumber = questionNumber(trimmedLine);
+            if (questionNumber >= 0) {
                 // 새로운 질문 라인 발견 시, 이전 질문 저장 및 현재 질문 번호 업데이트
                 if (currentQuestion != 0) {
                     questionMap.put(currentQuestion, currentQuestionText.toString().trim());
                 }
-                Matcher qm = QUESTION_PATTERN.matcher(trimmedLine);
-                qm.find(); // 반드시 매칭됨
-                currentQuestion = Integer.parseInt(qm.group(1));
+                currentQuestion = questionNumber;
                 currentQuestionText = new StringBuilder();
-                String questionText = trimmedLine.replaceFirst("^\\d+\\.\\s*", "");
-                currentQuestionText.append(questionText).append("\n");
+                currentQuestionText.append(stripNumberPrefix(trimmedLine)).append("\n");
                 continue;
             }
 
-            if (processAnswerLine(trimmedLine, answerMap, currentQuestion)) {
+            String answer = answerOf(trimmedLine);
+            if (answer != null && currentQuestion > 0) {
+                answerMap.put(currentQuestion, answer);
                 continue;
             }
 
@@ -83,16 +139,112 @@ public class QuizResponseParser {
         return new QuizGenerationResponse(questionMap, answerMap);
     }
 
-    private boolean processQuestionLine(String line, Map<Integer, String> questionMap, StringBuilder currentQuestionText) {
-        return QUESTION_PATTERN.matcher(line).find();
+    static QuizGenerationResponse toResponse(List<ParsedQuestion> questions) {
+        Map<Integer, String> questionMap = new LinkedHashMap<>();
+        Map<Integer, String> answerMap = new LinkedHashMap<>();
+        for (ParsedQuestion question : questions) {
+            questionMap.put(question.number(), question.questionText());
+            answerMap.put(question.number(), question.answer());
+        }
+        return new QuizGenerationResponse(questionMap, answerMap);
+    }
+
+    /**
+     * "1." / "Question 1." / "문제 1." 로 시작하는 줄이면 문제 번호를, 아니면 -1 을 반환한다.
+     */
+    static int questionNumber(String line) {
+        int index = 0;
+        if (line.startsWith(QUESTION_PREFIX)) {
+            int afterPrefix = skipWhitespace(line, QUESTION_PREFIX.length());
+            if (afterPrefix > QUESTION_PREFIX.length()) {
+                index = afterPrefix;
+            }
+        } else if (line.startsWith(KOREAN_QUESTION_PREFIX)) {
+            index = skipWhitespace(line, KOREAN_QUESTION_PREFIX.length());
+        }
+
+        int digitsEnd = index;
+        while (digitsEnd < line.length() && isDigit(line.charAt(digitsEnd))) {
+            digitsEnd++;
+        }
+        if (digitsEnd == index || digitsEnd >= line.length() || line.charAt(digitsEnd) != '.') {
+            return -1;
+        }
+        return Integer.parseInt(line, index, digitsEnd, 10);
     }
 
-    private boolean processAnswerLine(String line, Map<Integer, String> answerMap, int currentQuestion) {
-        Matcher am = ANSWER_PATTERN.matcher(line);
-        if (am.find() && currentQuestion > 0) {
-            answerMap.put(currentQuestion, am.group(1).toLowerCase());
-            return true;
+    /**
+     * 줄 맨 앞의 "번호." 와 뒤따르는 공백을 제거한다. (접두어가 있는 줄은 그대로 둔다)
+     */
+    static String stripNumberPrefix(String line) {
+        int index = 0;
+        while (index < line.length() && isDigit(line.charAt(index))) {
+            index++;
+        }
+        if (index == 0 || index >= line.length() || line.charAt(index) != '.') {
+            return line;
+        }
+        return line.substring(skipWhitespace(line, index + 1));
+    }
+
+    /**
+     * 줄 안의 "정답: x" / "Answer: x" (x 는 A-D, O, X, 대소문자 무관)를 찾아 소문자 정답을, 없으면 null 을 반환한다.
+     */
+    static String answerOf(String line) {
+        for (int i = 0; i < line.length(); i++) {
+            int afterLabel;
+            if (line.startsWith(KOREAN_ANSWER_LABEL, i)) {
+                afterLabel = i + KOREAN_ANSWER_LABEL.length();
+            } else if (startsWithIgnoreCase(line, i, ANSWER_LABEL)) {
+                afterLabel = i + ANSWER_LABEL.length();
+            } else {
+                continue;
+            }
+
+            if (afterLabel >= line.length() || (line.charAt(afterLabel) != ':' && line.charAt(afterLabel) != '：')) {
+                continue;
+            }
+            int valueIndex = skipWhitespace(line, afterLabel + 1);
+            if (valueIndex < line.length()) {
+                char answer = toLowerCase(line.charAt(valueIndex));
+                if ((answer >= 'a' && answer <= 'd') || answer == 'o' || answer == 'x') {
+                    return String.valueOf(answer);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static int skipWhitespace(String line, int index) {
+        while (index < line.length() && isWhitespace(line.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    // 정규식 \s 와 같은 범위
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    // 정규식 \d 와 같은 범위 (ASCII 숫자)
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static char toLowerCase(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    private static boolean startsWithIgnoreCase(String line, int offset, String lowerCasePrefix) {
+        if (offset + lowerCasePrefix.length() > line.length()) {
+            return false;
+        }
+        for (int i = 0; i < lowerCasePrefix.length(); i++) {
+            if (toLowerCase(line.charAt(offset + i)) != lowerCasePrefix.charAt(i)) {
+                return false;
+            }
         }
-        return false;
+        return true;
     }
 }
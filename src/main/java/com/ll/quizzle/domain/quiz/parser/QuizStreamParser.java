@@ -0,0 +1,17 @@
+package com.ll.quizzle.domain.quiz.parser;
+
+/**
+ * 스트리밍으로 도착하는 content 조각을 받아 문제가 완성될 때마다 내보내는 파서
+ * 하나의 스트림에서만 사용한다. (스레드 안전하지 않음)
+ */
+public interface QuizStreamParser {
+
+    void accept(String chunk);
+
+    /**
+     * 스트림 종료 시 남은 입력을 처리한다.
+     */
+    void finish();
+
+    int getEmittedCount();
+}
@@ -0,0 +1,252 @@
+package com.ll.quizzle.domain.quiz.parser;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 구조화 출력(JSON) 파서
+ * {"questions":[{"number":1,"question":"...","choices":["...",...],"answer":"a"}, ...]} 형식을
+ * Jackson 토큰 단위로 읽어 문제 객체가 닫히는 즉시 ParsedQuestion 으로 내보낸다. (트리를 만들지 않음)
+ *
+ * 스트리밍에서는 논블로킹 파서에 content 조각을 그대로 넣으므로 JSON 이 조각 중간에서 잘려도 된다.
+ * 문제 텍스트는 텍스트 형식과 같이 "문제\na) 보기1\nb) 보기2..." 로 만든다. (O/X 문제는 보기 없음)
+ * 정답이 a-d, o, x 가 아닌 문제는 버린다.
+ */
+@Slf4j
+public class StructuredQuizParser implements QuizStreamParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String VALID_ANSWERS = "abcdox";
+
+    private final Consumer<ParsedQuestion> onQuestion;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    // 현재 열린 객체/배열 수, questions 배열이 열린 깊이 (-1: 아직 없음)
+    private int depth = 0;
+    private int questionsDepth = -1;
+    private String field;
+    private boolean inChoices;
+    private boolean failed;
+
+    private int number;
+    private String question;
+    private String answer;
+    private List<String> choices = new ArrayList<>();
+    private int emittedCount = 0;
+
+    public StructuredQuizParser(Consumer<ParsedQuestion> onQuestion) {
+        this(onQuestion, nonBlockingParser());
+    }
+
+    private StructuredQuizParser(Consumer<ParsedQuestion> onQuestion, JsonParser parser) {
+        this.onQuestion = onQuestion;
+        this.parser = parser;
+        this.feeder = parser.getNonBlockingInputFeeder() instanceof ByteArrayFeeder byteArrayFeeder
+                ? byteArrayFeeder : null;
+    }
+
+    /**
+     * 완성된 content 전체를 파싱한다. 형식 오류가 나면 그 전까지 파싱된 문제만 반환한다.
+     */
+    public static List<ParsedQuestion> parseAll(String content) {
+        List<ParsedQuestion> questions = new ArrayList<>();
+        try (JsonParser blockingParser = JSON_FACTORY.createParser(content)) {
+            StructuredQuizParser structuredParser = new StructuredQuizParser(questions::add, blockingParser);
+            JsonToken token;
+            while ((token = blockingParser.nextToken()) != null) {
+                structuredParser.handle(token);
+            }
+        } catch (IOException e) {
+            log.warn("구조화 퀴즈 응답 파싱 실패 - 파싱된 문제 수: {}, 오류: {}", questions.size(), e.getMessage());
+        }
+        return questions;
+    }
+
+    /**
+     * content 가 JSON 객체/배열로 시작하는지 확인한다.
+     */
+    public static boolean looksLikeJson(String content) {
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return c == '{' || c == '[';
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void accept(String chunk) {
+        if (failed || chunk.isEmpty()) {
+            return;
+        }
+        byte[] bytes = chunk.getBytes(StandardCharsets.UTF_8);
+        try {
+            feeder.feedInput(bytes, 0, bytes.length);
+            drain();
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    @Override
+    public void finish() {
+        if (failed) {
+            return;
+        }
+        try {
+            feeder.endOfInput();
+            drain();
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    @Override
+    public int getEmittedCount() {
+        return emittedCount;
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            handle(token);
+        }
+    }
+
+    private void fail(IOException e) {
+        failed = true;
+        log.warn("구조화 퀴즈 스트림 파싱 중단 - 내보낸 문제 수: {}, 오류: {}", emittedCount, e.getMessage());
+    }
+
+    private void handle(JsonToken token) throws IOException {
+        switch (token) {
+            case START_ARRAY -> {
+                // 최상위 배열 또는 최상위 객체의 questions 필드가 문제 배열이다.
+                if (questionsDepth < 0 && (depth == 0 || (depth == 1 && "questions".equals(field)))) {
+                    questionsDepth = depth + 1;
+                } else if (depth == questionsDepth + 1 && "choices".equals(field)) {
+                    inChoices = true;
+                }
+                depth++;
+            }
+            case START_OBJECT -> {
+                if (depth == questionsDepth) {
+                    startQuestion();
+                }
+                depth++;
+            }
+            case END_ARRAY -> {
+                if (inChoices && depth == questionsDepth + 2) {
+                    inChoices = false;
+                }
+                depth--;
+            }
+            case END_OBJECT -> {
+                if (depth == questionsDepth + 1) {
+                    emitQuestion();
+                }
+                depth--;
+            }
+            case FIELD_NAME -> {
+                if (depth == 1 || depth == questionsDepth + 1) {
+                    field = parser.currentName();
+                }
+            }
+            case VALUE_STRING, VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT, VALUE_TRUE, VALUE_FALSE, VALUE_NULL -> {
+                if (inChoices && depth == questionsDepth + 2) {
+                    choices.add(parser.getText());
+                } else if (depth == questionsDepth + 1) {
+                    readField(token);
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void startQuestion() {
+        number = -1;
+        question = null;
+        answer = null;
+        choices = new ArrayList<>();
+        field = null;
+    }
+
+    private void readField(JsonToken token) throws IOException {
+        if (field == null || token == JsonToken.VALUE_NULL) {
+            return;
+        }
+        switch (field) {
+            case "number" -> {
+                if (token == JsonToken.VALUE_NUMBER_INT) {
+                    number = parser.getIntValue();
+                } else if (token == JsonToken.VALUE_STRING) {
+                    number = QuizResponseParser.questionNumber(parser.getText().trim() + ".");
+                }
+            }
+            case "question" -> question = parser.getText();
+            case "answer" -> answer = normalizeAnswer(parser.getText());
+            default -> {
+            }
+        }
+    }
+
+    private void emitQuestion() {
+        if (question == null || question.isBlank() || answer == null) {
+            log.debug("구조화 퀴즈 응답에서 불완전한 문제 건너뜀 - 번호: {}", number);
+            return;
+        }
+        int questionNumber = number > 0 ? number : emittedCount + 1;
+        emittedCount++;
+        onQuestion.accept(new ParsedQuestion(questionNumber, formatQuestion(question, choices, answer), answer));
+    }
+
+    private static String normalizeAnswer(String raw) {
+        String trimmed = raw.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        char first = Character.toLowerCase(trimmed.charAt(0));
+        return VALID_ANSWERS.indexOf(first) >= 0 ? String.valueOf(first) : null;
+    }
+
+    static String formatQuestion(String question, List<String> choices, String answer) {
+        StringBuilder text = new StringBuilder(QuizResponseParser.stripNumberPrefix(question.trim()));
+        if ("o".equals(answer) || "x".equals(answer)) {
+            return text.toString();
+        }
+        for (int i = 0; i < choices.size() && i < 26; i++) {
+            char label = (char) ('a' + i);
+            text.append('\n').append(label).append(") ").append(stripChoiceLabel(choices.get(i).trim(), label));
+        }
+        return text.toString();
+    }
+
+    // 모델이 보기 앞에 "a)" / "A." 를 붙여 보낸 경우 중복되지 않도록 제거한다.
+    private static String stripChoiceLabel(String choice, char label) {
+        if (choice.length() >= 2 && Character.toLowerCase(choice.charAt(0)) == label
+                && (choice.charAt(1) == ')' || choice.charAt(1) == '.')) {
+            return choice.substring(2).trim();
+        }
+        return choice;
+    }
+
+    private static JsonParser nonBlockingParser() {
+        try {
+            return JSON_FACTORY.createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new IllegalStateException("논블로킹 JSON 파서를 생성할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.ll.quizzle.domain.quiz.pool;
+
+import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+import com.ll.quizzle.domain.room.type.AnswerType;
+import com.ll.quizzle.domain.room.type.Difficulty;
+import com.ll.quizzle.domain.room.type.SubCategory;
+
+/**
+ * 퀴즈 풀을 구분하는 키
+ * 메인 카테고리는 서브 카테고리로부터 결정되므로 키에 포함하지 않는다.
+ */
+public record QuizPoolKey(
+        SubCategory subCategory,
+        Difficulty difficulty,
+        AnswerType answerType
+) {
+
+    public static QuizPoolKey from(QuizGenerationRequest request) {
+        return new QuizPoolKey(request.subCategory(), request.difficulty(), request.answerType());
+    }
+
+    public QuizGenerationRequest toGenerationRequest(int problemCount) {
+        return new QuizGenerationRequest(
+                subCategory.getMainCategory(),
+                subCategory,
+                answerType,
+                problemCount,
+                difficulty,
+                null
+        );
+    }
+}
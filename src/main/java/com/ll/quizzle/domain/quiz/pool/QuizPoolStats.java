@@ -0,0 +1,17 @@
+package com.ll.quizzle.domain.quiz.pool;
+
+/**
+ * 퀴즈 풀 운영 지표
+ * 적중/미스 비율과 보충 지연 시간을 보고 capacity, lowWaterMark 를 조정한다.
+ */
+public record QuizPoolStats(
+        long hits,
+        long misses,
+        long refills,
+        long refillFailures,
+        double averageRefillLatencyMillis,
+        long maxRefillLatencyMillis,
+        int pooledKeys,
+        int pooledSets
+) {
+}
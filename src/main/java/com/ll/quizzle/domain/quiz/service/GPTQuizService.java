@@ -1,51 +1,202 @@
 package com.ll.quizzle.domain.quiz.service;
 
-import com.ll.quizzle.domain.quiz.client.OpenAIClient;
 import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
 import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
 import com.ll.quizzle.domain.quiz.dto.response.QuizResponse;
-import com.ll.quizzle.domain.quiz.parser.QuizResponseParser;
-import com.ll.quizzle.domain.quiz.util.QuizPromptBuilder;
-import com.ll.quizzle.global.config.OpenAIProperties;
-import org.springframework.http.HttpStatus;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import com.ll.quizzle.domain.quiz.parser.IncrementalQuizParser;
+import com.ll.quizzle.domain.quiz.parser.ParsedQuestion;
+import com.ll.quizzle.domain.quiz.parser.QuizStreamParser;
+import com.ll.quizzle.domain.quiz.parser.StructuredQuizParser;
+import com.ll.quizzle.global.socket.fanout.RedisFanoutBroker;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
+@Slf4j
 @Service
 public class GPTQuizService {
 
-    private final OpenAIClient openAIClient;
-    private final QuizResponseParser quizResponseParser;
+    private final QuizGenerator quizGenerator;
     private final RedisQuizAnswerService redisQuizAnswerService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final RedisFanoutBroker fanoutBroker;
+    private final QuizPoolService quizPoolService;
+    private final QuizCacheService quizCacheService;
 
-    public GPTQuizService(OpenAIProperties openAIProperties,
+    public GPTQuizService(QuizGenerator quizGenerator,
                           RedisQuizAnswerService redisQuizAnswerService,
-                          SimpMessagingTemplate messagingTemplate) {
-        this.openAIClient = new OpenAIClient(openAIProperties);
-        this.quizResponseParser = new QuizResponseParser();
+                          RedisFanoutBroker fanoutBroker,
+                          QuizPoolService quizPoolService,
+                          QuizCacheService quizCacheService) {
+        this.quizGenerator = quizGenerator;
         this.redisQuizAnswerService = redisQuizAnswerService;
-        this.messagingTemplate = messagingTemplate;
+        this.fanoutBroker = fanoutBroker;
+        this.quizPoolService = quizPoolService;
+        this.quizCacheService = quizCacheService;
     }
 
     public QuizResponse generateQuiz(QuizGenerationRequest request) {
+        return generateQuiz(request, Set.of());
+    }
+
+    public QuizResponse generateQuiz(QuizGenerationRequest request, Collection<Long> memberIds) {
+        try {
+            return generateQuizAsync(request, memberIds).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public CompletableFuture<QuizResponse> generateQuizAsync(QuizGenerationRequest request) {
+        return generateQuizAsync(request, Set.of());
+    }
+
+    /**
+     * 퀴즈를 생성해 Redis 에 저장하고 방 채팅으로 전달한다.
+     * 같은 조건으로 최근 생성된 세트가 있으면 재사용 정책(memberIds 기준)에 따라 그대로 공유하고,
+     * 없으면 풀 또는 OpenAI 에서 가져온다. OpenAI 응답을 기다리는 동안 호출 스레드를 점유하지 않는다.
+     */
+    public CompletableFuture<QuizResponse> generateQuizAsync(QuizGenerationRequest request, Collection<Long> memberIds) {
+        String quizId = UUID.randomUUID().toString();
+        String promptHash = quizCacheService.promptHash(request);
+
+        Optional<QuizResponse> cached = useCachedSet(quizId, promptHash, request, memberIds);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+
+        // 미리 생성된 세트가 있으면 OpenAI 호출 없이 바로 사용
+        Optional<QuizGenerationResponse> pooled = quizPoolService.take(request);
+        CompletableFuture<QuizGenerationResponse> generation = pooled
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> quizGenerator.generateAsync(request));
+
+        return generation.thenApply(generationResponse ->
+                saveAndPublish(quizId, promptHash, request, memberIds, generationResponse));
+    }
+
+    /**
+     * 스트리밍 모드로 퀴즈를 생성한다.
+     * 문제의 정답 줄이 도착할 때마다 해당 문제를 Redis 에 바로 추가하고 listener 에 알리므로,
+     * 나머지 문제가 생성되는 동안 첫 문제부터 출제할 수 있다.
+     */
+    public CompletableFuture<QuizResponse> generateQuizStreaming(QuizGenerationRequest request,
+                                                                 Collection<Long> memberIds,
+                                                                 QuizQuestionListener listener) {
         String quizId = UUID.randomUUID().toString();
+        String promptHash = quizCacheService.promptHash(request);
+
+        Optional<QuizResponse> ready = useCachedSet(quizId, promptHash, request, memberIds)
+                .or(() -> quizPoolService.take(request)
+                        .map(pooled -> saveAndPublish(quizId, promptHash, request, memberIds, pooled)));
+        if (ready.isPresent()) {
+            for (int index = 0; index < ready.get().quizText().size(); index++) {
+                listener.onQuestionReady(quizId, index);
+            }
+            return CompletableFuture.completedFuture(ready.get());
+        }
 
-        String systemPrompt = QuizPromptBuilder.buildPrompt(request);
-        String responseBody = openAIClient.sendRequest(systemPrompt, "퀴즈 생성");
-        QuizGenerationResponse generationResponse = quizResponseParser.parse(responseBody);
+        // 파서 콜백은 HttpClient 스레드에서 불리므로 두 맵과 Redis 추가 순서를 lock 으로 묶는다.
+        // 요청한 문제 수를 넘거나 이미 받은 번호가 다시 오면 버려, Redis 목록과 응답이 어긋나지 않게 한다.
+        Object lock = new Object();
+        Map<Integer, String> quizText = new LinkedHashMap<>();
+        Map<Integer, String> answerMap = new LinkedHashMap<>();
+        Consumer<ParsedQuestion> onQuestion = question -> {
+            int questionIndex;
+            synchronized (lock) {
+                if (quizText.size() >= request.problemCount() || quizText.containsKey(question.number())) {
+                    log.debug("초과/중복 문제 무시 - 퀴즈 ID: {}, 문제 번호: {}", quizId, question.number());
+                    return;
+                }
+                questionIndex = quizText.size();
+                redisQuizAnswerService.appendQuestion(quizId, questionIndex, question.number(), question.questionText(), question.answer());
+                quizText.put(question.number(), question.questionText());
+                answerMap.put(question.number(), question.answer());
+            }
+            listener.onQuestionReady(quizId, questionIndex);
+        };
 
-        redisQuizAnswerService.saveQuiz(quizId, generationResponse.quizText(), generationResponse.answerMap());
+        // 구조화 출력이면 JSON 조각을 논블로킹 파서로, 아니면 텍스트 줄 단위로 파싱한다.
+        QuizStreamParser parser = quizGenerator.isStructuredOutput()
+                ? new StructuredQuizParser(onQuestion)
+                : new IncrementalQuizParser(onQuestion);
+
+        redisQuizAnswerService.startGeneration(quizId, request.problemCount());
+
+        return quizGenerator.streamAsync(request, parser::accept)
+                .thenApply(ignored -> {
+                    parser.finish();
+                    Map<Integer, String> finalQuizText;
+                    Map<Integer, String> finalAnswerMap;
+                    synchronized (lock) {
+                        finalQuizText = new LinkedHashMap<>(quizText);
+                        finalAnswerMap = new LinkedHashMap<>(answerMap);
+                    }
+                    log.debug("스트리밍 퀴즈 생성 완료 - 퀴즈 ID: {}, 문제 수: {}", quizId, finalQuizText.size());
+
+                    // 이 퀴즈는 이미 자신의 해시로 진행 중이므로, 다음 방을 위한 공유 세트만 별도로 등록한다.
+                    if (quizCacheService.isEnabled() && !finalQuizText.isEmpty()) {
+                        storeSharedSet(promptHash, memberIds, new QuizGenerationResponse(finalQuizText, finalAnswerMap));
+                    }
+
+                    QuizResponse response = new QuizResponse(quizId, finalQuizText, finalAnswerMap);
+                    publishToRoom(request, response);
+                    return response;
+                })
+                .whenComplete((response, throwable) -> redisQuizAnswerService.finishGeneration(quizId));
+    }
+
+    private Optional<QuizResponse> useCachedSet(String quizId, String promptHash,
+                                                QuizGenerationRequest request, Collection<Long> memberIds) {
+        return quizCacheService.acquire(promptHash, memberIds)
+                .flatMap(setId -> redisQuizAnswerService.loadQuizSet(setId)
+                        .map(content -> {
+                            redisQuizAnswerService.linkQuizToSet(quizId, setId);
+                            QuizResponse response = new QuizResponse(quizId, content.quizText(), content.answerMap());
+                            publishToRoom(request, response);
+                            return response;
+                        }));
+    }
+
+    private QuizResponse saveAndPublish(String quizId, String promptHash, QuizGenerationRequest request,
+                                        Collection<Long> memberIds, QuizGenerationResponse generationResponse) {
+        if (quizCacheService.isEnabled()) {
+            String setId = storeSharedSet(promptHash, memberIds, generationResponse);
+            redisQuizAnswerService.linkQuizToSet(quizId, setId);
+        } else {
+            redisQuizAnswerService.saveQuiz(quizId, generationResponse.quizText(), generationResponse.answerMap());
+        }
 
         QuizResponse response = new QuizResponse(quizId, generationResponse.quizText(), generationResponse.answerMap());
+        publishToRoom(request, response);
+        return response;
+    }
 
+    private String storeSharedSet(String promptHash, Collection<Long> memberIds,
+                                  QuizGenerationResponse generationResponse) {
+        String setId = UUID.randomUUID().toString();
+        Duration ttl = quizCacheService.contentTtl(RedisQuizAnswerService.QUIZ_TTL);
+        redisQuizAnswerService.saveQuizSet(setId, generationResponse.quizText(), generationResponse.answerMap(), ttl);
+        quizCacheService.register(promptHash, setId, memberIds, ttl);
+        return setId;
+    }
+
+    private void publishToRoom(QuizGenerationRequest request, QuizResponse response) {
         if (request.roomId() != null && !request.roomId().isEmpty()) {
             String roomId = request.roomId();
-            messagingTemplate.convertAndSend("/topic/room/chat/" + roomId, response);
+            fanoutBroker.publish("/topic/room/chat/" + roomId, response);
         }
-
-        return response;
     }
 }
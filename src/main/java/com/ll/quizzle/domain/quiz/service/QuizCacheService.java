@@ -0,0 +1,164 @@
+package com.ll.quizzle.domain.quiz.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+import com.ll.quizzle.domain.quiz.util.QuizPromptBuilder;
+import com.ll.quizzle.global.config.QuizCacheProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 정규화된 프롬프트 해시를 키로 하는 퀴즈 세트 캐시
+ * 같은 조건의 방들은 한 번 저장된 불변 세트(quiz:set:{setId})를 참조로 공유하고,
+ * 현재 라운드/제출 기록 같은 방별 상태만 각자의 quizId 아래에 둔다.
+ *
+ * quiz:cache:{hash}            ZSET  setId -> 생성 시각(ms)
+ * quiz:set:{setId}:meta        HASH  reuseCount
+ * quiz:set:{setId}:members     SET   이 세트를 제공받은 회원 ID
+ *
+ * ACQUIRE_SCRIPT 는 후보 setId 를 ZSET 에서 읽은 뒤에야 세트별 meta/members 키를 알 수 있어
+ * KEYS 로 미리 넘기지 못하고 스크립트 안에서 키 이름을 조합한다.
+ * 선언되지 않은 키에 접근하므로 단일 노드(또는 마스터-레플리카) Redis 를 전제로 하며,
+ * Redis Cluster 로 옮길 때는 세 키를 같은 해시 태그({hash})로 묶도록 키 체계를 바꿔야 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuizCacheService {
+
+    private static final String CACHE_INDEX_KEY = "quiz:cache:%s";
+    private static final String REUSE_COUNT_FIELD = "reuseCount";
+
+    // 후보 세트 중 재사용 횟수와 회원 중복 조건을 만족하는 첫 세트를 원자적으로 선점한다.
+    // 세트별 메타 키는 setId 로부터 스크립트 안에서 조합한다. (단일 노드 Redis 기준, 클래스 설명 참고)
+    private static final RedisScript<String> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', tonumber(ARGV[1]) - tonumber(ARGV[2]))
+            local candidates = redis.call('ZREVRANGE', KEYS[1], 0, -1)
+            for _, setId in ipairs(candidates) do
+                local metaKey = 'quiz:set:' .. setId .. ':meta'
+                local membersKey = 'quiz:set:' .. setId .. ':members'
+                local reuse = redis.call('HGET', metaKey, 'reuseCount')
+                if not reuse then
+                    redis.call('ZREM', KEYS[1], setId)
+                elseif tonumber(reuse) < tonumber(ARGV[3]) then
+                    local served = false
+                    for i = 4, #ARGV do
+                        if redis.call('SISMEMBER', membersKey, ARGV[i]) == 1 then
+                            served = true
+                            break
+                        end
+                    end
+                    if not served then
+                        redis.call('HINCRBY', metaKey, 'reuseCount', 1)
+                        for i = 4, #ARGV do
+                            redis.call('SADD', membersKey, ARGV[i])
+                        end
+                        return setId
+                    end
+                end
+            end
+            return false
+            """, String.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final QuizCacheProperties cacheProperties;
+
+    public boolean isEnabled() {
+        return cacheProperties.isEnabled();
+    }
+
+    /**
+     * 세트 본문과 메타 데이터의 TTL: 신선도 기간 동안 새 방에 제공될 수 있고,
+     * 마지막으로 제공된 방의 게임이 끝날 때까지 유지되어야 한다.
+     */
+    public Duration contentTtl(Duration gameTtl) {
+        return cacheProperties.getFreshness().plus(gameTtl);
+    }
+
+    public String promptHash(QuizGenerationRequest request) {
+        String normalized = QuizPromptBuilder.buildPrompt(request)
+                .trim()
+                .replaceAll("\\s+", " ");
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalized.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 재사용 정책을 만족하는 캐시된 세트를 선점한다. 없으면 빈 Optional 을 반환한다.
+     */
+    public Optional<String> acquire(String promptHash, Collection<Long> memberIds) {
+        if (!cacheProperties.isEnabled()) {
+            return Optional.empty();
+        }
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(System.currentTimeMillis()));
+        args.add(String.valueOf(cacheProperties.getFreshness().toMillis()));
+        args.add(String.valueOf(cacheProperties.getMaxReuse()));
+        memberIds.forEach(memberId -> args.add(String.valueOf(memberId)));
+
+        try {
+            String setId = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(cacheIndexKey(promptHash)), args.toArray());
+            if (setId != null) {
+                log.debug("캐시된 퀴즈 세트 재사용 - 해시: {}, 세트 ID: {}", promptHash, setId);
+            }
+            return Optional.ofNullable(setId);
+        } catch (Exception e) {
+            log.warn("퀴즈 캐시 조회 실패, 새로 생성합니다: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 새로 저장한 세트를 재사용 후보로 등록한다. 처음 제공받은 방의 회원들도 제공 이력에 포함한다.
+     */
+    public void register(String promptHash, String setId, Collection<Long> memberIds, Duration ttl) {
+        if (!cacheProperties.isEnabled()) {
+            return;
+        }
+
+        String indexKey = cacheIndexKey(promptHash);
+        String metaKey = metaKey(setId);
+        String membersKey = membersKey(setId);
+
+        redisTemplate.opsForHash().put(metaKey, REUSE_COUNT_FIELD, "1");
+        redisTemplate.expire(metaKey, ttl);
+        if (!memberIds.isEmpty()) {
+            redisTemplate.opsForSet().add(membersKey, memberIds.stream().map(String::valueOf).toArray(String[]::new));
+            redisTemplate.expire(membersKey, ttl);
+        }
+        redisTemplate.opsForZSet().add(indexKey, setId, System.currentTimeMillis());
+        redisTemplate.expire(indexKey, ttl);
+    }
+
+    private String cacheIndexKey(String promptHash) {
+        return String.format(CACHE_INDEX_KEY, promptHash);
+    }
+
+    private String metaKey(String setId) {
+        return String.format("quiz:set:%s:meta", setId);
+    }
+
+    private String membersKey(String setId) {
+        return String.format("quiz:set:%s:members", setId);
+    }
+}
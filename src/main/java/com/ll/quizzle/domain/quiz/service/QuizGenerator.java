@@ -0,0 +1,64 @@
+package com.ll.quizzle.domain.quiz.service;
+
+import com.ll.quizzle.domain.quiz.client.OpenAIClient;
+import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
+import com.ll.quizzle.domain.quiz.parser.QuizResponseParser;
+import com.ll.quizzle.domain.quiz.util.QuizPromptBuilder;
+import com.ll.quizzle.global.config.QuizGenerationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * OpenAI 퀴즈 생성 요청
+ * 구조화 출력 여부에 따라 프롬프트와 응답 형식을 고르고 응답을 파싱한다. (저장/전송 없음)
+ * 게임 시작 시 생성(GPTQuizService)과 풀 보충(QuizPoolService)이 같은 경로를 쓰도록 분리했다.
+ */
+@Component
+public class QuizGenerator {
+
+    private static final String USER_MESSAGE = "퀴즈 생성";
+
+    private final OpenAIClient openAIClient;
+    private final QuizGenerationProperties generationProperties;
+    private final QuizResponseParser quizResponseParser;
+
+    public QuizGenerator(OpenAIClient openAIClient, QuizGenerationProperties generationProperties) {
+        this.openAIClient = openAIClient;
+        this.generationProperties = generationProperties;
+        this.quizResponseParser = new QuizResponseParser();
+    }
+
+    public boolean isStructuredOutput() {
+        return generationProperties.isStructuredOutput();
+    }
+
+    /**
+     * 퀴즈 생성을 요청하고 파싱된 결과를 반환한다.
+     */
+    public CompletableFuture<QuizGenerationResponse> generateAsync(QuizGenerationRequest request) {
+        if (isStructuredOutput()) {
+            return openAIClient.sendRequestAsync(QuizPromptBuilder.buildStructuredPrompt(request), USER_MESSAGE,
+                            QuizPromptBuilder.responseFormat())
+                    .thenApply(quizResponseParser::parse);
+        }
+
+        return openAIClient.sendRequestAsync(QuizPromptBuilder.buildPrompt(request), USER_MESSAGE)
+                .thenApply(quizResponseParser::parse);
+    }
+
+    /**
+     * 스트리밍으로 퀴즈 생성을 요청하고 도착한 content 조각을 onContentDelta 에 전달한다.
+     * 파싱은 호출 측의 스트림 파서가 담당한다.
+     */
+    public CompletableFuture<Void> streamAsync(QuizGenerationRequest request, Consumer<String> onContentDelta) {
+        if (isStructuredOutput()) {
+            return openAIClient.streamRequestAsync(QuizPromptBuilder.buildStructuredPrompt(request), USER_MESSAGE,
+                    QuizPromptBuilder.responseFormat(), onContentDelta);
+        }
+
+        return openAIClient.streamRequestAsync(QuizPromptBuilder.buildPrompt(request), USER_MESSAGE, onContentDelta);
+    }
+}
@@ -0,0 +1,221 @@
+package com.ll.quizzle.domain.quiz.service;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+
+import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
+import com.ll.quizzle.domain.quiz.pool.QuizPoolKey;
+import com.ll.quizzle.domain.quiz.pool.QuizPoolStats;
+import com.ll.quizzle.domain.room.type.AnswerType;
+import com.ll.quizzle.domain.room.type.Difficulty;
+import com.ll.quizzle.domain.room.type.SubCategory;
+import com.ll.quizzle.global.config.QuizPoolProperties;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * (서브카테고리 x 난이도 x 정답유형) 별로 파싱이 끝난 퀴즈 세트를 미리 만들어 두는 풀
+ * 게임 시작 시에는 준비된 세트를 꺼내기만 하고, 비어 있는 풀은 스케줄러가 백그라운드에서 채운다.
+ * 한 번도 요청되지 않은 키는 prewarmAll 이 아니라면 보충하지 않는다. (사용되지 않는 카테고리에 토큰을 쓰지 않도록)
+ */
+@Slf4j
+@Service
+public class QuizPoolService {
+
+    private final QuizPoolProperties poolProperties;
+    private final QuizGenerator quizGenerator;
+
+    private final Map<QuizPoolKey, Pool> pools = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refills = new LongAdder();
+    private final LongAdder refillFailures = new LongAdder();
+    private final LongAdder refillLatencyTotal = new LongAdder();
+    private final AtomicLong refillLatencyMax = new AtomicLong();
+
+    private final AtomicInteger activeRefills = new AtomicInteger();
+
+    private ThreadPoolTaskScheduler refillScheduler;
+
+    public QuizPoolService(QuizPoolProperties poolProperties, QuizGenerator quizGenerator) {
+        this.poolProperties = poolProperties;
+        this.quizGenerator = quizGenerator;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!poolProperties.isEnabled()) {
+            log.info("퀴즈 풀 비활성화 상태");
+            return;
+        }
+
+        if (poolProperties.isPrewarmAll()) {
+            for (SubCategory subCategory : SubCategory.values()) {
+                for (Difficulty difficulty : Difficulty.values()) {
+                    Arrays.stream(AnswerType.values())
+                            .forEach(answerType -> poolOf(new QuizPoolKey(subCategory, difficulty, answerType)));
+                }
+            }
+        }
+
+        refillScheduler = new ThreadPoolTaskScheduler();
+        refillScheduler.setPoolSize(1);
+        refillScheduler.setThreadNamePrefix("quiz-pool-scheduler-");
+        refillScheduler.initialize();
+        refillScheduler.scheduleAtFixedRate(this::refillBelowLowWaterMark, poolProperties.getRefillIntervalMillis());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refillScheduler != null) {
+            refillScheduler.shutdown();
+        }
+    }
+
+    /**
+     * 준비된 퀴즈 세트를 꺼낸다. 풀이 비어 있으면 빈 Optional 을 반환하고,
+     * 해당 키를 보충 대상으로 등록해 다음 게임부터는 풀에서 바로 꺼낼 수 있게 한다.
+     */
+    public Optional<QuizGenerationResponse> take(QuizGenerationRequest request) {
+        if (!poolProperties.isEnabled() || request.problemCount() > poolProperties.getSetSize()) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        Pool pool = poolOf(QuizPoolKey.from(request));
+        QuizGenerationResponse pooled;
+        while ((pooled = pool.poll()) != null) {
+            QuizGenerationResponse truncated = truncate(pooled, request.problemCount());
+            if (truncated.quizText().size() == request.problemCount()) {
+                hits.increment();
+                return Optional.of(truncated);
+            }
+            log.warn("문제 수가 부족한 퀴즈 세트 폐기 - 키: {}, 문제 수: {}", pool.key, truncated.quizText().size());
+        }
+
+        misses.increment();
+        return Optional.empty();
+    }
+
+    public QuizPoolStats getStats() {
+        long refillCount = refills.sum();
+        return new QuizPoolStats(
+                hits.sum(),
+                misses.sum(),
+                refillCount,
+                refillFailures.sum(),
+                refillCount == 0 ? 0 : (double) refillLatencyTotal.sum() / refillCount,
+                refillLatencyMax.get(),
+                pools.size(),
+                pools.values().stream().mapToInt(pool -> pool.size.get()).sum()
+        );
+    }
+
+    private Pool poolOf(QuizPoolKey key) {
+        return pools.computeIfAbsent(key, Pool::new);
+    }
+
+    void refillBelowLowWaterMark() {
+        for (Pool pool : pools.values()) {
+            if (pool.size.get() >= poolProperties.getLowWaterMark()) {
+                continue;
+            }
+            // 동시에 보충하는 키 수를 제한해 게임 시작 요청이 OpenAI 동시 요청 한도를 기다리지 않도록 한다.
+            if (activeRefills.get() >= poolProperties.getRefillConcurrency()) {
+                return;
+            }
+            if (pool.refilling.compareAndSet(false, true)) {
+                activeRefills.incrementAndGet();
+                refill(pool);
+            }
+        }
+    }
+
+    private void refill(Pool pool) {
+        if (pool.size.get() >= poolProperties.getCapacity()) {
+            finishRefill(pool);
+            return;
+        }
+
+        QuizGenerationRequest request = pool.key.toGenerationRequest(poolProperties.getSetSize());
+        long startedAt = System.nanoTime();
+        quizGenerator.generateAsync(request).whenComplete((generated, throwable) -> {
+            if (throwable != null) {
+                refillFailures.increment();
+                log.warn("퀴즈 풀 보충 실패 - 키: {}, 오류: {}", pool.key, throwable.getMessage());
+                finishRefill(pool);
+                return;
+            }
+
+            recordRefillLatency((System.nanoTime() - startedAt) / 1_000_000);
+            pool.offer(generated);
+            log.debug("퀴즈 풀 보충 완료 - 키: {}, 현재 세트 수: {}", pool.key, pool.size.get());
+            refill(pool);
+        });
+    }
+
+    private void finishRefill(Pool pool) {
+        pool.refilling.set(false);
+        activeRefills.decrementAndGet();
+    }
+
+    private void recordRefillLatency(long latencyMillis) {
+        refills.increment();
+        refillLatencyTotal.add(latencyMillis);
+        refillLatencyMax.accumulateAndGet(latencyMillis, Math::max);
+    }
+
+    private QuizGenerationResponse truncate(QuizGenerationResponse response, int problemCount) {
+        Map<Integer, String> quizText = new LinkedHashMap<>();
+        Map<Integer, String> answerMap = new LinkedHashMap<>();
+        response.quizText().entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .filter(entry -> response.answerMap().containsKey(entry.getKey()))
+                .limit(problemCount)
+                .forEach(entry -> {
+                    quizText.put(entry.getKey(), entry.getValue());
+                    answerMap.put(entry.getKey(), response.answerMap().get(entry.getKey()));
+                });
+        return new QuizGenerationResponse(quizText, answerMap);
+    }
+
+    private static class Pool {
+        private final QuizPoolKey key;
+        private final Queue<QuizGenerationResponse> sets = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean refilling = new AtomicBoolean();
+
+        private Pool(QuizPoolKey key) {
+            this.key = key;
+        }
+
+        private QuizGenerationResponse poll() {
+            QuizGenerationResponse polled = sets.poll();
+            if (polled != null) {
+                size.decrementAndGet();
+            }
+            return polled;
+        }
+
+        private void offer(QuizGenerationResponse response) {
+            sets.offer(response);
+            size.incrementAndGet();
+        }
+    }
+}
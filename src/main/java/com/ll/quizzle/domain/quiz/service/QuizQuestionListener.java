@@ -0,0 +1,10 @@
+package com.ll.quizzle.domain.quiz.service;
+
+/**
+ * 스트리밍 생성 중 문제가 Redis 에 저장될 때마다 호출되는 콜백
+ * questionIndex 는 0부터 시작하는 저장 순서이다.
+ */
+@FunctionalInterface
+public interface QuizQuestionListener {
+    void onQuestionReady(String quizId, int questionIndex);
+}
@@ -0,0 +1,146 @@
+package com.ll.quizzle.domain.quiz.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.ll.quizzle.domain.quiz.dto.QuizRound;
+import com.ll.quizzle.domain.quiz.dto.response.QuizQuestionResponse;
+import com.ll.quizzle.domain.quiz.event.QuizRoundEvent;
+import com.ll.quizzle.domain.room.dto.response.RoomGameStatusResponse;
+import com.ll.quizzle.domain.room.dto.response.RoomSocketErrorResponse;
+import com.ll.quizzle.global.socket.fanout.RedisFanoutBroker;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 방에 문제를 출제한다. (문제 전송 / 마지막 문제 이후 게임 종료 전송)
+ * 스트리밍 생성 중 아직 도착하지 않은 문제는 대기시켰다가 도착하면 전송한다.
+ * 전송 결과는 QuizRoundEvent 로 발행되어 라운드 스케줄러가 타이머를 관리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuizQuestionService {
+
+    private final RedisFanoutBroker fanoutBroker;
+    private final RedisQuizAnswerService redisQuizAnswerService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 스트리밍 생성 중 아직 도착하지 않은 문제를 기다리는 요청 (퀴즈 ID -> 대기 문제)
+    private final Map<String, PendingQuestion> pendingQuestions = new ConcurrentHashMap<>();
+
+    public void sendQuizQuestion(String roomId, String quizId, int questionIndex) {
+        try {
+            // 문제 수/문제/정답 조회와 현재 라운드 기록을 한 번에 처리한다. (공유 세트 참조도 함께 해석)
+            QuizRound round = redisQuizAnswerService.fetchRound(quizId, questionIndex, true);
+            int listSize = round.questionCount();
+            log.debug("Redis 문제 수: {} (퀴즈 ID: {})", listSize, quizId);
+
+            // 스트리밍 생성 중이라면 아직 도착하지 않은 문제는 종료가 아니라 대기로 처리한다.
+            Integer generatingCount = generatingQuestionCount(quizId);
+            if (generatingCount != null && questionIndex < generatingCount && questionIndex >= listSize) {
+                PendingQuestion pending = new PendingQuestion(roomId, questionIndex);
+                pendingQuestions.put(quizId, pending);
+
+                // 등록 직전에 문제가 도착했을 수 있으므로 한 번 더 확인한다.
+                round = redisQuizAnswerService.fetchRound(quizId, questionIndex, true);
+                listSize = round.questionCount();
+                if (questionIndex >= listSize || !pendingQuestions.remove(quizId, pending)) {
+                    log.debug("문제 #{} 생성 대기 - 방 ID: {}, 퀴즈 ID: {}", questionIndex + 1, roomId, quizId);
+                    return;
+                }
+            }
+
+            if (listSize == 0 || questionIndex >= listSize) {
+                log.info("문제 인덱스({})가 리스트 크기({})를 벗어납니다. 게임 종료 메시지 전송 - 방 ID: {}",
+                       questionIndex, listSize, roomId);
+                fanoutBroker.publish("/topic/room/" + roomId + "/game/status", RoomGameStatusResponse.status(
+                        "FINISHED", "모든 문제가 끝났습니다!", null, System.currentTimeMillis()));
+                eventPublisher.publishEvent(QuizRoundEvent.finished(roomId, quizId, questionIndex));
+                return;
+            }
+
+            boolean useTemporaryQuestion = false;
+
+            if (!round.hasQuestion()) {
+                log.warn("Redis에서 문제를 찾을 수 없습니다. 인덱스: {}, 퀴즈 ID: {}, 리스트 크기: {}",
+                       questionIndex, quizId, listSize);
+
+                useTemporaryQuestion = true;
+            }
+
+            String correctAnswer = "b";
+
+            if (!useTemporaryQuestion) {
+                if (round.answer() != null) {
+                    correctAnswer = round.answer();
+                } else {
+                    log.warn("정답 데이터를 찾을 수 없습니다. 인덱스: {}, 퀴즈 ID: {}", questionIndex, quizId);
+                }
+            }
+
+            String questionText = round.questionText();
+            if (useTemporaryQuestion) {
+                questionText = String.format("%d: 임시 문제입니다\\na) 선택지1\\nb) 선택지2\\nc) 선택지3\\nd) 선택지4\\n",
+                                                questionIndex + 1);
+            }
+
+            long totalQuestions = generatingCount != null ? Math.max(generatingCount, listSize) : listSize;
+            boolean isLastQuestion = (questionIndex >= totalQuestions - 1);
+            log.debug("문제 #{} 마지막 문제 여부: {} (인덱스: {}, 리스트 크기: {})",
+                    questionIndex + 1, isLastQuestion, questionIndex, listSize);
+
+            fanoutBroker.publish("/topic/room/" + roomId + "/question", new QuizQuestionResponse(
+                    questionIndex, questionText, correctAnswer, isLastQuestion, System.currentTimeMillis()));
+            log.info("문제 #{} 전송 완료 - 방 ID: {}, 마지막 문제 여부: {}",
+                   questionIndex + 1, roomId, isLastQuestion);
+            eventPublisher.publishEvent(QuizRoundEvent.questionSent(roomId, quizId, questionIndex, isLastQuestion));
+
+        } catch (Exception e) {
+            log.error("문제 정보 전송 중 오류 발생: {}", e.getMessage(), e);
+            fanoutBroker.publish("/topic/room/" + roomId + "/error",
+                    new RoomSocketErrorResponse("문제 정보 전송 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 스트리밍 생성으로 readyIndex 번째 문제가 저장되었을 때, 그 문제를 기다리던 요청이 있으면 전송한다.
+     */
+    public void deliverPendingQuestion(String quizId, int readyIndex) {
+        PendingQuestion pending = pendingQuestions.get(quizId);
+        if (pending != null && pending.questionIndex() <= readyIndex && pendingQuestions.remove(quizId, pending)) {
+            sendQuizQuestion(pending.roomId(), quizId, pending.questionIndex());
+        }
+    }
+
+    /**
+     * 생성이 끝났을 때 남아 있는 대기 요청을 실제 문제 수 기준으로 다시 처리한다. (종료 메시지 포함)
+     */
+    public void flushPendingQuestion(String quizId) {
+        PendingQuestion pending = pendingQuestions.remove(quizId);
+        if (pending != null) {
+            sendQuizQuestion(pending.roomId(), quizId, pending.questionIndex());
+        }
+    }
+
+    private Integer generatingQuestionCount(String quizId) {
+        String expected = redisTemplate.opsForValue().get(RedisQuizAnswerService.generatingKey(quizId));
+        if (expected == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(expected.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private record PendingQuestion(String roomId, int questionIndex) {
+    }
+}
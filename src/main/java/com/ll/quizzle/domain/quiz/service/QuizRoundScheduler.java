@@ -0,0 +1,281 @@
+package com.ll.quizzle.domain.quiz.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.ll.quizzle.domain.quiz.dto.response.QuizTimerExpiredResponse;
+import com.ll.quizzle.domain.quiz.dto.response.QuizTimerStartResponse;
+import com.ll.quizzle.domain.quiz.event.QuizRoundEvent;
+import com.ll.quizzle.domain.quiz.util.QuizSubmissionScripts;
+import com.ll.quizzle.domain.room.dto.response.QuestionResultResponse;
+import com.ll.quizzle.global.config.QuizRoundProperties;
+import com.ll.quizzle.global.socket.fanout.RedisFanoutBroker;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서버 주도 라운드 진행
+ *
+ * 게임을 시작한 노드가 퀴즈마다 라운드 상태 하나를 갖고, 공용 스케줄러에 예약한 작업으로 라운드를 진행한다.
+ * 문제 전송(QUESTION_SENT) -> 제한 시간 타이머 시작 -> 제한 시간 만료 또는 전원 제출 알림 -> 결과 공개
+ * -> resultDuration 후 다음 문제 전송 순서로 진행하며, 같은 라운드를 두 번 닫거나 넘기지 않는다.
+ *
+ * 전원 제출은 답안 제출 스크립트가 발행하는 quiz:{id}:notifications ("이벤트:문제 번호") 를 구독해 감지한다.
+ * 진행 순서는 서버가 정하므로 클라이언트의 다음 문제 요청은 결과 공개 중인 라운드를 일찍 넘길 때만 받고,
+ * 이 노드가 진행하지 않는 퀴즈의 요청은 진행 중인 노드가 넘기도록 무시한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuizRoundScheduler {
+
+    private static final String NOTIFICATION_PATTERN = "quiz:*:notifications";
+
+    private final QuizRoundProperties properties;
+    private final QuizQuestionService quizQuestionService;
+    private final RedisFanoutBroker fanoutBroker;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    // 이 노드가 진행 중인 퀴즈 (퀴즈 ID -> 라운드 상태)
+    private final Map<String, RoundState> rounds = new ConcurrentHashMap<>();
+
+    private ThreadPoolTaskScheduler taskScheduler;
+
+    @PostConstruct
+    public void init() {
+        taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(properties.getSchedulerPoolSize());
+        taskScheduler.setThreadNamePrefix("quiz-round-");
+        taskScheduler.initialize();
+
+        if (!properties.isEnabled()) {
+            log.info("서버 주도 라운드 진행 비활성화 상태");
+            return;
+        }
+
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onSubmissionNotification(
+                        new String(message.getChannel(), StandardCharsets.UTF_8),
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                new PatternTopic(NOTIFICATION_PATTERN));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (taskScheduler != null) {
+            taskScheduler.shutdown();
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 게임 시작: 라운드 상태를 등록하고 첫 문제를 스케줄러 스레드에서 전송한다.
+     */
+    public void start(String roomId, String quizId) {
+        RoundState previous = rounds.put(quizId, new RoundState(roomId));
+        if (previous != null) {
+            synchronized (previous) {
+                previous.cancelDeadline();
+            }
+        }
+
+        taskScheduler.execute(() -> {
+            log.info("첫 번째 문제 전송 시작 - 방 ID: {}, 퀴즈 ID: {}", roomId, quizId);
+            quizQuestionService.sendQuizQuestion(roomId, quizId, 0);
+        });
+    }
+
+    /**
+     * 클라이언트의 다음 문제 요청
+     * 현재 라운드가 currentIndex 이고 결과를 공개 중일 때 한 번만 다음 문제로 넘기고, 받지 않은 요청이면 false 를 반환한다.
+     * 문제 풀이 중인 라운드, 라운드를 건너뛰는 요청(nextIndex != currentIndex + 1), 이 노드가 진행하지 않는 퀴즈는 받지 않는다.
+     */
+    public boolean requestNext(String roomId, String quizId, int currentIndex, int nextIndex) {
+        if (!properties.isEnabled()) {
+            quizQuestionService.sendQuizQuestion(roomId, quizId, nextIndex);
+            return true;
+        }
+
+        if (nextIndex != currentIndex + 1) {
+            log.warn("라운드를 건너뛰는 다음 문제 요청 무시 - 방 ID: {}, 요청 라운드: {}, 다음 라운드: {}",
+                    roomId, currentIndex, nextIndex);
+            return false;
+        }
+
+        RoundState state = rounds.get(quizId);
+        if (state == null) {
+            log.debug("이 노드가 진행하지 않는 퀴즈의 다음 문제 요청 무시 - 방 ID: {}, 퀴즈 ID: {}", roomId, quizId);
+            return false;
+        }
+
+        synchronized (state) {
+            // 문제 풀이 중인 라운드를 클라이언트가 닫을 수 없도록 결과 공개 단계에서만 받는다.
+            if (state.index != currentIndex || state.phase != Phase.RESULT) {
+                log.debug("결과 공개 중이 아닌 라운드의 다음 문제 요청 무시 - 방 ID: {}, 현재 라운드: {}, 단계: {}, 요청 라운드: {}",
+                        roomId, state.index, state.phase, currentIndex);
+                return false;
+            }
+            state.index = nextIndex;
+            state.phase = Phase.ADVANCING;
+        }
+
+        quizQuestionService.sendQuizQuestion(roomId, quizId, nextIndex);
+        return true;
+    }
+
+    @EventListener
+    public void onRoundEvent(QuizRoundEvent event) {
+        if (event.type() == QuizRoundEvent.Type.FINISHED) {
+            RoundState state = rounds.remove(event.quizId());
+            if (state != null) {
+                synchronized (state) {
+                    state.cancelDeadline();
+                }
+                log.debug("라운드 진행 종료 - 방 ID: {}, 퀴즈 ID: {}", event.roomId(), event.quizId());
+            }
+            return;
+        }
+
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        RoundState state = rounds.get(event.quizId());
+        if (state == null) {
+            return;
+        }
+
+        long durationMillis = properties.getQuestionDuration().toMillis();
+        long deadline;
+        synchronized (state) {
+            // 같은 문제의 재전송(문제 데이터 재요청)이나 지난 문제는 타이머를 다시 시작하지 않는다.
+            if (event.questionIndex() < state.index
+                    || (event.questionIndex() == state.index && state.phase != Phase.ADVANCING)) {
+                return;
+            }
+            state.cancelDeadline();
+            state.index = event.questionIndex();
+            state.phase = Phase.QUESTION;
+            deadline = System.currentTimeMillis() + durationMillis;
+            state.deadline = taskScheduler.schedule(
+                    () -> closeRound(event.quizId(), event.questionIndex(), CloseReason.TIMEOUT),
+                    Instant.ofEpochMilli(deadline));
+        }
+
+        fanoutBroker.publish("/topic/room/" + event.roomId() + "/timer/start", new QuizTimerStartResponse(
+                event.questionIndex(), durationMillis, deadline, System.currentTimeMillis()));
+    }
+
+    void onSubmissionNotification(String channel, String body) {
+        String quizId = QuizSubmissionScripts.quizIdFromChannel(channel);
+        String event = body.replace("\"", "");
+        int separator = event.lastIndexOf(':');
+        if (quizId == null || separator < 0) {
+            return;
+        }
+
+        try {
+            int questionNumber = Integer.parseInt(event.substring(separator + 1));
+            closeRound(quizId, questionNumber - 1, CloseReason.ALL_SUBMITTED);
+        } catch (NumberFormatException e) {
+            log.warn("제출 알림 형식 오류 - 채널: {}, 내용: {}", channel, body);
+        }
+    }
+
+    /**
+     * 라운드를 닫고 결과를 공개한 뒤 다음 문제 전송을 예약한다. 이미 닫힌 라운드면 아무것도 하지 않는다.
+     */
+    void closeRound(String quizId, int questionIndex, CloseReason reason) {
+        RoundState state = rounds.get(quizId);
+        if (state == null) {
+            return;
+        }
+
+        synchronized (state) {
+            if (state.index != questionIndex || state.phase != Phase.QUESTION) {
+                return;
+            }
+            state.cancelDeadline();
+            state.phase = Phase.RESULT;
+        }
+
+        log.debug("라운드 종료 - 방 ID: {}, 문제 #{}, 사유: {}", state.roomId, questionIndex + 1, reason);
+        String roomTopic = "/topic/room/" + state.roomId;
+
+        if (reason == CloseReason.TIMEOUT) {
+            fanoutBroker.publish(roomTopic + "/timer/expired",
+                    new QuizTimerExpiredResponse(questionIndex, System.currentTimeMillis()));
+        }
+
+        fanoutBroker.publish(roomTopic + "/question/result",
+                new QuestionResultResponse(questionIndex, true, reason.name(), System.currentTimeMillis()));
+
+        taskScheduler.schedule(() -> advance(quizId, questionIndex),
+                Instant.now().plus(properties.getResultDuration()));
+    }
+
+    private void advance(String quizId, int questionIndex) {
+        RoundState state = rounds.get(quizId);
+        if (state == null) {
+            return;
+        }
+
+        synchronized (state) {
+            if (state.index != questionIndex || state.phase != Phase.RESULT) {
+                return;
+            }
+            state.index = questionIndex + 1;
+            state.phase = Phase.ADVANCING;
+        }
+
+        quizQuestionService.sendQuizQuestion(state.roomId, quizId, questionIndex + 1);
+    }
+
+    int activeRounds() {
+        return rounds.size();
+    }
+
+    enum CloseReason {
+        TIMEOUT,
+        ALL_SUBMITTED
+    }
+
+    private enum Phase {
+        QUESTION,
+        RESULT,
+        ADVANCING
+    }
+
+    private static class RoundState {
+        private final String roomId;
+        private int index;
+        private Phase phase = Phase.ADVANCING;
+        private ScheduledFuture<?> deadline;
+
+        private RoundState(String roomId) {
+            this.roomId = roomId;
+        }
+
+        private void cancelDeadline() {
+            if (deadline != null) {
+                deadline.cancel(false);
+                deadline = null;
+            }
+        }
+    }
+}
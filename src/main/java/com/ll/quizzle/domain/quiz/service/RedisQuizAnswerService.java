@@ -3,14 +3,30 @@ package com.ll.quizzle.domain.quiz.service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import com.ll.quizzle.domain.quiz.cache.QuizContentCache;
+import com.ll.quizzle.domain.quiz.dto.QuizContent;
+import com.ll.quizzle.domain.quiz.dto.QuizRound;
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
+import com.ll.quizzle.domain.quiz.event.QuizRoundEvent;
+import com.ll.quizzle.domain.quiz.util.QuizContentScripts;
+
 import java.time.Duration;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * 퀴즈 문제/정답 저장소
+ * 문제 수, 문제, 정답을 하나의 해시({base}:content)에 저장하고 라운드 조회는 스크립트 한 번으로 처리한다.
+ * 이전 리스트 형식(quiz:{quizId}:questions / quiz:{quizId}:answers)으로 저장된 퀴즈는 조회 시 리스트를 읽는다.
+ * 저장이 끝난 퀴즈는 QuizContentCache 에서 먼저 찾고, 게임이 끝나면 퀴즈 내용을 지운다.
+ */
 @Service
 public class RedisQuizAnswerService {
 
@@ -19,34 +35,192 @@ public class RedisQuizAnswerService {
     @Autowired
     private RedisTemplate<String, Object> redisTemplate;
 
-    private static final Duration QUIZ_TTL = Duration.ofMinutes(30);
+    @Autowired
+    private RedisTemplate<String, String> stringRedisTemplate;
+
+    @Autowired
+    private QuizContentCache quizContentCache;
+
+    public static final Duration QUIZ_TTL = Duration.ofMinutes(30);
 
     public String saveQuiz(String quizId, Map<Integer, String> quizTextMap, Map<Integer, String> answerMap) {
         if (quizId == null || quizId.trim().isEmpty()) {
             quizId = UUID.randomUUID().toString();
         }
-        String redisKey = String.format("quiz:%s", quizId);
+        writeContent(String.format("quiz:%s", quizId), quizTextMap, answerMap, QUIZ_TTL);
 
-        String questionListKey = String.format("%s:questions", redisKey);
-        quizTextMap.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey())
-                .forEachOrdered(entry -> {
-                    // 저장 시 "번호: 질문내용" 형식
-                    String questionEntry = String.format("%d: %s\n", entry.getKey(), entry.getValue().trim());
-                    redisTemplate.opsForList().rightPush(questionListKey, questionEntry);
-                });
-        redisTemplate.expire(questionListKey, QUIZ_TTL);
-
-        String answerListKey = String.format("%s:answers", redisKey);
-        answerMap.entrySet().stream()
+        return quizId;
+    }
+
+    /**
+     * 여러 방이 참조로 공유하는 불변 퀴즈 세트를 저장한다. (형식은 saveQuiz 와 동일)
+     */
+    public void saveQuizSet(String setId, Map<Integer, String> quizTextMap, Map<Integer, String> answerMap, Duration ttl) {
+        writeContent(setContentKey(setId), quizTextMap, answerMap, ttl);
+    }
+
+    /**
+     * 방의 퀴즈 ID 가 공유 세트를 참조하도록 연결한다. 라운드/제출 기록은 계속 quizId 기준으로 관리된다.
+     */
+    public void linkQuizToSet(String quizId, String setId) {
+        stringRedisTemplate.opsForValue().set(setLinkKey(quizId), setId, QUIZ_TTL);
+    }
+
+    /**
+     * 공유 세트의 문제/정답을 읽는다. 세트가 만료되었으면 빈 Optional 을 반환한다.
+     */
+    public Optional<QuizGenerationResponse> loadQuizSet(String setId) {
+        Map<Object, Object> hash = stringRedisTemplate.opsForHash()
+                .entries(QuizContentScripts.contentKey(setContentKey(setId)));
+        return QuizContent.fromHash(hash).map(QuizContent::toGenerationResponse);
+    }
+
+    /**
+     * 라운드에 필요한 문제 수/문제/정답을 조회한다.
+     * markCurrentRound 가 true 이고 문제가 존재하면 현재 라운드도 함께 기록한다.
+     * 로컬 캐시에 있으면 Redis 조회 없이(현재 라운드 기록만) 처리하고,
+     * 없으면 해시 형식은 한 번의 왕복, 이전 리스트 형식은 LLEN/LINDEX 로 읽는다.
+     */
+    public QuizRound fetchRound(String quizId, int questionIndex, boolean markCurrentRound) {
+        Optional<QuizContent> cached = quizContentCache.get(quizId);
+        if (cached.isPresent() && questionIndex >= 0 && questionIndex < cached.get().questionCount()) {
+            if (markCurrentRound) {
+                stringRedisTemplate.opsForValue().set(
+                        String.format("quiz:%s:currentRound", quizId), String.valueOf(questionIndex), QUIZ_TTL);
+            }
+            return cached.get().round(questionIndex);
+        }
+
+        String result = stringRedisTemplate.execute(
+                QuizContentScripts.ROUND_SCRIPT,
+                QuizContentScripts.roundKeys(quizId),
+                String.valueOf(questionIndex),
+                markCurrentRound ? "1" : "0",
+                String.valueOf(QUIZ_TTL.toSeconds())
+        );
+
+        QuizRound round = QuizContentScripts.parseRound(result);
+        if (round != null) {
+            return round;
+        }
+
+        return fetchLegacyRound(quizId, questionIndex, markCurrentRound);
+    }
+
+    /**
+     * 게임이 끝나면 퀴즈 내용을 TTL 까지 남겨두지 않고 바로 지운다.
+     */
+    @EventListener
+    public void onRoundEvent(QuizRoundEvent event) {
+        if (event.type() == QuizRoundEvent.Type.FINISHED) {
+            deleteQuiz(event.quizId());
+        }
+    }
+
+    /**
+     * 퀴즈의 자체 내용과 세트 참조를 지우고 모든 노드의 로컬 캐시를 무효화한다. (공유 세트 자체는 TTL 로 만료)
+     */
+    public void deleteQuiz(String quizId) {
+        String base = String.format("quiz:%s", quizId);
+        stringRedisTemplate.delete(List.of(
+                setLinkKey(quizId),
+                QuizContentScripts.contentKey(base),
+                base + ":questions",
+                base + ":answers",
+                generatingKey(quizId)
+        ));
+        quizContentCache.invalidate(quizId);
+        log.debug("퀴즈 내용 삭제 - 퀴즈 ID: {}", quizId);
+    }
+
+    public static String setLinkKey(String quizId) {
+        return String.format("quiz:%s:set", quizId);
+    }
+
+    public static String setContentKey(String setId) {
+        return String.format("quiz:set:%s", setId);
+    }
+
+    private void writeContent(String redisKey, Map<Integer, String> quizTextMap, Map<Integer, String> answerMap,
+                              Duration ttl) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        int index = 0;
+        for (Map.Entry<Integer, String> entry : quizTextMap.entrySet().stream()
                 .sorted(Map.Entry.comparingByKey())
-                .forEachOrdered(entry -> {
-                    String entryValue = String.format("%d:%s", entry.getKey(), entry.getValue());
-                    redisTemplate.opsForList().rightPush(answerListKey, entryValue);
-                });
-        redisTemplate.expire(answerListKey, QUIZ_TTL);
+                .toList()) {
+            String answer = answerMap.get(entry.getKey());
+            if (answer == null) {
+                continue;
+            }
+            // 문제는 "번호: 질문내용" 형식, 정답은 보기 기호만 저장
+            fields.put(QuizContentScripts.questionField(index), String.format("%d: %s\n", entry.getKey(), entry.getValue().trim()));
+            fields.put(QuizContentScripts.answerField(index), answer);
+            index++;
+        }
+        fields.put(QuizContentScripts.COUNT_FIELD, String.valueOf(index));
 
-        return quizId;
+        String contentKey = QuizContentScripts.contentKey(redisKey);
+        stringRedisTemplate.opsForHash().putAll(contentKey, fields);
+        stringRedisTemplate.expire(contentKey, ttl);
+    }
+
+    /**
+     * 스트리밍 생성 중에는 전체 문제 수를 기록해 두고, 아직 도착하지 않은 문제를 게임 종료로 오인하지 않도록 한다.
+     */
+    public void startGeneration(String quizId, int expectedCount) {
+        redisTemplate.opsForValue().set(generatingKey(quizId), expectedCount, QUIZ_TTL);
+    }
+
+    public void finishGeneration(String quizId) {
+        redisTemplate.delete(generatingKey(quizId));
+    }
+
+    /**
+     * 파싱이 끝난 문제 하나를 questionIndex 위치에 추가한다.
+     * 문제/정답/문제 수를 한 번의 HSET 으로 기록하므로 조회 측은 문제 수만큼의 문제를 항상 읽을 수 있다.
+     */
+    public void appendQuestion(String quizId, int questionIndex, int questionNumber, String questionText, String answer) {
+        String contentKey = QuizContentScripts.contentKey(String.format("quiz:%s", quizId));
+
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put(QuizContentScripts.questionField(questionIndex), String.format("%d: %s\n", questionNumber, questionText.trim()));
+        fields.put(QuizContentScripts.answerField(questionIndex), answer);
+        fields.put(QuizContentScripts.COUNT_FIELD, String.valueOf(questionIndex + 1));
+
+        stringRedisTemplate.opsForHash().putAll(contentKey, fields);
+        stringRedisTemplate.expire(contentKey, QUIZ_TTL);
+    }
+
+    public static String generatingKey(String quizId) {
+        return String.format("quiz:%s:generating", quizId);
     }
 
-}
\ No newline at end of file
+    private QuizRound fetchLegacyRound(String quizId, int questionIndex, boolean markCurrentRound) {
+        String questionListKey = String.format("quiz:%s:questions", quizId);
+        String answerListKey = String.format("quiz:%s:answers", quizId);
+
+        Long listSize = redisTemplate.opsForList().size(questionListKey);
+        if (listSize == null || listSize == 0) {
+            return QuizRound.empty();
+        }
+        if (questionIndex < 0 || questionIndex >= listSize) {
+            return new QuizRound(listSize.intValue(), null, null);
+        }
+
+        Object questionObj = redisTemplate.opsForList().index(questionListKey, questionIndex);
+        Object answerObj = redisTemplate.opsForList().index(answerListKey, questionIndex);
+        String answer = null;
+        if (answerObj != null) {
+            String[] parts = answerObj.toString().split(":");
+            answer = parts.length == 2 ? parts[1].trim().toLowerCase() : null;
+        }
+
+        if (questionObj != null && markCurrentRound) {
+            stringRedisTemplate.opsForValue().set(
+                    String.format("quiz:%s:currentRound", quizId), String.valueOf(questionIndex), QUIZ_TTL);
+        }
+
+        log.debug("이전 리스트 형식 퀴즈 조회 - 퀴즈 ID: {}, 인덱스: {}", quizId, questionIndex);
+        return new QuizRound(listSize.intValue(), questionObj != null ? questionObj.toString() : null, answer);
+    }
+}
@@ -0,0 +1,79 @@
+package com.ll.quizzle.domain.quiz.util;
+
+import java.util.List;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.ll.quizzle.domain.quiz.dto.QuizRound;
+
+/**
+ * 단일 해시 퀴즈 저장 형식과 라운드 조회 스크립트
+ *
+ * {base}:content  HASH  count -> 문제 수, q:{i} -> "번호: 문제\n", a:{i} -> 정답 (i 는 0부터)
+ * base 는 공유 세트면 quiz:set:{setId}, 아니면 quiz:{quizId}
+ *
+ * ROUND_SCRIPT 는 세트 참조 해석 + 문제/정답/문제 수 조회 + (선택) 현재 라운드 기록을 한 번의 왕복으로 처리한다.
+ * 해시가 없으면 'L' 만 돌려주고, 호출 측이 이전 리스트 형식(quiz:{quizId}:questions/answers)을 읽는다.
+ */
+public final class QuizContentScripts {
+
+    public static final String COUNT_FIELD = "count";
+    private static final String SEPARATOR = "\u001f";
+
+    // KEYS: quiz:{id}:set, quiz:{id}:content, quiz:{id}:currentRound
+    // ARGV: 문제 인덱스, 현재 라운드 기록 여부('1'/'0'), TTL(초)
+    // 세트 해시 키는 링크 값으로부터 스크립트 안에서 조합한다. (단일 노드 Redis 기준)
+    public static final RedisScript<String> ROUND_SCRIPT = new DefaultRedisScript<>("""
+            local base = string.sub(KEYS[2], 1, -9)
+            local setId = redis.call('GET', KEYS[1])
+            if setId then
+                base = 'quiz:set:' .. (string.gsub(setId, '"', ''))
+            end
+            local fields = redis.call('HMGET', base .. ':content', 'count', 'q:' .. ARGV[1], 'a:' .. ARGV[1])
+            if not fields[1] then
+                return 'L'
+            end
+            if fields[2] and ARGV[2] == '1' then
+                redis.call('SET', KEYS[3], ARGV[1], 'EX', tonumber(ARGV[3]))
+            end
+            return 'H\\31' .. fields[1] .. '\\31' .. (fields[3] or '') .. '\\31' .. (fields[2] or '')
+            """, String.class);
+
+    private QuizContentScripts() {
+    }
+
+    public static List<String> roundKeys(String quizId) {
+        return List.of(
+                String.format("quiz:%s:set", quizId),
+                contentKey(String.format("quiz:%s", quizId)),
+                String.format("quiz:%s:currentRound", quizId)
+        );
+    }
+
+    public static String contentKey(String base) {
+        return base + ":content";
+    }
+
+    public static String questionField(int index) {
+        return "q:" + index;
+    }
+
+    public static String answerField(int index) {
+        return "a:" + index;
+    }
+
+    /**
+     * 해시 형식으로 조회된 경우 라운드 데이터를, 이전 리스트 형식이면 null 을 반환한다.
+     */
+    public static QuizRound parseRound(String result) {
+        if (result == null || !result.startsWith("H")) {
+            return null;
+        }
+        String[] parts = result.split(SEPARATOR, 4);
+        int count = Integer.parseInt(parts[1]);
+        String answer = parts[2].isEmpty() ? null : parts[2];
+        String question = parts[3].isEmpty() ? null : parts[3];
+        return new QuizRound(count, question, answer);
+    }
+}
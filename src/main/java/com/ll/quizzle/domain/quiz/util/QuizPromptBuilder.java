@@ -1,9 +1,44 @@
 package com.ll.quizzle.domain.quiz.util;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
 import com.ll.quizzle.domain.room.type.AnswerType;
 
 public class QuizPromptBuilder {
+
+    // 구조화 출력(JSON schema) 형식: {"questions":[{"number","question","choices","answer"}]}
+    // 모델은 properties 순서대로 필드를 채우고 스트림 파서는 answer 가 마지막에 온다고 보므로,
+    // 요청 본문(buildRequest)과 마찬가지로 삽입 순서를 유지하는 맵으로 만든다.
+    private static final Map<String, Object> QUESTION_SCHEMA = ordered(
+            "type", "object",
+            "properties", ordered(
+                    "number", ordered("type", "integer"),
+                    "question", ordered("type", "string"),
+                    "choices", ordered("type", "array", "items", ordered("type", "string")),
+                    "answer", ordered("type", "string", "enum", List.of("a", "b", "c", "d", "o", "x"))
+            ),
+            "required", List.of("number", "question", "choices", "answer"),
+            "additionalProperties", false
+    );
+
+    private static final Map<String, Object> RESPONSE_FORMAT = ordered(
+            "type", "json_schema",
+            "json_schema", ordered(
+                    "name", "quiz_set",
+                    "strict", true,
+                    "schema", ordered(
+                            "type", "object",
+                            "properties", ordered("questions", ordered("type", "array", "items", QUESTION_SCHEMA)),
+                            "required", List.of("questions"),
+                            "additionalProperties", false
+                    )
+            )
+    );
+
     public static String buildPrompt(QuizGenerationRequest request) {
         String optionText = request.answerType() == AnswerType.MULTIPLE_CHOICE
                 ? "a) 보기1\nb) 보기2\nc) 보기3\nd) 보기4"
@@ -17,4 +52,38 @@ public class QuizPromptBuilder {
                 optionText
         );
     }
+
+    /**
+     * 구조화 출력용 프롬프트. responseFormat() 과 함께 요청한다.
+     */
+    public static String buildStructuredPrompt(QuizGenerationRequest request) {
+        String choiceRule = request.answerType() == AnswerType.MULTIPLE_CHOICE
+                ? "choices 에는 보기 4개를 기호 없이 넣고, answer 는 정답 보기의 기호(a, b, c, d)로 적어."
+                : "choices 는 빈 배열로 두고, answer 는 o 또는 x 로 적어.";
+
+        return String.format(
+                "너는 한국어 전문 퀴즈 생성기야. **절대로 영어 사용 금지**. 인삿말이나 추가 설명 없이 JSON 만 출력해.\n" +
+                        "대분류: %s\n소분류: %s\n문제 유형: %s\n문제 수: %d\n난이도: %s\n\n" +
+                        "questions 배열에 문제마다 number(1부터), question(문제 내용), choices, answer 를 넣어. %s",
+                request.mainCategory(), request.subCategory(),
+                request.answerType(), request.problemCount(), request.difficulty(),
+                choiceRule
+        );
+    }
+
+    /**
+     * Chat Completions response_format (JSON schema, strict)
+     */
+    public static Map<String, Object> responseFormat() {
+        return RESPONSE_FORMAT;
+    }
+
+    // key, value 를 번갈아 받아 순서가 고정된 읽기 전용 맵을 만든다.
+    private static Map<String, Object> ordered(Object... keyValues) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            map.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return Collections.unmodifiableMap(map);
+    }
 }
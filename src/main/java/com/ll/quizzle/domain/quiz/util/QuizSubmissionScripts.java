@@ -0,0 +1,179 @@
+package com.ll.quizzle.domain.quiz.util;
+
+import java.util.List;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.ll.quizzle.domain.quiz.dto.QuizSubmissionResult;
+
+/**
+ * 답안 제출 스크립트
+ *
+ * 문제 번호/정답 확인 -> 현재 라운드 확인 -> 중복 제출 확인(SADD) -> 제출 기록 -> 제출 인원 집계 -> 이벤트 발행을
+ * 한 번의 왕복으로, 원자적으로 처리한다. 같은 회원이 같은 문제에 동시에 제출해도 SADD 에 성공한 한 건만 기록된다.
+ *
+ * 정답은 로컬 캐시에 있으면 ARGV 로 전달하고, 없으면 스크립트가 퀴즈 해시(또는 이전 리스트 형식)에서 읽는다.
+ * 제출 기록/제출 Set/이벤트 값은 기존 Object 템플릿과 같은 JSON 문자열로 저장한다.
+ * 발행 이벤트는 "이벤트:문제 번호" 형식으로, 구독자가 어느 라운드가 끝났는지 알 수 있다.
+ */
+public final class QuizSubmissionScripts {
+
+    private static final String SEPARATOR = "\u001f";
+
+    // KEYS: quiz:{id}:set, quiz:{id}:content, quiz:{id}:currentRound,
+    //       quiz:{id}:memberId:{memberId}:submissions, quiz:{id}:submitted:{n}, quiz:{id}:participants
+    // ARGV: memberId, 문제 번호(1부터), 제출 답안(소문자), TTL(초), 정답(모르면 ''), 문제 수(모르면 ''), 알림 채널
+    // 세트/리스트 키는 스크립트 안에서 조합한다. (단일 노드 Redis 기준)
+    public static final RedisScript<String> SUBMIT_SCRIPT = new DefaultRedisScript<>("""
+            local questionNumber = tonumber(ARGV[2])
+            local ttl = tonumber(ARGV[4])
+            local answer = ARGV[5]
+            local total = tonumber(ARGV[6])
+
+            if answer == '' then
+                local base = string.sub(KEYS[2], 1, -9)
+                local setId = redis.call('GET', KEYS[1])
+                if setId then
+                    base = 'quiz:set:' .. (string.gsub(setId, '"', ''))
+                end
+                local fields = redis.call('HMGET', base .. ':content', 'count', 'a:' .. (questionNumber - 1))
+                if fields[1] then
+                    total = tonumber(fields[1])
+                    answer = fields[2] or ''
+                else
+                    local answerList = base .. ':answers'
+                    total = redis.call('LLEN', answerList)
+                    if questionNumber >= 1 and questionNumber <= total then
+                        local raw = redis.call('LINDEX', answerList, questionNumber - 1)
+                        if raw then
+                            local entry = string.gsub(raw, '"', '')
+                            local separator = string.find(entry, ':', 1, true)
+                            if not separator then
+                                return 'MALFORMED_ANSWER'
+                            end
+                            answer = string.match(string.sub(entry, separator + 1), '^%s*(.-)%s*$')
+                        end
+                    end
+                end
+            end
+
+            if not total or questionNumber < 1 or questionNumber > total then
+                return 'INVALID_QUESTION'
+            end
+            if answer == '' then
+                return 'ANSWER_NOT_FOUND'
+            end
+            answer = string.lower(answer)
+
+            local current = redis.call('GET', KEYS[3])
+            if not current then
+                current = '0'
+                redis.call('SET', KEYS[3], current, 'EX', ttl)
+            end
+            if tonumber(current) ~= questionNumber - 1 then
+                return 'NOT_CURRENT_ROUND'
+            end
+
+            if redis.call('SADD', KEYS[5], cjson.encode(ARGV[1])) == 0 then
+                return 'DUPLICATE'
+            end
+            redis.call('EXPIRE', KEYS[5], ttl)
+
+            local correct = answer == ARGV[3]
+            local result = correct and 'correct' or 'incorrect'
+            redis.call('RPUSH', KEYS[4], cjson.encode(questionNumber .. ':' .. ARGV[3] .. ':' .. result))
+            redis.call('EXPIRE', KEYS[4], ttl)
+
+            local submitted = redis.call('SCARD', KEYS[5])
+            local participants = redis.call('SCARD', KEYS[6])
+            local event = ''
+            if submitted == participants then
+                event = questionNumber == total and 'quizEnd' or 'nextQuestion'
+                redis.call('PUBLISH', ARGV[7], cjson.encode(event .. ':' .. questionNumber))
+            end
+
+            return table.concat({'ACCEPTED', correct and '1' or '0', answer, total, submitted, participants, event}, '\\31')
+            """, String.class);
+
+    // KEYS: room:{roomId}:quizId
+    // ARGV: 확인할 회원 ID 목록
+    // 방의 퀴즈 ID -> 현재 라운드 -> 해당 문제 제출 Set 을 차례로 읽어, 현재 문제에 제출한 회원 ID 를 ',' 로 이어 반환한다.
+    // 진행 중인 퀴즈가 없으면 빈 문자열을 반환한다.
+    public static final RedisScript<String> SUBMITTED_MEMBERS_SCRIPT = new DefaultRedisScript<>("""
+            local quizId = redis.call('GET', KEYS[1])
+            if not quizId then
+                return ''
+            end
+            quizId = string.gsub(quizId, '"', '')
+
+            local current = redis.call('GET', 'quiz:' .. quizId .. ':currentRound')
+            local round = current and tonumber((string.gsub(current, '"', '')))
+            if not round then
+                return ''
+            end
+
+            local submittedKey = 'quiz:' .. quizId .. ':submitted:' .. (round + 1)
+            local submitted = {}
+            for i = 1, #ARGV do
+                if redis.call('SISMEMBER', submittedKey, cjson.encode(ARGV[i])) == 1 then
+                    submitted[#submitted + 1] = ARGV[i]
+                end
+            end
+            return table.concat(submitted, ',')
+            """, String.class);
+
+    private QuizSubmissionScripts() {
+    }
+
+    public static String roomQuizKey(Long roomId) {
+        return String.format("room:%s:quizId", roomId);
+    }
+
+    public static List<String> submitKeys(String quizId, String memberId, int questionNumber) {
+        return List.of(
+                String.format("quiz:%s:set", quizId),
+                QuizContentScripts.contentKey(String.format("quiz:%s", quizId)),
+                String.format("quiz:%s:currentRound", quizId),
+                String.format("quiz:%s:memberId:%s:submissions", quizId, memberId),
+                String.format("quiz:%s:submitted:%d", quizId, questionNumber),
+                String.format("quiz:%s:participants", quizId)
+        );
+    }
+
+    public static String notificationChannel(String quizId) {
+        return String.format("quiz:%s:notifications", quizId);
+    }
+
+    /**
+     * 알림 채널 이름에서 퀴즈 ID 를 꺼낸다. (형식이 다르면 null)
+     */
+    public static String quizIdFromChannel(String channel) {
+        if (channel == null || !channel.startsWith("quiz:") || !channel.endsWith(":notifications")) {
+            return null;
+        }
+        return channel.substring("quiz:".length(), channel.length() - ":notifications".length());
+    }
+
+    public static QuizSubmissionResult parseResult(String result) {
+        if (result == null) {
+            throw new IllegalStateException("답안 제출 스크립트 결과가 없습니다.");
+        }
+
+        String[] parts = result.split(SEPARATOR, -1);
+        QuizSubmissionResult.Status status = QuizSubmissionResult.Status.valueOf(parts[0]);
+        if (status != QuizSubmissionResult.Status.ACCEPTED) {
+            return QuizSubmissionResult.rejected(status);
+        }
+
+        return new QuizSubmissionResult(
+                status,
+                "1".equals(parts[1]),
+                parts[2],
+                Integer.parseInt(parts[3]),
+                Long.parseLong(parts[4]),
+                Long.parseLong(parts[5]),
+                parts[6].isEmpty() ? null : parts[6]
+        );
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.ll.quizzle.domain.room.dto.request.RoomCreateRequest;
 import com.ll.quizzle.domain.room.dto.request.RoomUpdateRequest;
 import com.ll.quizzle.domain.room.dto.response.RoomResponse;
+import com.ll.quizzle.domain.room.service.RoomLobbyService;
 import com.ll.quizzle.domain.room.service.RoomService;
 import com.ll.quizzle.global.request.Rq;
 import com.ll.quizzle.global.response.RsData;
@@ -33,6 +34,7 @@ import lombok.extern.slf4j.Slf4j;
 public class RoomController {
     
     private final RoomService roomService;
+    private final RoomLobbyService roomLobbyService;
     private final Rq rq;
     
     @PostMapping
@@ -54,7 +56,7 @@ public class RoomController {
     @GetMapping("/{roomId}")
     @Operation(summary = "특정 방 정보 조회", description = "특정 방의 상세 정보를 조회합니다. 로비에서 부분 갱신을 위해 사용됩니다.")
     public RsData<RoomResponse> getRoom(@PathVariable Long roomId) {
-        RoomResponse response = roomService.getRoom(roomId);
+        RoomResponse response = roomLobbyService.getRoom(roomId);
         
         return RsData.success(HttpStatus.OK, response);
     }
@@ -66,7 +68,7 @@ public class RoomController {
             @PathVariable Long roomId,
             @RequestParam(required = false) String password
     ) {
-        roomService.joinRoom(roomId, rq.getActor().getId(), password);
+        roomLobbyService.joinRoom(roomId, rq.getActor().getId(), password);
     }
     
     @PostMapping("/{roomId}/leave")
@@ -75,7 +77,7 @@ public class RoomController {
     public void leaveRoom(
             @PathVariable Long roomId
     ) {
-        roomService.leaveRoom(roomId, rq.getActor().getId());
+        roomLobbyService.leaveRoom(roomId, rq.getActor().getId());
     }
     
     @PostMapping("/{roomId}/leave-with-id")
@@ -85,7 +87,7 @@ public class RoomController {
             @PathVariable Long roomId,
             @RequestParam Long userId
     ) {
-        roomService.leaveRoom(roomId, userId);
+        roomLobbyService.leaveRoom(roomId, userId);
     }
     
     @PostMapping("/{roomId}/ready")
@@ -94,7 +96,7 @@ public class RoomController {
     public void toggleReady(
             @PathVariable Long roomId
     ) {
-        roomService.toggleReady(roomId, rq.getActor().getId());
+        roomLobbyService.toggleReady(roomId, rq.getActor().getId());
     }
     
     @PostMapping("/{roomId}/start")
@@ -103,7 +105,7 @@ public class RoomController {
     public void startGame(
             @PathVariable Long roomId
     ) {
-        roomService.startGame(roomId, rq.getActor().getId());
+        roomLobbyService.startGame(roomId, rq.getActor().getId());
     }
 
     @PutMapping("/{roomId}")
@@ -112,7 +114,7 @@ public class RoomController {
             @PathVariable Long roomId,
             @RequestBody RoomUpdateRequest request
     ) {
-        RoomResponse response = roomService.updateRoom(roomId, rq.getActor().getId(), request);
+        RoomResponse response = roomLobbyService.updateRoom(roomId, rq.getActor().getId(), request);
         return RsData.success(HttpStatus.OK, response);
     }
 }
@@ -1,24 +1,36 @@
 package com.ll.quizzle.domain.room.controller;
 
 import java.time.Duration;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
 import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
 import com.ll.quizzle.domain.quiz.dto.response.QuizResponse;
 import com.ll.quizzle.domain.quiz.service.GPTQuizService;
+import com.ll.quizzle.domain.quiz.service.QuizQuestionService;
+import com.ll.quizzle.domain.quiz.service.QuizRoundScheduler;
+import com.ll.quizzle.domain.room.dto.response.PlayerAnswerResponse;
+import com.ll.quizzle.domain.room.dto.response.QuestionResultResponse;
+import com.ll.quizzle.domain.room.dto.response.QuizGenerationProgressResponse;
+import com.ll.quizzle.domain.room.dto.response.RoomGameStatusResponse;
 import com.ll.quizzle.domain.room.dto.response.RoomResponse;
+import com.ll.quizzle.domain.room.dto.response.RoomSocketErrorResponse;
 import com.ll.quizzle.domain.room.service.RoomService;
 import com.ll.quizzle.domain.room.type.AnswerType;
+import com.ll.quizzle.global.socket.broadcast.StompBroadcaster;
+import com.ll.quizzle.global.socket.dto.response.WebSocketChatMessageResponse;
+import com.ll.quizzle.global.socket.fanout.RedisFanoutBroker;
+import com.ll.quizzle.global.socket.scheduler.DelayedDispatcher;
+import com.ll.quizzle.global.socket.type.MessageType;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,10 +39,20 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Slf4j
 public class RoomSocketController {
-    private final SimpMessagingTemplate messagingTemplate;
+    private static final Duration FIRST_QUESTION_DELAY = Duration.ofMillis(1500);
+    private static final Duration STATUS_RESEND_DELAY = Duration.ofMillis(500);
+
+    private final StompBroadcaster broadcaster;
+    private final RedisFanoutBroker fanoutBroker;
     private final RoomService roomService;
     private final GPTQuizService gptQuizService;
+    private final QuizQuestionService quizQuestionService;
+    private final QuizRoundScheduler quizRoundScheduler;
     private final RedisTemplate<String, String> redisTemplate;
+    private final DelayedDispatcher delayedDispatcher;
+
+    @Value("${quizzle.quiz.streaming.enabled:false}")
+    private boolean streamingEnabled;
 
     @MessageMapping("/room/{roomId}/quiz/generate")
     public void generateQuiz(@DestinationVariable String roomId, 
@@ -38,91 +60,107 @@ public class RoomSocketController {
                              SimpMessageHeaderAccessor headerAccessor) {
         log.debug("퀴즈 생성 요청 - 방 ID: {}", roomId);
 
-        Map<String, Object> startMessage = new HashMap<>();
-        startMessage.put("status", "STARTED");
-        startMessage.put("message", "AI가 문제를 생성하기 시작했습니다.");
-        startMessage.put("progress", 10);
-        messagingTemplate.convertAndSend("/topic/room/" + roomId + "/quiz/generation", startMessage);
+        sendGenerationProgress(roomId, QuizGenerationProgressResponse.started("AI가 문제를 생성하기 시작했습니다."));
         
         try {
             Long roomIdLong = Long.parseLong(roomId);
             RoomResponse roomResponse = roomService.getRoom(roomIdLong);
             
             if (roomResponse == null) {
-                Map<String, Object> failMessage = new HashMap<>();
-                failMessage.put("status", "FAILED");
-                failMessage.put("message", "방 정보를 찾을 수 없습니다.");
-                messagingTemplate.convertAndSend("/topic/room/" + roomId + "/quiz/generation", failMessage);
+                sendGenerationProgress(roomId, QuizGenerationProgressResponse.failed("방 정보를 찾을 수 없습니다."));
                 return;
             }
             
-            Map<String, Object> progressMessage = new HashMap<>();
-            progressMessage.put("status", "IN_PROGRESS");
-            progressMessage.put("message", "카테고리: " + roomResponse.mainCategory() + " / " 
-                    + roomResponse.subCategory() + " 관련 문제를 생성 중입니다.");
-            progressMessage.put("progress", 30);
-            messagingTemplate.convertAndSend("/topic/room/" + roomId + "/quiz/generation", progressMessage);
-            
-            CompletableFuture.runAsync(() -> {
-                try {
-                    QuizGenerationRequest quizRequest = new QuizGenerationRequest(
-                            roomResponse.mainCategory(),
-                            roomResponse.subCategory(),
-                            AnswerType.MULTIPLE_CHOICE,
-                            roomResponse.problemCount(),
-                            roomResponse.difficulty(),
-                            roomId
-                    );
-                    
-                    Map<String, Object> updatingMessage = new HashMap<>();
-                    updatingMessage.put("status", "IN_PROGRESS");
-                    updatingMessage.put("message", "AI가 문제를 생성하고 있습니다...");
-                    updatingMessage.put("progress", 50);
-                    messagingTemplate.convertAndSend("/topic/room/" + roomId + "/quiz/generation", updatingMessage);
-                    
-                    QuizResponse quizResponse = gptQuizService.generateQuiz(quizRequest);
-                    
-                    Map<String, Object> processingMessage = new HashMap<>();
-                    processingMessage.put("status", "IN_PROGRESS");
-                    processingMessage.put("message", "생성된 문제를 처리하고 있습니다...");
-                    processingMessage.put("progress", 80);
-                    messagingTemplate.convertAndSend("/topic/room/" + roomId + "/quiz/generation", processingMessage);
-                    
-                    String roomQuizKey = String.format("room:%s:quizId", roomId);
-                    redisTemplate.opsForValue().set(roomQuizKey, quizResponse.quizId(), Duration.ofMinutes(30));
-                    log.debug("방 ID {}와 퀴즈 ID {} 매핑 저장 완료", roomId, quizResponse.quizId());
-                    
-                    Map<String, Object> completedMessage = new HashMap<>();
-                    completedMessage.put("status", "COMPLETED");
-                    completedMessage.put("quizId", quizResponse.quizId());
-                    completedMessage.put("message", "문제 생성이 완료되었습니다. 게임을 시작합니다.");
-                    completedMessage.put("progress", 100);
-                    messagingTemplate.convertAndSend("/topic/room/" + roomId + "/quiz/generation", completedMessage);
-                    
-                    Map<String, Object> gameStartMessage = new HashMap<>();
-                    gameStartMessage.put("gameStatus", "IN_PROGRESS");
-                    gameStartMessage.put("message", "게임이 시작되었습니다.");
-                    messagingTemplate.convertAndSend("/topic/room/" + roomId + "/status", gameStartMessage);
-                    
-                } catch (Exception e) {
-                    log.error("퀴즈 생성 중 오류 발생: {}", e.getMessage(), e);
-                    Map<String, Object> errorMessage = new HashMap<>();
-                    errorMessage.put("status", "FAILED");
-                    errorMessage.put("message", "문제 생성 중 오류가 발생했습니다: " + e.getMessage());
-                    messagingTemplate.convertAndSend("/topic/room/" + roomId + "/quiz/generation", errorMessage);
+            sendGenerationProgress(roomId, QuizGenerationProgressResponse.inProgress("카테고리: " + roomResponse.mainCategory() + " / " 
+                    + roomResponse.subCategory() + " 관련 문제를 생성 중입니다.", 30));
+            
+            QuizGenerationRequest quizRequest = new QuizGenerationRequest(
+                    roomResponse.mainCategory(),
+                    roomResponse.subCategory(),
+                    AnswerType.MULTIPLE_CHOICE,
+                    roomResponse.problemCount(),
+                    roomResponse.difficulty(),
+                    roomId
+            );
+
+            sendGenerationProgress(roomId, QuizGenerationProgressResponse.inProgress("AI가 문제를 생성하고 있습니다...", 50));
+
+            if (streamingEnabled) {
+                generateQuizStreaming(roomId, quizRequest, roomResponse.players());
+                return;
+            }
+
+            // OpenAI 응답은 공유 HttpClient 에서 비동기로 처리되므로 요청 스레드를 점유하지 않는다.
+            gptQuizService.generateQuizAsync(quizRequest, roomResponse.players()).whenComplete((quizResponse, throwable) -> {
+                if (throwable != null) {
+                    sendGenerationFailed(roomId, throwable);
+                    return;
                 }
+
+                publishQuizReady(roomId, quizResponse.quizId());
             });
-            
+
         } catch (Exception e) {
             log.error("퀴즈 생성 요청 처리 중 오류 발생: {}", e.getMessage(), e);
-            Map<String, Object> errorMessage = new HashMap<>();
-            errorMessage.put("status", "FAILED");
-            errorMessage.put("message", "요청 처리 중 오류가 발생했습니다: " + e.getMessage());
-            messagingTemplate.convertAndSend("/topic/room/" + roomId + "/quiz/generation", errorMessage);
+            sendGenerationProgress(roomId, QuizGenerationProgressResponse.failed("요청 처리 중 오류가 발생했습니다: " + e.getMessage()));
         }
     }
 
 
+    /**
+     * 스트리밍 생성: 첫 문제가 저장되는 즉시 퀴즈 준비 완료를 알려 게임을 시작할 수 있게 하고,
+     * 아직 생성되지 않은 문제를 기다리는 요청은 해당 문제가 도착할 때 전송한다.
+     */
+    private void generateQuizStreaming(String roomId, QuizGenerationRequest quizRequest, Set<Long> memberIds) {
+        gptQuizService.generateQuizStreaming(quizRequest, memberIds, (quizId, questionIndex) -> {
+            if (questionIndex == 0) {
+                publishQuizReady(roomId, quizId);
+            }
+            quizQuestionService.deliverPendingQuestion(quizId, questionIndex);
+        }).whenComplete((quizResponse, throwable) -> {
+            if (throwable != null) {
+                sendGenerationFailed(roomId, throwable);
+            } else if (quizResponse.quizText().isEmpty()) {
+                sendGenerationFailed(roomId, new IllegalStateException("생성된 문제가 없습니다."));
+            }
+
+            // 생성이 끝났으므로 대기 중인 요청은 실제 문제 수 기준으로 다시 처리한다. (종료 메시지 포함)
+            String quizId = quizResponse != null ? quizResponse.quizId() : null;
+            if (quizId != null) {
+                quizQuestionService.flushPendingQuestion(quizId);
+            }
+        });
+    }
+
+    private void publishQuizReady(String roomId, String quizId) {
+        sendGenerationProgress(roomId, QuizGenerationProgressResponse.inProgress("생성된 문제를 처리하고 있습니다...", 80));
+
+        String roomQuizKey = String.format("room:%s:quizId", roomId);
+        redisTemplate.opsForValue().set(roomQuizKey, quizId, Duration.ofMinutes(30));
+        log.debug("방 ID {}와 퀴즈 ID {} 매핑 저장 완료", roomId, quizId);
+
+        sendGenerationProgress(roomId, QuizGenerationProgressResponse.completed(quizId, "문제 생성이 완료되었습니다. 게임을 시작합니다."));
+
+        fanoutBroker.publish("/topic/room/" + roomId + "/status",
+                RoomGameStatusResponse.gameStatus("IN_PROGRESS", "게임이 시작되었습니다.", null, null));
+    }
+
+    private void sendGenerationFailed(String roomId, Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause() : throwable;
+        log.error("퀴즈 생성 중 오류 발생: {}", cause.getMessage(), cause);
+        sendGenerationProgress(roomId, QuizGenerationProgressResponse.failed("문제 생성 중 오류가 발생했습니다: " + cause.getMessage()));
+    }
+
+    private void sendGenerationProgress(String roomId, QuizGenerationProgressResponse progress) {
+        fanoutBroker.publish("/topic/room/" + roomId + "/quiz/generation", progress);
+    }
+
+    private void sendError(String roomId, String message) {
+        fanoutBroker.publish("/topic/room/" + roomId + "/error", new RoomSocketErrorResponse(message));
+    }
+
+
     @MessageMapping("/room/{roomId}/answer")
     public void handlePlayerAnswer(@DestinationVariable String roomId,
                                    @Payload Map<String, Object> payload,
@@ -136,22 +174,15 @@ public class RoomSocketController {
             Boolean isCorrect = (Boolean) payload.get("isCorrect");
             Long timestamp = (Long) payload.get("timestamp");
             
-            Map<String, Object> responseData = new HashMap<>();
-            
-            if (questionId != null) responseData.put("questionId", questionId);
-            if (playerId != null) responseData.put("playerId", playerId);
-            responseData.put("answer", answer != null ? answer : "TIMEOUT");
-            if (isCorrect != null) responseData.put("isCorrect", isCorrect);
-            if (timestamp != null) responseData.put("timestamp", timestamp);
+            PlayerAnswerResponse responseData = new PlayerAnswerResponse(
+                    questionId, playerId, answer != null ? answer : "TIMEOUT", isCorrect, timestamp);
             
-            messagingTemplate.convertAndSend("/topic/room/" + roomId + "/answer", responseData);
+            fanoutBroker.publish("/topic/room/" + roomId + "/answer", responseData);
             
             
         } catch (Exception e) {
             log.error("플레이어 답변 처리 중 오류 발생: {}", e.getMessage(), e);
-            Map<String, Object> errorMessage = new HashMap<>();
-            errorMessage.put("message", "답변 처리 중 오류가 발생했습니다: " + e.getMessage());
-            messagingTemplate.convertAndSend("/topic/room/" + roomId + "/error", errorMessage);
+            sendError(roomId, "답변 처리 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
     
@@ -161,26 +192,25 @@ public class RoomSocketController {
                                     @Payload Map<String, Object> payload,
                                     SimpMessageHeaderAccessor headerAccessor) {
         log.debug("문제 결과 요청 - 방 ID: {}, 페이로드: {}", roomId, payload);
+
+        // 서버 주도 라운드 진행 중에는 결과 공개를 서버가 브로드캐스트하므로 클라이언트 메시지를 중계하지 않는다.
+        if (quizRoundScheduler.isEnabled()) {
+            return;
+        }
         
         try {
             Integer questionIndex = (Integer) payload.get("questionIndex");
             Long timestamp = (Long) payload.get("timestamp");
             
-            Map<String, Object> responseData = new HashMap<>();
+            QuestionResultResponse responseData = new QuestionResultResponse(questionIndex, true, null, timestamp);
             
-            if (questionIndex != null) responseData.put("questionIndex", questionIndex);
-            responseData.put("showResult", true);
-            if (timestamp != null) responseData.put("timestamp", timestamp);
-            
-            messagingTemplate.convertAndSend("/topic/room/" + roomId + "/question/result", responseData);
+            fanoutBroker.publish("/topic/room/" + roomId + "/question/result", responseData);
             
             // 추가 로직 요기서 구현
             
         } catch (Exception e) {
             log.error("문제 결과 처리 중 오류 발생: {}", e.getMessage(), e);
-            Map<String, Object> errorMessage = new HashMap<>();
-            errorMessage.put("message", "결과 처리 중 오류가 발생했습니다: " + e.getMessage());
-            messagingTemplate.convertAndSend("/topic/room/" + roomId + "/error", errorMessage);
+            sendError(roomId, "결과 처리 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
     
@@ -197,9 +227,7 @@ public class RoomSocketController {
             
             if (quizId == null) {
                 log.error("게임 시작 실패 - 퀴즈 ID를 찾을 수 없습니다. 방 ID: {}", roomId);
-                Map<String, Object> errorMessage = new HashMap<>();
-                errorMessage.put("message", "게임 시작에 필요한 퀴즈 정보를 찾을 수 없습니다.");
-                messagingTemplate.convertAndSend("/topic/room/" + roomId + "/error", errorMessage);
+                sendError(roomId, "게임 시작에 필요한 퀴즈 정보를 찾을 수 없습니다.");
                 return;
             }
             
@@ -215,38 +243,16 @@ public class RoomSocketController {
             
             log.info("게임 시작 - 방 ID: {}, 퀴즈 ID: {}", roomId, quizId);
             
-            Map<String, Object> gameStartMessage = new HashMap<>();
-            gameStartMessage.put("status", "STARTED");
-            gameStartMessage.put("message", "게임이 시작되었습니다.");
-            gameStartMessage.put("quizId", quizId);
-            gameStartMessage.put("timestamp", System.currentTimeMillis());
-            messagingTemplate.convertAndSend("/topic/room/" + roomId + "/game/status", gameStartMessage);
-            
-            try {
-                Thread.sleep(1500);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
+            fanoutBroker.publish("/topic/room/" + roomId + "/game/status",
+                    RoomGameStatusResponse.status("STARTED", "게임이 시작되었습니다.", quizId, System.currentTimeMillis()));
             
-            log.info("첫 번째 문제 전송 시작 - 방 ID: {}, 퀴즈 ID: {}", roomId, quizId);
-            
-            CompletableFuture.runAsync(() -> {
-                try {
-                    String currentRoundKey = String.format("quiz:%s:currentRound", quizId);
-                    redisTemplate.opsForValue().set(currentRoundKey, "0", Duration.ofMinutes(30));
-                    
-                    sendQuizQuestion(roomId, quizId, 0);
-                    log.info("첫 번째 문제 전송 완료 - 방 ID: {}", roomId);
-                } catch (Exception e) {
-                    log.error("첫 번째 문제 전송 중 오류 발생: {}", e.getMessage(), e);
-                }
-            });
+            // 시작 안내를 보여줄 시간을 두고 첫 문제를 보낸다. 인바운드 스레드는 기다리지 않고 바로 반환한다.
+            // 첫 문제 전송과 이후 라운드 진행(제한 시간, 결과 공개, 다음 문제)은 서버 스케줄러가 담당한다.
+            delayedDispatcher.schedule(() -> quizRoundScheduler.start(roomId, quizId), FIRST_QUESTION_DELAY);
             
         } catch (Exception e) {
             log.error("게임 시작 처리 중 오류 발생: {}", e.getMessage(), e);
-            Map<String, Object> errorMessage = new HashMap<>();
-            errorMessage.put("message", "게임 시작 중 오류가 발생했습니다: " + e.getMessage());
-            messagingTemplate.convertAndSend("/topic/room/" + roomId + "/error", errorMessage);
+            sendError(roomId, "게임 시작 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
     
@@ -268,9 +274,7 @@ public class RoomSocketController {
             
             if (questionIndex == null) {
                 log.error("다음 문제 요청 실패 - 문제 인덱스가 없습니다. 방 ID: {}", roomId);
-                Map<String, Object> errorMessage = new HashMap<>();
-                errorMessage.put("message", "다음 문제를 가져오는데 필요한 정보가 부족합니다.");
-                messagingTemplate.convertAndSend("/topic/room/" + roomId + "/error", errorMessage);
+                sendError(roomId, "다음 문제를 가져오는데 필요한 정보가 부족합니다.");
                 return;
             }
             
@@ -282,97 +286,21 @@ public class RoomSocketController {
             
             if (quizId == null || quizId.isEmpty()) {
                 log.error("퀴즈 ID를 찾을 수 없습니다. 방 ID: {}", roomId);
-                Map<String, Object> errorMessage = new HashMap<>();
-                errorMessage.put("message", "퀴즈 정보를 찾을 수 없습니다.");
-                messagingTemplate.convertAndSend("/topic/room/" + roomId + "/error", errorMessage);
+                sendError(roomId, "퀴즈 정보를 찾을 수 없습니다.");
                 return;
             }
             
-            sendQuizQuestion(roomId, quizId, newQuestionIndex);
+            // 여러 클라이언트가 같은 라운드의 다음 문제를 요청해도 한 번만 전송한다.
+            // 서버 주도 진행 중에는 결과 공개 중인 라운드를 넘기는 요청만 받는다.
+            quizRoundScheduler.requestNext(roomId, quizId, questionIndex, newQuestionIndex);
             
         } catch (Exception e) {
             log.error("다음 문제 처리 중 오류 발생: {}", e.getMessage(), e);
-            Map<String, Object> errorMessage = new HashMap<>();
-            errorMessage.put("message", "다음 문제 처리 중 오류가 발생했습니다: " + e.getMessage());
-            messagingTemplate.convertAndSend("/topic/room/" + roomId + "/error", errorMessage);
+            sendError(roomId, "다음 문제 처리 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
     
 
-    private void sendQuizQuestion(String roomId, String quizId, int questionIndex) {
-        try {
-            String questionListKey = String.format("quiz:%s:questions", quizId);
-            
-            Long listSize = redisTemplate.opsForList().size(questionListKey);
-            log.debug("Redis 문제 리스트 크기: {} (키: {})", listSize, questionListKey);
-            
-            if (listSize == null || listSize == 0 || questionIndex >= listSize) {
-                log.info("문제 인덱스({})가 리스트 크기({})를 벗어납니다. 게임 종료 메시지 전송 - 방 ID: {}", 
-                       questionIndex, listSize, roomId);
-                Map<String, Object> gameEndMessage = new HashMap<>();
-                gameEndMessage.put("status", "FINISHED");
-                gameEndMessage.put("message", "모든 문제가 끝났습니다!");
-                gameEndMessage.put("timestamp", System.currentTimeMillis());
-                messagingTemplate.convertAndSend("/topic/room/" + roomId + "/game/status", gameEndMessage);
-                return;
-            }
-            
-            Object questionObj = redisTemplate.opsForList().index(questionListKey, questionIndex);
-            boolean useTemporaryQuestion = false;
-            
-            if (questionObj == null) {
-                log.warn("Redis에서 문제를 찾을 수 없습니다. 인덱스: {}, 키: {}, 리스트 크기: {}", 
-                       questionIndex, questionListKey, listSize);
-                
-                useTemporaryQuestion = true;
-            }
-
-            String answerListKey = String.format("quiz:%s:answers", quizId);
-            String correctAnswer = "b";
-            
-            if (!useTemporaryQuestion) {
-                Object answerObj = redisTemplate.opsForList().index(answerListKey, questionIndex);
-                if (answerObj != null) {
-                    correctAnswer = answerObj.toString().split(":")[1];
-                } else {
-                    log.warn("정답 데이터를 찾을 수 없습니다. 인덱스: {}, 키: {}", questionIndex, answerListKey);
-                }
-            }
-            
-            Map<String, Object> questionData = new HashMap<>();
-            questionData.put("questionIndex", questionIndex);
-            
-            if (useTemporaryQuestion) {
-                String dummyQuestion = String.format("%d: 임시 문제입니다\\na) 선택지1\\nb) 선택지2\\nc) 선택지3\\nd) 선택지4\\n",
-                                                questionIndex + 1);
-                questionData.put("questionText", dummyQuestion);
-            } else {
-                questionData.put("questionText", questionObj.toString());
-            }
-            
-            questionData.put("correctAnswer", correctAnswer);
-            questionData.put("timestamp", System.currentTimeMillis());
-            
-            boolean isLastQuestion = (questionIndex >= listSize - 1);
-            log.debug("문제 #{} 마지막 문제 여부: {} (인덱스: {}, 리스트 크기: {})", 
-                    questionIndex + 1, isLastQuestion, questionIndex, listSize);
-            questionData.put("isLastQuestion", isLastQuestion);
-            
-            String currentRoundKey = String.format("quiz:%s:currentRound", quizId);
-            redisTemplate.opsForValue().set(currentRoundKey, String.valueOf(questionIndex), Duration.ofMinutes(30));
-            
-            messagingTemplate.convertAndSend("/topic/room/" + roomId + "/question", questionData);
-            log.info("문제 #{} 전송 완료 - 방 ID: {}, 마지막 문제 여부: {}", 
-                   questionIndex + 1, roomId, isLastQuestion);
-            
-        } catch (Exception e) {
-            log.error("문제 정보 전송 중 오류 발생: {}", e.getMessage(), e);
-            Map<String, Object> errorMessage = new HashMap<>();
-            errorMessage.put("message", "문제 정보 전송 중 오류가 발생했습니다: " + e.getMessage());
-            messagingTemplate.convertAndSend("/topic/room/" + roomId + "/error", errorMessage);
-        }
-    }
-
     @MessageMapping("/room/{roomId}/broadcastGameStart")
     public void broadcastGameStart(@DestinationVariable String roomId,
                            @Payload Map<String, Object> payload) {
@@ -387,9 +315,7 @@ public class RoomSocketController {
                 quizId = redisTemplate.opsForValue().get(roomQuizKey);
                 
                 if (quizId == null) {
-                    Map<String, Object> errorMessage = new HashMap<>();
-                    errorMessage.put("message", "게임 시작에 필요한 퀴즈 정보를 찾을 수 없습니다.");
-                    messagingTemplate.convertAndSend("/topic/room/" + roomId + "/error", errorMessage);
+                    sendError(roomId, "게임 시작에 필요한 퀴즈 정보를 찾을 수 없습니다.");
                     return;
                 }
             }
@@ -399,40 +325,31 @@ public class RoomSocketController {
             
             log.info("게임 시작 브로드캐스트 - 방 ID: {}, 퀴즈 ID: {}", roomId, quizId);
             
-            Map<String, Object> gameStartMessage = new HashMap<>();
-            gameStartMessage.put("gameStatus", "IN_PROGRESS");
-            gameStartMessage.put("quizId", quizId);
-            gameStartMessage.put("timestamp", System.currentTimeMillis());
+            // 같은 상태 메시지를 여러 목적지로 보내므로 한 번만 인코딩해 재사용한다.
+            byte[] gameStartMessage = broadcaster.encode(
+                    RoomGameStatusResponse.gameStatus("IN_PROGRESS", null, quizId, System.currentTimeMillis()));
             
-            messagingTemplate.convertAndSend("/topic/room/" + roomId + "/status", gameStartMessage);
+            fanoutBroker.publish("/topic/room/" + roomId + "/status", gameStartMessage);
             
-            messagingTemplate.convertAndSend("/topic/room/" + roomId + "/game/status", gameStartMessage);
+            fanoutBroker.publish("/topic/room/" + roomId + "/game/status", gameStartMessage);
             
-            messagingTemplate.convertAndSend("/topic/room/" + roomId + "/game/start", gameStartMessage);
+            fanoutBroker.publish("/topic/room/" + roomId + "/game/start", gameStartMessage);
             
-            messagingTemplate.convertAndSend("/topic/room/" + roomId, gameStartMessage);
+            fanoutBroker.publish("/topic/room/" + roomId, gameStartMessage);
             
             log.info("게임 시작 메시지 브로드캐스트 완료 - 방 ID: {}", roomId);
             
-            Map<String, Object> systemMessage = new HashMap<>();
-            systemMessage.put("type", "SYSTEM");
-            systemMessage.put("content", "게임이 시작되었습니다!");
-            systemMessage.put("timestamp", System.currentTimeMillis());
-            messagingTemplate.convertAndSend("/topic/room/chat/" + roomId, systemMessage);
-            
-            try {
-                Thread.sleep(500);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
+            fanoutBroker.publish("/topic/room/chat/" + roomId, WebSocketChatMessageResponse.of(
+                    MessageType.SYSTEM, "게임이 시작되었습니다!", null, null, System.currentTimeMillis(), null));
             
-            messagingTemplate.convertAndSend("/topic/room/" + roomId + "/status", gameStartMessage);
+            // 늦게 구독한 클라이언트를 위해 상태를 한 번 더 보낸다.
+            delayedDispatcher.schedule(
+                    () -> fanoutBroker.publish("/topic/room/" + roomId + "/status", gameStartMessage),
+                    STATUS_RESEND_DELAY);
             
         } catch (Exception e) {
             log.error("게임 시작 브로드캐스트 처리 중 오류 발생: {}", e.getMessage(), e);
-            Map<String, Object> errorMessage = new HashMap<>();
-            errorMessage.put("message", "게임 시작 브로드캐스트 중 오류가 발생했습니다: " + e.getMessage());
-            messagingTemplate.convertAndSend("/topic/room/" + roomId + "/error", errorMessage);
+            sendError(roomId, "게임 시작 브로드캐스트 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
 
@@ -451,9 +368,7 @@ public class RoomSocketController {
                 
                 if (quizId == null) {
                     log.error("문제 데이터 요청 실패 - 퀴즈 ID를 찾을 수 없습니다. 방 ID: {}", roomId);
-                    Map<String, Object> errorMessage = new HashMap<>();
-                    errorMessage.put("message", "문제 정보를 찾을 수 없습니다.");
-                    messagingTemplate.convertAndSend("/topic/room/" + roomId + "/error", errorMessage);
+                    sendError(roomId, "문제 정보를 찾을 수 없습니다.");
                     return;
                 }
             }
@@ -472,14 +387,12 @@ public class RoomSocketController {
                 redisTemplate.opsForValue().set(currentRoundKey, "0", Duration.ofMinutes(30));
             }
             
-            sendQuizQuestion(roomId, quizId, currentRound);
+            quizQuestionService.sendQuizQuestion(roomId, quizId, currentRound);
             log.info("문제 데이터 요청 처리 완료 - 방 ID: {}, 퀴즈 ID: {}, 문제 번호: {}", roomId, quizId, currentRound);
             
         } catch (Exception e) {
             log.error("문제 데이터 요청 처리 중 오류 발생: {}", e.getMessage(), e);
-            Map<String, Object> errorMessage = new HashMap<>();
-            errorMessage.put("message", "문제 데이터 요청 처리 중 오류가 발생했습니다: " + e.getMessage());
-            messagingTemplate.convertAndSend("/topic/room/" + roomId + "/error", errorMessage);
+            sendError(roomId, "문제 데이터 요청 처리 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.ll.quizzle.domain.room.dto;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import com.ll.quizzle.domain.room.entity.Room;
+import com.ll.quizzle.domain.room.type.RoomStatus;
+
+/**
+ * 방 메시지의 플레이어 목록을 만드는 데 필요한 방 상태 사본
+ * 엔티티와 방 상태 엔진 양쪽에서 같은 메시지를 만들 수 있도록 엔티티 대신 이 값을 넘긴다.
+ */
+public record RoomRoster(
+    Long roomId,
+    Long ownerId,
+    RoomStatus status,
+    Set<Long> players,
+    Set<Long> readyPlayers
+) {
+
+    public static RoomRoster from(Room room) {
+        return of(room.getId(), room.getOwner().getId(), room.getStatus(),
+                room.getPlayers(), room.getReadyPlayers());
+    }
+
+    public static RoomRoster of(Long roomId, Long ownerId, RoomStatus status,
+                                Set<Long> players, Set<Long> readyPlayers) {
+        return new RoomRoster(roomId, ownerId, status,
+                Collections.unmodifiableSet(new LinkedHashSet<>(players)),
+                Collections.unmodifiableSet(new LinkedHashSet<>(readyPlayers)));
+    }
+
+    public boolean isOwner(Long memberId) {
+        return ownerId.equals(memberId);
+    }
+}
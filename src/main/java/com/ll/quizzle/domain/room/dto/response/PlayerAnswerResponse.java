@@ -0,0 +1,16 @@
+package com.ll.quizzle.domain.room.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 플레이어 답변 중계 메시지 (/topic/room/{roomId}/answer)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PlayerAnswerResponse(
+    String questionId,
+    Object playerId,
+    Object answer,
+    Boolean isCorrect,
+    Long timestamp
+) {
+}
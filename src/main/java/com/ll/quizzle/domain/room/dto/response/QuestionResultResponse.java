@@ -0,0 +1,16 @@
+package com.ll.quizzle.domain.room.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 문제 결과 공개 메시지 (/topic/room/{roomId}/question/result)
+ * reason 은 라운드 스케줄러가 결과를 공개한 이유(TIMEOUT/ALL_SUBMITTED)이며, 클라이언트 요청으로 공개하면 비어 있다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record QuestionResultResponse(
+    Integer questionIndex,
+    boolean showResult,
+    String reason,
+    Long timestamp
+) {
+}
@@ -0,0 +1,31 @@
+package com.ll.quizzle.domain.room.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 퀴즈 생성 진행 상황 메시지 (/topic/room/{roomId}/quiz/generation)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record QuizGenerationProgressResponse(
+    String status,
+    String message,
+    Integer progress,
+    String quizId
+) {
+
+    public static QuizGenerationProgressResponse started(String message) {
+        return new QuizGenerationProgressResponse("STARTED", message, 10, null);
+    }
+
+    public static QuizGenerationProgressResponse inProgress(String message, int progress) {
+        return new QuizGenerationProgressResponse("IN_PROGRESS", message, progress, null);
+    }
+
+    public static QuizGenerationProgressResponse completed(String quizId, String message) {
+        return new QuizGenerationProgressResponse("COMPLETED", message, 100, quizId);
+    }
+
+    public static QuizGenerationProgressResponse failed(String message) {
+        return new QuizGenerationProgressResponse("FAILED", message, null, null);
+    }
+}
@@ -0,0 +1,24 @@
+package com.ll.quizzle.domain.room.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 게임 진행 상태 메시지 (/topic/room/{roomId}/status, /game/status 등)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RoomGameStatusResponse(
+    String gameStatus,
+    String status,
+    String message,
+    String quizId,
+    Long timestamp
+) {
+
+    public static RoomGameStatusResponse gameStatus(String gameStatus, String message, String quizId, Long timestamp) {
+        return new RoomGameStatusResponse(gameStatus, null, message, quizId, timestamp);
+    }
+
+    public static RoomGameStatusResponse status(String status, String message, String quizId, Long timestamp) {
+        return new RoomGameStatusResponse(null, status, message, quizId, timestamp);
+    }
+}
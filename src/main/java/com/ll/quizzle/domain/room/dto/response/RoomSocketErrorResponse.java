@@ -0,0 +1,9 @@
+package com.ll.quizzle.domain.room.dto.response;
+
+/**
+ * 방 소켓 처리 중 오류 메시지 (/topic/room/{roomId}/error)
+ */
+public record RoomSocketErrorResponse(
+    String message
+) {
+}
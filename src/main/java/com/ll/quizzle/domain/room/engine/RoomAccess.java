@@ -0,0 +1,24 @@
+package com.ll.quizzle.domain.room.engine;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 방 입장 비밀번호 확인에 필요한 값
+ * BCrypt 비교는 느리므로 파티션 스레드가 아닌 호출 스레드에서 이 값으로 확인한다.
+ */
+public record RoomAccess(
+    boolean isPrivate,
+    String passwordHash
+) {
+    private static final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+
+    public boolean validatePassword(String inputPassword) {
+        if (!isPrivate) {
+            return true;
+        }
+        if (passwordHash == null || inputPassword == null || inputPassword.isEmpty()) {
+            return false;
+        }
+        return passwordEncoder.matches(inputPassword, passwordHash);
+    }
+}
@@ -0,0 +1,16 @@
+package com.ll.quizzle.domain.room.engine;
+
+import com.ll.quizzle.domain.room.type.RoomCommandType;
+
+/**
+ * 방 담당 노드로 넘기는 명령
+ * 비밀번호 같은 검증은 요청을 받은 노드에서 끝내고, 담당 노드에는 상태 변경에 필요한 값만 보낸다.
+ */
+public record RoomCommand(
+    String requestId,
+    String replyTo,
+    RoomCommandType type,
+    Long roomId,
+    Long memberId
+) {
+}
@@ -0,0 +1,149 @@
+package com.ll.quizzle.domain.room.engine;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.quizzle.domain.room.type.RoomCommandType;
+import com.ll.quizzle.global.cluster.ClusterNode;
+import com.ll.quizzle.global.config.ClusterProperties;
+import com.ll.quizzle.global.exceptions.ServiceException;
+import static com.ll.quizzle.global.exceptions.ErrorCode.ROOM_COMMAND_TIMEOUT;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 방 명령을 담당 노드로 넘기고 결과를 기다리는 Redis Pub/Sub 요청-응답 채널
+ * - 각 노드는 room:cmd:{노드 ID} 로 명령을, room:reply:{노드 ID} 로 응답을 받는다.
+ * - 담당 노드에서 던진 예외는 상태 코드와 메시지로 돌려받아 요청 노드에서 같은 ServiceException 으로 다시 던진다.
+ * - 받는 노드가 없거나(구독자 0) 응답이 forwardTimeout 안에 오지 않으면 ROOM_COMMAND_TIMEOUT 으로 실패한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomCommandForwarder {
+
+    public static final String COMMAND_CHANNEL_PREFIX = "room:cmd:";
+    public static final String REPLY_CHANNEL_PREFIX = "room:reply:";
+
+    private final ClusterNode clusterNode;
+    private final ClusterProperties properties;
+    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final Map<String, CompletableFuture<RoomCommandReply>> pendingReplies = new ConcurrentHashMap<>();
+    private volatile Function<RoomCommand, Boolean> handler;
+
+    @PostConstruct
+    public void init() {
+        if (!properties.isRoutingEnabled()) {
+            return;
+        }
+
+        listenerContainer.addMessageListener((message, pattern) -> onCommand(message.getBody()),
+                new ChannelTopic(COMMAND_CHANNEL_PREFIX + clusterNode.getNodeId()));
+        listenerContainer.addMessageListener((message, pattern) -> onReply(message.getBody()),
+                new ChannelTopic(REPLY_CHANNEL_PREFIX + clusterNode.getNodeId()));
+        log.debug("방 명령 채널 구독 완료: {}{}", COMMAND_CHANNEL_PREFIX, clusterNode.getNodeId());
+    }
+
+    /**
+     * 이 노드로 넘어온 명령을 처리할 함수를 등록한다. 함수는 명령을 처리했으면 true 를 반환한다.
+     */
+    public void registerHandler(Function<RoomCommand, Boolean> handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * 명령을 nodeId 노드로 넘기고 처리 결과를 기다린다. 담당 노드에서 처리했으면 true 를 반환한다.
+     */
+    public boolean forward(String nodeId, RoomCommandType type, Long roomId, Long memberId) {
+        String requestId = UUID.randomUUID().toString();
+        CompletableFuture<RoomCommandReply> future = new CompletableFuture<>();
+        pendingReplies.put(requestId, future);
+
+        try {
+            RoomCommand command = new RoomCommand(requestId, clusterNode.getNodeId(), type, roomId, memberId);
+            Long receivers = redisTemplate.convertAndSend(COMMAND_CHANNEL_PREFIX + nodeId,
+                    objectMapper.writeValueAsString(command));
+            if (receivers == null || receivers == 0) {
+                log.warn("방 명령을 받을 노드가 없음: 노드={}, 방ID={}, 명령={}", nodeId, roomId, type);
+                throw ROOM_COMMAND_TIMEOUT.throwServiceException();
+            }
+
+            RoomCommandReply reply = future.get(properties.getForwardTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            if (reply.failed()) {
+                throw new ServiceException(HttpStatus.valueOf(reply.errorStatus()), reply.errorMessage());
+            }
+            return reply.handled();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("방 명령 직렬화 실패", e);
+        } catch (TimeoutException | ExecutionException e) {
+            log.error("방 명령 응답 없음: 노드={}, 방ID={}, 명령={}", nodeId, roomId, type);
+            throw ROOM_COMMAND_TIMEOUT.throwServiceException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ROOM_COMMAND_TIMEOUT.throwServiceException();
+        } finally {
+            pendingReplies.remove(requestId);
+        }
+    }
+
+    void onCommand(byte[] body) {
+        RoomCommand command;
+        try {
+            command = objectMapper.readValue(body, RoomCommand.class);
+        } catch (Exception e) {
+            log.warn("방 명령 형식 오류 - 무시: {}", e.getMessage());
+            return;
+        }
+
+        RoomCommandReply reply;
+        try {
+            boolean handled = handler != null && handler.apply(command);
+            reply = RoomCommandReply.success(command.requestId(), handled);
+        } catch (ServiceException e) {
+            reply = RoomCommandReply.failure(command.requestId(), e.getHttpStatus().value(), e.getMsg());
+        } catch (Exception e) {
+            log.error("넘겨받은 방 명령 처리 실패: 방ID={}, 명령={}, 오류={}", command.roomId(), command.type(), e.getMessage(), e);
+            reply = RoomCommandReply.failure(command.requestId(), HttpStatus.INTERNAL_SERVER_ERROR.value(), e.getMessage());
+        }
+
+        try {
+            redisTemplate.convertAndSend(REPLY_CHANNEL_PREFIX + command.replyTo(), objectMapper.writeValueAsString(reply));
+        } catch (Exception e) {
+            log.error("방 명령 응답 전송 실패: 요청 노드={}, 오류={}", command.replyTo(), e.getMessage());
+        }
+    }
+
+    void onReply(byte[] body) {
+        RoomCommandReply reply;
+        try {
+            reply = objectMapper.readValue(body, RoomCommandReply.class);
+        } catch (Exception e) {
+            log.warn("방 명령 응답 형식 오류 - 무시: {}", e.getMessage());
+            return;
+        }
+
+        CompletableFuture<RoomCommandReply> future = pendingReplies.get(reply.requestId());
+        if (future != null) {
+            future.complete(reply);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.ll.quizzle.domain.room.engine;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 담당 노드의 명령 처리 결과
+ * - handled: false 면 담당 노드에서 방이 DB 경로 작업 중이라 처리하지 않았으므로, 요청 노드가 기존 DB 경로로 처리한다
+ * - errorStatus, errorMessage: 명령이 실패했을 때 요청 노드에서 같은 예외로 다시 던지기 위한 값
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RoomCommandReply(
+    String requestId,
+    boolean handled,
+    Integer errorStatus,
+    String errorMessage
+) {
+
+    public static RoomCommandReply success(String requestId, boolean handled) {
+        return new RoomCommandReply(requestId, handled, null, null);
+    }
+
+    public static RoomCommandReply failure(String requestId, int errorStatus, String errorMessage) {
+        return new RoomCommandReply(requestId, false, errorStatus, errorMessage);
+    }
+
+    public boolean failed() {
+        return errorStatus != null;
+    }
+}
@@ -0,0 +1,339 @@
+package com.ll.quizzle.domain.room.engine;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.springframework.stereotype.Component;
+
+import com.ll.quizzle.global.config.RoomEngineProperties;
+import static com.ll.quizzle.global.exceptions.ErrorCode.ROOM_COMMAND_TIMEOUT;
+import static com.ll.quizzle.global.exceptions.ErrorCode.ROOM_STATE_PERSIST_FAILED;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 방 대기실 상태를 메모리에서 처리하는 엔진
+ * 방은 ID 로 파티션(단일 스레드 실행기)에 고정되어, 같은 방의 명령은 락 없이 한 스레드에서 순서대로 실행된다.
+ * 명령으로 바뀐 상태는 방마다 최신 사본 하나만 남겨 두었다가 persistInterval 마다 한 트랜잭션으로 저장한다.
+ *
+ * DB 경로로 방을 바꿔야 하는 작업(게임 시작, 방 설정 변경 등)은 detach 로 메모리 상태를 저장하고 내려놓은 뒤 진행하고,
+ * 그동안 들어온 명령은 빈 결과를 받아 기존 DB 경로로 처리된다. 작업이 끝나 attach 하면 다음 명령에서 다시 읽어 온다.
+ * detach/flush/release 의 저장은 그 자리에서 몇 번 다시 시도하고, 그래도 실패하면 예외를 던져 DB 경로 작업을 중단시킨다.
+ * (저장하지 못한 사본이 남은 채로 방을 내려놓으면 DB 경로가 오래된 행으로 진행되고, 나중에 그 사본이 결과를 덮어쓴다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomEngine {
+
+    static final int PERSIST_ATTEMPTS = 3;
+
+    private final RoomEngineProperties properties;
+    private final RoomStateStore store;
+
+    // 각 방의 항목은 그 방을 맡은 파티션 스레드에서만 읽고 쓴다.
+    private final Map<Long, RoomState> states = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> detachedRooms = new ConcurrentHashMap<>();
+    private final Map<Long, RoomSnapshot> pendingSnapshots = new ConcurrentHashMap<>();
+    // 주기 저장과 detach 저장이 같은 방의 사본을 엇갈린 순서로 쓰지 않도록 저장은 한 번에 하나씩만 한다.
+    private final Object persistLock = new Object();
+
+    private ExecutorService[] partitions;
+    private ScheduledExecutorService persister;
+
+    @PostConstruct
+    public void init() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        int count = Math.max(1, properties.getPartitions());
+        partitions = new ExecutorService[count];
+        for (int i = 0; i < count; i++) {
+            partitions[i] = Executors.newSingleThreadExecutor(
+                    Thread.ofPlatform().name("room-engine-" + i).daemon().factory());
+        }
+
+        long interval = properties.getPersistInterval().toMillis();
+        persister = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("room-engine-persist").daemon().factory());
+        persister.scheduleWithFixedDelay(this::persistPending, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("방 상태 엔진 시작: 파티션 {}개, 저장 주기 {}ms", count, interval);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (partitions == null) {
+            return;
+        }
+
+        persister.shutdown();
+        for (ExecutorService partition : partitions) {
+            partition.shutdown();
+        }
+        try {
+            for (ExecutorService partition : partitions) {
+                partition.awaitTermination(properties.getCommandTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        persistPending();
+    }
+
+    public boolean isEnabled() {
+        return partitions != null;
+    }
+
+    /**
+     * 방을 맡은 파티션 스레드에서 명령을 실행하고 결과를 기다린다.
+     * 방이 DB 경로 작업 중(detach)이면 아무것도 하지 않고 빈 결과를 반환하므로, 호출자는 기존 경로로 처리해야 한다.
+     * 명령은 null 이 아닌 값을 반환해야 하며, 명령에서 던진 예외는 호출자에게 그대로 전달된다.
+     */
+    public <T> Optional<T> execute(Long roomId, Function<RoomState, T> command) {
+        return await(partitionOf(roomId).submit(() -> apply(roomId, command)));
+    }
+
+    /**
+     * 방의 대기 중인 변경을 바로 저장하고 메모리 상태를 내려놓는다. attach 전까지 명령은 기존 경로로 처리된다.
+     * 저장에 실패하면 방을 내려놓지 않고 ROOM_STATE_PERSIST_FAILED 를 던지므로, 호출자는 DB 경로 작업을 진행하지 않아야 한다.
+     */
+    public void detach(Long roomId) {
+        run(roomId, () -> {
+            persistRoom(roomId);
+            states.remove(roomId);
+            detachedRooms.merge(roomId, 1, Integer::sum);
+            return null;
+        });
+    }
+
+    public void attach(Long roomId) {
+        run(roomId, () -> detachedRooms.computeIfPresent(roomId, (key, count) -> count > 1 ? count - 1 : null));
+    }
+
+    /**
+     * 방의 대기 중인 변경을 바로 저장한다. DB 에서 방을 읽기 전에 호출한다.
+     * 저장에 실패하면 ROOM_STATE_PERSIST_FAILED 를 던진다.
+     */
+    public void flush(Long roomId) {
+        run(roomId, () -> {
+            persistRoom(roomId);
+            return null;
+        });
+    }
+
+    /**
+     * 삭제된 방의 메모리 상태와 저장 대기 중인 변경을 버린다.
+     */
+    public void discard(Long roomId) {
+        run(roomId, () -> {
+            states.remove(roomId);
+            pendingSnapshots.remove(roomId);
+            return null;
+        });
+    }
+
+    /**
+     * 방의 대기 중인 변경을 저장하고 메모리 상태를 내려놓는다. 담당 노드가 바뀐 방을 넘겨줄 때 쓴다.
+     * 저장에 실패하면 메모리 상태를 그대로 두고 ROOM_STATE_PERSIST_FAILED 를 던진다.
+     */
+    public void release(Long roomId) {
+        run(roomId, () -> {
+            persistRoom(roomId);
+            states.remove(roomId);
+            return null;
+        });
+    }
+
+    /**
+     * 메모리에 올라와 있는 방 중 조건에 맞는 방을 모두 release 하고 그 수를 반환한다.
+     * 저장에 실패한 방은 내려놓지 않고 건너뛴다.
+     */
+    public int releaseIf(Predicate<Long> condition) {
+        List<Future<Integer>> results = new ArrayList<>(partitions.length);
+        for (int i = 0; i < partitions.length; i++) {
+            int partition = i;
+            results.add(partitions[i].submit(() -> {
+                List<Long> roomIds = states.keySet().stream()
+                        .filter(roomId -> partitionIndex(roomId) == partition && condition.test(roomId))
+                        .toList();
+                int released = 0;
+                for (Long roomId : roomIds) {
+                    try {
+                        persistRoom(roomId);
+                    } catch (RuntimeException e) {
+                        continue;
+                    }
+                    states.remove(roomId);
+                    released++;
+                }
+                return released;
+            }));
+        }
+
+        int released = 0;
+        for (Future<Integer> result : results) {
+            released += await(result);
+        }
+        return released;
+    }
+
+    /**
+     * 방 상태가 이 노드 메모리에 올라와 있는지 확인한다. (다른 스레드에서 보는 값이라 참고용)
+     */
+    public boolean isLoaded(Long roomId) {
+        return states.containsKey(roomId);
+    }
+
+    /**
+     * 메모리에 올라와 있는 방 중 해당 플레이어가 있는 방 ID 를 찾는다.
+     */
+    public Set<Long> findRoomIdsWithPlayer(Long memberId) {
+        List<Future<List<Long>>> results = new ArrayList<>(partitions.length);
+        for (int i = 0; i < partitions.length; i++) {
+            int partition = i;
+            results.add(partitions[i].submit(() -> states.values().stream()
+                    .filter(state -> partitionIndex(state.getRoomId()) == partition)
+                    .filter(state -> !state.isClosed() && state.hasPlayer(memberId))
+                    .map(RoomState::getRoomId)
+                    .toList()));
+        }
+
+        Set<Long> roomIds = new HashSet<>();
+        for (Future<List<Long>> result : results) {
+            roomIds.addAll(await(result));
+        }
+        return roomIds;
+    }
+
+    private <T> Optional<T> apply(Long roomId, Function<RoomState, T> command) {
+        if (detachedRooms.containsKey(roomId)) {
+            return Optional.empty();
+        }
+
+        RoomState state = states.get(roomId);
+        if (state == null) {
+            state = store.load(roomId);
+            states.put(roomId, state);
+        }
+
+        try {
+            return Optional.of(command.apply(state));
+        } finally {
+            if (state.isDirty()) {
+                pendingSnapshots.put(roomId, state.takeSnapshot());
+            }
+        }
+    }
+
+    private void persistPending() {
+        synchronized (persistLock) {
+            if (pendingSnapshots.isEmpty()) {
+                return;
+            }
+
+            List<RoomSnapshot> batch = new ArrayList<>(pendingSnapshots.size());
+            for (Long roomId : pendingSnapshots.keySet()) {
+                RoomSnapshot snapshot = pendingSnapshots.remove(roomId);
+                if (snapshot != null) {
+                    batch.add(snapshot);
+                }
+            }
+            persist(batch);
+        }
+    }
+
+    /**
+     * 방 하나의 사본을 바로 저장한다. 곧바로 DB 를 읽거나 방을 내려놓는 경로라 다음 주기로 미루지 않고 그 자리에서 다시 시도한다.
+     * 끝내 실패하면 사본을 다시 대기시키고 예외를 던진다.
+     */
+    private void persistRoom(Long roomId) {
+        synchronized (persistLock) {
+            RoomSnapshot snapshot = pendingSnapshots.remove(roomId);
+            if (snapshot == null) {
+                return;
+            }
+
+            RuntimeException failure = null;
+            for (int attempt = 1; attempt <= PERSIST_ATTEMPTS; attempt++) {
+                try {
+                    store.persist(List.of(snapshot));
+                    return;
+                } catch (RuntimeException e) {
+                    failure = e;
+                    log.warn("방 상태 저장 실패 ({}/{}): 방ID={}, 오류: {}", attempt, PERSIST_ATTEMPTS, roomId, e.getMessage());
+                }
+            }
+
+            requeue(List.of(snapshot));
+            log.error("방 상태 저장 재시도 실패, 작업 중단: 방ID={}", roomId);
+            throw ROOM_STATE_PERSIST_FAILED.throwServiceException(failure);
+        }
+    }
+
+    private void persist(List<RoomSnapshot> batch) {
+        try {
+            store.persist(batch);
+            log.debug("방 상태 저장 완료: {}개 방", batch.size());
+        } catch (Exception e) {
+            log.error("방 상태 저장 실패, 다음 주기에 다시 시도: {}개 방, 오류: {}", batch.size(), e.getMessage());
+            requeue(batch);
+        }
+    }
+
+    private void requeue(List<RoomSnapshot> batch) {
+        // 그 사이 더 새로운 사본이 들어왔으면 그것을 남긴다.
+        for (RoomSnapshot snapshot : batch) {
+            pendingSnapshots.merge(snapshot.roomId(), snapshot,
+                    (current, failed) -> current.revision() >= failed.revision() ? current : failed);
+        }
+    }
+
+    private <T> T run(Long roomId, Callable<T> task) {
+        return await(partitionOf(roomId).submit(task));
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(properties.getCommandTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            log.error("방 명령 처리 시간 초과: {}ms", properties.getCommandTimeout().toMillis());
+            throw ROOM_COMMAND_TIMEOUT.throwServiceException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ROOM_COMMAND_TIMEOUT.throwServiceException();
+        }
+    }
+
+    private ExecutorService partitionOf(Long roomId) {
+        return partitions[partitionIndex(roomId)];
+    }
+
+    private int partitionIndex(Long roomId) {
+        return Math.floorMod(roomId.hashCode(), partitions.length);
+    }
+}
@@ -0,0 +1,16 @@
+package com.ll.quizzle.domain.room.engine;
+
+import java.util.Set;
+
+/**
+ * DB 에 저장할 방 대기실 상태 사본
+ * revision 은 방마다 증가하며, 저장에 실패해 다시 대기열에 넣을 때 더 새로운 사본을 덮어쓰지 않는 데 쓴다.
+ */
+public record RoomSnapshot(
+    Long roomId,
+    long revision,
+    Long ownerId,
+    Set<Long> players,
+    Set<Long> readyPlayers
+) {
+}
@@ -0,0 +1,148 @@
+package com.ll.quizzle.domain.room.engine;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import com.ll.quizzle.domain.room.dto.RoomRoster;
+import com.ll.quizzle.domain.room.entity.Room;
+import com.ll.quizzle.domain.room.type.RoomStatus;
+import static com.ll.quizzle.global.exceptions.ErrorCode.ROOM_IS_FULL;
+import static com.ll.quizzle.global.exceptions.ErrorCode.ROOM_NOT_FOUND;
+
+import lombok.Getter;
+
+/**
+ * 방 하나의 대기실 상태 (플레이어, 준비 상태, 방장)
+ * 방을 맡은 엔진 파티션 스레드에서만 읽고 바꾸므로 동기화하지 않는다.
+ * 바뀐 상태는 명령이 끝날 때 {@link RoomSnapshot} 으로 복사되어 비동기로 저장된다.
+ */
+@Getter
+public class RoomState {
+
+    private final Long roomId;
+    private final int capacity;
+    private final RoomStatus status;
+    private final boolean isPrivate;
+    private final String passwordHash;
+    private Long ownerId;
+    private final Set<Long> players;
+    private final Set<Long> readyPlayers;
+
+    private long revision;
+    private boolean dirty;
+    private boolean closed;
+
+    RoomState(Long roomId, int capacity, RoomStatus status, boolean isPrivate, String passwordHash,
+              Long ownerId, Set<Long> players, Set<Long> readyPlayers) {
+        this.roomId = roomId;
+        this.capacity = capacity;
+        this.status = status;
+        this.isPrivate = isPrivate;
+        this.passwordHash = passwordHash;
+        this.ownerId = ownerId;
+        this.players = new LinkedHashSet<>(players);
+        this.readyPlayers = new HashSet<>(readyPlayers);
+    }
+
+    static RoomState from(Room room) {
+        return new RoomState(room.getId(), room.getCapacity(), room.getStatus(), room.isPrivate(),
+                room.getPasswordHash(), room.getOwner().getId(), room.getPlayers(), room.getReadyPlayers());
+    }
+
+    public boolean isOwner(Long memberId) {
+        return ownerId.equals(memberId);
+    }
+
+    public boolean hasPlayer(Long memberId) {
+        return players.contains(memberId);
+    }
+
+    public RoomAccess access() {
+        return new RoomAccess(isPrivate, passwordHash);
+    }
+
+    public boolean isReady(Long memberId) {
+        return readyPlayers.contains(memberId);
+    }
+
+    /**
+     * 플레이어를 추가한다. 이미 있으면 false 를 반환한다.
+     */
+    public boolean addPlayer(Long memberId) {
+        ensureOpen();
+        if (players.contains(memberId)) {
+            return false;
+        }
+        if (players.size() >= capacity) {
+            ROOM_IS_FULL.throwServiceException();
+        }
+        players.add(memberId);
+        dirty = true;
+        return true;
+    }
+
+    /**
+     * 플레이어를 제거한다. 방에 없던 플레이어면 false 를 반환한다.
+     */
+    public boolean removePlayer(Long memberId) {
+        ensureOpen();
+        if (!players.remove(memberId)) {
+            return false;
+        }
+        readyPlayers.remove(memberId);
+        dirty = true;
+        return true;
+    }
+
+    /**
+     * 준비 상태를 뒤집고 바뀐 상태를 반환한다. 방장이나 방에 없는 플레이어는 바뀌지 않는다.
+     */
+    public boolean toggleReady(Long memberId) {
+        ensureOpen();
+        if (isOwner(memberId) || !players.contains(memberId)) {
+            return readyPlayers.contains(memberId);
+        }
+        boolean ready = !readyPlayers.remove(memberId);
+        if (ready) {
+            readyPlayers.add(memberId);
+        }
+        dirty = true;
+        return ready;
+    }
+
+    /**
+     * 남은 플레이어 중 먼저 들어온 플레이어에게 방장을 넘기고 새 방장 ID 를 반환한다.
+     */
+    public Long passOwnership() {
+        ensureOpen();
+        Long newOwnerId = players.iterator().next();
+        ownerId = newOwnerId;
+        readyPlayers.remove(newOwnerId);
+        dirty = true;
+        return newOwnerId;
+    }
+
+    /**
+     * 마지막 플레이어가 나가 방이 삭제될 예정임을 표시한다. 이후 명령은 방이 없는 것으로 처리된다.
+     */
+    public void close() {
+        closed = true;
+        dirty = false;
+    }
+
+    public RoomRoster roster() {
+        return RoomRoster.of(roomId, ownerId, status, players, readyPlayers);
+    }
+
+    RoomSnapshot takeSnapshot() {
+        dirty = false;
+        return new RoomSnapshot(roomId, ++revision, ownerId, Set.copyOf(players), Set.copyOf(readyPlayers));
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            ROOM_NOT_FOUND.throwServiceException();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.ll.quizzle.domain.room.engine;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ll.quizzle.domain.member.entity.Member;
+import com.ll.quizzle.domain.member.repository.MemberRepository;
+import com.ll.quizzle.domain.room.entity.Room;
+import com.ll.quizzle.domain.room.repository.RoomRepository;
+import static com.ll.quizzle.global.exceptions.ErrorCode.ROOM_NOT_FOUND;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 방 상태 엔진의 DB 입출력
+ * 처음 명령이 들어온 방은 DB 에서 읽어 오고, 변경된 방들은 한 트랜잭션으로 묶어 저장한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomStateStore {
+
+    private final RoomRepository roomRepository;
+    private final MemberRepository memberRepository;
+
+    @Transactional(readOnly = true)
+    public RoomState load(Long roomId) {
+        Room room = roomRepository.findRoomById(roomId)
+                .orElseThrow(ROOM_NOT_FOUND::throwServiceException);
+        return RoomState.from(room);
+    }
+
+    @Transactional
+    public void persist(Collection<RoomSnapshot> snapshots) {
+        Map<Long, RoomSnapshot> snapshotsByRoom = new HashMap<>();
+        for (RoomSnapshot snapshot : snapshots) {
+            snapshotsByRoom.put(snapshot.roomId(), snapshot);
+        }
+
+        int saved = 0;
+        for (Room room : roomRepository.findAllById(snapshotsByRoom.keySet())) {
+            RoomSnapshot snapshot = snapshotsByRoom.get(room.getId());
+            Member owner = room.isOwner(snapshot.ownerId())
+                    ? room.getOwner()
+                    : memberRepository.getReferenceById(snapshot.ownerId());
+            room.applyLobbyState(owner, snapshot.players(), snapshot.readyPlayers());
+            saved++;
+        }
+
+        if (saved < snapshotsByRoom.size()) {
+            log.debug("방 상태 저장 중 삭제된 방 {}개는 건너뜀", snapshotsByRoom.size() - saved);
+        }
+    }
+}
@@ -17,7 +17,9 @@ import static com.ll.quizzle.global.exceptions.ErrorCode.MIN_PLAYER_COUNT_NOT_ME
 import static com.ll.quizzle.global.exceptions.ErrorCode.NOT_ALL_PLAYERS_READY;
 import static com.ll.quizzle.global.exceptions.ErrorCode.NOT_ROOM_OWNER;
 import static com.ll.quizzle.global.exceptions.ErrorCode.PLAYER_LEFT_DURING_START;
+import static com.ll.quizzle.global.exceptions.ErrorCode.STALE_FENCING_TOKEN;
 import com.ll.quizzle.global.jpa.entity.BaseTime;
+import com.ll.quizzle.global.redis.lock.FencingTokenContext;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.CollectionTable;
@@ -29,6 +31,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Transient;
 import jakarta.persistence.Version;
 import lombok.AccessLevel;
@@ -83,6 +86,10 @@ public class Room extends BaseTime {
     @Version
     private Long version;
     
+    // 마지막으로 이 방을 바꾼 분산 락 구간의 펜싱 토큰
+    @Column
+    private Long fencingToken;
+    
     @ElementCollection
     @CollectionTable(name = "room_players")
     private final Set<Long> players = Collections.synchronizedSet(new HashSet<>());
@@ -254,6 +261,18 @@ public class Room extends BaseTime {
         readyPlayers.remove(newOwner.getId());
     }
     
+    /**
+     * 방 상태 엔진이 메모리에서 바꾼 대기실 상태를 반영한다.
+     * 컬렉션을 통째로 바꾸지 않고 차이만 고쳐 바뀐 행만 쓰이도록 한다.
+     */
+    public void applyLobbyState(Member owner, Set<Long> players, Set<Long> readyPlayers) {
+        this.owner = owner;
+        this.players.retainAll(players);
+        this.players.addAll(players);
+        this.readyPlayers.retainAll(readyPlayers);
+        this.readyPlayers.addAll(readyPlayers);
+    }
+    
     public void updateRoom(String title, Integer capacity, Difficulty difficulty, 
                          MainCategory mainCategory, SubCategory subCategory, 
                          String password, Boolean isPrivate) {
@@ -301,5 +320,21 @@ public class Room extends BaseTime {
             }
         }
     }
-}
 
+    /**
+     * 방 락(room:{id}) 구간 안에서 바뀐 경우, 저장된 토큰보다 작은 토큰의 쓰기를 거부한다.
+     * 유효기간이 지나 락을 잃은 요청이 뒤늦게 쓰는 것을 막는다. (락 밖의 쓰기는 검사하지 않는다)
+     */
+    @PreUpdate
+    void checkFencingToken() {
+        FencingTokenContext.current("room:" + getId()).ifPresent(this::advanceFencingToken);
+    }
+
+    void advanceFencingToken(long token) {
+        if (fencingToken != null && token < fencingToken) {
+            log.warn("오래된 펜싱 토큰으로 방 변경 거부: 방ID={}, 토큰={}, 저장된 토큰={}", getId(), token, fencingToken);
+            throw STALE_FENCING_TOKEN.throwServiceException();
+        }
+        fencingToken = token;
+    }
+}
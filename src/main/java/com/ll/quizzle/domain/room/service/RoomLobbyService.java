@@ -0,0 +1,374 @@
+package com.ll.quizzle.domain.room.service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.ll.quizzle.domain.member.cache.MemberSummaryCache;
+import com.ll.quizzle.domain.member.dto.MemberSummary;
+import com.ll.quizzle.domain.room.dto.request.RoomUpdateRequest;
+import com.ll.quizzle.domain.room.dto.response.RoomResponse;
+import com.ll.quizzle.domain.room.engine.RoomAccess;
+import com.ll.quizzle.domain.room.engine.RoomCommandForwarder;
+import com.ll.quizzle.domain.room.engine.RoomEngine;
+import com.ll.quizzle.domain.room.engine.RoomState;
+import com.ll.quizzle.domain.room.entity.Room;
+import com.ll.quizzle.domain.room.repository.RoomRepository;
+import com.ll.quizzle.domain.room.type.RoomCommandType;
+import com.ll.quizzle.domain.room.type.RoomStatus;
+import static com.ll.quizzle.global.exceptions.ErrorCode.INVALID_PASSWORD;
+import static com.ll.quizzle.global.exceptions.ErrorCode.MEMBER_NOT_FOUND;
+import static com.ll.quizzle.global.exceptions.ErrorCode.ROOM_ENTRY_RESTRICTED;
+import static com.ll.quizzle.global.exceptions.ErrorCode.ROOM_NOT_FOUND;
+import com.ll.quizzle.global.cluster.ClusterMembership;
+import com.ll.quizzle.global.cluster.ClusterTopologyChangedEvent;
+import com.ll.quizzle.global.socket.core.MessageServiceFactory;
+import com.ll.quizzle.global.socket.service.WebSocketRoomMessageService;
+import com.ll.quizzle.global.socket.type.RoomMessageType;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대기실 명령(입장, 퇴장, 준비, 게임 시작 등)의 진입점
+ * 방 상태 엔진이 꺼져 있으면 {@link RoomService} 의 DB + 분산 락 경로를 그대로 호출한다.
+ * 켜져 있으면 입장/퇴장/준비는 엔진의 방 스레드에서 메모리로 처리하고, 메시지도 같은 스레드에서 순서대로 보낸다.
+ * 게임 시작이나 방 설정 변경처럼 DB 경로가 필요한 작업은 엔진에서 방 상태를 내려놓은 뒤 기존 경로로 처리한다.
+ *
+ * 노드 간 라우팅이 켜져 있으면 방 상태는 해시 링에서 그 방을 맡은 노드에만 있고,
+ * 다른 노드로 들어온 명령은 검증(회원, 블랙리스트, 비밀번호)만 마친 뒤 담당 노드로 넘긴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoomLobbyService {
+
+    private final RoomService roomService;
+    private final RoomEngine roomEngine;
+    private final RoomRepository roomRepository;
+    private final RoomBlacklistService blacklistService;
+    private final MemberSummaryCache memberSummaryCache;
+    private final WebSocketRoomMessageService roomMessageService;
+    private final MessageServiceFactory messageServiceFactory;
+    private final ClusterMembership clusterMembership;
+    private final RoomCommandForwarder commandForwarder;
+
+    @PostConstruct
+    public void init() {
+        commandForwarder.registerHandler(command -> handle(command.type(), command.roomId(), command.memberId()));
+    }
+
+    /**
+     * 노드 목록이 바뀌면 더 이상 이 노드 담당이 아닌 방의 상태를 저장하고 내려놓는다.
+     */
+    @EventListener
+    public void onTopologyChanged(ClusterTopologyChangedEvent event) {
+        if (!roomEngine.isEnabled()) {
+            return;
+        }
+
+        int released = roomEngine.releaseIf(roomId -> !clusterMembership.isLocal(roomId));
+        if (released > 0) {
+            log.info("담당 노드 변경으로 방 상태 반납: {}개 방", released);
+        }
+    }
+
+    public void joinRoom(Long roomId, Long memberId, String password) {
+        if (!roomEngine.isEnabled()) {
+            roomService.joinRoom(roomId, memberId, password);
+            return;
+        }
+
+        findMemberOrThrow(memberId);
+        if (blacklistService.isBlacklisted(roomId, memberId)) {
+            throw ROOM_ENTRY_RESTRICTED.throwServiceException();
+        }
+
+        Optional<RoomAccess> access = findAccess(roomId);
+        if (access.isEmpty()) {
+            roomService.joinRoom(roomId, memberId, password);
+            return;
+        }
+        if (!access.get().validatePassword(password)) {
+            throw INVALID_PASSWORD.throwServiceException();
+        }
+
+        if (!dispatch(RoomCommandType.JOIN, roomId, memberId)) {
+            roomService.joinRoom(roomId, memberId, password);
+        }
+    }
+
+    public void leaveRoom(Long roomId, Long memberId) {
+        if (!roomEngine.isEnabled()) {
+            roomService.leaveRoom(roomId, memberId);
+            return;
+        }
+
+        if (!dispatch(RoomCommandType.LEAVE, roomId, memberId)) {
+            roomService.leaveRoom(roomId, memberId);
+        }
+    }
+
+    public void toggleReady(Long roomId, Long memberId) {
+        if (!roomEngine.isEnabled()) {
+            roomService.toggleReady(roomId, memberId);
+            return;
+        }
+
+        if (!dispatch(RoomCommandType.TOGGLE_READY, roomId, memberId)) {
+            roomService.toggleReady(roomId, memberId);
+        }
+    }
+
+    public void handleDisconnect(Long memberId) {
+        if (!roomEngine.isEnabled()) {
+            roomService.handleDisconnect(memberId);
+            return;
+        }
+
+        // 메모리에 올라온 방은 엔진에서, 아직 올라오지 않았거나 다른 노드 담당인 방은 DB 에서 찾는다.
+        Set<Long> roomIds = new LinkedHashSet<>(roomEngine.findRoomIdsWithPlayer(memberId));
+        for (Room room : roomRepository.findRoomsByPlayerId(memberId)) {
+            roomIds.add(room.getId());
+        }
+
+        for (Long roomId : roomIds) {
+            try {
+                leaveRoom(roomId, memberId);
+            } catch (Exception e) {
+                log.error("연결 해제 처리 중 오류 발생 - 방ID: {}, 멤버ID: {}, 오류: {}",
+                        roomId, memberId, e.getMessage());
+            }
+        }
+    }
+
+    public void startGame(Long roomId, Long memberId) {
+        onDatabasePath(roomId, () -> {
+            roomService.startGame(roomId, memberId);
+            return null;
+        });
+    }
+
+    public RoomResponse updateRoom(Long roomId, Long ownerId, RoomUpdateRequest request) {
+        return onDatabasePath(roomId, () -> roomService.updateRoom(roomId, ownerId, request));
+    }
+
+    public void updateRoomStatus(Long roomId, RoomStatus status) {
+        onDatabasePath(roomId, () -> {
+            roomService.updateRoomStatus(roomId, status);
+            return null;
+        });
+    }
+
+    public void handleOwnerChange(Long roomId, Long newOwnerId) {
+        onDatabasePath(roomId, () -> {
+            roomService.handleOwnerChange(roomId, newOwnerId);
+            return null;
+        });
+    }
+
+    public void deleteRoomById(Long roomId) {
+        if (!roomEngine.isEnabled()) {
+            roomService.deleteRoomById(roomId);
+            return;
+        }
+
+        // 삭제와 주기 저장이 엇갈려 버전 충돌이 나지 않도록 대기 중인 변경을 먼저 저장한다.
+        dispatch(RoomCommandType.FLUSH, roomId, null);
+        try {
+            roomService.deleteRoomById(roomId);
+        } finally {
+            dispatch(RoomCommandType.DISCARD, roomId, null);
+        }
+    }
+
+    public RoomResponse getRoom(Long roomId) {
+        if (roomEngine.isEnabled()) {
+            dispatch(RoomCommandType.FLUSH, roomId, null);
+        }
+        return roomService.getRoom(roomId);
+    }
+
+    public void refreshPlayersList(Long roomId) {
+        if (!roomEngine.isEnabled()) {
+            roomService.refreshPlayersList(roomId);
+            return;
+        }
+
+        if (!dispatch(RoomCommandType.REFRESH_PLAYERS, roomId, null)) {
+            roomService.refreshPlayersList(roomId);
+        }
+    }
+
+    /**
+     * 담당 노드면 바로 처리하고, 아니면 담당 노드로 넘긴다. 처리했으면 true, 방이 DB 경로 작업 중이면 false 를 반환한다.
+     */
+    private boolean dispatch(RoomCommandType type, Long roomId, Long memberId) {
+        if (clusterMembership.isLocal(roomId)) {
+            return handle(type, roomId, memberId);
+        }
+        return commandForwarder.forward(clusterMembership.ownerOf(roomId), type, roomId, memberId);
+    }
+
+    /**
+     * 이 노드 엔진에서 명령을 처리한다. 다른 노드에서 넘어온 명령도 여기서 처리한다.
+     */
+    private boolean handle(RoomCommandType type, Long roomId, Long memberId) {
+        if (type == RoomCommandType.RELEASE) {
+            // 새 담당 노드가 먼저 알아챈 경우라 이 노드도 노드 목록을 바로 다시 읽는다.
+            clusterMembership.refresh();
+            roomEngine.release(roomId);
+            return true;
+        }
+
+        takeOverFromPreviousOwner(roomId);
+        return switch (type) {
+            case JOIN -> join(roomId, findMemberOrThrow(memberId));
+            case LEAVE -> leave(roomId, findMemberOrThrow(memberId));
+            case TOGGLE_READY -> toggleReady(roomId, findMemberOrThrow(memberId));
+            case REFRESH_PLAYERS -> roomEngine.execute(roomId, state -> {
+                roomMessageService.sendRoomUpdated(state.roster());
+                return Boolean.TRUE;
+            }).isPresent();
+            case DETACH -> {
+                roomEngine.detach(roomId);
+                yield true;
+            }
+            case ATTACH -> {
+                roomEngine.attach(roomId);
+                yield true;
+            }
+            case FLUSH -> {
+                roomEngine.flush(roomId);
+                yield true;
+            }
+            case DISCARD -> {
+                roomEngine.discard(roomId);
+                yield true;
+            }
+            case RELEASE -> true;
+        };
+    }
+
+    private boolean join(Long roomId, MemberSummary member) {
+        return roomEngine.execute(roomId, state -> {
+            if (state.addPlayer(member.id())) {
+                roomMessageService.sendJoin(state.roster(), member.id(), member.nickname());
+                roomMessageService.sendRoomUpdated(state.roster());
+                messageServiceFactory.getRoomService().send("/topic/lobby", "ROOM_UPDATED:" + roomId);
+            }
+            return Boolean.TRUE;
+        }).isPresent();
+    }
+
+    private boolean leave(Long roomId, MemberSummary member) {
+        Optional<Boolean> emptied = roomEngine.execute(roomId, state -> leave(state, member));
+        if (emptied.isEmpty()) {
+            return false;
+        }
+
+        if (emptied.get()) {
+            log.debug("방에 더 이상 플레이어가 없어 방을 즉시 삭제합니다. 방ID: {}", roomId);
+            roomEngine.flush(roomId);
+            try {
+                roomService.deleteRoomById(roomId);
+            } finally {
+                roomEngine.discard(roomId);
+            }
+        }
+        return true;
+    }
+
+    private boolean toggleReady(Long roomId, MemberSummary member) {
+        return roomEngine.execute(roomId, state -> {
+            if (state.isOwner(member.id()) || !state.hasPlayer(member.id())) {
+                return Boolean.TRUE;
+            }
+            boolean ready = state.toggleReady(member.id());
+            roomMessageService.sendReadyStatusChange(state.roster(), member.id(), member.nickname(),
+                    ready ? RoomMessageType.READY : RoomMessageType.UNREADY);
+            return Boolean.TRUE;
+        }).isPresent();
+    }
+
+    /**
+     * 퇴장을 반영하고 메시지를 보낸다. 마지막 플레이어가 나가 방을 삭제해야 하면 true 를 반환한다.
+     */
+    private boolean leave(RoomState state, MemberSummary member) {
+        boolean wasOwner = state.isOwner(member.id());
+        if (!state.removePlayer(member.id())) {
+            return false;
+        }
+
+        if (state.getPlayers().isEmpty()) {
+            state.close();
+            return true;
+        }
+
+        if (wasOwner) {
+            Long newOwnerId = state.passOwnership();
+            roomMessageService.sendOwnerChanged(state.roster(), member.nickname(), findMemberOrThrow(newOwnerId).nickname());
+        } else {
+            roomMessageService.sendLeave(state.roster(), member.id(), member.nickname());
+        }
+        return false;
+    }
+
+    /**
+     * 입장 비밀번호 확인용 값을 읽는다. 담당 노드면 엔진 상태에서, 아니면 DB 에서 읽는다. (비밀번호는 DB 경로로만 바뀜)
+     */
+    private Optional<RoomAccess> findAccess(Long roomId) {
+        if (clusterMembership.isLocal(roomId)) {
+            takeOverFromPreviousOwner(roomId);
+            return roomEngine.execute(roomId, RoomState::access);
+        }
+
+        Room room = roomRepository.findRoomById(roomId)
+                .orElseThrow(ROOM_NOT_FOUND::throwServiceException);
+        return Optional.of(new RoomAccess(room.isPrivate(), room.getPasswordHash()));
+    }
+
+    /**
+     * 노드 목록이 막 바뀌어 이 방의 이전 담당 노드가 아직 상태를 들고 있을 수 있으면,
+     * 처음 읽기 전에 그 노드에게 변경을 저장하고 내려놓도록 요청한다.
+     */
+    private void takeOverFromPreviousOwner(Long roomId) {
+        String previousOwner = clusterMembership.previousOwnerOf(roomId);
+        if (previousOwner == null || roomEngine.isLoaded(roomId)) {
+            return;
+        }
+
+        try {
+            commandForwarder.forward(previousOwner, RoomCommandType.RELEASE, roomId, null);
+        } catch (Exception e) {
+            log.warn("이전 담당 노드 방 상태 반납 요청 실패 - 방ID: {}, 노드: {}, 오류: {}", roomId, previousOwner, e.getMessage());
+        }
+    }
+
+    private <T> T onDatabasePath(Long roomId, Supplier<T> task) {
+        if (!roomEngine.isEnabled()) {
+            return task.get();
+        }
+
+        dispatch(RoomCommandType.DETACH, roomId, null);
+        try {
+            return task.get();
+        } finally {
+            dispatch(RoomCommandType.ATTACH, roomId, null);
+        }
+    }
+
+    private MemberSummary findMemberOrThrow(Long memberId) {
+        MemberSummary member = memberSummaryCache.getAllByIds(List.of(memberId)).get(memberId);
+        if (member == null) {
+            throw MEMBER_NOT_FOUND.throwServiceException();
+        }
+        return member;
+    }
+}
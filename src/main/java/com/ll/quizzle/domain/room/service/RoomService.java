@@ -1,6 +1,8 @@
 package com.ll.quizzle.domain.room.service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.springframework.data.redis.core.RedisTemplate;
@@ -23,6 +25,7 @@ import com.ll.quizzle.domain.room.dto.response.RoomResponse;
 import com.ll.quizzle.domain.room.entity.Room;
 import com.ll.quizzle.domain.room.repository.RoomRepository;
 import com.ll.quizzle.domain.room.type.RoomStatus;
+import static com.ll.quizzle.global.exceptions.ErrorCode.DISTRIBUTED_LOCK_ACQUISITION_FAILED;
 import static com.ll.quizzle.global.exceptions.ErrorCode.GAME_ALREADY_STARTED;
 import static com.ll.quizzle.global.exceptions.ErrorCode.INVALID_PASSWORD;
 import static com.ll.quizzle.global.exceptions.ErrorCode.MEMBER_NOT_FOUND;
@@ -47,6 +50,11 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class RoomService {
+    private static final long DISCONNECT_LOCK_WAIT_MILLIS = 300;
+    private static final long DISCONNECT_LOCK_RETRY_WAIT_MILLIS = 2000;
+    private static final long ROOM_LOCK_WAIT_MILLIS = 3000;
+    private static final long ROOM_LOCK_LEASE_MILLIS = 10000;
+
     private final RoomRepository roomRepository;
 
     private final MemberRepository memberRepository;
@@ -61,14 +69,17 @@ public class RoomService {
     @Transactional(isolation = Isolation.SERIALIZABLE)
     public RoomResponse createRoom(Long ownerId, RoomCreateRequest request) {
         Member owner = findMemberOrThrow(ownerId);
-        return createRoomWithLock(owner, request);
+        // 방 ID 로 잡는 room:{id} 와 겹치지 않도록 방장별 키를 쓴다.
+        return callWithLock("room:create:" + ownerId, ROOM_LOCK_LEASE_MILLIS,
+                () -> createRoomLocked(owner, request));
     }
 
     @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.REPEATABLE_READ)
     public RoomResponse updateRoom(Long roomId, Long ownerId, RoomUpdateRequest request) {
-        Room room = validateRoomForUpdate(roomId, ownerId);
-
-        return updateRoomWithLock(room, request);
+        return callWithLock("room:" + roomId, ROOM_LOCK_LEASE_MILLIS, () -> {
+            Room room = validateRoomForUpdate(roomId, ownerId);
+            return updateRoomLocked(room, request);
+        });
     }
 
     public List<RoomResponse> getActiveRooms() {
@@ -80,19 +91,23 @@ public class RoomService {
 
     @Transactional(isolation = Isolation.REPEATABLE_READ)
     public void joinRoom(Long roomId, Long memberId, String password) {
-        Room room = findRoomOrThrow(roomId);
-        Member member = findMemberOrThrow(memberId);
+        runWithLock("room:" + roomId, ROOM_LOCK_LEASE_MILLIS, () -> {
+            Room room = findRoomOrThrow(roomId);
+            Member member = findMemberOrThrow(memberId);
 
-        validate(roomId, memberId, password, room);
-        joinRoomWithLock(room, member);
+            validate(roomId, memberId, password, room);
+            joinRoomLocked(room, member);
+        });
     }
 
     @Transactional(isolation = Isolation.REPEATABLE_READ)
     public void leaveRoom(Long roomId, Long memberId) {
-        Room room = findRoomOrThrow(roomId);
-        Member member = findMemberOrThrow(memberId);
+        runWithLock("room:" + roomId, ROOM_LOCK_LEASE_MILLIS, () -> {
+            Room room = findRoomOrThrow(roomId);
+            Member member = findMemberOrThrow(memberId);
 
-        leaveRoomWithLock(room, member);
+            leaveRoomLocked(room, member);
+        });
     }
 
     @Transactional(isolation = Isolation.REPEATABLE_READ)
@@ -103,51 +118,71 @@ public class RoomService {
             return;
         }
 
+        // 한 방에서 오래 기다리느라 나머지 방 처리가 밀리지 않도록 먼저 짧게 시도하고, 경합 중인 방만 한 번 더 기다린다.
+        List<Room> contendedRooms = new ArrayList<>();
         for (Room room : rooms) {
+            if (!leaveOnDisconnect(room.getId(), memberId, DISCONNECT_LOCK_WAIT_MILLIS)) {
+                contendedRooms.add(room);
+            }
+        }
+
+        for (Room room : contendedRooms) {
+            if (!leaveOnDisconnect(room.getId(), memberId, DISCONNECT_LOCK_RETRY_WAIT_MILLIS)) {
+                log.debug("연결 해제 처리 중 락 획득 실패: 방ID={}, 멤버ID={}", room.getId(), memberId);
+            }
+        }
+    }
+
+    private boolean leaveOnDisconnect(Long roomId, Long memberId, long waitTime) {
+        String lockKey = "room:" + roomId;
+        try {
+            if (!redisLockService.acquireLock(lockKey, waitTime, 10000)) {
+                return false;
+            }
+
             try {
-                String lockKey = "lock:room:" + room.getId();
-                boolean locked = redisLockService.acquireLock(lockKey, 5000, 10000);
+                Room lockedRoom = roomRepository.findById(roomId)
+                        .orElseThrow(ROOM_NOT_FOUND::throwServiceException);
 
-                if (locked) {
-                    try {
-                        Room lockedRoom = roomRepository.findById(room.getId())
-                                .orElseThrow(ROOM_NOT_FOUND::throwServiceException);
-
-                        if (lockedRoom.hasPlayer(memberId)) {
-                            leaveRoomInternal(lockedRoom, memberId);
-                        }
-                    } finally {
-                        redisLockService.releaseLock(lockKey);
-                    }
-                } else {
-                    log.debug("연결 해제 처리 중 락 획득 실패: 방ID={}, 멤버ID={}", room.getId(), memberId);
+                if (lockedRoom.hasPlayer(memberId)) {
+                    leaveRoomInternal(lockedRoom, memberId);
+                    // 커밋은 락을 푼 뒤에 일어나므로, 펜싱 토큰 검사가 락 구간 안에서 이뤄지도록 먼저 반영한다.
+                    roomRepository.flush();
                 }
-            } catch (Exception e) {
-                log.error("연결 해제 처리 중 오류 발생 - 방ID: {}, 멤버ID: {}, 오류: {}",
-                        room.getId(), memberId, e.getMessage());
+            } finally {
+                redisLockService.releaseLock(lockKey);
             }
+        } catch (Exception e) {
+            log.error("연결 해제 처리 중 오류 발생 - 방ID: {}, 멤버ID: {}, 오류: {}",
+                    roomId, memberId, e.getMessage());
         }
+        return true;
     }
 
     @Transactional(isolation = Isolation.REPEATABLE_READ)
     public void toggleReady(Long roomId, Long memberId) {
-        Room room = findRoomOrThrow(roomId);
+        runWithLock("room:" + roomId, ROOM_LOCK_LEASE_MILLIS, () -> {
+            Room room = findRoomOrThrow(roomId);
 
-        if (room.isOwner(memberId)) {
-            return;
-        }
+            if (room.isOwner(memberId)) {
+                return;
+            }
 
-        boolean isCurrentlyReady = room.getReadyPlayers().contains(memberId);
+            boolean isCurrentlyReady = room.getReadyPlayers().contains(memberId);
 
-        setReadyWithLock(room, memberId, !isCurrentlyReady);
+            setReadyLocked(room, memberId, !isCurrentlyReady);
+        });
     }
 
     @Transactional(isolation = Isolation.REPEATABLE_READ)
     public void startGame(Long roomId, Long memberId) {
-        Room room = roomRepository.findById(roomId)
-                .orElseThrow(ROOM_NOT_FOUND::throwServiceException);
+        // 퀴즈 생성(GPT 호출)이 끝날 때까지 락을 가지고 있어야 하므로 고정 유효기간 대신 워치독으로 연장한다.
+        runWithLock("room:" + roomId, DistributedLock.WATCHDOG, () -> {
+            Room room = roomRepository.findById(roomId)
+                    .orElseThrow(ROOM_NOT_FOUND::throwServiceException);
 
-        startGameWithLock(room, memberId);
+            startGameLocked(room, memberId);
+        });
     }
 
     public RoomResponse getRoom(Long roomId) {
@@ -202,9 +237,7 @@ public class RoomService {
                   roomId, oldOwner.getNickname(), newOwner.getNickname());
     }
 
-    @DistributedLock(key = "'room:' + #owner.id", leaseTime = 10000)
-    @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.SERIALIZABLE)
-    protected RoomResponse createRoomWithLock(Member owner, RoomCreateRequest request) {
+    private RoomResponse createRoomLocked(Member owner, RoomCreateRequest request) {
         Room room = Room.builder()
                 .title(request.title())
                 .owner(owner)
@@ -238,9 +271,7 @@ public class RoomService {
         }
     }
 
-    @DistributedLock(key = "'room:' + #room.id", leaseTime = 10000)
-    @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.REPEATABLE_READ)
-    protected void joinRoomWithLock(Room room, Member member) {
+    private void joinRoomLocked(Room room, Member member) {
         if (!room.hasPlayer(member.getId())) {
             Long roomId = room.getId();
             Long memberId = member.getId();
@@ -272,6 +303,32 @@ public class RoomService {
         }
     }
 
+    /**
+     * 락을 잡은 채로 작업을 실행한다.
+     * 같은 빈 안의 메서드는 @DistributedLock 프록시를 거치지 않으므로 공개 메서드에서 직접 락을 잡는다.
+     * 커밋은 락을 푼 뒤에 일어나므로, 펜싱 토큰 검사가 락 구간 안에서 이뤄지도록 해제 전에 flush 한다.
+     */
+    private <T> T callWithLock(String lockKey, long leaseTime, Supplier<T> action) {
+        if (!redisLockService.acquireLock(lockKey, ROOM_LOCK_WAIT_MILLIS, leaseTime)) {
+            throw DISTRIBUTED_LOCK_ACQUISITION_FAILED.throwServiceException();
+        }
+
+        try {
+            T result = action.get();
+            roomRepository.flush();
+            return result;
+        } finally {
+            redisLockService.releaseLock(lockKey);
+        }
+    }
+
+    private void runWithLock(String lockKey, long leaseTime, Runnable action) {
+        callWithLock(lockKey, leaseTime, () -> {
+            action.run();
+            return null;
+        });
+    }
+
     private void handleGameEnd(Room room, String roomGameStateKey) {
         room.endGame();
         redisTemplate.opsForValue().set(roomGameStateKey, "ENDED");
@@ -309,9 +366,7 @@ public class RoomService {
         roomMessageService.sendOwnerChanged(room, currentOwner, newOwner);
     }
 
-    @DistributedLock(key = "'room:' + #room.id", leaseTime = 10000)
-    @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.REPEATABLE_READ)
-    protected void leaveRoomWithLock(Room room, Member member) {
+    private void leaveRoomLocked(Room room, Member member) {
         boolean isOwner = room.isOwner(member.getId());
 
         room.removePlayer(member.getId());
@@ -387,9 +442,7 @@ public class RoomService {
         });
     }
 
-    @DistributedLock(key = "'room:' + #room.id", leaseTime = 10000)
-    @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.REPEATABLE_READ)
-    protected void setReadyWithLock(Room room, Long memberId, boolean isReady) {
+    private void setReadyLocked(Room room, Long memberId, boolean isReady) {
         Member member = findMemberOrThrow(memberId);
 
         if (isReady) {
@@ -409,9 +462,7 @@ public class RoomService {
         });
     }
 
-    @DistributedLock(key = "'room:' + #room.id", leaseTime = 10000)
-    @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.REPEATABLE_READ)
-    protected void startGameWithLock(Room room, Long memberId) {
+    private void startGameLocked(Room room, Long memberId) {
         int initialPlayerCount = room.getPlayers().size();
         log.debug("게임 시작 요청 - 방ID: {}, 방장ID: {}, 초기 플레이어 수: {}", room.getId(), memberId, initialPlayerCount);
 
@@ -430,7 +481,7 @@ public class RoomService {
                     room.getId().toString()
             );
 
-            QuizResponse quizResponse = gptQuizService.generateQuiz(quizRequest);
+            QuizResponse quizResponse = gptQuizService.generateQuiz(quizRequest, room.getPlayers());
             String quizId = quizResponse.quizId();
 
             for (Long playerId : room.getPlayers()) {
@@ -528,9 +579,7 @@ public class RoomService {
         return room;
     }
 
-    @DistributedLock(key = "'room:' + #room.id", leaseTime = 10000)
-    @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.REPEATABLE_READ)
-    protected RoomResponse updateRoomWithLock(Room room, RoomUpdateRequest request) {
+    private RoomResponse updateRoomLocked(Room room, RoomUpdateRequest request) {
         updateRoomProperties(room, request);
 
         Room updatedRoom = roomRepository.save(room);
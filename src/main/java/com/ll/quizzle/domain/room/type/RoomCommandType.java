@@ -0,0 +1,23 @@
+package com.ll.quizzle.domain.room.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 방 담당 노드로 넘기는 명령 종류
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RoomCommandType {
+    JOIN("입장"),
+    LEAVE("퇴장"),
+    TOGGLE_READY("준비 상태 변경"),
+    REFRESH_PLAYERS("플레이어 목록 갱신"),
+    DETACH("DB 경로 작업 시작"),
+    ATTACH("DB 경로 작업 종료"),
+    FLUSH("변경 즉시 저장"),
+    DISCARD("삭제된 방 상태 제거"),
+    RELEASE("담당 변경으로 방 상태 반납");
+
+    private final String description;
+}
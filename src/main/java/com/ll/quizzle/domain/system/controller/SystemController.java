@@ -3,6 +3,7 @@ package com.ll.quizzle.domain.system.controller;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -10,11 +11,17 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.ll.quizzle.domain.quiz.cache.QuizContentCache;
+import com.ll.quizzle.domain.quiz.cache.QuizContentCacheStats;
+import com.ll.quizzle.domain.quiz.pool.QuizPoolStats;
+import com.ll.quizzle.domain.quiz.service.QuizPoolService;
 import com.ll.quizzle.domain.system.dto.request.RoleChangeRequest;
 import com.ll.quizzle.domain.system.dto.request.SystemLoginRequest;
 import com.ll.quizzle.domain.system.dto.response.RoleChangeResponse;
 import com.ll.quizzle.domain.system.dto.response.SystemLoginResponse;
 import com.ll.quizzle.domain.system.service.SystemService;
+import com.ll.quizzle.global.redis.lock.LockMetrics;
+import com.ll.quizzle.global.redis.lock.LockStats;
 import com.ll.quizzle.global.response.RsData;
 import com.ll.quizzle.global.security.annotation.RequireSecondaryPassword;
 
@@ -30,6 +37,9 @@ import lombok.RequiredArgsConstructor;
 @Tag(name = "System Controller", description = "최고 관리자 API")
 public class SystemController {
 	private final SystemService systemService;
+	private final QuizPoolService quizPoolService;
+	private final QuizContentCache quizContentCache;
+	private final LockMetrics lockMetrics;
 
 	@PostMapping("/login")
 	@Operation(summary = "system 계정 로그인", description = "최고 관리자(system)의 로그인 입니다.")
@@ -54,4 +64,25 @@ public class SystemController {
 		RoleChangeResponse response = systemService.changeRole(request);
 		return RsData.success(HttpStatus.OK, response);
 	}
+
+	@GetMapping("/quiz-pool")
+	@PreAuthorize("hasRole('SYSTEM')")
+	@Operation(summary = "퀴즈 풀 지표 조회", description = "미리 생성된 퀴즈 풀의 적중/미스 횟수와 보충 지연 시간을 조회합니다.")
+	public RsData<QuizPoolStats> getQuizPoolStats() {
+		return RsData.success(HttpStatus.OK, quizPoolService.getStats());
+	}
+
+	@GetMapping("/quiz-content-cache")
+	@PreAuthorize("hasRole('SYSTEM')")
+	@Operation(summary = "퀴즈 내용 캐시 지표 조회", description = "노드 로컬 퀴즈 문제/정답 캐시의 적중률과 보관 크기를 조회합니다.")
+	public RsData<QuizContentCacheStats> getQuizContentCacheStats() {
+		return RsData.success(HttpStatus.OK, quizContentCache.getStats());
+	}
+
+	@GetMapping("/locks")
+	@PreAuthorize("hasRole('SYSTEM')")
+	@Operation(summary = "분산 락 지표 조회", description = "락 키별 획득 대기 시간과 보유 시간 분포를 경합이 심한 순서로 조회합니다.")
+	public RsData<LockStats> getLockStats() {
+		return RsData.success(HttpStatus.OK, lockMetrics.getStats());
+	}
 }
@@ -5,6 +5,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import com.ll.quizzle.domain.member.cache.MemberPrincipalCache;
 import com.ll.quizzle.domain.member.entity.Member;
 import com.ll.quizzle.domain.member.repository.MemberRepository;
 import com.ll.quizzle.domain.member.service.AuthTokenService;
@@ -40,6 +41,7 @@ public class SystemService {
 	private final RoleChangeHistoryRepository roleChangeHistoryRepository;
 	private final RefreshTokenService refreshTokenService;
 	private final SystemVerifier passwordVerifier;
+	private final MemberPrincipalCache memberPrincipalCache;
 
 	public SystemLoginResponse authenticate(SystemLoginRequest loginRequest) {
 		passwordVerifier.verifySystemEmail(loginRequest.systemEmail());
@@ -94,6 +96,7 @@ public class SystemService {
 		Role previousRole = member.getRole();
 
 		member.changeRole(request.newRole());
+		memberPrincipalCache.evict(member.getEmail());
 
 		recordRoleChange(member, previousRole, request);
 
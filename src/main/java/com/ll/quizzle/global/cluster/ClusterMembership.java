@@ -0,0 +1,142 @@
+package com.ll.quizzle.global.cluster;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.ll.quizzle.global.config.ClusterProperties;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 살아 있는 노드 목록과 키(방 ID) → 담당 노드 배정
+ * - 각 노드는 heartbeatInterval 마다 cluster:nodes (ZSET, 점수 = 마지막 갱신 시각) 에 자기 ID 를 갱신하고,
+ *   nodeTtl 동안 갱신이 없는 노드를 지운 뒤 남은 노드로 일관 해시 링을 만든다.
+ * - 링이 바뀌면 {@link ClusterTopologyChangedEvent} 를 발행해 담당이 바뀐 키를 넘겨주도록 한다.
+ * - routingEnabled 가 꺼져 있으면 링에는 자기 노드만 있어 모든 키가 자기 담당이다.
+ * 노드들은 heartbeatInterval 안에서 같은 링을 보게 되며, 그 사이에는 잠깐 서로 다른 담당 노드를 볼 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterMembership {
+
+    public static final String NODES_KEY = "cluster:nodes";
+
+    private final ClusterNode clusterNode;
+    private final ClusterProperties properties;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile ConsistentHashRing ring;
+    private volatile ConsistentHashRing previousRing;
+    private volatile long changedAt;
+    private ThreadPoolTaskScheduler scheduler;
+
+    @PostConstruct
+    public void init() {
+        ring = ConsistentHashRing.of(List.of(clusterNode.getNodeId()), properties.getVirtualNodes());
+        if (!properties.isRoutingEnabled()) {
+            return;
+        }
+
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("cluster-heartbeat-");
+        scheduler.initialize();
+        scheduler.scheduleWithFixedDelay(this::heartbeat, properties.getHeartbeatInterval());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler == null) {
+            return;
+        }
+
+        scheduler.shutdown();
+        try {
+            redisTemplate.opsForZSet().remove(NODES_KEY, clusterNode.getNodeId());
+            log.info("클러스터에서 노드 제거: {}", clusterNode.getNodeId());
+        } catch (Exception e) {
+            log.warn("클러스터 노드 제거 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 자기 노드를 갱신하고 노드 목록을 다시 읽는다. 다른 노드가 담당이 바뀌었다고 알려 올 때도 바로 호출한다.
+     */
+    public synchronized void refresh() {
+        if (!properties.isRoutingEnabled()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        ZSetOperations<String, String> nodes = redisTemplate.opsForZSet();
+        nodes.add(NODES_KEY, clusterNode.getNodeId(), now);
+        nodes.removeRangeByScore(NODES_KEY, 0, now - properties.getNodeTtl().toMillis());
+
+        Set<String> liveNodes = new HashSet<>();
+        Set<String> members = nodes.range(NODES_KEY, 0, -1);
+        if (members != null) {
+            liveNodes.addAll(members);
+        }
+        liveNodes.add(clusterNode.getNodeId());
+
+        if (liveNodes.equals(ring.nodes())) {
+            return;
+        }
+
+        ConsistentHashRing previous = ring;
+        ConsistentHashRing current = ConsistentHashRing.of(liveNodes, properties.getVirtualNodes());
+        previousRing = previous;
+        ring = current;
+        changedAt = now;
+        log.info("클러스터 노드 변경: {} -> {}", previous.nodes(), current.nodes());
+
+        eventPublisher.publishEvent(new ClusterTopologyChangedEvent(previous, current));
+    }
+
+    public String ownerOf(long key) {
+        return ring.nodeFor(key);
+    }
+
+    public boolean isLocal(long key) {
+        return clusterNode.isSelf(ownerOf(key));
+    }
+
+    /**
+     * 링이 바뀐 직후(nodeTtl 이내)에 key 의 담당 노드가 바뀌었고 이전 담당 노드가 아직 살아 있으면 그 노드 ID 를, 아니면 null 을 반환한다.
+     * 새 담당 노드는 이 노드에게 상태를 먼저 저장하고 내려놓으라고 요청한 뒤 DB 에서 읽어야 한다.
+     */
+    public String previousOwnerOf(long key) {
+        ConsistentHashRing previous = previousRing;
+        if (previous == null || System.currentTimeMillis() - changedAt > properties.getNodeTtl().toMillis()) {
+            return null;
+        }
+
+        String previousOwner = previous.nodeFor(key);
+        ConsistentHashRing current = ring;
+        if (previousOwner == null || clusterNode.isSelf(previousOwner)
+                || previousOwner.equals(current.nodeFor(key)) || !current.nodes().contains(previousOwner)) {
+            return null;
+        }
+        return previousOwner;
+    }
+
+    private void heartbeat() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("클러스터 하트비트 실패: {}", e.getMessage());
+        }
+    }
+}
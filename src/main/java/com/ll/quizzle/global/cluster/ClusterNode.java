@@ -0,0 +1,41 @@
+package com.ll.quizzle.global.cluster;
+
+import java.net.InetAddress;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 현재 애플리케이션 노드 식별자
+ * quizzle.cluster.node-id 가 없으면 "호스트명-임의값" 으로 만든다. (재시작하면 새 노드로 취급)
+ */
+@Slf4j
+@Getter
+@Component
+public class ClusterNode {
+
+    private final String nodeId;
+
+    public ClusterNode(@Value("${quizzle.cluster.node-id:}") String configuredNodeId) {
+        this.nodeId = configuredNodeId.isBlank() ? generateNodeId() : configuredNodeId;
+        log.info("클러스터 노드 ID: {}", nodeId);
+    }
+
+    public boolean isSelf(String nodeId) {
+        return this.nodeId.equals(nodeId);
+    }
+
+    private static String generateNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
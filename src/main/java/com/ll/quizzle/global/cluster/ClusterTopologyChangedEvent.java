@@ -0,0 +1,10 @@
+package com.ll.quizzle.global.cluster;
+
+/**
+ * 살아 있는 노드 목록이 바뀌어 해시 링이 다시 만들어졌을 때 발행되는 이벤트
+ */
+public record ClusterTopologyChangedEvent(
+        ConsistentHashRing previousRing,
+        ConsistentHashRing currentRing
+) {
+}
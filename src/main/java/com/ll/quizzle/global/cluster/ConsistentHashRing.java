@@ -0,0 +1,53 @@
+package com.ll.quizzle.global.cluster;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.ll.quizzle.standard.util.Ut;
+
+/**
+ * 노드 ID 로 만든 일관 해시 링 (불변)
+ * 노드마다 가상 노드를 여러 개 올려, 노드가 하나 들어오거나 빠질 때 그 노드 몫의 키만 옮겨 가도록 한다.
+ */
+public final class ConsistentHashRing {
+
+    private final NavigableMap<Long, String> ring;
+    private final Set<String> nodes;
+
+    private ConsistentHashRing(NavigableMap<Long, String> ring, Set<String> nodes) {
+        this.ring = ring;
+        this.nodes = nodes;
+    }
+
+    public static ConsistentHashRing of(Collection<String> nodeIds, int virtualNodes) {
+        NavigableMap<Long, String> ring = new TreeMap<>();
+        Set<String> nodes = new TreeSet<>(nodeIds);
+        for (String nodeId : nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                // 해시가 겹치면 ID 순으로 먼저 올린 노드가 갖는다. (모든 노드가 같은 링을 만들도록)
+                ring.putIfAbsent(Ut.hash.of(nodeId + "#" + i), nodeId);
+            }
+        }
+        return new ConsistentHashRing(ring, Collections.unmodifiableSet(nodes));
+    }
+
+    /**
+     * key 를 담당하는 노드 ID 를 반환한다. 링이 비어 있으면 null 을 반환한다.
+     */
+    public String nodeFor(long key) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+        // 연속된 방 ID 도 링 위에 고르게 흩어지도록 섞는다.
+        Long point = ring.ceilingKey(Ut.hash.mix(key));
+        return ring.get(point != null ? point : ring.firstKey());
+    }
+
+    public Set<String> nodes() {
+        return nodes;
+    }
+}
@@ -0,0 +1,27 @@
+package com.ll.quizzle.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 노드 간 방 소유권 설정
+ * - routingEnabled: 켜면 살아 있는 노드들로 일관 해시 링을 만들어 방마다 담당 노드를 정하고, 다른 노드로 온 방 명령은 담당 노드로 넘긴다
+ * - heartbeatInterval: cluster:nodes 에 자기 노드를 갱신하고 노드 목록을 다시 읽는 주기
+ * - nodeTtl: 이 시간 동안 갱신이 없으면 죽은 노드로 보고 링에서 뺀다
+ * - virtualNodes: 노드 하나가 링에 올리는 가상 노드 수 (클수록 방이 고르게 나뉨)
+ * - forwardTimeout: 담당 노드로 넘긴 명령의 응답을 기다리는 최대 시간
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "quizzle.cluster")
+public class ClusterProperties {
+    private boolean routingEnabled = false;
+    private Duration heartbeatInterval = Duration.ofSeconds(2);
+    private Duration nodeTtl = Duration.ofSeconds(6);
+    private int virtualNodes = 128;
+    private Duration forwardTimeout = Duration.ofSeconds(3);
+}
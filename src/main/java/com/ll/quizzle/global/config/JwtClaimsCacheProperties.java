@@ -0,0 +1,19 @@
+package com.ll.quizzle.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 검증이 끝난 JWT 클레임 노드 로컬 캐시 설정
+ * - enabled: false 면 매 요청마다 서명을 검증한다.
+ * - maxEntries: 보관할 최대 토큰 수, 초과하면 만료된 토큰부터 정리 (항목은 토큰 만료 시각까지만 보관)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "quizzle.jwt.claims-cache")
+public class JwtClaimsCacheProperties {
+    private boolean enabled = true;
+    private int maxEntries = 10_000;
+}
@@ -0,0 +1,19 @@
+package com.ll.quizzle.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 로비 접속자 알림 설정
+ * - flushInterval: 접속/종료 변경을 모아 한 번의 변경분(delta)으로 보내는 주기, 전체 목록 응답 재사용 시간
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "quizzle.lobby.presence")
+public class LobbyPresenceProperties {
+    private Duration flushInterval = Duration.ofMillis(500);
+}
@@ -0,0 +1,21 @@
+package com.ll.quizzle.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 노드 로컬 회원 요약 정보 캐시 설정
+ * - maxEntries: 보관할 최대 회원 수, 초과하면 만료된 항목부터 정리
+ * - ttl: 항목 보관 시간 (닉네임 변경은 무효화 메시지로 즉시 반영되므로 안전망 용도)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "quizzle.member.summary-cache")
+public class MemberSummaryCacheProperties {
+    private int maxEntries = 50_000;
+    private Duration ttl = Duration.ofMinutes(10);
+}
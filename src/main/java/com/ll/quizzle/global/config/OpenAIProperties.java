@@ -2,6 +2,7 @@ package com.ll.quizzle.global.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 @ConfigurationProperties(prefix = "openai")
 public class OpenAIProperties {
@@ -9,11 +10,31 @@ public class OpenAIProperties {
     private final String model;
     private final String apiKey;
 
+    // 공유 HttpClient 동시 요청 수 / 타임아웃 / 재시도 설정
+    private final int maxInFlight;
+    private final long connectTimeoutMillis;
+    private final long requestTimeoutMillis;
+    private final int maxRetries;
+    private final long retryBaseDelayMillis;
+    private final long retryMaxDelayMillis;
+
     @ConstructorBinding
-    public OpenAIProperties(String apiUrl, String model, String apiKey) {
+    public OpenAIProperties(String apiUrl, String model, String apiKey,
+                            @DefaultValue("8") int maxInFlight,
+                            @DefaultValue("5000") long connectTimeoutMillis,
+                            @DefaultValue("90000") long requestTimeoutMillis,
+                            @DefaultValue("3") int maxRetries,
+                            @DefaultValue("500") long retryBaseDelayMillis,
+                            @DefaultValue("8000") long retryMaxDelayMillis) {
         this.apiUrl = apiUrl;
         this.model = model;
         this.apiKey = apiKey;
+        this.maxInFlight = maxInFlight;
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.requestTimeoutMillis = requestTimeoutMillis;
+        this.maxRetries = maxRetries;
+        this.retryBaseDelayMillis = retryBaseDelayMillis;
+        this.retryMaxDelayMillis = retryMaxDelayMillis;
     }
 
     public String getApiUrl() {
@@ -27,4 +48,28 @@ public class OpenAIProperties {
     public String getApiKey() {
         return apiKey;
     }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public long getConnectTimeoutMillis() {
+        return connectTimeoutMillis;
+    }
+
+    public long getRequestTimeoutMillis() {
+        return requestTimeoutMillis;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public long getRetryBaseDelayMillis() {
+        return retryBaseDelayMillis;
+    }
+
+    public long getRetryMaxDelayMillis() {
+        return retryMaxDelayMillis;
+    }
 }
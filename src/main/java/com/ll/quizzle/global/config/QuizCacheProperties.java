@@ -0,0 +1,23 @@
+package com.ll.quizzle.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 동일한 프롬프트로 생성된 퀴즈 세트 재사용 정책
+ * - maxReuse: 하나의 세트를 제공할 수 있는 최대 방(게임) 수
+ * - freshness: 세트가 생성된 뒤 재사용 후보로 남아 있는 시간
+ * 같은 회원에게는 같은 세트를 두 번 제공하지 않는다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "quizzle.quiz.cache")
+public class QuizCacheProperties {
+    private boolean enabled = true;
+    private int maxReuse = 5;
+    private Duration freshness = Duration.ofMinutes(30);
+}
@@ -0,0 +1,24 @@
+package com.ll.quizzle.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 노드 로컬 퀴즈 문제/정답 캐시 설정
+ * - maxEntries: 보관할 최대 퀴즈 수, 초과하면 오래된 항목부터 제거
+ * - ttl: 항목 보관 시간 (Redis 퀴즈 TTL 보다 길 필요 없음)
+ * - missTtl: 생성 중이거나 내용이 없어 캐시하지 못한 퀴즈를 Redis 에 다시 확인하지 않는 시간 (그동안은 호출 측이 Redis 조회로 처리)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "quizzle.quiz.content-cache")
+public class QuizContentCacheProperties {
+    private boolean enabled = true;
+    private int maxEntries = 2_000;
+    private Duration ttl = Duration.ofMinutes(30);
+    private Duration missTtl = Duration.ofSeconds(1);
+}
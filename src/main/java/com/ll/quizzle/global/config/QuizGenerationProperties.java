@@ -0,0 +1,17 @@
+package com.ll.quizzle.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 퀴즈 생성 요청 설정
+ * - structuredOutput: JSON schema 구조화 출력으로 요청 (지원하지 않는 모델이면 false 로 두고 텍스트 형식 사용)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "quizzle.quiz.generation")
+public class QuizGenerationProperties {
+    private boolean structuredOutput = false;
+}
@@ -0,0 +1,26 @@
+package com.ll.quizzle.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 미리 생성해 두는 퀴즈 풀 설정
+ * - capacity: 키(서브카테고리 x 난이도 x 정답유형)별로 보관할 최대 퀴즈 세트 수
+ * - lowWaterMark: 풀에 남은 세트가 이 값 미만이면 백그라운드 보충을 시작
+ * - setSize: 풀에 보관하는 세트의 문제 수 (방의 문제 수만큼 잘라서 사용)
+ * - refillConcurrency: 동시에 보충을 진행하는 키의 최대 개수
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "quizzle.quiz.pool")
+public class QuizPoolProperties {
+    private boolean enabled = true;
+    private int capacity = 3;
+    private int lowWaterMark = 1;
+    private int setSize = 20;
+    private long refillIntervalMillis = 10_000;
+    private int refillConcurrency = 2;
+    private boolean prewarmAll = false;
+}
@@ -0,0 +1,24 @@
+package com.ll.quizzle.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 서버 주도 라운드 진행 설정
+ * - enabled: 서버가 문제 제한 시간/결과 표시/다음 문제 전송을 관리 (false 면 기존처럼 클라이언트 타이머에 의존)
+ * - questionDuration: 문제당 제한 시간
+ * - resultDuration: 정답 공개 후 다음 문제까지 대기 시간
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "quizzle.quiz.round")
+public class QuizRoundProperties {
+    private boolean enabled = true;
+    private Duration questionDuration = Duration.ofSeconds(30);
+    private Duration resultDuration = Duration.ofSeconds(3);
+    private int schedulerPoolSize = 2;
+}
@@ -0,0 +1,22 @@
+package com.ll.quizzle.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 리프레시 토큰 교체 설정
+ * - reuseGracePeriod: 교체 직후 같은 리프레시 토큰으로 들어온 요청에 이미 발급한 토큰을 그대로 돌려주는 시간
+ *   (rt:recent:{토큰 해시} 보관 시간, 0 이면 교체된 토큰은 바로 재사용으로 처리)
+ * - waitTimeout: 같은 노드에서 진행 중인 교체를 기다리는 최대 시간
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "quizzle.jwt.refresh")
+public class RefreshTokenProperties {
+    private Duration reuseGracePeriod = Duration.ofSeconds(10);
+    private Duration waitTimeout = Duration.ofSeconds(5);
+}
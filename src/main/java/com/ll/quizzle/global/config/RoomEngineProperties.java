@@ -0,0 +1,26 @@
+package com.ll.quizzle.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 방 상태 엔진 설정
+ * - enabled: 켜면 입장/퇴장/준비 같은 대기실 명령을 방마다 단일 스레드(액터)가 메모리에서 처리하고 DB 에는 묶어서 저장
+ * - partitions: 방을 나눠 맡는 단일 스레드 실행기 수 (같은 방의 명령은 항상 같은 스레드에서 순서대로 실행)
+ * - persistInterval: 변경된 방 상태를 모아 한 트랜잭션으로 저장하는 주기
+ * - commandTimeout: 명령 결과를 기다리는 최대 시간
+ * 방 하나의 상태는 한 노드만 가지고 있어야 하므로, 여러 노드로 운영할 때는 방 소유 노드로 요청이 모이는 환경에서만 켠다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "quizzle.room.engine")
+public class RoomEngineProperties {
+    private boolean enabled = false;
+    private int partitions = Runtime.getRuntime().availableProcessors();
+    private Duration persistInterval = Duration.ofMillis(500);
+    private Duration commandTimeout = Duration.ofSeconds(3);
+}
@@ -0,0 +1,25 @@
+package com.ll.quizzle.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 액세스 토큰 폐기(로그아웃) 목록 설정
+ * - expectedRevocations: 토큰 유효기간 동안 쌓일 것으로 예상하는 폐기 수 (블룸 필터 크기 계산용)
+ * - falsePositiveRate: 블룸 필터 오탐률, 오탐이면 Redis 에 한 번 더 확인하므로 정확도가 아니라 Redis 조회 비율에 영향
+ * - syncInterval: 다른 노드의 폐기 내역을 스트림에서 읽어 오는 주기 (이 시간만큼은 다른 노드에서 폐기된 토큰이 통과할 수 있음)
+ * - streamMaxLength: 폐기 스트림에 남겨 둘 대략적인 최대 항목 수
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "quizzle.jwt.revocation")
+public class TokenRevocationProperties {
+    private int expectedRevocations = 100_000;
+    private double falsePositiveRate = 0.01;
+    private Duration syncInterval = Duration.ofMillis(500);
+    private long streamMaxLength = 100_000;
+}
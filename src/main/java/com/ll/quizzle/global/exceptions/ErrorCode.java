@@ -51,10 +51,12 @@ public enum ErrorCode {
 	TOKEN_LOGGED_OUT(HttpStatus.UNAUTHORIZED, "로그아웃된 토큰입니다."),
 	REFRESH_TOKEN_NOT_FOUND(HttpStatus.BAD_REQUEST, "리프레시 토큰을 찾을 수 없습니다."),
 	REFRESH_TOKEN_INVALID(HttpStatus.BAD_REQUEST, "유효하지 않은 리프레시 토큰입니다."),
+	REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED, "이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요."),
 	TOKEN_INFO_NOT_FOUND(HttpStatus.BAD_REQUEST, "토큰 정보가 없습니다."),
 
 	// 분산 락
 	DISTRIBUTED_LOCK_ACQUISITION_FAILED(HttpStatus.CONFLICT, "분산 락을 획득할 수 없습니다."),
+	STALE_FENCING_TOKEN(HttpStatus.CONFLICT, "락 유효기간이 지나 변경이 거부되었습니다. 다시 시도해주세요."),
 
 	// member + oauth
 	MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 회원이 존재하지 않습니다."),
@@ -86,6 +88,8 @@ public enum ErrorCode {
 	MEMBER_ALREADY_BLACKLISTED(HttpStatus.BAD_REQUEST, "이미 블랙리스트에 추가된 사용자입니다."),
 	ROOM_ENTRY_RESTRICTED(HttpStatus.FORBIDDEN, "입장이 제한된 방입니다."),
 	INVALID_PASSWORD(HttpStatus.FORBIDDEN, "비밀번호가 일치하지 않습니다."),
+	ROOM_COMMAND_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "방 요청 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요."),
+	ROOM_STATE_PERSIST_FAILED(HttpStatus.SERVICE_UNAVAILABLE, "방 상태를 저장하지 못했습니다. 잠시 후 다시 시도해주세요."),
 
 	// nickname
 	NICKNAME_INVALID(HttpStatus.BAD_REQUEST, "닉네임이 유효하지 않습니다."),
@@ -102,6 +106,9 @@ public enum ErrorCode {
     FRIEND_LIST_NOT_FOUND(HttpStatus.BAD_REQUEST, "친구 목록 조회에 실패했습니다."),
     FRIEND_REQUEST_ALREADY_EXISTS(HttpStatus.BAD_REQUEST, "이미 친구 요청을 보냈습니다."),
 
+	// quiz
+	QUIZ_GENERATION_FAILED(HttpStatus.SERVICE_UNAVAILABLE, "퀴즈 생성에 실패했습니다. 잠시 후 다시 시도해주세요."),
+
 	// Global
 	FORBIDDEN_ACCESS(HttpStatus.FORBIDDEN, "접근 권한이 없습니다."),
 	INVALID_PAGE_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 페이지 요청입니다."),
@@ -1,13 +1,11 @@
 package com.ll.quizzle.global.jwt;
 
 
-import com.ll.quizzle.domain.member.entity.Member;
-import com.ll.quizzle.domain.member.repository.MemberRepository;
+import com.ll.quizzle.domain.member.dto.MemberPrincipal;
 import com.ll.quizzle.domain.member.service.MemberService;
 import com.ll.quizzle.global.exceptions.ServiceException;
-import com.ll.quizzle.global.response.RsData;
+import com.ll.quizzle.global.jwt.dto.GeneratedToken;
 import com.ll.quizzle.global.security.oauth2.dto.SecurityUser;
-import com.ll.quizzle.standard.util.CookieUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -17,6 +15,7 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -26,9 +25,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
-import static com.ll.quizzle.global.exceptions.ErrorCode.MEMBER_NOT_FOUND;
 import static com.ll.quizzle.global.exceptions.ErrorCode.TOKEN_EXPIRED;
-import static com.ll.quizzle.global.security.oauth2.dto.SecurityUser.of;
+import static com.ll.quizzle.global.exceptions.ErrorCode.TOKEN_LOGGED_OUT;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -36,7 +34,6 @@ import static com.ll.quizzle.global.security.oauth2.dto.SecurityUser.of;
 public class JwtAuthFilter extends OncePerRequestFilter implements Ordered {
 
     private final MemberService memberService;
-    private final MemberRepository memberRepository;
 
     @Override
     public int getOrder() {
@@ -67,65 +64,23 @@ public class JwtAuthFilter extends OncePerRequestFilter implements Ordered {
 
         if (StringUtils.hasText(accessToken)) {
             try {
-                String email = memberService.extractEmailIfValid(accessToken);
-                log.debug("Access Token 유효함. Email: {}", email);
-
-                Member member = memberRepository.findByEmail(email)
-                        .orElseThrow(MEMBER_NOT_FOUND::throwServiceException);
-                log.debug("Found member: {}", member.getEmail());
-
-                SecurityUser userDto = of(
-                        member.getId(),
-                        member.getNickname(),
-                        member.getEmail(),
-                        "ROLE_" + member.getRole()
-                );
-
-                Authentication auth = new UsernamePasswordAuthenticationToken(
-                        userDto,
-                        null,
-                        userDto.getAuthorities()
-                );
-                SecurityContextHolder.getContext().setAuthentication(auth);
+                MemberPrincipal principal = memberService.extractPrincipalIfValid(accessToken);
+                log.debug("Access Token 유효함. Email: {}", principal.email());
+
+                authenticate(principal);
 
             } catch (ServiceException e) {
-                String errorMessage = e.getMessage();
-                String resultCode = errorMessage.split(" : ")[0];
-                log.debug("Token 검증 실패. Error Code: {}, Message: {}", resultCode, errorMessage);
+                log.debug("Token 검증 실패. Status: {}, Message: {}", e.getHttpStatus(), e.getMsg());
 
-                if (resultCode.equals("401-2") && StringUtils.hasText(refreshToken)) {
+                // 만료/위조 토큰(401)만 갱신한다. 로그아웃된 토큰은 갱신하지 않는다.
+                // 만료 직후 동시에 들어온 요청들은 같은 리프레시 토큰으로 한 번만 교체되고 같은 토큰 쌍을 받는다.
+                if (isRefreshable(e) && StringUtils.hasText(refreshToken)) {
                     log.debug("Access Token 만료됨. Refresh Token으로 갱신 시도");
                     try {
-                        RsData<String> refreshResult = memberService.refreshAccessToken(refreshToken);
-                        if (refreshResult.isSuccess()) {
-                            log.debug("새로운 Access Token 발급 성공");
-                            CookieUtil.addCookie(
-                                    response,
-                                    "access_token",
-                                    refreshResult.getData(),
-                                    86400,
-                                    true,
-                                    true
-                            );
-
-                            String email = memberService.extractEmailIfValid(refreshResult.getData());
-                            Member member = memberRepository.findByEmail(email)
-                                    .orElseThrow(MEMBER_NOT_FOUND::throwServiceException);
-
-                            SecurityUser userDto = of(
-                                    member.getId(),
-                                    member.getNickname(),
-                                    member.getEmail(),
-                                    "ROLE_" + member.getRole()
-                            );
-
-                            Authentication auth = new UsernamePasswordAuthenticationToken(
-                                    userDto,
-                                    null,
-                                    userDto.getAuthorities()
-                            );
-                            SecurityContextHolder.getContext().setAuthentication(auth);
-                        }
+                        GeneratedToken tokens = memberService.refreshTokens(refreshToken, response);
+                        log.debug("새로운 Access Token 발급 성공");
+
+                        authenticate(memberService.extractPrincipalIfValid(tokens.accessToken()));
                     } catch (Exception refreshError) {
                         TOKEN_EXPIRED.throwServiceException();
                     }
@@ -138,6 +93,21 @@ public class JwtAuthFilter extends OncePerRequestFilter implements Ordered {
         filterChain.doFilter(request, response);
     }
 
+    private boolean isRefreshable(ServiceException e) {
+        return e.getHttpStatus() == HttpStatus.UNAUTHORIZED && !TOKEN_LOGGED_OUT.getMessage().equals(e.getMsg());
+    }
+
+    private void authenticate(MemberPrincipal principal) {
+        SecurityUser userDto = principal.toSecurityUser();
+
+        Authentication auth = new UsernamePasswordAuthenticationToken(
+                userDto,
+                null,
+                userDto.getAuthorities()
+        );
+        SecurityContextHolder.getContext().setAuthentication(auth);
+    }
+
     @Override
     protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
         String requestURI = request.getRequestURI();
@@ -0,0 +1,137 @@
+package com.ll.quizzle.global.jwt;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.stereotype.Component;
+
+import com.ll.quizzle.global.config.JwtClaimsCacheProperties;
+import com.ll.quizzle.global.jwt.dto.JwtProperties;
+import com.ll.quizzle.global.jwt.dto.TokenClaims;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JWT 서명 검증기
+ * - 서명 키와 파서는 시작할 때 한 번 만들어 모든 요청이 함께 쓴다. (빌드된 JwtParser 는 불변이라 스레드 안전)
+ * - 검증에 성공한 토큰의 클레임은 토큰 문자열 기준으로 만료 시각까지 보관해, 같은 토큰의 다음 요청은 서명 계산과 JSON 파싱을 건너뛴다.
+ *   조회는 토큰 전체 문자열이 같아야 맞으므로, 서명이나 본문을 바꾼 토큰은 캐시에 걸리지 않고 다시 검증된다.
+ */
+@Slf4j
+@Component
+public class JwtTokenVerifier {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtClaimsCacheProperties properties;
+    private final JwtParser parser;
+
+    private final Map<String, TokenClaims> verified = new ConcurrentHashMap<>();
+
+    public JwtTokenVerifier(JwtProperties jwtProperties, JwtClaimsCacheProperties properties) {
+        this.properties = properties;
+        SecretKey secretKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+    }
+
+    /**
+     * 서명과 만료 시각을 확인하고 클레임을 반환한다. 유효하지 않은 토큰이면 빈 값을 반환한다.
+     */
+    public Optional<TokenClaims> verify(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+
+        String compact = strip(token);
+        long now = System.currentTimeMillis();
+        TokenClaims cached = verified.get(compact);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return Optional.of(cached);
+            }
+            verified.remove(compact, cached);
+        }
+
+        try {
+            Claims claims = parser.parseClaimsJws(compact).getBody();
+            if (claims.getExpiration() == null) {
+                log.debug("Access Token 만료 시각 없음");
+                return Optional.empty();
+            }
+
+            TokenClaims tokenClaims = TokenClaims.from(claims);
+            if (tokenClaims.isExpired(now)) {
+                return Optional.empty();
+            }
+            cache(compact, tokenClaims, now);
+            return Optional.of(tokenClaims);
+        } catch (ExpiredJwtException e) {
+            log.debug("Access Token 만료됨: {}", e.getMessage());
+        } catch (SignatureException e) {
+            log.debug("Access Token 서명 불일치: {}", e.getMessage());
+        } catch (MalformedJwtException e) {
+            log.debug("Access Token 구조 이상: {}", e.getMessage());
+        } catch (Exception e) {
+            log.debug("Access Token 검증 실패: {}", e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 캐시를 거치지 않고 토큰을 파싱한다. 만료/서명 오류는 jjwt 예외로 그대로 던진다.
+     * (리프레시 토큰 처리나 만료된 토큰의 클레임이 필요한 경우에 쓴다)
+     */
+    public Claims parseClaims(String token) {
+        return parser.parseClaimsJws(strip(token)).getBody();
+    }
+
+    /**
+     * 이 노드 캐시에서 토큰을 지운다.
+     */
+    public void evict(String token) {
+        if (token != null) {
+            verified.remove(strip(token));
+        }
+    }
+
+    int cachedTokenCount() {
+        return verified.size();
+    }
+
+    private void cache(String compact, TokenClaims tokenClaims, long now) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        verified.put(compact, tokenClaims);
+        if (verified.size() <= properties.getMaxEntries()) {
+            return;
+        }
+
+        // 만료된 토큰부터 지우고, 그래도 넘치면 남은 토큰을 순서와 관계없이 지워 한도의 90% 로 맞춘다.
+        verified.values().removeIf(claims -> claims.isExpired(now));
+        int target = properties.getMaxEntries() * 9 / 10;
+        Iterator<String> tokens = verified.keySet().iterator();
+        while (verified.size() > target && tokens.hasNext()) {
+            tokens.next();
+            tokens.remove();
+        }
+    }
+
+    private String strip(String token) {
+        return token.startsWith(BEARER_PREFIX) ? token.substring(BEARER_PREFIX.length()).trim() : token.trim();
+    }
+}
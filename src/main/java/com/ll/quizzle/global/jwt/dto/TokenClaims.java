@@ -0,0 +1,34 @@
+package com.ll.quizzle.global.jwt.dto;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 서명 검증을 마친 토큰에서 인증에 필요한 값만 꺼낸 불변 클레임
+ */
+public record TokenClaims(
+        String subject,
+        Long memberId,
+        String tokenId,
+        String role,
+        String type,
+        long expiresAt
+) {
+
+    // 회원 ID 클레임, 이 클레임이 없는 이전 토큰은 memberId 가 null 이다. (토큰 ID 인 jti 도 마찬가지)
+    public static final String MEMBER_ID_CLAIM = "mid";
+
+    public static TokenClaims from(Claims claims) {
+        return new TokenClaims(
+                claims.getSubject(),
+                claims.get(MEMBER_ID_CLAIM, Long.class),
+                claims.getId(),
+                claims.get("role", String.class),
+                claims.get("type", String.class),
+                claims.getExpiration().getTime()
+        );
+    }
+
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+}
@@ -0,0 +1,59 @@
+package com.ll.quizzle.global.jwt.revocation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.ll.quizzle.standard.util.Ut;
+
+/**
+ * 문자열용 블룸 필터 (여러 스레드에서 동시에 넣고 조회할 수 있다)
+ * mightContain 이 false 면 넣은 적이 없는 값이고, true 면 falsePositiveRate 확률로 넣은 적 없는 값일 수 있다.
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long bitCount, int hashCount) {
+        this.words = new AtomicLongArray((int) ((bitCount + 63) / 64));
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    static BloomFilter create(int expectedInsertions, double falsePositiveRate) {
+        int insertions = Math.max(1, expectedInsertions);
+        double log2 = Math.log(2);
+        long bitCount = Math.max(64, (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (log2 * log2)));
+        int hashCount = Math.max(1, (int) Math.round((double) bitCount / insertions * log2));
+        return new BloomFilter(bitCount, hashCount);
+    }
+
+    void put(String value) {
+        long hash1 = Ut.hash.of(value);
+        long hash2 = Ut.hash.mix(hash1) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = words.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    boolean mightContain(String value) {
+        long hash1 = Ut.hash.of(value);
+        long hash2 = Ut.hash.mix(hash1) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
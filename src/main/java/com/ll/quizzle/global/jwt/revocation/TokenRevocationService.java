@@ -0,0 +1,193 @@
+package com.ll.quizzle.global.jwt.revocation;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.ll.quizzle.global.config.TokenRevocationProperties;
+import com.ll.quizzle.global.jwt.dto.JwtProperties;
+import com.ll.quizzle.global.jwt.dto.TokenClaims;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 액세스 토큰 폐기(로그아웃) 목록
+ * - 폐기는 토큰 ID(jti) 기준으로 auth:revoked:{jti} 키(남은 유효기간만큼 TTL)와 auth:revocations 스트림에 기록한다.
+ * - 각 노드는 스트림을 syncInterval 마다 읽어 로컬 블룸 필터에 넣는다. 필터에 없으면 Redis 를 조회하지 않고 통과시키고,
+ *   필터에 있을 때만 EXISTS 로 실제 폐기 여부를 확인한다.
+ * - 블룸 필터는 지울 수 없으므로 두 세대를 두고 액세스 토큰 유효기간마다 오래된 세대를 버린다.
+ *   폐기된 토큰은 늦어도 유효기간이 지나면 만료되므로, 한 세대 이상 남아 있으면 충분하다.
+ * - 시작 직후처럼 필터가 아직 채워지지 않았으면 모든 토큰을 Redis 로 확인한다.
+ * - jti 가 없는 이전 토큰은 기존 LOGOUT:{토큰} 키로 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    public static final String REVOCATION_STREAM_KEY = "auth:revocations";
+    private static final String REVOKED_KEY_PREFIX = "auth:revoked:";
+    private static final String LEGACY_LOGOUT_PREFIX = "LOGOUT:";
+    private static final int SYNC_BATCH_SIZE = 1000;
+
+    private final TokenRevocationProperties properties;
+    private final JwtProperties jwtProperties;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+    private volatile long rotatedAt;
+    private volatile boolean ready;
+    private String lastRecordId;
+    private ThreadPoolTaskScheduler scheduler;
+
+    @PostConstruct
+    public void init() {
+        resetFilters();
+
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("token-revocation-sync-");
+        scheduler.initialize();
+        scheduler.scheduleWithFixedDelay(this::sync, properties.getSyncInterval());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    /**
+     * 토큰을 남은 유효기간 동안 폐기한다.
+     */
+    public void revoke(TokenClaims claims, String token) {
+        long remainingMillis = claims.expiresAt() - System.currentTimeMillis();
+        if (remainingMillis <= 0) {
+            return;
+        }
+
+        if (claims.tokenId() == null) {
+            redisTemplate.opsForValue().set(LEGACY_LOGOUT_PREFIX + token, claims.subject(),
+                    remainingMillis, TimeUnit.MILLISECONDS);
+            return;
+        }
+
+        redisTemplate.opsForValue().set(REVOKED_KEY_PREFIX + claims.tokenId(), claims.subject(),
+                remainingMillis, TimeUnit.MILLISECONDS);
+        current.put(claims.tokenId());
+
+        StreamOperations<String, String, String> stream = redisTemplate.opsForStream();
+        stream.add(StreamRecords.string(Map.of("jti", claims.tokenId())).withStreamKey(REVOCATION_STREAM_KEY));
+        stream.trim(REVOCATION_STREAM_KEY, properties.getStreamMaxLength(), true);
+        log.debug("액세스 토큰 폐기 - 이메일: {}, jti: {}", claims.subject(), claims.tokenId());
+    }
+
+    public boolean isRevoked(TokenClaims claims, String token) {
+        if (claims.tokenId() == null) {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(LEGACY_LOGOUT_PREFIX + token));
+        }
+
+        if (ready && !current.mightContain(claims.tokenId()) && !previous.mightContain(claims.tokenId())) {
+            return false;
+        }
+        return Boolean.TRUE.equals(redisTemplate.hasKey(REVOKED_KEY_PREFIX + claims.tokenId()));
+    }
+
+    void sync() {
+        try {
+            rotateIfNeeded();
+            if (!ready) {
+                bootstrap();
+                ready = true;
+                return;
+            }
+            readStream();
+        } catch (Exception e) {
+            log.warn("토큰 폐기 목록 동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 스트림의 현재 위치를 먼저 기록한 뒤 살아 있는 폐기 키를 모두 필터에 넣는다.
+     * 그 사이에 들어온 폐기는 기록해 둔 위치부터 스트림을 읽으며 채워진다.
+     */
+    private void bootstrap() {
+        StreamOperations<String, String, String> stream = redisTemplate.opsForStream();
+        List<MapRecord<String, String, String>> latest =
+                stream.reverseRange(REVOCATION_STREAM_KEY, Range.unbounded(), Limit.limit().count(1));
+        lastRecordId = latest == null || latest.isEmpty() ? "0-0" : latest.get(0).getId().getValue();
+
+        int loaded = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(REVOKED_KEY_PREFIX + "*").count(SYNC_BATCH_SIZE).build();
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            while (keys.hasNext()) {
+                current.put(keys.next().substring(REVOKED_KEY_PREFIX.length()));
+                loaded++;
+            }
+        }
+        readStream();
+        log.info("토큰 폐기 목록 로드 완료: {}개", loaded);
+    }
+
+    private void readStream() {
+        StreamOperations<String, String, String> stream = redisTemplate.opsForStream();
+        List<MapRecord<String, String, String>> records;
+        do {
+            records = stream.read(StreamReadOptions.empty().count(SYNC_BATCH_SIZE),
+                    StreamOffset.create(REVOCATION_STREAM_KEY, ReadOffset.from(lastRecordId)));
+            if (records == null) {
+                return;
+            }
+            for (MapRecord<String, String, String> record : records) {
+                String tokenId = record.getValue().get("jti");
+                if (tokenId != null) {
+                    current.put(tokenId);
+                }
+                lastRecordId = record.getId().getValue();
+            }
+        } while (records.size() == SYNC_BATCH_SIZE);
+    }
+
+    private void rotateIfNeeded() {
+        long now = System.currentTimeMillis();
+        if (now - rotatedAt < Duration.ofSeconds(jwtProperties.getAccessTokenExpiration()).toMillis()) {
+            return;
+        }
+
+        // current 를 먼저 새로 만들면 최근 폐기가 두 세대 모두에서 빠지는 순간이 생기므로 previous 부터 옮긴다.
+        previous = current;
+        current = newFilter();
+        rotatedAt = now;
+        log.debug("토큰 폐기 필터 세대 교체");
+    }
+
+    void resetFilters() {
+        current = newFilter();
+        previous = newFilter();
+        rotatedAt = System.currentTimeMillis();
+    }
+
+    private BloomFilter newFilter() {
+        return BloomFilter.create(properties.getExpectedRevocations(), properties.getFalsePositiveRate());
+    }
+}
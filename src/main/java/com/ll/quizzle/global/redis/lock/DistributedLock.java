@@ -8,9 +8,21 @@ import java.lang.annotation.Target;
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface DistributedLock {
+
+    /**
+     * leaseTime 에 지정하면 고정 유효기간 대신 Redisson 워치독이 락을 가진 동안 유효기간을 계속 연장한다.
+     * 퀴즈 생성처럼 외부 호출 때문에 소요 시간을 가늠하기 어려운 구간에 쓴다.
+     */
+    long WATCHDOG = -1;
+
     String key();
 
     long leaseTime() default 5000;
 
     long waitTime() default 3000;
-} 
\ No newline at end of file
+
+    /**
+     * true 면 요청한 순서대로 락을 넘겨준다. 같은 키는 항상 같은 방식(공정/비공정)으로만 잠가야 한다.
+     */
+    boolean fair() default false;
+}
@@ -1,14 +1,11 @@
 package com.ll.quizzle.global.redis.lock;
 
 import java.lang.reflect.Method;
-import java.util.concurrent.TimeUnit;
 
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
 import org.springframework.core.annotation.Order;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
@@ -27,7 +24,7 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class DistributedLockAspect {
     
-    private final RedissonClient redissonClient;
+    private final DistributedLockService distributedLockService;
     private final ExpressionParser parser = new SpelExpressionParser();
     
     @Around("@annotation(com.ll.quizzle.global.redis.lock.DistributedLock)")
@@ -42,29 +39,15 @@ public class DistributedLockAspect {
         
         String lockKey = parseLockKey(rawKey, joinPoint);
         
-        RLock lock = redissonClient.getLock(lockKey);
-        boolean locked = false;
+        log.debug("분산 락 획득 시도: {}, 대기시간: {}ms, 유효기간: {}, 공정: {}", lockKey, waitTime,
+                leaseTime > 0 ? leaseTime + "ms" : "워치독", distributedLock.fair());
+        LockHandle handle = distributedLockService.tryAcquire(lockKey, waitTime, leaseTime, distributedLock.fair())
+                .orElseThrow(ErrorCode.DISTRIBUTED_LOCK_ACQUISITION_FAILED::throwServiceException);
         
         try {
-            log.debug("분산 락 획득 시도: {}, 대기시간: {}ms, 유효기간: {}ms", lockKey, waitTime, leaseTime);
-            locked = lock.tryLock(waitTime, leaseTime, TimeUnit.MILLISECONDS);
-            
-            if (!locked) {
-                log.debug("분산 락 획득 실패: {}", lockKey);
-                throw ErrorCode.DISTRIBUTED_LOCK_ACQUISITION_FAILED.throwServiceException();
-            }
-            
-            log.debug("분산 락 획득 성공: {}", lockKey);
             return joinPoint.proceed();
         } finally {
-            if (locked) {
-                try {
-                    lock.unlock();
-                    log.debug("분산 락 해제: {}", lockKey);
-                } catch (IllegalMonitorStateException e) {
-                    log.debug("분산 락 해제 실패 (이미 해제됨): {}, {}", lockKey, e.getMessage());
-                }
-            }
+            distributedLockService.release(handle);
         }
     }
     
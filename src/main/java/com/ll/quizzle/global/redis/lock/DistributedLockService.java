@@ -1,5 +1,7 @@
 package com.ll.quizzle.global.redis.lock;
 
+import java.util.Optional;
+
 public interface DistributedLockService {
 
     /**
@@ -8,7 +10,19 @@ public interface DistributedLockService {
     boolean acquireLock(String lockKey, long waitTime, long leaseTime);
 
     /**
-     * 분산 락 해제
+     * 분산 락 해제 (현재 스레드가 acquireLock 으로 얻은 락만 해제한다)
      */
     void releaseLock(String lockKey);
-} 
\ No newline at end of file
+
+    /**
+     * 펜싱 토큰이 붙은 분산 락 획득
+     * leaseTime 이 DistributedLock.WATCHDOG 이면 워치독이 유효기간을 연장하고, fair 면 요청 순서대로 락을 얻는다.
+     * 락을 얻지 못하면 빈 값을 반환한다.
+     */
+    Optional<LockHandle> tryAcquire(String lockKey, long waitTime, long leaseTime, boolean fair);
+
+    /**
+     * tryAcquire 로 얻은 락 해제
+     */
+    void release(LockHandle handle);
+}
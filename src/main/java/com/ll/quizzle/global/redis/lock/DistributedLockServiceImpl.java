@@ -1,5 +1,10 @@
 package com.ll.quizzle.global.redis.lock;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import org.redisson.api.RLock;
@@ -9,43 +14,101 @@ import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Redisson 기반 분산 락
+ * - 펜싱 토큰은 모든 키가 함께 쓰는 카운터 하나에서 받아, 키마다 따로 카운터를 두지 않아도 키별로 단조 증가한다.
+ * - 획득한 토큰은 락을 가진 동안 FencingTokenContext 에 등록된다.
+ * - 대기 시간과 보유 시간은 LockMetrics 에 키별로 기록된다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class DistributedLockServiceImpl implements DistributedLockService {
 
+    static final String FENCING_COUNTER_KEY = "lock:fence";
+
     private final RedissonClient redissonClient;
+    private final LockMetrics lockMetrics;
+
+    // acquireLock/releaseLock 은 키만 주고받으므로, 현재 스레드가 얻은 락을 여기 보관했다가 해제한다.
+    private final ThreadLocal<Map<String, Deque<LockHandle>>> heldLocks = ThreadLocal.withInitial(HashMap::new);
 
     @Override
     public boolean acquireLock(String lockKey, long waitTime, long leaseTime) {
-        RLock lock = redissonClient.getLock(lockKey);
+        Optional<LockHandle> handle = tryAcquire(lockKey, waitTime, leaseTime, false);
+        handle.ifPresent(acquired -> heldLocks.get().computeIfAbsent(lockKey, key -> new ArrayDeque<>()).push(acquired));
+        return handle.isPresent();
+    }
+
+    @Override
+    public void releaseLock(String lockKey) {
+        Map<String, Deque<LockHandle>> locks = heldLocks.get();
+        Deque<LockHandle> handles = locks.get(lockKey);
+        if (handles == null || handles.isEmpty()) {
+            log.debug("분산 락 해제 생략 (현재 스레드가 가진 락 아님): {}", lockKey);
+            return;
+        }
+
+        LockHandle handle = handles.pop();
+        if (handles.isEmpty()) {
+            locks.remove(lockKey);
+        }
+        if (locks.isEmpty()) {
+            heldLocks.remove();
+        }
+        release(handle);
+    }
+
+    @Override
+    public Optional<LockHandle> tryAcquire(String lockKey, long waitTime, long leaseTime, boolean fair) {
+        RLock lock = fair ? redissonClient.getFairLock(lockKey) : redissonClient.getLock(lockKey);
+        long startedAt = System.nanoTime();
+        boolean acquired = false;
+
         try {
-            boolean acquired = lock.tryLock(waitTime, leaseTime, TimeUnit.MILLISECONDS);
-            if (acquired) {
-                log.debug("분산 락 획득 성공: {}", lockKey);
-            } else {
-                log.debug("분산 락 획득 실패: {}", lockKey);
+            acquired = lock.tryLock(waitTime, leaseTime > 0 ? leaseTime : DistributedLock.WATCHDOG, TimeUnit.MILLISECONDS);
+            long waitMillis = elapsedMillis(startedAt);
+            if (!acquired) {
+                lockMetrics.recordFailed(lockKey, waitMillis);
+                log.debug("분산 락 획득 실패: {}, 대기: {}ms", lockKey, waitMillis);
+                return Optional.empty();
             }
-            return acquired;
+
+            long fencingToken = redissonClient.getAtomicLong(FENCING_COUNTER_KEY).incrementAndGet();
+            Long previousToken = FencingTokenContext.bind(lockKey, fencingToken);
+            lockMetrics.recordAcquired(lockKey, waitMillis);
+            log.debug("분산 락 획득 성공: {}, 토큰: {}, 대기: {}ms", lockKey, fencingToken, waitMillis);
+            return Optional.of(new LockHandle(lockKey, fencingToken, lock, System.nanoTime(), previousToken));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             log.error("분산 락 획득 중 인터럽트 발생: {}", lockKey, e);
-            return false;
         } catch (Exception e) {
             log.error("분산 락 획득 중 예외 발생: {}", lockKey, e);
-            return false;
         }
+
+        // 락은 얻었지만 토큰 발급에 실패한 경우, 토큰 없는 락 구간이 생기지 않도록 바로 푼다.
+        if (acquired) {
+            unlockQuietly(lock, lockKey);
+        } else {
+            lockMetrics.recordFailed(lockKey, elapsedMillis(startedAt));
+        }
+        return Optional.empty();
     }
 
     @Override
-    public void releaseLock(String lockKey) {
-        RLock lock = redissonClient.getLock(lockKey);
+    public void release(LockHandle handle) {
+        FencingTokenContext.restore(handle.getKey(), handle.getPreviousToken());
+        lockMetrics.recordReleased(handle.getKey(), elapsedMillis(handle.getAcquiredAtNanos()));
+        unlockQuietly(handle.getLock(), handle.getKey());
+    }
+
+    private void unlockQuietly(RLock lock, String lockKey) {
         try {
-            if (lock.isLocked()) {
+            if (lock.isHeldByCurrentThread()) {
                 lock.unlock();
                 log.debug("분산 락 해제 성공: {}", lockKey);
             } else {
-                log.debug("분산 락 해제 불필요 (이미 해제됨): {}", lockKey);
+                log.warn("분산 락 해제 생략 (유효기간 만료로 소유권 없음): {}", lockKey);
             }
         } catch (IllegalMonitorStateException e) {
             log.debug("분산 락 해제 실패 (소유권 없음): {}, 오류: {}", lockKey, e.getMessage());
@@ -53,4 +116,8 @@ public class DistributedLockServiceImpl implements DistributedLockService {
             log.error("분산 락 해제 중 예외 발생: {}", lockKey, e);
         }
     }
-} 
\ No newline at end of file
+
+    private long elapsedMillis(long startedAtNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNanos);
+    }
+}
@@ -0,0 +1,41 @@
+package com.ll.quizzle.global.redis.lock;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 현재 스레드가 가진 락의 펜싱 토큰
+ * 락 구간 안의 JPA 쓰기는 여기서 토큰을 꺼내 엔티티에 저장된 토큰과 비교한다. (Room 의 @PreUpdate 참고)
+ */
+public final class FencingTokenContext {
+
+    private static final ThreadLocal<Map<String, Long>> TOKENS = ThreadLocal.withInitial(HashMap::new);
+
+    private FencingTokenContext() {
+    }
+
+    public static Optional<Long> current(String lockKey) {
+        return Optional.ofNullable(TOKENS.get().get(lockKey));
+    }
+
+    /**
+     * 토큰을 등록하고 이전에 등록돼 있던 토큰을 반환한다. (같은 키를 다시 잠근 경우 restore 로 되돌린다)
+     */
+    static Long bind(String lockKey, long fencingToken) {
+        return TOKENS.get().put(lockKey, fencingToken);
+    }
+
+    static void restore(String lockKey, Long previousToken) {
+        Map<String, Long> tokens = TOKENS.get();
+        if (previousToken != null) {
+            tokens.put(lockKey, previousToken);
+            return;
+        }
+
+        tokens.remove(lockKey);
+        if (tokens.isEmpty()) {
+            TOKENS.remove();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.ll.quizzle.global.redis.lock;
+
+import org.redisson.api.RLock;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 획득한 분산 락
+ * fencingToken 은 락을 얻을 때마다 커지는 값으로, 유효기간이 지나 락을 잃은 뒤 늦게 도착한 쓰기를 걸러내는 데 쓴다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class LockHandle {
+
+    private final String key;
+    private final long fencingToken;
+    @Getter(AccessLevel.PACKAGE)
+    private final RLock lock;
+    @Getter(AccessLevel.PACKAGE)
+    private final long acquiredAtNanos;
+    // 같은 키를 다시 잠근 경우 바깥 구간의 토큰으로 되돌리기 위해 보관한다.
+    @Getter(AccessLevel.PACKAGE)
+    private final Long previousToken;
+}
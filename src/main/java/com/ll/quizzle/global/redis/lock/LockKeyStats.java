@@ -0,0 +1,20 @@
+package com.ll.quizzle.global.redis.lock;
+
+import java.util.Map;
+
+/**
+ * 락 키 하나의 대기/보유 시간 지표
+ * 히스토그램은 "<=10ms" 처럼 구간 상한을 키로, 그 구간에 든 횟수를 값으로 가진다.
+ */
+public record LockKeyStats(
+        String key,
+        long acquisitions,
+        long failures,
+        double averageWaitMillis,
+        long maxWaitMillis,
+        double averageHoldMillis,
+        long maxHoldMillis,
+        Map<String, Long> waitHistogram,
+        Map<String, Long> holdHistogram
+) {
+}
@@ -0,0 +1,125 @@
+package com.ll.quizzle.global.redis.lock;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 락 키별 대기 시간과 보유 시간 히스토그램
+ * 방이 계속 만들어지므로 키는 MAX_TRACKED_KEYS 개까지만 따로 모으고, 그 뒤의 키는 OVERFLOW_KEY 하나로 합친다.
+ */
+@Component
+public class LockMetrics {
+
+    static final int MAX_TRACKED_KEYS = 1000;
+    static final int TOP_KEYS = 50;
+    static final String OVERFLOW_KEY = "(기타)";
+
+    private static final long[] BUCKET_BOUNDS_MILLIS = {1, 5, 10, 50, 100, 500, 1000, 3000, 5000, 10000, 30000};
+
+    private final Map<String, KeyMetrics> metricsByKey = new ConcurrentHashMap<>();
+
+    public void recordAcquired(String key, long waitMillis) {
+        KeyMetrics metrics = metricsOf(key);
+        metrics.acquisitions.increment();
+        metrics.wait.record(waitMillis);
+    }
+
+    public void recordFailed(String key, long waitMillis) {
+        KeyMetrics metrics = metricsOf(key);
+        metrics.failures.increment();
+        metrics.wait.record(waitMillis);
+    }
+
+    public void recordReleased(String key, long holdMillis) {
+        metricsOf(key).hold.record(holdMillis);
+    }
+
+    public LockStats getStats() {
+        return new LockStats(
+                metricsByKey.size(),
+                metricsByKey.entrySet().stream()
+                        .sorted(Comparator.comparingLong(
+                                (Map.Entry<String, KeyMetrics> entry) -> entry.getValue().wait.total.sum()).reversed())
+                        .limit(TOP_KEYS)
+                        .map(entry -> entry.getValue().toStats(entry.getKey()))
+                        .toList()
+        );
+    }
+
+    private KeyMetrics metricsOf(String key) {
+        KeyMetrics metrics = metricsByKey.get(key);
+        if (metrics != null) {
+            return metrics;
+        }
+
+        String trackedKey = metricsByKey.size() < MAX_TRACKED_KEYS ? key : OVERFLOW_KEY;
+        return metricsByKey.computeIfAbsent(trackedKey, ignored -> new KeyMetrics());
+    }
+
+    private static class KeyMetrics {
+        private final LongAdder acquisitions = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final Histogram wait = new Histogram();
+        private final Histogram hold = new Histogram();
+
+        private LockKeyStats toStats(String key) {
+            return new LockKeyStats(
+                    key,
+                    acquisitions.sum(),
+                    failures.sum(),
+                    wait.average(),
+                    wait.max.get(),
+                    hold.average(),
+                    hold.max.get(),
+                    wait.buckets(),
+                    hold.buckets()
+            );
+        }
+    }
+
+    private static class Histogram {
+        private final LongAdder[] counts = new LongAdder[BUCKET_BOUNDS_MILLIS.length + 1];
+        private final LongAdder total = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        private Histogram() {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = new LongAdder();
+            }
+        }
+
+        private void record(long millis) {
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS_MILLIS.length && millis > BUCKET_BOUNDS_MILLIS[bucket]) {
+                bucket++;
+            }
+            counts[bucket].increment();
+            total.add(millis);
+            max.accumulateAndGet(millis, Math::max);
+        }
+
+        private double average() {
+            long count = 0;
+            for (LongAdder bucket : counts) {
+                count += bucket.sum();
+            }
+            return count == 0 ? 0 : (double) total.sum() / count;
+        }
+
+        private Map<String, Long> buckets() {
+            Map<String, Long> buckets = new LinkedHashMap<>();
+            for (int i = 0; i < BUCKET_BOUNDS_MILLIS.length; i++) {
+                buckets.put("<=" + BUCKET_BOUNDS_MILLIS[i] + "ms", counts[i].sum());
+            }
+            buckets.put(">" + BUCKET_BOUNDS_MILLIS[BUCKET_BOUNDS_MILLIS.length - 1] + "ms",
+                    counts[BUCKET_BOUNDS_MILLIS.length].sum());
+            return buckets;
+        }
+    }
+}
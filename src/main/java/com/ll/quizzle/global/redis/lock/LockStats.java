@@ -0,0 +1,13 @@
+package com.ll.quizzle.global.redis.lock;
+
+import java.util.List;
+
+/**
+ * 분산 락 운영 지표
+ * keys 는 총 대기 시간이 긴 순서로 정렬되어 있어, 앞쪽 키가 경합이 심한 방이다.
+ */
+public record LockStats(
+        int trackedKeys,
+        List<LockKeyStats> keys
+) {
+}
@@ -47,7 +47,7 @@ public class CustomOAuth2AuthenticationSuccessHandler implements AuthenticationS
                 securityUser.getOauthId()
         );
 
-        String accessToken = authTokenService.generateToken(member.getEmail(), member.getUserRole()).accessToken();
+        String accessToken = authTokenService.generateToken(member.getId(), member.getEmail(), member.getUserRole()).accessToken();
         String refreshToken = memberService.generateRefreshToken(member.getEmail());
         log.debug("Generated JWT access token: {}", accessToken);
         log.debug("Generated JWT refresh token: {}", refreshToken);
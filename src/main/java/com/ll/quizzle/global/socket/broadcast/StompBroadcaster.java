@@ -0,0 +1,110 @@
+package com.ll.quizzle.global.socket.broadcast;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 한 번 인코딩한 메시지를 로컬 STOMP 브로커로 보낸다.
+ * - 이벤트 객체는 스레드별로 재사용하는 버퍼에 JSON 으로 한 번만 쓰고, 정확한 크기의 byte[] 로 복사한다.
+ * - 만든 Message&lt;byte[]&gt; 는 변경 불가라서 여러 목적지로 그대로 다시 보낼 수 있다.
+ *   브로커는 구독자마다 헤더만 새로 만들고 본문 바이트는 공유한다. (convertAndSend 처럼 다시 직렬화하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompBroadcaster {
+
+    private static final MimeType TEXT_UTF8 = new MimeType("text", "plain", StandardCharsets.UTF_8);
+
+    private static final int INITIAL_BUFFER_SIZE = 4 * 1024;
+    // 큰 메시지로 늘어난 버퍼는 스레드에 붙잡아 두지 않는다.
+    private static final int MAX_POOLED_BUFFER_SIZE = 64 * 1024;
+
+    private static final ThreadLocal<ReusableBuffer> BUFFERS = ThreadLocal.withInitial(ReusableBuffer::new);
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이벤트를 한 번 인코딩해 destination 구독자에게 보낸다.
+     */
+    public void broadcast(String destination, Object event) {
+        Message<byte[]> message;
+        try {
+            message = toMessage(event);
+        } catch (IOException e) {
+            log.error("브로드캐스트 메시지 직렬화 실패 - 목적지: {}, 오류: {}", destination, e.getMessage());
+            return;
+        }
+        send(destination, message);
+    }
+
+    /**
+     * 미리 인코딩한 메시지를 보낸다. 같은 메시지를 여러 목적지에 보내도 다시 직렬화하지 않는다.
+     */
+    public void send(String destination, Message<byte[]> message) {
+        messagingTemplate.send(destination, message);
+    }
+
+    public Message<byte[]> toMessage(Object event) throws IOException {
+        return toMessage(encode(event), !(event instanceof String));
+    }
+
+    /**
+     * 인코딩된 바이트로 변경 불가 메시지를 만든다. json 이 아니면 UTF-8 텍스트로 표시한다.
+     */
+    public Message<byte[]> toMessage(byte[] payload, boolean json) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(json ? MimeTypeUtils.APPLICATION_JSON : TEXT_UTF8);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+
+    /**
+     * String 은 UTF-8 텍스트로, byte[] 는 이미 인코딩된 JSON 으로 보고 그대로, 그 밖의 객체는 JSON 으로 인코딩한다.
+     */
+    public byte[] encode(Object event) throws IOException {
+        if (event instanceof String text) {
+            return text.getBytes(StandardCharsets.UTF_8);
+        }
+        if (event instanceof byte[] bytes) {
+            return bytes;
+        }
+
+        ReusableBuffer buffer = BUFFERS.get();
+        buffer.reset();
+        try {
+            objectMapper.writeValue(buffer, event);
+            return buffer.toByteArray();
+        } finally {
+            if (buffer.capacity() > MAX_POOLED_BUFFER_SIZE) {
+                BUFFERS.remove();
+            }
+        }
+    }
+
+    private static final class ReusableBuffer extends ByteArrayOutputStream {
+
+        ReusableBuffer() {
+            super(INITIAL_BUFFER_SIZE);
+        }
+
+        int capacity() {
+            return buf.length;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.ll.quizzle.global.socket.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * STOMP 메시지 브로커 설정
+ * - SIMPLE: 노드 내장 브로커 (구독 정보가 JVM 안에만 있어 노드 간 전달은 Redis 채널 중계에 의존)
+ * - RELAY: 외부 STOMP 브로커(RabbitMQ STOMP 플러그인, ActiveMQ Artemis 등)로 중계
+ *          모든 노드의 구독이 한 브로커에 모이므로 /topic 브로드캐스트가 어느 노드의 구독자에게나 전달된다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "quizzle.websocket.broker")
+public class WebSocketBrokerProperties {
+    private Mode mode = Mode.SIMPLE;
+    private Relay relay = new Relay();
+
+    public boolean isRelay() {
+        return mode == Mode.RELAY;
+    }
+
+    public enum Mode {
+        SIMPLE, RELAY
+    }
+
+    @Getter
+    @Setter
+    public static class Relay {
+        private String host = "localhost";
+        private int port = 61613;
+        private String clientLogin = "guest";
+        private String clientPasscode = "guest";
+        private String systemLogin = "guest";
+        private String systemPasscode = "guest";
+        private String virtualHost;
+        private Duration systemHeartbeatInterval = Duration.ofSeconds(10);
+    }
+}
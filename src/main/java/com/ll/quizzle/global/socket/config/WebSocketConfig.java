@@ -4,6 +4,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -31,20 +32,25 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     
     private final WebSocketHandshakeInterceptor handshakeInterceptor;
     private final StompChannelInterceptor channelInterceptor;
+    private final WebSocketBrokerProperties brokerProperties;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         log.debug("WebSocket 메시지 브로커 설정");
-        
-        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
-        taskScheduler.setPoolSize(2); // 하트비트용 1개, 토큰 검증용 1개
-        taskScheduler.setThreadNamePrefix("ws-scheduler-");
-        taskScheduler.initialize();
 
-        registry.enableSimpleBroker("/topic", "/queue")
-                .setTaskScheduler(taskScheduler)
-                .setHeartbeatValue(new long[]{25000, 25000});
-        log.debug("메시지 브로커 활성화: /topic, /queue");
+        if (brokerProperties.isRelay()) {
+            enableBrokerRelay(registry);
+        } else {
+            ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+            taskScheduler.setPoolSize(2); // 하트비트용 1개, 토큰 검증용 1개
+            taskScheduler.setThreadNamePrefix("ws-scheduler-");
+            taskScheduler.initialize();
+
+            registry.enableSimpleBroker("/topic", "/queue")
+                    .setTaskScheduler(taskScheduler)
+                    .setHeartbeatValue(new long[]{25000, 25000});
+            log.debug("메시지 브로커 활성화: /topic, /queue");
+        }
 
         registry.setApplicationDestinationPrefixes("/app");
         registry.setUserDestinationPrefix("/user");
@@ -52,6 +58,33 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         log.debug("WebSocket 메시지 브로커 설정 완료");
     }
 
+    /**
+     * 외부 STOMP 브로커 중계 설정
+     * /user 목적지는 다른 노드에 연결된 사용자에게도 전달되도록 사용자 레지스트리와 미해결 목적지를 브로커로 공유한다.
+     */
+    private void enableBrokerRelay(MessageBrokerRegistry registry) {
+        WebSocketBrokerProperties.Relay relay = brokerProperties.getRelay();
+        long heartbeatMillis = relay.getSystemHeartbeatInterval().toMillis();
+
+        StompBrokerRelayRegistration registration = registry.enableStompBrokerRelay("/topic", "/queue")
+                .setRelayHost(relay.getHost())
+                .setRelayPort(relay.getPort())
+                .setClientLogin(relay.getClientLogin())
+                .setClientPasscode(relay.getClientPasscode())
+                .setSystemLogin(relay.getSystemLogin())
+                .setSystemPasscode(relay.getSystemPasscode())
+                .setSystemHeartbeatSendInterval(heartbeatMillis)
+                .setSystemHeartbeatReceiveInterval(heartbeatMillis)
+                .setUserDestinationBroadcast("/topic/unresolved-user-destination")
+                .setUserRegistryBroadcast("/topic/simp-user-registry");
+
+        if (relay.getVirtualHost() != null) {
+            registration.setVirtualHost(relay.getVirtualHost());
+        }
+
+        log.debug("외부 STOMP 브로커 중계 활성화: {}:{}", relay.getHost(), relay.getPort());
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         log.debug("WebSocket 엔드포인트 등록: {}", endpoint);
@@ -11,10 +11,12 @@ import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.stereotype.Controller;
 
 import com.ll.quizzle.domain.room.dto.response.RoomResponse;
-import com.ll.quizzle.domain.room.service.RoomService;
+import com.ll.quizzle.domain.room.service.RoomLobbyService;
 import com.ll.quizzle.domain.room.type.RoomStatus;
+import com.ll.quizzle.global.config.QuizRoundProperties;
 import com.ll.quizzle.global.socket.core.MessageService;
 import com.ll.quizzle.global.socket.core.MessageServiceFactory;
+import com.ll.quizzle.global.socket.presence.LobbyPresencePublisher;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -22,12 +24,18 @@ import lombok.extern.slf4j.Slf4j;
 @Controller
 public class WebSocketRoomController {
     private final MessageService messageService;
-    private final RoomService roomService;
+    private final RoomLobbyService roomLobbyService;
+    private final QuizRoundProperties quizRoundProperties;
+    private final LobbyPresencePublisher lobbyPresencePublisher;
 
     @Autowired
-    public WebSocketRoomController(MessageServiceFactory messageServiceFactory, RoomService roomService) {
+    public WebSocketRoomController(MessageServiceFactory messageServiceFactory, RoomLobbyService roomLobbyService,
+                                   QuizRoundProperties quizRoundProperties,
+                                   LobbyPresencePublisher lobbyPresencePublisher) {
         this.messageService = messageServiceFactory.getRoomService();
-        this.roomService = roomService;
+        this.roomLobbyService = roomLobbyService;
+        this.quizRoundProperties = quizRoundProperties;
+        this.lobbyPresencePublisher = lobbyPresencePublisher;
     }
     
     @MessageMapping("/lobby")
@@ -59,7 +67,7 @@ public class WebSocketRoomController {
         
         try {
             Long roomIdLong = Long.parseLong(roomId);
-            roomService.broadcastRoomStatus(roomIdLong);
+            roomLobbyService.refreshPlayersList(roomIdLong);
             log.debug("방 ID {} 상태 정보 업데이트 요청 성공", roomId);
         } catch (Exception e) {
             log.error("방 상태 메시지 처리 중 오류 발생: {}", e.getMessage(), e);
@@ -77,7 +85,7 @@ public class WebSocketRoomController {
 
         try {
             Long roomIdLong = Long.parseLong(roomId);
-            roomService.refreshPlayersList(roomIdLong);
+            roomLobbyService.refreshPlayersList(roomIdLong);
             log.debug("방 ID {} 플레이어 목록 갱신 요청 성공", roomId);
         } catch (Exception e) {
             log.error("플레이어 목록 갱신 중 오류 발생: {}", e.getMessage(), e);
@@ -110,6 +118,7 @@ public class WebSocketRoomController {
     public void handleLobbyUsersRequest(@Payload String message, SimpMessageHeaderAccessor headerAccessor) {
         String username = Objects.requireNonNull(headerAccessor.getUser()).getName();
         log.debug("로비 접속자 목록 요청: {}, 사용자: {}", message, username);
+        lobbyPresencePublisher.sendSnapshot(username);
     }
 
     @MessageMapping("/room/{roomId}/owner/change")
@@ -128,7 +137,7 @@ public class WebSocketRoomController {
                 String newOwnerIdStr = message.replaceAll(".*\"newOwnerId\"\\s*:\\s*(\\d+).*", "$1");
                 Long newOwnerId = Long.parseLong(newOwnerIdStr);
                 
-                roomService.handleOwnerChange(roomIdLong, newOwnerId);
+                roomLobbyService.handleOwnerChange(roomIdLong, newOwnerId);
                 
                 messageService.send("/topic/room/" + roomId + "/owner/change", message);
                 
@@ -154,10 +163,10 @@ public class WebSocketRoomController {
             Long roomIdLong = Long.parseLong(roomId);
             
             if (message.contains("IN_GAME") || message.contains("GAME_START")) {
-                RoomResponse roomResponse = roomService.getRoom(roomIdLong);
+                RoomResponse roomResponse = roomLobbyService.getRoom(roomIdLong);
                 
                 if (roomResponse.status() != RoomStatus.IN_GAME) {
-                    roomService.updateRoomStatus(roomIdLong, RoomStatus.IN_GAME);
+                    roomLobbyService.updateRoomStatus(roomIdLong, RoomStatus.IN_GAME);
                     log.debug("방 ID {} 상태를 게임 중으로 변경", roomId);
                 }
             }
@@ -240,7 +249,11 @@ public class WebSocketRoomController {
     ) {
         String username = Objects.requireNonNull(headerAccessor.getUser()).getName();
         log.debug("타이머 시작 메시지 수신: {}, 방: {}, 사용자: {}", message, roomId, username);
-        
+
+        // 서버 주도 라운드 진행 중에는 타이머를 서버가 브로드캐스트하므로 클라이언트 메시지를 중계하지 않는다.
+        if (quizRoundProperties.isEnabled()) {
+            return;
+        }
         messageService.send("/topic/room/" + roomId + "/timer/start", message);
     }
     
@@ -252,7 +265,10 @@ public class WebSocketRoomController {
     ) {
         String username = Objects.requireNonNull(headerAccessor.getUser()).getName();
         log.debug("타이머 만료 메시지 수신: {}, 방: {}, 사용자: {}", message, roomId, username);
-        
+
+        if (quizRoundProperties.isEnabled()) {
+            return;
+        }
         messageService.send("/topic/room/" + roomId + "/timer/expired", message);
     }
 
@@ -273,17 +289,17 @@ public class WebSocketRoomController {
             String playerIdStr = message.replaceAll(".*\"playerId\"\\s*:\\s*(\\d+).*", "$1");
             Long playerId = Long.parseLong(playerIdStr);
 
-            roomService.leaveRoom(roomIdLong, playerId);
+            roomLobbyService.leaveRoom(roomIdLong, playerId);
 
-            roomService.refreshPlayersList(roomIdLong);
+            roomLobbyService.refreshPlayersList(roomIdLong);
 
-            RoomResponse updatedRoom = roomService.getRoom(roomIdLong);
+            RoomResponse updatedRoom = roomLobbyService.getRoom(roomIdLong);
             int remainingPlayers = updatedRoom.currentPlayers();
 
             if (remainingPlayers == 0) {
                 log.debug("방 ID {} 인원이 0명이 되어 자동 삭제합니다.", roomId);
                 
-                roomService.deleteRoomById(roomIdLong);
+                roomLobbyService.deleteRoomById(roomIdLong);
                 
                 messageService.send("/topic/lobby", "ROOM_DELETED:" + roomId);
             }
@@ -2,6 +2,7 @@ package com.ll.quizzle.global.socket.core;
 
 import com.ll.quizzle.global.exceptions.ErrorCode;
 import com.ll.quizzle.global.socket.config.MessageServiceProperties;
+import com.ll.quizzle.global.socket.config.WebSocketBrokerProperties;
 import com.ll.quizzle.global.socket.service.redis.RedisMessageService;
 import com.ll.quizzle.global.socket.service.stomp.StompMessageService;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +19,7 @@ public class MessageServiceFactory {
     private final StompMessageService stompMessageService;
     private final RedisMessageService redisMessageService;
     private final MessageServiceProperties properties;
+    private final WebSocketBrokerProperties brokerProperties;
 
     public MessageService getRoomService() {
         log.debug("룸 메시징 서비스 프로바이더: {}", properties.getWebsocketRoom().getProvider());
@@ -29,10 +31,15 @@ public class MessageServiceFactory {
         return getService(properties.getWebsocketChat().getProvider());
     }
 
+    /**
+     * 외부 브로커 중계 모드에서는 브로커가 노드 간 전달을 맡으므로 Redis 중계 대신 STOMP 로 바로 보낸다.
+     * (각 노드가 Redis 메시지를 다시 브로커로 보내면 구독자가 노드 수만큼 중복 수신한다)
+     */
     private MessageService getService(String provider) {
         return switch (provider.toLowerCase()) {
             case MessageServiceConstants.PROVIDER_STOMP -> stompMessageService;
-            case MessageServiceConstants.PROVIDER_REDIS -> redisMessageService;
+            case MessageServiceConstants.PROVIDER_REDIS ->
+                    brokerProperties.isRelay() ? stompMessageService : redisMessageService;
             default -> throw WEBSOCKET_UNSUPPORTED_PROVIDER.throwServiceException();
         };
     }
@@ -0,0 +1,29 @@
+package com.ll.quizzle.global.socket.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 방 메시지의 data 에 담기는 플레이어 목록 항목 DTO
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record WebSocketRoomPlayerResponse(
+    String id,
+    String name,
+    boolean isReady,
+    boolean isOwner,
+    String nickname,
+    String avatarUrl,
+    boolean isSubmitted
+) {
+
+    public static WebSocketRoomPlayerResponse of(
+            Long id,
+            String nickname,
+            String avatarUrl,
+            boolean isReady,
+            boolean isOwner,
+            boolean isSubmitted
+    ) {
+        return new WebSocketRoomPlayerResponse(id.toString(), nickname, isReady, isOwner, nickname, avatarUrl, isSubmitted);
+    }
+}
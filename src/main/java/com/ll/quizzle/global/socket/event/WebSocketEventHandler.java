@@ -1,11 +1,7 @@
 package com.ll.quizzle.global.socket.event;
 
 import java.security.Principal;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 
 import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
@@ -13,14 +9,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ll.quizzle.domain.member.service.MemberService;
-import com.ll.quizzle.domain.room.service.RoomService;
-import com.ll.quizzle.global.socket.core.MessageService;
-import com.ll.quizzle.global.socket.core.MessageServiceFactory;
-import com.ll.quizzle.global.socket.core.SessionInfo;
+import com.ll.quizzle.domain.room.service.RoomLobbyService;
+import com.ll.quizzle.global.socket.presence.LobbyPresencePublisher;
 import com.ll.quizzle.global.socket.service.WebSocketNotificationService;
-import com.ll.quizzle.global.socket.session.WebSocketSessionManager;
 import com.ll.quizzle.global.socket.session.WebSocketSessionRegistry;
 
 import lombok.RequiredArgsConstructor;
@@ -38,9 +30,8 @@ public class WebSocketEventHandler {
     private final WebSocketSessionRegistry sessionRegistry;
     private final MemberService memberService;
     private final WebSocketNotificationService notificationService;
-    private final RoomService roomService;
-    private final MessageServiceFactory messageServiceFactory;
-    private final ObjectMapper objectMapper;
+    private final RoomLobbyService roomLobbyService;
+    private final LobbyPresencePublisher lobbyPresencePublisher;
 
     @EventListener
     public void onSessionConnectEvent(SessionConnectEvent event) {
@@ -75,14 +66,8 @@ public class WebSocketEventHandler {
                 notificationService.sendTokenExpiredNotification(email);
             }
 
-            CompletableFuture.runAsync(() -> {
-                try {
-                    Thread.sleep(300);
-                    broadcastActiveUsers();
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-            });
+            // 접속자 변경분은 잠시 모았다가 한 번에 보낸다. (전체 목록은 요청 시에만 전송)
+            lobbyPresencePublisher.presenceChanged(email);
         }
     }
 
@@ -106,7 +91,7 @@ public class WebSocketEventHandler {
             }
 
             try {
-                roomService.handleDisconnect(memberId);
+                roomLobbyService.handleDisconnect(memberId);
                 log.debug("방 연결 해제 처리 완료: 멤버ID={}", memberId);
             } catch (Exception e) {
                 log.error("방 연결 해제 처리 중 오류 발생: {}", e.getMessage(), e);
@@ -120,12 +105,7 @@ public class WebSocketEventHandler {
                 return;
             }
 
-            try {
-                broadcastActiveUsers();
-                log.debug("접속자 목록 브로드캐스트 완료");
-            } catch (Exception e) {
-                log.error("접속자 목록 브로드캐스트 중 오류 발생: {}", e.getMessage(), e);
-            }
+            lobbyPresencePublisher.presenceChanged(email);
 
             return;
         }
@@ -137,50 +117,4 @@ public class WebSocketEventHandler {
             log.debug("이메일 정보 없음 - 세션 정리 실패");
         }
     }
-
-
-    private void broadcastActiveUsers() {
-        try {
-            WebSocketSessionManager sessionManager = sessionRegistry.getSessionManager();
-            Map<String, Map<String, SessionInfo>> activeSessions = sessionManager.getActiveUserSessions();
-            List<Map<String, Object>> activeUsers = convertToUsersList(activeSessions);
-
-            String usersJson = objectMapper.writeValueAsString(activeUsers);
-
-            MessageService roomService = messageServiceFactory.getRoomService();
-            roomService.send("/topic/lobby/users", usersJson);
-
-            log.debug("접속자 정보 브로드캐스트: {} 명", activeUsers.size());
-        } catch (Exception e) {
-            log.error("접속자 정보 브로드캐스트 실패: {}", e.getMessage());
-        }
-    }
-
-
-    private List<Map<String, Object>> convertToUsersList(Map<String, Map<String, SessionInfo>> activeSessions) {
-        List<Map<String, Object>> result = new ArrayList<>();
-
-        for (Map.Entry<String, Map<String, SessionInfo>> entry : activeSessions.entrySet()) {
-            String email = entry.getKey();
-
-            Map<String, Object> userInfo = new HashMap<>();
-            userInfo.put("email", email);
-
-            memberService.findByEmail(email).ifPresent(member -> {
-                userInfo.put("nickname", member.getNickname());
-                userInfo.put("id", member.getId());
-            });
-
-            List<String> sessionIds = new ArrayList<>(entry.getValue().keySet());
-            userInfo.put("sessions", sessionIds);
-
-            userInfo.put("lastActive", System.currentTimeMillis());
-
-            userInfo.put("status", "online");
-
-            result.add(userInfo);
-        }
-
-        return result;
-    }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.ll.quizzle.global.socket.fanout;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 노드 간 STOMP 메시지 전달용 바이너리 봉투
+ * [버전 1B][발신 노드 ID 길이 2B][발신 노드 ID][목적지 길이 2B][목적지][본문 형식 1B][본문]
+ * 본문은 발신 노드에서 한 번 인코딩한 바이트를 그대로 담는다.
+ */
+public record FanoutEnvelope(
+        String originNodeId,
+        String destination,
+        boolean json,
+        byte[] payload
+) {
+
+    private static final byte VERSION = 1;
+    private static final byte FORMAT_TEXT = 0;
+    private static final byte FORMAT_JSON = 1;
+
+    public byte[] encode() {
+        byte[] node = originNodeId.getBytes(StandardCharsets.UTF_8);
+        byte[] dest = destination.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 2 + node.length + 2 + dest.length + 1 + payload.length);
+        buffer.put(VERSION);
+        buffer.putShort((short) node.length).put(node);
+        buffer.putShort((short) dest.length).put(dest);
+        buffer.put(json ? FORMAT_JSON : FORMAT_TEXT);
+        buffer.put(payload);
+        return buffer.array();
+    }
+
+    /**
+     * 형식이 맞지 않으면 IllegalArgumentException 을 던진다.
+     */
+    public static FanoutEnvelope decode(byte[] bytes) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            byte version = buffer.get();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 봉투 버전: " + version);
+            }
+            String node = readString(buffer);
+            String dest = readString(buffer);
+            boolean json = buffer.get() == FORMAT_JSON;
+            byte[] payload = new byte[buffer.remaining()];
+            buffer.get(payload);
+            return new FanoutEnvelope(node, dest, json, payload);
+        } catch (RuntimeException e) {
+            if (e instanceof IllegalArgumentException illegalArgument) {
+                throw illegalArgument;
+            }
+            throw new IllegalArgumentException("잘못된 봉투 형식", e);
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,98 @@
+package com.ll.quizzle.global.socket.fanout;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.ll.quizzle.global.cluster.ClusterNode;
+import com.ll.quizzle.global.socket.broadcast.StompBroadcaster;
+import com.ll.quizzle.global.socket.config.WebSocketBrokerProperties;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드 간 STOMP 브로드캐스트 중계 (내장 브로커 모드용)
+ * - 발행 노드는 본문을 한 번만 인코딩해 로컬 브로커에 바로 넘기고, 같은 바이트를 봉투에 담아 ws:fanout:{목적지} 로 발행한다.
+ * - 모든 노드는 ws:fanout:* 패턴 하나만 구독한다. (방마다 채널을 구독/해제하지 않음)
+ * - 자기 노드가 발행한 메시지는 이미 로컬에 전달했으므로 건너뛰고, 다른 노드의 메시지는 바이트 그대로 로컬 브로커에 넘긴다.
+ * - 외부 브로커 중계 모드에서는 브로커가 노드 간 전달을 맡으므로 Redis 로 발행하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisFanoutBroker {
+
+    public static final String CHANNEL_PREFIX = "ws:fanout:";
+
+    private final ClusterNode clusterNode;
+    private final StompBroadcaster broadcaster;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final WebSocketBrokerProperties brokerProperties;
+
+    @PostConstruct
+    public void init() {
+        if (brokerProperties.isRelay()) {
+            log.info("외부 브로커 중계 모드 - Redis 팬아웃 구독 생략");
+            return;
+        }
+
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onFanoutMessage(message.getBody()),
+                new PatternTopic(CHANNEL_PREFIX + "*"));
+        log.debug("Redis 팬아웃 구독 완료: {}*", CHANNEL_PREFIX);
+    }
+
+    /**
+     * destination 구독자 전체(모든 노드)에게 보낸다.
+     * String 은 UTF-8 텍스트로, byte[] 는 JSON 바이트로, 그 밖의 객체는 JSON 으로 한 번만 인코딩한다.
+     */
+    public void publish(String destination, Object payload) {
+        boolean json = !(payload instanceof String);
+        byte[] bytes;
+        try {
+            bytes = broadcaster.encode(payload);
+        } catch (IOException e) {
+            log.error("팬아웃 메시지 직렬화 실패 - 목적지: {}, 오류: {}", destination, e.getMessage());
+            return;
+        }
+
+        broadcaster.send(destination, broadcaster.toMessage(bytes, json));
+
+        if (brokerProperties.isRelay()) {
+            return;
+        }
+
+        byte[] channel = (CHANNEL_PREFIX + destination).getBytes(StandardCharsets.UTF_8);
+        byte[] envelope = new FanoutEnvelope(clusterNode.getNodeId(), destination, json, bytes).encode();
+        try {
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channel, envelope));
+        } catch (Exception e) {
+            log.error("팬아웃 메시지 발행 실패 - 목적지: {}, 오류: {}", destination, e.getMessage());
+        }
+    }
+
+    void onFanoutMessage(byte[] body) {
+        FanoutEnvelope envelope;
+        try {
+            envelope = FanoutEnvelope.decode(body);
+        } catch (IllegalArgumentException e) {
+            log.warn("팬아웃 메시지 형식 오류 - 무시: {}", e.getMessage());
+            return;
+        }
+
+        if (clusterNode.isSelf(envelope.originNodeId())) {
+            return;
+        }
+
+        broadcaster.send(envelope.destination(), broadcaster.toMessage(envelope.payload(), envelope.json()));
+        log.debug("다른 노드 메시지 전달: 목적지={}, 발신 노드={}", envelope.destination(), envelope.originNodeId());
+    }
+}
@@ -2,8 +2,10 @@ package com.ll.quizzle.global.socket.interceptor;
 
 import java.security.Principal;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
@@ -27,6 +29,11 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * STOMP 프레임 인증/세션 검증
+ * SEND 프레임의 세션 검증 결과는 세션별로 짧게(기본 5초) 로컬에 보관해, 그 사이의 메시지는 Redis 를 거치지 않는다.
+ * 보관 시간이 지나면 다음 메시지에서 검증과 갱신을 한 번에 다시 수행한다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -37,6 +44,12 @@ public class StompChannelInterceptor implements ChannelInterceptor {
     private final WebSocketNotificationService notificationService;
     private final WebSocketSecurityService securityService;
 
+    // STOMP 세션 ID -> 검증 결과 유효 시각(ms)
+    private final Map<String, Long> validatedSessions = new ConcurrentHashMap<>();
+
+    @Value("${app.websocket.session-validation-cache-ms:5000}")
+    private long sessionValidationCacheMillis;
+
     @Override
     public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
         StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
@@ -94,6 +107,9 @@ public class StompChannelInterceptor implements ChannelInterceptor {
             }
         }
         else if (StompCommand.DISCONNECT.equals(accessor.getCommand())) {
+            if (accessor.getSessionId() != null) {
+                validatedSessions.remove(accessor.getSessionId());
+            }
             if (accessor.getUser() != null) {
                 String email = accessor.getUser().getName();
                 sessionRegistry.getSessionManager().removeSession(email, accessor.getSessionId());
@@ -110,21 +126,19 @@ public class StompChannelInterceptor implements ChannelInterceptor {
                 Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
                 if (sessionAttributes != null && sessionAttributes.containsKey("email")) {
                     String email = (String) sessionAttributes.get("email");
-                    
-                    if (!sessionRegistry.getSessionManager().isSessionValid(email, sessionId)) {
-                        log.debug("유효하지 않은 세션으로부터의 메시지: 닉네임={}, 이메일={}, 세션={}", 
-                                  principalName, email, sessionId);
-                        notificationService.sendTokenExpiredNotification(principalName);
-                        return null;
-                    }
-                    
-                    boolean refreshed = sessionRegistry.getSessionManager().refreshSession(email, sessionId);
-                    
-                    if (!refreshed) {
-                        log.debug("세션 유효성 검사는 통과했으나 갱신 실패 - 데이터 불일치 감지: 사용자={}, 세션={}", 
-                                email, sessionId);
-                        notificationService.sendTokenExpiredNotification(principalName);
-                        return null;
+
+                    long now = System.currentTimeMillis();
+                    Long validUntil = validatedSessions.get(sessionId);
+
+                    if (validUntil == null || validUntil <= now) {
+                        if (!sessionRegistry.getSessionManager().validateAndRefresh(email, sessionId)) {
+                            validatedSessions.remove(sessionId);
+                            log.debug("유효하지 않은 세션으로부터의 메시지: 닉네임={}, 이메일={}, 세션={}",
+                                      principalName, email, sessionId);
+                            notificationService.sendTokenExpiredNotification(principalName);
+                            return null;
+                        }
+                        validatedSessions.put(sessionId, now + sessionValidationCacheMillis);
                     }
                     
                     log.debug("메시지 전송 허용: 닉네임={}, 이메일={}, 세션={}", 
@@ -0,0 +1,186 @@
+package com.ll.quizzle.global.socket.presence;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.quizzle.domain.member.cache.MemberSummaryCache;
+import com.ll.quizzle.domain.member.dto.MemberSummary;
+import com.ll.quizzle.global.config.LobbyPresenceProperties;
+import com.ll.quizzle.global.socket.core.MessageServiceFactory;
+import com.ll.quizzle.global.socket.core.SessionInfo;
+import com.ll.quizzle.global.socket.session.WebSocketSessionRegistry;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로비 접속자 알림
+ * - 접속/종료가 생기면 flushInterval 동안 모았다가, 바뀐 사용자만 담은 변경분을 DELTA_DESTINATION 으로 한 번 보낸다.
+ *   (전송 시점에 실제로 세션이 남아 있는지 확인해 joined / left 로 나눈다)
+ * - 전체 목록은 클라이언트가 /app/lobby/users 로 요청할 때만 요청자에게 /user/queue/lobby/users 로 보낸다.
+ *   flushInterval 안의 요청은 이미 만든 목록을 재사용한다.
+ * - 닉네임/ID 는 MemberSummaryCache 에서 읽는다. (회원마다 엔티티를 조회하지 않음)
+ * - 전송은 세션 조회와 회원 정보 조회(DB 조회 포함)를 하므로, 짧은 브로드캐스트용 DelayedDispatcher 대신 전용 스레드에서 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LobbyPresencePublisher {
+
+    public static final String DELTA_DESTINATION = "/topic/lobby/users/delta";
+    private static final String SNAPSHOT_QUEUE = "/queue/lobby/users";
+
+    private final LobbyPresenceProperties properties;
+    private final WebSocketSessionRegistry sessionRegistry;
+    private final MemberSummaryCache memberSummaryCache;
+    private final MessageServiceFactory messageServiceFactory;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Set<String> changedEmails = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    private volatile Snapshot lastSnapshot;
+    private ThreadPoolTaskScheduler flushScheduler;
+
+    @PostConstruct
+    public void init() {
+        flushScheduler = new ThreadPoolTaskScheduler();
+        flushScheduler.setPoolSize(1);
+        flushScheduler.setThreadNamePrefix("lobby-presence-");
+        flushScheduler.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flushScheduler != null) {
+            flushScheduler.shutdown();
+        }
+    }
+
+    /**
+     * 사용자의 세션이 생기거나 없어졌을 때 호출한다. 변경분은 다음 전송 때 한 번에 보낸다.
+     */
+    public void presenceChanged(String email) {
+        changedEmails.add(email);
+        if (flushScheduled.compareAndSet(false, true)) {
+            flushScheduler.schedule(this::flush, Instant.now().plus(properties.getFlushInterval()));
+        }
+    }
+
+    /**
+     * 요청한 사용자에게만 전체 접속자 목록을 보낸다.
+     */
+    public void sendSnapshot(String username) {
+        try {
+            messagingTemplate.convertAndSend("/user/" + username + SNAPSHOT_QUEUE, currentSnapshot());
+            log.debug("접속자 전체 목록 전송 - 사용자: {}", username);
+        } catch (Exception e) {
+            log.error("접속자 전체 목록 전송 실패: {}", e.getMessage());
+        }
+    }
+
+    void flush() {
+        // 먼저 예약 표시를 풀어, 꺼내는 도중 들어온 변경은 다음 전송에서 처리되게 한다.
+        flushScheduled.set(false);
+
+        List<String> changed = new ArrayList<>();
+        for (Iterator<String> iterator = changedEmails.iterator(); iterator.hasNext(); ) {
+            changed.add(iterator.next());
+            iterator.remove();
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        try {
+            Set<String> online = sessionRegistry.getSessionManager().findOnlineUsers(changed);
+
+            List<String> joinedEmails = new ArrayList<>();
+            List<String> left = new ArrayList<>();
+            for (String email : changed) {
+                if (online.contains(email)) {
+                    joinedEmails.add(email);
+                } else {
+                    left.add(email);
+                }
+            }
+
+            Map<String, MemberSummary> summaries = memberSummaryCache.getAll(joinedEmails);
+            long now = System.currentTimeMillis();
+            List<Map<String, Object>> joined = new ArrayList<>(joinedEmails.size());
+            for (String email : joinedEmails) {
+                joined.add(userEntry(email, summaries.get(email), null, now));
+            }
+
+            Map<String, Object> delta = new LinkedHashMap<>();
+            delta.put("type", "PRESENCE_DELTA");
+            delta.put("joined", joined);
+            delta.put("left", left);
+            delta.put("timestamp", now);
+
+            messageServiceFactory.getRoomService().send(DELTA_DESTINATION, objectMapper.writeValueAsString(delta));
+            lastSnapshot = null;
+
+            log.debug("접속자 변경분 전송 - 접속: {} 명, 종료: {} 명", joined.size(), left.size());
+        } catch (Exception e) {
+            log.error("접속자 변경분 전송 실패: {}", e.getMessage());
+        }
+    }
+
+    private String currentSnapshot() throws JsonProcessingException {
+        long now = System.currentTimeMillis();
+        Snapshot snapshot = lastSnapshot;
+        if (snapshot != null && now - snapshot.builtAt() < properties.getFlushInterval().toMillis()) {
+            return snapshot.json();
+        }
+
+        Map<String, Map<String, SessionInfo>> activeSessions = sessionRegistry.getSessionManager().getActiveUserSessions();
+        Map<String, MemberSummary> summaries = memberSummaryCache.getAll(activeSessions.keySet());
+
+        List<Map<String, Object>> users = new ArrayList<>(activeSessions.size());
+        for (Map.Entry<String, Map<String, SessionInfo>> entry : activeSessions.entrySet()) {
+            String email = entry.getKey();
+            users.add(userEntry(email, summaries.get(email), new ArrayList<>(entry.getValue().keySet()), now));
+        }
+
+        String json = objectMapper.writeValueAsString(users);
+        lastSnapshot = new Snapshot(json, now);
+        log.debug("접속자 전체 목록 생성: {} 명", users.size());
+        return json;
+    }
+
+    // 기존 /topic/lobby/users 목록과 같은 필드 구성
+    private Map<String, Object> userEntry(String email, MemberSummary summary, List<String> sessionIds, long now) {
+        Map<String, Object> userInfo = new LinkedHashMap<>();
+        userInfo.put("email", email);
+        if (summary != null) {
+            userInfo.put("nickname", summary.nickname());
+            userInfo.put("id", summary.id());
+        }
+        if (sessionIds != null) {
+            userInfo.put("sessions", sessionIds);
+        }
+        userInfo.put("lastActive", now);
+        userInfo.put("status", "online");
+        return userInfo;
+    }
+
+    private record Snapshot(String json, long builtAt) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.ll.quizzle.global.socket.scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STOMP 핸들러의 지연 후속 전송용 스케줄러
+ * 핸들러가 Thread.sleep 으로 clientInboundChannel 스레드를 붙잡지 않고, 후속 브로드캐스트를 예약한 뒤 바로 반환하도록 한다.
+ * 예약 작업은 짧은 브로드캐스트만 수행한다는 전제로 작은 전용 풀에서 실행된다.
+ */
+@Slf4j
+@Component
+public class DelayedDispatcher {
+
+    private static final int POOL_SIZE = 2;
+
+    private ThreadPoolTaskScheduler taskScheduler;
+
+    @PostConstruct
+    public void init() {
+        taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(POOL_SIZE);
+        taskScheduler.setThreadNamePrefix("ws-delayed-");
+        taskScheduler.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (taskScheduler != null) {
+            taskScheduler.shutdown();
+        }
+    }
+
+    /**
+     * delay 후 task 를 실행한다. 작업에서 발생한 예외는 로그만 남긴다.
+     */
+    public ScheduledFuture<?> schedule(Runnable task, Duration delay) {
+        return taskScheduler.schedule(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("지연 작업 실행 중 오류 발생: {}", e.getMessage(), e);
+            }
+        }, Instant.now().plus(delay));
+    }
+}
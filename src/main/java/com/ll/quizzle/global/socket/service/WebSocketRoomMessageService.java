@@ -1,23 +1,31 @@
 package com.ll.quizzle.global.socket.service;
 
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.quizzle.domain.member.cache.MemberSummaryCache;
+import com.ll.quizzle.domain.member.dto.MemberSummary;
 import com.ll.quizzle.domain.member.entity.Member;
-import com.ll.quizzle.domain.member.repository.MemberRepository;
+import com.ll.quizzle.domain.quiz.util.QuizSubmissionScripts;
+import com.ll.quizzle.domain.room.dto.RoomRoster;
 import com.ll.quizzle.domain.room.entity.Room;
 import com.ll.quizzle.domain.room.type.RoomStatus;
 import com.ll.quizzle.global.exceptions.ErrorCode;
+import com.ll.quizzle.global.socket.broadcast.StompBroadcaster;
 import com.ll.quizzle.global.socket.core.MessageService;
 import com.ll.quizzle.global.socket.core.MessageServiceFactory;
 import com.ll.quizzle.global.socket.dto.response.WebSocketRoomMessageResponse;
+import com.ll.quizzle.global.socket.dto.response.WebSocketRoomPlayerResponse;
 import com.ll.quizzle.global.socket.type.RoomMessageType;
 
 import lombok.RequiredArgsConstructor;
@@ -26,6 +34,7 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * 방 관련 WebSocket 메시지 전송을 처리하는 클래스입니다.
  * 플레이어 목록 정보를 포함한 모든 메시지들은 여기서 중앙 집중적으로 관리를 하도록 설계하였습니다.
+ * 응답 DTO 는 한 번만 JSON 으로 인코딩해 바이트로 넘기고, 전송 경로에서는 다시 직렬화하지 않습니다.
  */
 @Slf4j
 @Component
@@ -34,19 +43,25 @@ public class WebSocketRoomMessageService {
 
     private final ObjectMapper objectMapper;
     private final MessageServiceFactory messageServiceFactory;
-    private final MemberRepository memberRepository;
+    private final MemberSummaryCache memberSummaryCache;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StompBroadcaster broadcaster;
 
 
     public void sendWithPlayersList(Room room, RoomMessageType type, String content, 
                                     String senderId, String senderName) {
+        sendWithPlayersList(RoomRoster.from(room), type, content, senderId, senderName);
+    }
+
+    public void sendWithPlayersList(RoomRoster roster, RoomMessageType type, String content,
+                                    String senderId, String senderName) {
         try {
-            String playersData = buildPlayersListJson(room);
-            sendMessage(room.getId(), type, content, playersData, senderId, senderName);
+            String playersData = buildPlayersListJson(roster);
+            sendMessage(roster.roomId(), type, content, playersData, senderId, senderName);
         } catch (Exception e) {
             log.error("방 메시지 전송 실패: {}", e.getMessage());
             // JSON 파싱이 실패해도 기본 메시지는 전송하게끔 처리
-            sendMessage(room.getId(), type, content, null, senderId, senderName);
+            sendMessage(roster.roomId(), type, content, null, senderId, senderName);
         }
     }
 
@@ -54,6 +69,10 @@ public class WebSocketRoomMessageService {
         sendWithPlayersList(room, type, content, "SYSTEM", "SYSTEM");
     }
 
+    public void sendSystemWithPlayersList(RoomRoster roster, RoomMessageType type, String content) {
+        sendWithPlayersList(roster, type, content, "SYSTEM", "SYSTEM");
+    }
+
     public void sendGameStart(Room room) {
         sendSystemWithPlayersList(room, RoomMessageType.GAME_START, "게임이 시작되었습니다!");
     }
@@ -63,123 +82,130 @@ public class WebSocketRoomMessageService {
     }
 
     public void sendReadyStatusChange(Room room, Member member, RoomMessageType type) {
+        sendReadyStatusChange(RoomRoster.from(room), member.getId(), member.getNickname(), type);
+    }
+
+    public void sendReadyStatusChange(RoomRoster roster, Long memberId, String nickname, RoomMessageType type) {
 
         if (type != RoomMessageType.READY && type != RoomMessageType.UNREADY) {
             ErrorCode.INVALID_READY_MESSAGE_TYPE.throwServiceException();
         }
         
         boolean isReady = (type == RoomMessageType.READY);
-        String content = member.getNickname() + "님이 " + (isReady ? "준비" : "준비 해제") + "하셨습니다.";
+        String content = nickname + "님이 " + (isReady ? "준비" : "준비 해제") + "하셨습니다.";
         
-        sendWithPlayersList(room, type, content, member.getId().toString(), member.getNickname());
+        sendWithPlayersList(roster, type, content, memberId.toString(), nickname);
     }
 
     public void sendJoin(Room room, Member member) {
-        String content = member.getNickname() + "님이 입장하셨습니다.";
-        sendWithPlayersList(room, RoomMessageType.JOIN, content, 
-                member.getId().toString(), member.getNickname());
+        sendJoin(RoomRoster.from(room), member.getId(), member.getNickname());
+    }
+
+    public void sendJoin(RoomRoster roster, Long memberId, String nickname) {
+        String content = nickname + "님이 입장하셨습니다.";
+        sendWithPlayersList(roster, RoomMessageType.JOIN, content, memberId.toString(), nickname);
     }
 
     public void sendLeave(Room room, Member member) {
-        String content = member.getNickname() + "님이 퇴장하셨습니다.";
-        sendWithPlayersList(room, RoomMessageType.LEAVE, content, 
-                member.getId().toString(), member.getNickname());
+        sendLeave(RoomRoster.from(room), member.getId(), member.getNickname());
+    }
+
+    public void sendLeave(RoomRoster roster, Long memberId, String nickname) {
+        String content = nickname + "님이 퇴장하셨습니다.";
+        sendWithPlayersList(roster, RoomMessageType.LEAVE, content, memberId.toString(), nickname);
     }
 
     public void sendOwnerChanged(Room room, Member oldOwner, Member newOwner) {
-        String content = oldOwner.getNickname() + "님이 퇴장하여 " + 
-                newOwner.getNickname() + "님이 새로운 방장이 되었습니다.";
-        sendSystemWithPlayersList(room, RoomMessageType.SYSTEM, content);
+        sendOwnerChanged(RoomRoster.from(room), oldOwner.getNickname(), newOwner.getNickname());
+    }
+
+    public void sendOwnerChanged(RoomRoster roster, String oldOwnerNickname, String newOwnerNickname) {
+        String content = oldOwnerNickname + "님이 퇴장하여 " + 
+                newOwnerNickname + "님이 새로운 방장이 되었습니다.";
+        sendSystemWithPlayersList(roster, RoomMessageType.SYSTEM, content);
     }
 
     public void sendRoomDeleted(Long roomId) {
         String content = "방장이 퇴장하여 방이 삭제되었습니다.";
-        try {
-            List<Map<String, Object>> emptyPlayersList = new ArrayList<>();
-            String emptyPlayersJson = objectMapper.writeValueAsString(emptyPlayersList);
-            
-            sendMessage(roomId, RoomMessageType.SYSTEM, content, emptyPlayersJson, "SYSTEM", "SYSTEM");
-        } catch (Exception e) {
-            log.error("방 삭제 메시지 전송 실패: {}", e.getMessage());
-            sendMessage(roomId, RoomMessageType.SYSTEM, content, null, "SYSTEM", "SYSTEM");
-        }
+        sendMessage(roomId, RoomMessageType.SYSTEM, content, "[]", "SYSTEM", "SYSTEM");
     }
 
     public void sendRoomUpdated(Room room) {
+        sendRoomUpdated(RoomRoster.from(room));
+    }
+
+    public void sendRoomUpdated(RoomRoster roster) {
         String content = "방 정보가 업데이트되었습니다.";
-        sendSystemWithPlayersList(room, RoomMessageType.ROOM_UPDATED, content);
+        sendSystemWithPlayersList(roster, RoomMessageType.ROOM_UPDATED, content);
     }
 
-    private String buildPlayersListJson(Room room) throws JsonProcessingException {
-        log.debug("buildPlayersListJson 시작: Room ID={}, 현재 플레이어 수={}", room.getId(), room.getPlayers().size());
-        List<Map<String, Object>> playersList = new ArrayList<>();
-        
-        boolean isGameInProgress = RoomStatus.IN_GAME.equals(room.getStatus());
-        String quizId = null;
-        String currentRoundKey = null;
-        Integer currentRound = null;
-        
-        if (isGameInProgress) {
-            quizId = room.getId().toString();
-            currentRoundKey = String.format("quiz:%s:currentRound", quizId);
-            Object roundObj = redisTemplate.opsForValue().get(currentRoundKey);
-            currentRound = roundObj != null ? Integer.valueOf(roundObj.toString()) : null;
-            
-            log.debug("진행 중인 게임 확인: 룸={}, 퀴즈ID={}, 현재라운드={}", room.getId(), quizId, currentRound);
-        }
+    private String buildPlayersListJson(RoomRoster roster) throws JsonProcessingException {
+        Set<Long> playerIds = roster.players();
+        log.debug("buildPlayersListJson 시작: Room ID={}, 현재 플레이어 수={}", roster.roomId(), playerIds.size());
         
-        // 플레이어 ID 목록을 로깅
-        log.debug("플레이어 ID 목록: {}", room.getPlayers());
-        
-        if (room.getPlayers().isEmpty()) {
-            log.warn("Room ID={} 플레이어 목록이 비어 있습니다.", room.getId());
+        if (playerIds.isEmpty()) {
+            log.warn("Room ID={} 플레이어 목록이 비어 있습니다.", roster.roomId());
             return "[]";
         }
         
-        for (Long playerId : room.getPlayers()) {
-            log.debug("플레이어 처리: ID={}", playerId);
-            
-            try {
-                Member playerMember = memberRepository.findById(playerId).orElse(null);
-                if (playerMember != null) {
-                    Map<String, Object> playerInfo = new HashMap<>();
-                    playerInfo.put("id", playerMember.getId().toString());
-                    playerInfo.put("name", playerMember.getNickname());
-                    playerInfo.put("isReady", room.getReadyPlayers().contains(playerId));
-                    playerInfo.put("isOwner", room.isOwner(playerId));
-                    
-                    // 추가 정보 - 아바타 URL 등
-                    playerInfo.put("nickname", playerMember.getNickname()); // 추가 속성
-                    
-                    if (isGameInProgress && currentRound != null) {
-                        String userId = playerMember.getId().toString();
-                        String submissionKey = String.format("quiz:%s:user:%s:submissions", quizId, userId);
-                        Long submissionsCount = redisTemplate.opsForList().size(submissionKey);
-                        
-                        boolean hasSubmitted = submissionsCount != null && submissionsCount >= currentRound;
-                        playerInfo.put("isSubmitted", hasSubmitted);
-                        
-                        log.debug("플레이어 제출 여부: 사용자={}, 현재라운드={}, 제출여부={}", userId, currentRound, hasSubmitted);
-                    } else {
-                        playerInfo.put("isSubmitted", false);
-                    }
-                    playersList.add(playerInfo);
-                    
-                    log.debug("플레이어 정보 추가: ID={}, 닉네임={}", playerId, playerMember.getNickname());
-                } else {
-                    log.warn("해당 ID의 멤버를 찾을 수 없습니다: {}", playerId);
-                }
-            } catch (Exception e) {
-                log.error("플레이어 정보 처리 중 오류 발생: 플레이어ID={}, 오류={}", playerId, e.getMessage(), e);
+        // 회원 정보는 캐시에서 한 번에, 제출 여부는 스크립트 한 번으로 읽는다. (플레이어마다 조회하지 않음)
+        Map<Long, MemberSummary> summaries = memberSummaryCache.getAllByIds(playerIds);
+        Set<Long> submittedPlayers = RoomStatus.IN_GAME.equals(roster.status())
+                ? findSubmittedPlayers(roster.roomId(), playerIds)
+                : Set.of();
+        
+        List<WebSocketRoomPlayerResponse> playersList = new ArrayList<>(playerIds.size());
+        for (Long playerId : playerIds) {
+            MemberSummary summary = summaries.get(playerId);
+            if (summary == null) {
+                log.warn("해당 ID의 멤버를 찾을 수 없습니다: {}", playerId);
+                continue;
             }
+            playersList.add(WebSocketRoomPlayerResponse.of(
+                    summary.id(),
+                    summary.nickname(),
+                    summary.avatarUrl(),
+                    roster.readyPlayers().contains(playerId),
+                    roster.isOwner(playerId),
+                    submittedPlayers.contains(playerId)
+            ));
         }
         
         String jsonResult = objectMapper.writeValueAsString(playersList);
-        log.debug("buildPlayersListJson 완료: Room ID={}, 생성된 JSON={}, 플레이어 수={}", 
-                room.getId(), jsonResult, playersList.size());
+        log.debug("buildPlayersListJson 완료: Room ID={}, 플레이어 수={}, 제출 인원={}", 
+                roster.roomId(), playersList.size(), submittedPlayers.size());
         return jsonResult;
     }
 
+    /**
+     * 방에서 진행 중인 퀴즈의 현재 문제에 답을 제출한 플레이어 ID 를 반환한다.
+     */
+    private Set<Long> findSubmittedPlayers(Long roomId, Set<Long> playerIds) {
+        Object[] memberIds = playerIds.stream().map(String::valueOf).toArray();
+        String result;
+        try {
+            result = redisTemplate.execute(
+                    QuizSubmissionScripts.SUBMITTED_MEMBERS_SCRIPT,
+                    StringRedisSerializer.UTF_8,
+                    StringRedisSerializer.UTF_8,
+                    List.of(QuizSubmissionScripts.roomQuizKey(roomId)),
+                    memberIds
+            );
+        } catch (Exception e) {
+            log.error("플레이어 제출 여부 조회 실패: Room ID={}, 오류={}", roomId, e.getMessage());
+            return Set.of();
+        }
+        
+        if (result == null || result.isEmpty()) {
+            return Set.of();
+        }
+        Set<Long> submitted = new HashSet<>();
+        for (String memberId : result.split(",")) {
+            submitted.add(Long.valueOf(memberId));
+        }
+        return submitted;
+    }
+
 
     private void sendMessage(Long roomId, RoomMessageType type, String content, 
                            String data, String senderId, String senderName) {
@@ -194,6 +220,11 @@ public class WebSocketRoomMessageService {
             roomId.toString()
         );
         
-        roomService.send("/topic/room/" + roomId, message);
+        String destination = "/topic/room/" + roomId;
+        try {
+            roomService.send(destination, broadcaster.encode(message));
+        } catch (IOException e) {
+            log.error("방 메시지 직렬화 실패 - 목적지: {}, 오류: {}", destination, e.getMessage());
+        }
     }
 } 
\ No newline at end of file
@@ -2,13 +2,19 @@ package com.ll.quizzle.global.socket.service.quiz;
 
 import com.ll.quizzle.domain.member.entity.Member;
 import com.ll.quizzle.domain.member.service.MemberService;
+import com.ll.quizzle.domain.quiz.cache.QuizContentCache;
+import com.ll.quizzle.domain.quiz.dto.QuizContent;
+import com.ll.quizzle.domain.quiz.dto.QuizSubmissionResult;
+import com.ll.quizzle.domain.quiz.util.QuizSubmissionScripts;
 import com.ll.quizzle.global.socket.dto.response.WebSocketQuizSubmitResponse;
 import com.ll.quizzle.global.socket.type.RoomMessageType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.Optional;
 
 @Service
 public class RedisQuizSubmissionService {
@@ -21,69 +27,23 @@ public class RedisQuizSubmissionService {
     @Autowired
     private MemberService memberService;
 
-    public WebSocketQuizSubmitResponse submitAnswer(String quizId, String memberId, int questionNumber, String submittedAnswer) {
-        String answerListKey = String.format("quiz:%s:answers", quizId);
-        Long totalQuestions = redisTemplate.opsForList().size(answerListKey);
-        if (totalQuestions == null || questionNumber > totalQuestions.intValue() || questionNumber <= 0) {
-            throw new IllegalArgumentException("유효하지 않은 문제 번호입니다.");
-        }
-        Object answerObj = redisTemplate.opsForList().index(answerListKey, questionNumber - 1);
-        if (answerObj == null) {
-            throw new IllegalArgumentException("해당 문제의 정답을 찾을 수 없습니다.");
-        }
-        String answerStr = answerObj.toString();
-        String[] parts = answerStr.split(":");
-        if (parts.length != 2) {
-            throw new IllegalStateException("저장된 정답 형식이 올바르지 않습니다.");
-        }
-        String correctAnswer = parts[1].trim().toLowerCase();
-        boolean isCorrect = correctAnswer.equals(submittedAnswer.trim().toLowerCase());
-
-        // 현재 활성화된 문제 번호 검증
-        String currentQuestionKey = String.format("quiz:%s:currentRound", quizId);
-        Integer currentQuestion = (Integer) redisTemplate.opsForValue().get(currentQuestionKey);
-        if (currentQuestion == null) {
-            currentQuestion = 0;
-            redisTemplate.opsForValue().set(currentQuestionKey, currentQuestion, QUIZ_TTL);
-        }
+    @Autowired
+    private QuizContentCache quizContentCache;
 
-        // 클라이언트에서 보내는 questionNumber는 1부터 시작하지만 서버에서는 0부터 시작하므로 -1 조정
-        if (questionNumber - 1 != currentQuestion) {
-            throw new IllegalStateException("현재 활성화된 문제에 대해서만 답안을 제출할 수 있습니다.");
-        }
+    public WebSocketQuizSubmitResponse submitAnswer(String quizId, String memberId, int questionNumber, String submittedAnswer) {
+        QuizSubmissionResult result = submit(quizId.trim(), memberId.trim(), questionNumber,
+                submittedAnswer.trim().toLowerCase());
 
-        // 중복 제출 방지
-        String submissionKey = String.format("quiz:%s:memberId:%s:submissions", quizId.trim(), memberId.trim());
-        if (redisTemplate.opsForList().range(submissionKey, 0, -1).stream()
-                .anyMatch(entry -> entry.toString().startsWith(questionNumber + ":"))) {
-            throw new IllegalStateException("이미 해당 문제에 대해 제출하셨습니다.");
-        }
-        // 제출 기록 저장
-        String resultStr = isCorrect ? "correct" : "incorrect";
-        String submissionEntry = String.format("%d:%s:%s", questionNumber, submittedAnswer.trim().toLowerCase(), resultStr);
-        redisTemplate.opsForList().rightPush(submissionKey, submissionEntry);
-        redisTemplate.expire(submissionKey, QUIZ_TTL);
-
-        // 문제별 제출 상태 업데이트: 제출 Set에 등록
-        String submittedSetKey = String.format("quiz:%s:submitted:%d", quizId, questionNumber);
-        Boolean alreadySubmitted = redisTemplate.opsForSet().isMember(submittedSetKey, memberId);
-        if (Boolean.TRUE.equals(alreadySubmitted)) {
-            throw new IllegalStateException("이미 제출하셨습니다.");
-        }
-        redisTemplate.opsForSet().add(submittedSetKey, memberId);
-        redisTemplate.expire(submittedSetKey, QUIZ_TTL);
-
-        // 모든 참가자 제출 여부 확인 후 이벤트 발행
-        String participantsKey = String.format("quiz:%s:participants", quizId);
-        Long totalParticipants = redisTemplate.opsForSet().size(participantsKey);
-        Long submittedCount = redisTemplate.opsForSet().size(submittedSetKey);
-        if (totalParticipants != null && submittedCount != null && totalParticipants.equals(submittedCount)) {
-            String notificationChannel = String.format("quiz:%s:notifications", quizId);
-            String event = (questionNumber == totalQuestions.intValue()) ? "quizEnd" : "nextQuestion";
-            redisTemplate.convertAndSend(notificationChannel, event);
+        switch (result.status()) {
+            case INVALID_QUESTION -> throw new IllegalArgumentException("유효하지 않은 문제 번호입니다.");
+            case ANSWER_NOT_FOUND -> throw new IllegalArgumentException("해당 문제의 정답을 찾을 수 없습니다.");
+            case MALFORMED_ANSWER -> throw new IllegalStateException("저장된 정답 형식이 올바르지 않습니다.");
+            case NOT_CURRENT_ROUND -> throw new IllegalStateException("현재 활성화된 문제에 대해서만 답안을 제출할 수 있습니다.");
+            case DUPLICATE -> throw new IllegalStateException("이미 해당 문제에 대해 제출하셨습니다.");
+            case ACCEPTED -> {
+            }
         }
 
-        String resultMessage = isCorrect ? "정답입니다." : "오답입니다.";
         long timestamp = System.currentTimeMillis();
 
         String nickname = memberService.findById(Long.parseLong(memberId))
@@ -93,8 +53,8 @@ public class RedisQuizSubmissionService {
         return new WebSocketQuizSubmitResponse(
                 RoomMessageType.ANSWER_SUBMIT,
                 questionNumber,
-                isCorrect,
-                correctAnswer,
+                result.correct(),
+                result.correctAnswer(),
                 memberId,     // 내부 식별자
                 nickname,     // 실제 닉네임을 보여줌
                 true,
@@ -102,4 +62,43 @@ public class RedisQuizSubmissionService {
                 quizId
         );
     }
+
+    /**
+     * 검증 -> 제출 기록 -> 제출 인원 집계 -> (모두 제출 시) 이벤트 발행을 스크립트 한 번으로 처리한다.
+     * 로컬 캐시에 퀴즈 내용이 있으면 정답과 문제 수를 함께 넘겨 스크립트가 퀴즈 내용을 읽지 않도록 한다.
+     */
+    private QuizSubmissionResult submit(String quizId, String memberId, int questionNumber, String submittedAnswer) {
+        String correctAnswer = "";
+        String totalQuestions = "";
+
+        Optional<QuizContent> cached = quizContentCache.get(quizId);
+        if (cached.isPresent()) {
+            QuizContent content = cached.get();
+            if (questionNumber <= 0 || questionNumber > content.questionCount()) {
+                return QuizSubmissionResult.rejected(QuizSubmissionResult.Status.INVALID_QUESTION);
+            }
+            // 캐시에 정답이 없으면 ARGV 를 비워 두어 스크립트가 퀴즈 내용에서 직접 읽게 한다.
+            String cachedAnswer = content.round(questionNumber - 1).answer();
+            if (cachedAnswer != null) {
+                correctAnswer = cachedAnswer;
+                totalQuestions = String.valueOf(content.questionCount());
+            }
+        }
+
+        String result = redisTemplate.execute(
+                QuizSubmissionScripts.SUBMIT_SCRIPT,
+                StringRedisSerializer.UTF_8,
+                StringRedisSerializer.UTF_8,
+                QuizSubmissionScripts.submitKeys(quizId, memberId, questionNumber),
+                memberId,
+                String.valueOf(questionNumber),
+                submittedAnswer,
+                String.valueOf(QUIZ_TTL.toSeconds()),
+                correctAnswer,
+                totalQuestions,
+                QuizSubmissionScripts.notificationChannel(quizId)
+        );
+
+        return QuizSubmissionScripts.parseResult(result);
+    }
 }
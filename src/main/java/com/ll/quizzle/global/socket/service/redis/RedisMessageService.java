@@ -12,12 +12,14 @@ import org.springframework.stereotype.Service;
 
 import com.ll.quizzle.global.socket.core.MessageCallback;
 import com.ll.quizzle.global.socket.core.MessageService;
+import com.ll.quizzle.global.socket.fanout.RedisFanoutBroker;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Redis PUB/SUB 기반 메시징 서비스 구현체
+ * STOMP 목적지로 보내는 메시지는 RedisFanoutBroker 를 통해 모든 노드의 구독자에게 전달한다.
  */
 @Slf4j
 @Service
@@ -26,6 +28,7 @@ public class RedisMessageService implements MessageService {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final RedisMessageListenerContainer listenerContainer;
+    private final RedisFanoutBroker fanoutBroker;
     /**
      * 여기서도 공유자원 관리를 위해 ConcurrentHashMap 을 사용합니다.
      * STOMP 와 Redis Pub/Sub 의 구독 방식이 조금 달라서 찾아보시면 도움 되실겁니다.
@@ -37,9 +40,8 @@ public class RedisMessageService implements MessageService {
     @Override
     public void send(String destination, Object message) {
         try {
-            String messageStr = (message instanceof String) ? (String) message : message.toString();
-            log.debug("Redis 채널로 메시지 전송: {}", destination);
-            redisTemplate.convertAndSend(destination, messageStr);
+            log.debug("Redis 팬아웃으로 메시지 전송: {}", destination);
+            fanoutBroker.publish(destination, message);
         } catch (Exception e) {
             log.error("Redis 메시지 전송 실패: {}", e.getMessage(), e);
         }
@@ -1,5 +1,6 @@
 package com.ll.quizzle.global.socket.service.stomp;
 
+import com.ll.quizzle.global.socket.broadcast.StompBroadcaster;
 import com.ll.quizzle.global.socket.core.MessageCallback;
 import com.ll.quizzle.global.socket.core.MessageService;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +15,7 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * STOMP 기반 WebSocket 메시징 서비스 구현체
  * 현재는 로비 및 룸에서 사용합니다.
+ * 이미 인코딩된 JSON(byte[])은 다시 변환하지 않고 그대로 브로커에 넘깁니다.
  */
 @Slf4j
 @Service
@@ -21,6 +23,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public class StompMessageService implements MessageService {
 
     private final SimpMessagingTemplate messagingTemplate;
+    private final StompBroadcaster broadcaster;
     /**
      * 공유자원 이라, 동시성 문제를 고려하여 ConcurrentHashMap 을 사용했습니다.
      */
@@ -30,6 +33,10 @@ public class StompMessageService implements MessageService {
     @Override
     public void send(String destination, Object message) {
         log.debug("메시지 전송 to : {}", destination);
+        if (message instanceof byte[] payload) {
+            broadcaster.send(destination, broadcaster.toMessage(payload, true));
+            return;
+        }
         messagingTemplate.convertAndSend(destination, message);
     }
 
@@ -4,19 +4,31 @@ import com.ll.quizzle.global.socket.core.SessionInfo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 
 /**
  * 분산 환경에서 세션 정보를 공유할 수 있도록 Redis 를 사용하여 세션 관리
+ *
+ * 접속 중인 사용자는 ws:online 정렬 집합(member: 이메일, score: 마지막 활동 시각)에 색인한다.
+ * 목록 조회/만료 정리는 KEYS 없이 범위 조회 1회 + 파이프라인 HGETALL + MGET 1회로 처리한다.
+ *
+ * 메시지마다 호출되는 유효성 검사/갱신은 스크립트 한 번으로, 등록은 HGETALL -> MGET -> 쓰기 파이프라인 3회 왕복으로 처리한다.
  */
 @Primary
 @Slf4j
@@ -28,8 +40,40 @@ public class RedisWebSocketSessionManager implements WebSocketSessionManager {
 
     private static final String SESSION_KEY_PREFIX = "ws:session:";
     private static final String USER_SESSIONS_KEY_PREFIX = "ws:user:";
+    private static final String ONLINE_USERS_KEY = "ws:online";
     private static final long SESSION_EXPIRY = 3600;
     private static final long SESSION_TERMINATE_EXPIRY = 10;
+    private static final long RECENT_SESSION_MILLIS = 10000;
+
+    // KEYS: ws:session:{sid}, ws:user:{email}, ws:online
+    // ARGV: 현재 시각(ms), 만료(초), 세션 ID, 이메일, 토큰 만료 검사 여부(1/0) - 템플릿 값 직렬화(JSON) 그대로 전달된다.
+    // 세션 ID 는 해시 필드(문자열 직렬화)로 쓰기 위해 디코딩하고, 이메일은 색인 member 와 같은 JSON 형식으로 그대로 쓴다.
+    // 반환: 1 갱신 완료, 0 세션 없음/만료, -1 사용자 세션 목록에 없음
+    private static final RedisScript<Long> VALIDATE_AND_REFRESH_SCRIPT = new DefaultRedisScript<>("""
+            local raw = redis.call('GET', KEYS[1])
+            if not raw then
+                return 0
+            end
+            local ok, info = pcall(cjson.decode, raw)
+            if not ok or type(info) ~= 'table' or not info['expiryTime'] then
+                return 0
+            end
+            local now = tonumber(ARGV[1])
+            if tonumber(ARGV[5]) == 1 and tonumber(info['expiryTime']) <= now then
+                return 0
+            end
+
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+
+            local sessionId = cjson.decode(ARGV[3])
+            if redis.call('HEXISTS', KEYS[2], sessionId) == 0 then
+                return -1
+            end
+            redis.call('HSET', KEYS[2], sessionId, ARGV[1])
+            redis.call('EXPIRE', KEYS[2], ARGV[2])
+            redis.call('ZADD', KEYS[3], now, ARGV[4])
+            return 1
+            """, Long.class);
 
     @Override
     public void registerSession(String email, String sessionId, String accessToken, Long expiryTime) {
@@ -40,47 +84,63 @@ public class RedisWebSocketSessionManager implements WebSocketSessionManager {
         Map<Object, Object> existingSessions = redisTemplate.opsForHash().entries(userSessionsKey);
 
         boolean isTokenBasedSession = sessionId.startsWith("token-");
+        List<String> sessionsToTerminate = new ArrayList<>();
+        long now = System.currentTimeMillis();
 
         if (!existingSessions.isEmpty()) {
             log.debug("기존 세션 감지: 사용자={}, 세션 수={}", email, existingSessions.size());
-            
-            boolean hasSameTokenSession = false;
-            
+
+            List<String> oldSessionIds = new ArrayList<>();
+            List<String> oldSessionKeys = new ArrayList<>();
             for (Object oldSessionIdObj : existingSessions.keySet()) {
                 String oldSessionId = (String) oldSessionIdObj;
-                
-                if (sessionId.equals(oldSessionId)) {
-                    continue;
+                if (!sessionId.equals(oldSessionId)) {
+                    oldSessionIds.add(oldSessionId);
+                    oldSessionKeys.add(SESSION_KEY_PREFIX + oldSessionId);
                 }
-                
-                String oldSessionKey = SESSION_KEY_PREFIX + oldSessionId;
-                SessionInfo oldSessionInfo = (SessionInfo) redisTemplate.opsForValue().get(oldSessionKey);
-                
-                if (oldSessionInfo != null && accessToken.equals(oldSessionInfo.accessToken())) {
-                    hasSameTokenSession = true;
-                    log.debug("동일 토큰 세션 감지: 사용자={}, 기존 세션={}, 새 세션={}", 
+            }
+
+            List<Object> oldSessionInfos = oldSessionKeys.isEmpty()
+                    ? List.of() : redisTemplate.opsForValue().multiGet(oldSessionKeys);
+
+            for (int i = 0; i < oldSessionIds.size(); i++) {
+                String oldSessionId = oldSessionIds.get(i);
+                Object oldSession = oldSessionInfos != null && i < oldSessionInfos.size() ? oldSessionInfos.get(i) : null;
+
+                if (oldSession instanceof SessionInfo oldSessionInfo && accessToken.equals(oldSessionInfo.accessToken())) {
+                    log.debug("동일 토큰 세션 감지: 사용자={}, 기존 세션={}, 새 세션={}",
                             email, oldSessionId, sessionId);
-                    
-                    if (isTokenBasedSession || oldSessionId.startsWith("token-") || 
-                            System.currentTimeMillis() - (Long)existingSessions.get(oldSessionId) < 10000) {
+
+                    if (isTokenBasedSession || oldSessionId.startsWith("token-") ||
+                            now - (Long) existingSessions.get(oldSessionId) < RECENT_SESSION_MILLIS) {
                         log.debug("최근 연결된 세션으로 판단하여 종료 처리 안 함: {}", oldSessionId);
                         continue;
                     }
                 }
-                
+
                 log.debug("다중 접속 감지 - 기존 세션 정보 저장: 사용자={}, 종료 대상 세션={}, 새 세션={}",
                         email, oldSessionId, sessionId);
-
-                String sessionToTerminateKey = SESSION_KEY_PREFIX + oldSessionId + ":terminate";
-                redisTemplate.opsForValue().set(sessionToTerminateKey, sessionId, SESSION_TERMINATE_EXPIRY, TimeUnit.SECONDS);
+                sessionsToTerminate.add(oldSessionId);
             }
         }
 
-        String sessionKey = SESSION_KEY_PREFIX + sessionId;
-        redisTemplate.opsForValue().set(sessionKey, sessionInfo, SESSION_EXPIRY, TimeUnit.SECONDS);
-
-        redisTemplate.opsForHash().put(userSessionsKey, sessionId, System.currentTimeMillis());
-        redisTemplate.expire(userSessionsKey, SESSION_EXPIRY, TimeUnit.SECONDS);
+        // 종료 표시 + 세션 저장 + 사용자 세션 목록/색인 갱신을 한 번의 왕복으로 보낸다.
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                for (String oldSessionId : sessionsToTerminate) {
+                    ops.opsForValue().set(SESSION_KEY_PREFIX + oldSessionId + ":terminate", sessionId,
+                            SESSION_TERMINATE_EXPIRY, TimeUnit.SECONDS);
+                }
+                ops.opsForValue().set(SESSION_KEY_PREFIX + sessionId, sessionInfo, SESSION_EXPIRY, TimeUnit.SECONDS);
+                ops.opsForHash().put(userSessionsKey, sessionId, now);
+                ops.expire(userSessionsKey, SESSION_EXPIRY, TimeUnit.SECONDS);
+                ops.opsForZSet().add(ONLINE_USERS_KEY, email, now);
+                return null;
+            }
+        });
 
         log.debug("Redis에 세션 등록: 사용자={}, 세션={}", email, sessionId);
     }
@@ -97,6 +157,7 @@ public class RedisWebSocketSessionManager implements WebSocketSessionManager {
 
         if (Boolean.TRUE.equals(redisTemplate.opsForHash().size(userSessionsKey) == 0)) {
             redisTemplate.delete(userSessionsKey);
+            redisTemplate.opsForZSet().remove(ONLINE_USERS_KEY, email);
             log.debug("사용자 세션 목록 삭제: 사용자={}", email);
         }
 
@@ -118,57 +179,82 @@ public class RedisWebSocketSessionManager implements WebSocketSessionManager {
 
 
     @Override
-    public void removeExpiredSessions(long currentTime, BiConsumer<String, SessionInfo> expiredSessionCallback) {
-
-        Set<String> userKeys = redisTemplate.keys(USER_SESSIONS_KEY_PREFIX + "*");
+    public boolean validateAndRefresh(String email, String sessionId) {
+        Long result = redisTemplate.execute(VALIDATE_AND_REFRESH_SCRIPT,
+                List.of(SESSION_KEY_PREFIX + sessionId, USER_SESSIONS_KEY_PREFIX + email, ONLINE_USERS_KEY),
+                System.currentTimeMillis(), SESSION_EXPIRY, sessionId, email, 1);
 
-        if (userKeys == null || userKeys.isEmpty()) {
-            return;
+        if (result == null || result == 0) {
+            log.debug("세션 검증 실패 - 세션 정보가 없거나 만료됨: 사용자={}, 세션={}", email, sessionId);
+            return false;
+        }
+        if (result < 0) {
+            log.debug("세션 검증은 통과했으나 갱신 실패 - 사용자 세션 목록에 세션이 없음: 사용자={}, 세션={}", email, sessionId);
+            return false;
         }
+        return true;
+    }
 
-        for (String userKey : userKeys) {
-            String email = userKey.substring(USER_SESSIONS_KEY_PREFIX.length());
-            Map<Object, Object> sessions = redisTemplate.opsForHash().entries(userKey);
 
-            for (Map.Entry<Object, Object> entry : sessions.entrySet()) {
-                String sessionId = (String) entry.getKey();
-                String sessionKey = SESSION_KEY_PREFIX + sessionId;
-                SessionInfo sessionInfo = (SessionInfo) redisTemplate.opsForValue().get(sessionKey);
+    @Override
+    public void removeExpiredSessions(long currentTime, BiConsumer<String, SessionInfo> expiredSessionCallback) {
 
-                if (sessionInfo != null && sessionInfo.expiryTime() < currentTime) {
-                    log.debug("만료된 세션 발견: 사용자={}, 세션={}", email, sessionId);
+        // 마지막 활동 이후 SESSION_EXPIRY 가 지난 사용자는 세션 키도 TTL 로 사라졌으므로 색인에서만 정리한다.
+        redisTemplate.opsForZSet().removeRangeByScore(ONLINE_USERS_KEY,
+                Double.NEGATIVE_INFINITY, currentTime - SESSION_EXPIRY * 1000);
 
-                    if (expiredSessionCallback != null) {
-                        expiredSessionCallback.accept(email, sessionInfo);
-                    }
+        Set<Object> onlineUsers = redisTemplate.opsForZSet().range(ONLINE_USERS_KEY, 0, -1);
+        Map<String, Map<String, SessionInfo>> userSessions = loadUserSessions(onlineUsers);
+
+        userSessions.forEach((email, sessions) -> sessions.forEach((sessionId, sessionInfo) -> {
+            if (sessionInfo.expiryTime() < currentTime) {
+                log.debug("만료된 세션 발견: 사용자={}, 세션={}", email, sessionId);
 
-                    removeSession(email, sessionId);
+                if (expiredSessionCallback != null) {
+                    expiredSessionCallback.accept(email, sessionInfo);
                 }
+
+                removeSession(email, sessionId);
             }
-        }
+        }));
     }
 
 
 
     @Override
     public Map<String, Map<String, SessionInfo>> getActiveUserSessions() {
-        Set<String> userKeys = redisTemplate.keys(USER_SESSIONS_KEY_PREFIX + "*");
-        Map<String, Map<String, SessionInfo>> result = new HashMap<>();
+        long activeSince = System.currentTimeMillis() - SESSION_EXPIRY * 1000;
+        Set<Object> onlineUsers = redisTemplate.opsForZSet()
+                .rangeByScore(ONLINE_USERS_KEY, activeSince, Double.POSITIVE_INFINITY);
 
-        if (userKeys == null || userKeys.isEmpty()) {
-            return result;
+        return loadUserSessions(onlineUsers);
+    }
+
+
+    /**
+     * 색인 점수(ZMSCORE) 한 번으로 확인한다. 마지막 세션이 제거되면 색인에서 빠지므로 점수가 있으면 접속 중이다.
+     */
+    @Override
+    public Set<String> findOnlineUsers(Collection<String> emails) {
+        Set<String> online = new HashSet<>();
+        if (emails.isEmpty()) {
+            return online;
         }
 
-        for (String userKey : userKeys) {
-            String email = userKey.substring(USER_SESSIONS_KEY_PREFIX.length());
-            Map<String, SessionInfo> userSessions = getUserSessions(email);
+        List<String> emailList = new ArrayList<>(emails);
+        List<Double> scores = redisTemplate.opsForZSet().score(ONLINE_USERS_KEY, emailList.toArray());
+        if (scores == null) {
+            return online;
+        }
 
-            if (!userSessions.isEmpty()) {
-                result.put(email, userSessions);
+        long activeSince = System.currentTimeMillis() - SESSION_EXPIRY * 1000;
+        for (int i = 0; i < emailList.size() && i < scores.size(); i++) {
+            Double score = scores.get(i);
+            if (score != null && score >= activeSince) {
+                online.add(emailList.get(i));
             }
         }
-
-        return result;
+        return online;
     }
 
 
@@ -218,7 +304,7 @@ public class RedisWebSocketSessionManager implements WebSocketSessionManager {
             }
             
             long lastActiveTime = (Long) allSessions.get(sessionId);
-            if (System.currentTimeMillis() - lastActiveTime < 10000) {
+            if (System.currentTimeMillis() - lastActiveTime < RECENT_SESSION_MILLIS) {
                 log.debug("최근 생성된 세션 감지 - 종료 처리 제외: 세션={}, 경과시간={}ms", 
                     sessionId, System.currentTimeMillis() - lastActiveTime);
                 continue;
@@ -239,43 +325,80 @@ public class RedisWebSocketSessionManager implements WebSocketSessionManager {
 
     @Override
     public boolean refreshSession(String email, String sessionId) {
-        String sessionKey = SESSION_KEY_PREFIX + sessionId;
-        SessionInfo sessionInfo = (SessionInfo) redisTemplate.opsForValue().get(sessionKey);
+        Long result = redisTemplate.execute(VALIDATE_AND_REFRESH_SCRIPT,
+                List.of(SESSION_KEY_PREFIX + sessionId, USER_SESSIONS_KEY_PREFIX + email, ONLINE_USERS_KEY),
+                System.currentTimeMillis(), SESSION_EXPIRY, sessionId, email, 0);
 
-        if (sessionInfo == null) {
+        if (result == null || result == 0) {
             log.debug("갱신 실패 - 세션 정보가 없음: 사용자={}, 세션={}", email, sessionId);
             return false;
         }
+        if (result < 0) {
+            log.debug("갱신 실패 - 사용자 세션 목록에 세션이 없음: 사용자={}, 세션={}", email, sessionId);
+            return false;
+        }
 
-        redisTemplate.expire(sessionKey, SESSION_EXPIRY, TimeUnit.SECONDS);
+        log.debug("세션 갱신 완료: 사용자={}, 세션={}", email, sessionId);
+        return true;
+    }
 
-        String userSessionsKey = USER_SESSIONS_KEY_PREFIX + email;
+    /**
+     * 사용자별 세션 목록(HGETALL)은 파이프라인으로, 세션 정보는 MGET 한 번으로 읽는다.
+     * 세션 정보가 없는(만료된) 세션과 세션이 하나도 없는 사용자는 결과에서 제외한다.
+     */
+    private Map<String, Map<String, SessionInfo>> loadUserSessions(Set<Object> onlineUsers) {
+        Map<String, Map<String, SessionInfo>> result = new HashMap<>();
 
-        if (Boolean.TRUE.equals(redisTemplate.opsForHash().hasKey(userSessionsKey, sessionId))) {
-            redisTemplate.opsForHash().put(userSessionsKey, sessionId, System.currentTimeMillis());
-            redisTemplate.expire(userSessionsKey, SESSION_EXPIRY, TimeUnit.SECONDS);
+        if (onlineUsers == null || onlineUsers.isEmpty()) {
+            return result;
+        }
 
-            log.debug("세션 갱신 완료: 사용자={}, 세션={}", email, sessionId);
-            return true;
+        List<String> emails = new ArrayList<>(onlineUsers.size());
+        for (Object member : onlineUsers) {
+            emails.add((String) member);
         }
 
-        log.debug("갱신 실패 - 사용자 세션 목록에 세션이 없음: 사용자={}, 세션={}", email, sessionId);
-        return false;
-    }
+        List<Object> sessionHashes = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                for (String email : emails) {
+                    ops.opsForHash().entries(USER_SESSIONS_KEY_PREFIX + email);
+                }
+                return null;
+            }
+        });
 
-    private Map<String, SessionInfo> getUserSessions(String email) {
-        String userSessionsKey = USER_SESSIONS_KEY_PREFIX + email;
-        Map<Object, Object> sessionIds = redisTemplate.opsForHash().entries(userSessionsKey);
+        List<String> owners = new ArrayList<>();
+        List<String> sessionIds = new ArrayList<>();
+        List<String> sessionKeys = new ArrayList<>();
 
-        Map<String, SessionInfo> result = new HashMap<>();
+        for (int i = 0; i < emails.size() && i < sessionHashes.size(); i++) {
+            if (!(sessionHashes.get(i) instanceof Map<?, ?> sessions)) {
+                continue;
+            }
+            for (Object sessionIdObj : sessions.keySet()) {
+                String sessionId = (String) sessionIdObj;
+                owners.add(emails.get(i));
+                sessionIds.add(sessionId);
+                sessionKeys.add(SESSION_KEY_PREFIX + sessionId);
+            }
+        }
 
-        for (Object sessionIdObj : sessionIds.keySet()) {
-            String sessionId = (String) sessionIdObj;
-            String sessionKey = SESSION_KEY_PREFIX + sessionId;
-            SessionInfo sessionInfo = (SessionInfo) redisTemplate.opsForValue().get(sessionKey);
+        if (sessionKeys.isEmpty()) {
+            return result;
+        }
+
+        List<Object> sessionInfos = redisTemplate.opsForValue().multiGet(sessionKeys);
+        if (sessionInfos == null) {
+            return result;
+        }
 
-            if (sessionInfo != null) {
-                result.put(sessionId, sessionInfo);
+        for (int i = 0; i < sessionKeys.size() && i < sessionInfos.size(); i++) {
+            if (sessionInfos.get(i) instanceof SessionInfo sessionInfo) {
+                result.computeIfAbsent(owners.get(i), email -> new HashMap<>())
+                        .put(sessionIds.get(i), sessionInfo);
             }
         }
 
@@ -1,6 +1,9 @@
 package com.ll.quizzle.global.socket.session;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiConsumer;
 
 import com.ll.quizzle.global.socket.core.SessionInfo;
@@ -31,4 +34,21 @@ public interface WebSocketSessionManager {
     int markOtherSessionsForTermination(String email, String sessionToKeep);
 
     boolean refreshSession(String email, String sessionId);
+
+    /**
+     * 세션 유효성 검사 후 갱신까지 한 번에 처리한다.
+     * 기본 구현은 두 메서드를 차례로 호출하며, 한 번의 왕복으로 처리할 수 있는 구현체는 재정의한다.
+     */
+    default boolean validateAndRefresh(String email, String sessionId) {
+        return isSessionValid(email, sessionId) && refreshSession(email, sessionId);
+    }
+
+    /**
+     * 주어진 사용자 중 세션이 남아 있는 사용자만 반환한다.
+     */
+    default Set<String> findOnlineUsers(Collection<String> emails) {
+        Set<String> online = new HashSet<>(getActiveUserSessions().keySet());
+        online.retainAll(emails);
+        return online;
+    }
 } 
\ No newline at end of file
@@ -10,6 +10,7 @@ import io.jsonwebtoken.security.Keys;
 import lombok.SneakyThrows;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.Map;
 
@@ -21,6 +22,34 @@ public class Ut {
         }
     }
 
+    /**
+     * 분산용 64비트 해시 (FNV-1a 로 만든 값을 MurmurHash3 fmix64 로 섞는다)
+     * 암호용이 아니며, 서버마다 같은 값을 내야 하는 블룸 필터/일관 해시 링에서 쓴다.
+     */
+    public static class hash {
+        private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+        private static final long FNV_PRIME = 0x100000001b3L;
+
+        public static long of(String value) {
+            long hash = FNV_OFFSET;
+            for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b;
+                hash *= FNV_PRIME;
+            }
+            return mix(hash);
+        }
+
+        // MurmurHash3 fmix64 - 연속된 값도 고르게 흩어지도록 섞는다.
+        public static long mix(long value) {
+            value ^= value >>> 33;
+            value *= 0xff51afd7ed558ccdL;
+            value ^= value >>> 33;
+            value *= 0xc4ceb9fe1a85ec53L;
+            value ^= value >>> 33;
+            return value;
+        }
+    }
+
     public static class json {
         private static final ObjectMapper om = AppConfig.getObjectMapper();
 
@@ -38,8 +67,12 @@ public class Ut {
 
     public static class jwt {
         public static String toString(JwtProperties jwtProperties, Map<String, Object> claims) {
+            return toString(jwtProperties, claims, new Date());
+        }
+
+        // 같은 클레임과 발급 시각(초 단위)이면 같은 토큰이 만들어진다.
+        public static String toString(JwtProperties jwtProperties, Map<String, Object> claims, Date now) {
             SecretKey secretKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes());
-            Date now = new Date();
 
             String tokenType = (String) claims.getOrDefault("type", "access");
             long expiration = tokenType.equals("refresh")
@@ -0,0 +1,119 @@
+package com.ll.quizzle.domain.member.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.ll.quizzle.domain.member.dto.MemberPrincipal;
+import com.ll.quizzle.domain.member.repository.MemberRepository;
+import com.ll.quizzle.domain.member.type.Role;
+import com.ll.quizzle.global.config.MemberPrincipalCacheProperties;
+import com.ll.quizzle.global.jwt.dto.TokenClaims;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class MemberPrincipalCacheTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final String EMAIL = "principal@example.com";
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private MemberPrincipalCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(memberRepository.findPrincipalById(MEMBER_ID))
+                .thenReturn(Optional.of(new MemberPrincipal(MEMBER_ID, EMAIL, "테스터", Role.MEMBER)));
+        when(memberRepository.findPrincipalByEmail(EMAIL))
+                .thenReturn(Optional.of(new MemberPrincipal(MEMBER_ID, EMAIL, "테스터", Role.MEMBER)));
+
+        cache = new MemberPrincipalCache(new MemberPrincipalCacheProperties(), memberRepository, redisTemplate,
+                listenerContainer);
+        cache.init();
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 회원은 다음 요청부터 DB 를 조회하지 않고, 토큰의 회원 ID 로 조회한다")
+    void testPrincipalIsLoadedOnceById() {
+        // given
+        TokenClaims claims = claims(MEMBER_ID, EMAIL);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            assertThat(cache.get(claims)).isPresent();
+        }
+
+        // then
+        verify(memberRepository, times(1)).findPrincipalById(MEMBER_ID);
+        verify(memberRepository, never()).findPrincipalByEmail(anyString());
+        assertThat(cache.get(claims).get().toSecurityUser().getAuthorities())
+                .extracting(Object::toString)
+                .containsExactly("ROLE_MEMBER");
+    }
+
+    @Test
+    @DisplayName("회원 ID 가 없는 이전 토큰은 이메일로 조회하고, ID 와 이메일이 다른 회원을 가리키면 거부한다")
+    void testLegacyTokenAndMismatchedClaims() {
+        // when
+        Optional<MemberPrincipal> legacy = cache.get(claims(null, EMAIL));
+        Optional<MemberPrincipal> mismatched = cache.get(claims(MEMBER_ID, "other@example.com"));
+
+        // then
+        assertThat(legacy).isPresent();
+        verify(memberRepository).findPrincipalByEmail(EMAIL);
+        assertThat(mismatched).isEmpty();
+    }
+
+    @Test
+    @DisplayName("권한 변경으로 무효화하면 이 노드 항목을 지우고 다른 노드에 이메일을 발행하며, 받은 노드도 항목을 지운다")
+    void testEvictionIsBroadcast() {
+        // given
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(listener.capture(),
+                eq(new ChannelTopic(MemberPrincipalCache.INVALIDATION_CHANNEL)));
+        TokenClaims claims = claims(MEMBER_ID, EMAIL);
+        cache.get(claims);
+
+        // when
+        cache.evict(EMAIL);
+        cache.get(claims);
+        listener.getValue().onMessage(new DefaultMessage(
+                MemberPrincipalCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                EMAIL.getBytes(StandardCharsets.UTF_8)), null);
+        cache.get(claims);
+
+        // then
+        verify(redisTemplate).convertAndSend(MemberPrincipalCache.INVALIDATION_CHANNEL, EMAIL);
+        verify(memberRepository, times(3)).findPrincipalById(MEMBER_ID);
+    }
+
+    private TokenClaims claims(Long memberId, String email) {
+        return new TokenClaims(email, memberId, null, "MEMBER", "access", System.currentTimeMillis() + 60_000);
+    }
+}
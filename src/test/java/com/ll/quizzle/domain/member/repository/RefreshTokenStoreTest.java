@@ -0,0 +1,175 @@
+package com.ll.quizzle.domain.member.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.ll.quizzle.domain.member.repository.RefreshTokenStore.Rotation;
+import com.ll.quizzle.domain.member.repository.RefreshTokenStore.Status;
+import com.ll.quizzle.domain.member.util.RefreshTokenScripts;
+
+/**
+ * ROTATE_SCRIPT 를 실제 Redis 에서 실행해 교체, 유예 시간 안의 재요청, 재사용 감지, 동시 교체를 확인한다.
+ * 유예 기록에는 리프레시 토큰 원문이 남지 않아야 한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RefreshTokenStoreTest {
+
+    private static final long TTL_SECONDS = 60;
+    private static final long GRACE_SECONDS = 10;
+    private static final long ISSUED_AT = 1_700_000_000L;
+
+    @Autowired
+    private RefreshTokenStore store;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private String email;
+    private final List<String> tokens = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        email = "store-" + UUID.randomUUID() + "@example.com";
+        store.save(email, token("refresh-0"), "access-0", TTL_SECONDS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        List<String> keys = new ArrayList<>();
+        keys.add(RefreshTokenScripts.refreshKey(email));
+        tokens.forEach(token -> keys.add(RefreshTokenScripts.recentKey(RefreshTokenStore.hash(token))));
+        redisTemplate.delete(keys);
+    }
+
+    @Test
+    @DisplayName("현재 토큰은 새 토큰으로 교체되고, 유예 시간 안에 같은 토큰이 다시 오면 이미 발급한 토큰 쌍의 발급 시각과 해시만 돌려준다")
+    void testRotateThenRecent() {
+        // when
+        Rotation rotated = store.rotate(email, token("refresh-0"), token("refresh-1"), "access-1",
+                ISSUED_AT, TTL_SECONDS, GRACE_SECONDS);
+        Rotation recent = store.rotate(email, token("refresh-0"), token("refresh-other"), "access-other",
+                ISSUED_AT + 1, TTL_SECONDS, GRACE_SECONDS);
+        Rotation next = store.rotate(email, token("refresh-1"), token("refresh-2"), "access-2",
+                ISSUED_AT, TTL_SECONDS, GRACE_SECONDS);
+
+        // then
+        assertThat(rotated).isEqualTo(Rotation.rotated("access-1", token("refresh-1")));
+        assertThat(recent).isEqualTo(Rotation.recent(ISSUED_AT, RefreshTokenStore.hash(token("refresh-1"))));
+        assertThat(recent.issued(token("refresh-1"))).isTrue();
+        assertThat(next).isEqualTo(Rotation.rotated("access-2", token("refresh-2")));
+        assertThat(redisTemplate.getExpire(RefreshTokenScripts.refreshKey(email))).isPositive();
+        assertThat(redisTemplate.opsForValue().get(
+                RefreshTokenScripts.recentKey(RefreshTokenStore.hash(token("refresh-0")))))
+                .doesNotContain(token("refresh-1"))
+                .doesNotContain("access-1");
+    }
+
+    @Test
+    @DisplayName("유예 시간이 지난 직전 토큰이 다시 오면 계열 전체를 지우고 마지막 액세스 토큰과 함께 REUSED 를 돌려준다")
+    void testReuseAfterGraceRevokesFamily() {
+        // given
+        store.rotate(email, token("refresh-0"), token("refresh-1"), "access-1",
+                ISSUED_AT, TTL_SECONDS, GRACE_SECONDS);
+        redisTemplate.delete(RefreshTokenScripts.recentKey(RefreshTokenStore.hash(token("refresh-0"))));
+
+        // when
+        Rotation reused = store.rotate(email, token("refresh-0"), token("refresh-2"), "access-2",
+                ISSUED_AT, TTL_SECONDS, GRACE_SECONDS);
+        Rotation afterRevoke = store.rotate(email, token("refresh-1"), token("refresh-3"), "access-3",
+                ISSUED_AT, TTL_SECONDS, GRACE_SECONDS);
+
+        // then
+        assertThat(reused).isEqualTo(Rotation.reused("access-1"));
+        assertThat(afterRevoke.status()).isEqualTo(Status.NOT_FOUND);
+        assertThat(redisTemplate.hasKey(RefreshTokenScripts.refreshKey(email))).isFalse();
+    }
+
+    @Test
+    @DisplayName("유예 시간이 0 이면 직전 토큰은 바로 재사용으로 처리하고, 모르는 토큰은 NOT_FOUND 를 돌려준다")
+    void testNoGraceAndUnknownToken() {
+        // when
+        Rotation unknown = store.rotate(email, token("refresh-unknown"), token("refresh-1"), "access-1",
+                ISSUED_AT, TTL_SECONDS, 0);
+        store.rotate(email, token("refresh-0"), token("refresh-1"), "access-1", ISSUED_AT, TTL_SECONDS, 0);
+        Rotation reused = store.rotate(email, token("refresh-0"), token("refresh-2"), "access-2",
+                ISSUED_AT, TTL_SECONDS, 0);
+
+        // then
+        assertThat(unknown.status()).isEqualTo(Status.NOT_FOUND);
+        assertThat(reused).isEqualTo(Rotation.reused("access-1"));
+    }
+
+    @Test
+    @DisplayName("여러 노드가 같은 토큰으로 동시에 교체해도 하나만 ROTATED 가 되고 나머지는 그 토큰 쌍의 발급 시각과 해시를 받는다")
+    void testConcurrentRotationIssuesSinglePair() throws Exception {
+        // given
+        int requests = 16;
+        String refreshToken = token("refresh-0");
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        try {
+            List<Future<Rotation>> futures = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                String newRefreshToken = token("refresh-node-" + i);
+                String newAccessToken = "access-node-" + i;
+                long issuedAt = ISSUED_AT + i;
+                futures.add(executor.submit(() -> {
+                    start.await(5, TimeUnit.SECONDS);
+                    return store.rotate(email, refreshToken, newRefreshToken, newAccessToken,
+                            issuedAt, TTL_SECONDS, GRACE_SECONDS);
+                }));
+            }
+
+            // when
+            start.countDown();
+            List<Rotation> rotations = new ArrayList<>();
+            for (Future<Rotation> future : futures) {
+                rotations.add(future.get(5, TimeUnit.SECONDS));
+            }
+
+            // then
+            List<Rotation> winners = rotations.stream()
+                    .filter(rotation -> rotation.status() == Status.ROTATED)
+                    .toList();
+            assertThat(winners).hasSize(1);
+            Rotation winner = winners.get(0);
+            long winnerIssuedAt = ISSUED_AT + Long.parseLong(
+                    winner.accessToken().substring("access-node-".length()));
+            assertThat(rotations).filteredOn(rotation -> rotation.status() != Status.ROTATED)
+                    .hasSize(requests - 1)
+                    .allSatisfy(rotation -> {
+                        assertThat(rotation.status()).isEqualTo(Status.RECENT);
+                        assertThat(rotation.issuedAt()).isEqualTo(winnerIssuedAt);
+                        assertThat(rotation.issued(winner.refreshToken())).isTrue();
+                    });
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private String token(String name) {
+        String token = email + ":" + name;
+        if (!tokens.contains(token)) {
+            tokens.add(token);
+        }
+        return token;
+    }
+}
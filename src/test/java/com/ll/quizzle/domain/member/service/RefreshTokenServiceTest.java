@@ -0,0 +1,212 @@
+package com.ll.quizzle.domain.member.service;
+
+import static com.ll.quizzle.global.exceptions.ErrorCode.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.ll.quizzle.domain.member.repository.RefreshTokenRepository;
+import com.ll.quizzle.domain.member.repository.RefreshTokenStore;
+import com.ll.quizzle.domain.member.repository.RefreshTokenStore.Rotation;
+import com.ll.quizzle.global.config.JwtClaimsCacheProperties;
+import com.ll.quizzle.global.config.RefreshTokenProperties;
+import com.ll.quizzle.global.exceptions.ServiceException;
+import com.ll.quizzle.global.jwt.JwtTokenVerifier;
+import com.ll.quizzle.global.jwt.dto.GeneratedToken;
+import com.ll.quizzle.global.jwt.dto.JwtProperties;
+import com.ll.quizzle.global.jwt.dto.RefreshToken;
+import com.ll.quizzle.global.jwt.revocation.TokenRevocationService;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    private static final String EMAIL = "refresh@example.com";
+
+    @Mock
+    private RefreshTokenStore store;
+
+    @Mock
+    private RefreshTokenRepository legacyRepository;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    private JwtTokenVerifier jwtTokenVerifier;
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret("quizzle-refresh-token-test-secret-key-0123456789");
+        jwtProperties.setAccessTokenExpiration(3600);
+        jwtProperties.setRefreshTokenExpiration(86400);
+
+        jwtTokenVerifier = new JwtTokenVerifier(jwtProperties, new JwtClaimsCacheProperties());
+        refreshTokenService = new RefreshTokenService(store, legacyRepository, jwtProperties, jwtTokenVerifier,
+                tokenRevocationService, new RefreshTokenProperties());
+        when(store.rotate(anyString(), anyString(), anyString(), anyString(), anyLong(), anyLong(), anyLong()))
+                .thenAnswer(this::rotated);
+        when(legacyRepository.findById(anyString())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("갱신하면 이메일 키로 한 번만 교체하고, 새 리프레시 토큰과 회원 ID 를 담은 액세스 토큰을 발급한다")
+    void testRotateIssuesNewPair() {
+        // given
+        String refreshToken = refreshTokenService.generateRefreshToken(7L, EMAIL);
+
+        // when
+        GeneratedToken tokens = refreshTokenService.rotate("Bearer " + refreshToken);
+
+        // then
+        assertThat(tokens.refreshToken()).isNotEqualTo(refreshToken);
+        assertThat(jwtTokenVerifier.verify(tokens.accessToken())).hasValueSatisfying(claims -> {
+            assertThat(claims.subject()).isEqualTo(EMAIL);
+            assertThat(claims.memberId()).isEqualTo(7L);
+            assertThat(claims.tokenId()).isNotNull();
+        });
+        verify(store).rotate(eq(EMAIL), eq(refreshToken), eq(tokens.refreshToken()), eq(tokens.accessToken()),
+                anyLong(), eq(86400L), eq(10L));
+        verifyNoInteractions(legacyRepository);
+    }
+
+    @Test
+    @DisplayName("교체된 토큰이 다시 오면 마지막 액세스 토큰을 폐기하고 재사용 오류를 던진다")
+    void testReusedTokenRevokesLastAccessToken() {
+        // given
+        String refreshToken = refreshTokenService.generateRefreshToken(7L, EMAIL);
+        String lastAccessToken = refreshTokenService.rotate(refreshToken).accessToken();
+        when(store.rotate(anyString(), anyString(), anyString(), anyString(), anyLong(), anyLong(), anyLong()))
+                .thenReturn(Rotation.reused(lastAccessToken));
+
+        // when & then
+        assertThatThrownBy(() -> refreshTokenService.rotate(refreshToken))
+                .isInstanceOf(ServiceException.class)
+                .hasMessageContaining(REFRESH_TOKEN_REUSED.getMessage());
+        verify(tokenRevocationService).revoke(argThat(claims -> claims.subject().equals(EMAIL)),
+                eq(lastAccessToken));
+    }
+
+    @Test
+    @DisplayName("새 저장소에 없으면 이전 형식 토큰을 한 번 옮긴 뒤 교체하고, 어디에도 없으면 거부한다")
+    void testLegacyTokenIsMigrated() {
+        // given
+        String legacyToken = refreshTokenService.generateRefreshToken(EMAIL);
+        String unknownToken = refreshTokenService.generateRefreshToken("unknown@example.com");
+        when(store.rotate(anyString(), anyString(), anyString(), anyString(), anyLong(), anyLong(), anyLong()))
+                .thenReturn(Rotation.notFound(), Rotation.rotated("access", "refresh"), Rotation.notFound());
+        when(legacyRepository.findById(EMAIL))
+                .thenReturn(Optional.of(new RefreshToken(EMAIL, legacyToken, "legacy-access")));
+
+        // when
+        GeneratedToken tokens = refreshTokenService.rotate(legacyToken);
+
+        // then
+        assertThat(tokens.accessToken()).isNotBlank();
+        verify(store).save(EMAIL, legacyToken, "legacy-access", 86400L);
+        verify(legacyRepository).deleteById(EMAIL);
+        assertThatThrownBy(() -> refreshTokenService.rotate(unknownToken))
+                .isInstanceOf(ServiceException.class)
+                .hasMessageContaining(REFRESH_TOKEN_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    @DisplayName("같은 리프레시 토큰으로 동시에 갱신하면 저장소는 한 번만 호출되고 모든 요청이 같은 토큰 쌍을 받는다")
+    void testConcurrentRefreshIsCoalesced() throws Exception {
+        // given
+        int requests = 8;
+        String refreshToken = refreshTokenService.generateRefreshToken(7L, EMAIL);
+        CountDownLatch storeEntered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(store.rotate(anyString(), anyString(), anyString(), anyString(), anyLong(), anyLong(), anyLong()))
+                .thenAnswer(invocation -> {
+                    storeEntered.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return rotated(invocation);
+                });
+
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        try {
+            // when
+            List<Future<GeneratedToken>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> refreshTokenService.rotate(refreshToken)));
+            assertThat(storeEntered.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 1; i < requests; i++) {
+                futures.add(executor.submit(() -> refreshTokenService.rotate(refreshToken)));
+            }
+            Thread.sleep(200);
+            release.countDown();
+
+            // then
+            Set<GeneratedToken> issued = new HashSet<>();
+            for (Future<GeneratedToken> future : futures) {
+                issued.add(future.get(5, TimeUnit.SECONDS));
+            }
+            assertThat(issued).hasSize(1);
+            verify(store, times(1)).rotate(anyString(), anyString(), anyString(), anyString(), anyLong(), anyLong());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 방금 교체된 토큰이면 저장소가 돌려준 발급 시각으로 같은 토큰 쌍을 다시 만들고 재사용으로 처리하지 않는다")
+    void testRecentRotationIsRederived() {
+        // given
+        String refreshToken = refreshTokenService.generateRefreshToken(7L, EMAIL);
+        GeneratedToken issued = refreshTokenService.rotate(refreshToken);
+        ArgumentCaptor<Long> issuedAt = ArgumentCaptor.forClass(Long.class);
+        verify(store).rotate(anyString(), anyString(), anyString(), anyString(), issuedAt.capture(), anyLong(),
+                anyLong());
+        when(store.rotate(anyString(), anyString(), anyString(), anyString(), anyLong(), anyLong(), anyLong()))
+                .thenReturn(Rotation.recent(issuedAt.getValue(), RefreshTokenStore.hash(issued.refreshToken())));
+
+        // when
+        GeneratedToken tokens = refreshTokenService.rotate(refreshToken);
+
+        // then
+        assertThat(tokens).isEqualTo(issued);
+        verifyNoInteractions(tokenRevocationService);
+    }
+
+    @Test
+    @DisplayName("저장소의 리프레시 토큰 해시와 다시 만든 토큰이 다르면 토큰 쌍을 내주지 않는다")
+    void testRecentRotationMismatchIsRejected() {
+        // given
+        String refreshToken = refreshTokenService.generateRefreshToken(7L, EMAIL);
+        when(store.rotate(anyString(), anyString(), anyString(), anyString(), anyLong(), anyLong(), anyLong()))
+                .thenReturn(Rotation.recent(1_700_000_000L, RefreshTokenStore.hash("other-refresh-token")));
+
+        // when & then
+        assertThatThrownBy(() -> refreshTokenService.rotate(refreshToken))
+                .isInstanceOf(ServiceException.class)
+                .hasMessageContaining(REFRESH_TOKEN_NOT_FOUND.getMessage());
+    }
+
+    private Rotation rotated(InvocationOnMock invocation) {
+        return Rotation.rotated(invocation.getArgument(3), invocation.getArgument(2));
+    }
+}
@@ -0,0 +1,173 @@
+package com.ll.quizzle.domain.quiz.cache;
+
+import com.ll.quizzle.domain.quiz.dto.QuizContent;
+import com.ll.quizzle.global.config.QuizContentCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class QuizContentCacheTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOps;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOps;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private QuizContentCacheProperties properties;
+    private QuizContentCache quizContentCache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new QuizContentCacheProperties();
+        properties.setMaxEntries(2);
+        quizContentCache = new QuizContentCache(properties, redisTemplate, listenerContainer);
+        quizContentCache.init();
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        when(redisTemplate.opsForHash()).thenReturn(hashOps);
+        when(redisTemplate.hasKey(anyString())).thenReturn(false);
+        when(hashOps.entries(anyString())).thenReturn(Map.of(
+                "count", "2",
+                "q:0", "1: 첫 번째 문제\n", "a:0", "a",
+                "q:1", "2: 두 번째 문제\n", "a:1", "d"
+        ));
+    }
+
+    @Test
+    @DisplayName("처음 한 번만 Redis 에서 읽고 이후에는 메모리에서 반환한다")
+    void loadsOnceThenServesFromMemory() {
+        Optional<QuizContent> first = quizContentCache.get("quiz1");
+        for (int i = 0; i < 9; i++) {
+            quizContentCache.get("quiz1");
+        }
+
+        assertThat(first).isPresent();
+        assertThat(first.get().round(1).answer()).isEqualTo("d");
+        verify(hashOps, times(1)).entries("quiz:quiz1:content");
+
+        QuizContentCacheStats stats = quizContentCache.getStats();
+        assertThat(stats.hits()).isEqualTo(9);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.hitRatio()).isEqualTo(0.9);
+        assertThat(stats.size()).isEqualTo(1);
+        assertThat(stats.approximateBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("공유 세트를 참조하는 퀴즈는 세트 해시를 읽는다")
+    void loadsSharedSetContent() {
+        when(valueOps.get("quiz:quiz1:set")).thenReturn("set1");
+
+        quizContentCache.get("quiz1");
+
+        verify(hashOps).entries("quiz:set:set1:content");
+    }
+
+    @Test
+    @DisplayName("스트리밍 생성 중인 퀴즈는 캐시하지 않는다")
+    void skipsQuizStillGenerating() {
+        when(redisTemplate.hasKey("quiz:quiz1:generating")).thenReturn(true);
+
+        assertThat(quizContentCache.get("quiz1")).isEmpty();
+        assertThat(quizContentCache.getStats().size()).isZero();
+        verify(hashOps, never()).entries(anyString());
+    }
+
+    @Test
+    @DisplayName("캐시하지 못한 퀴즈는 missTtl 동안 Redis 에 다시 확인하지 않고, 지나면 다시 읽는다")
+    void remembersAbsentQuizForMissTtl() {
+        when(redisTemplate.hasKey("quiz:quiz1:generating")).thenReturn(true);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(quizContentCache.get("quiz1")).isEmpty();
+        }
+        verify(redisTemplate, times(1)).hasKey("quiz:quiz1:generating");
+
+        properties.setMissTtl(Duration.ZERO);
+        quizContentCache.invalidate("quiz1");
+        when(redisTemplate.hasKey("quiz:quiz1:generating")).thenReturn(false);
+
+        assertThat(quizContentCache.get("quiz1")).isPresent();
+        verify(hashOps, times(1)).entries("quiz:quiz1:content");
+        assertThat(quizContentCache.getStats().misses()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("maxEntries 를 넘으면 먼저 들어온 퀴즈부터 제거한다")
+    void evictsOldestBeyondMaxEntries() {
+        quizContentCache.get("quiz1");
+        quizContentCache.get("quiz2");
+        quizContentCache.get("quiz3");
+
+        QuizContentCacheStats stats = quizContentCache.getStats();
+        assertThat(stats.size()).isEqualTo(2);
+        assertThat(stats.evictions()).isEqualTo(1);
+
+        quizContentCache.get("quiz1");
+        verify(hashOps, times(2)).entries("quiz:quiz1:content");
+    }
+
+    @Test
+    @DisplayName("ttl 이 지난 항목은 다시 읽는다")
+    void reloadsAfterTtl() {
+        properties.setTtl(Duration.ZERO);
+
+        quizContentCache.get("quiz1");
+        quizContentCache.get("quiz1");
+
+        verify(hashOps, times(2)).entries("quiz:quiz1:content");
+        assertThat(quizContentCache.getStats().evictions()).isZero();
+    }
+
+    @Test
+    @DisplayName("무효화 메시지를 받으면 해당 퀴즈를 제거하고, 직접 무효화하면 다른 노드에 발행한다")
+    void invalidatesThroughPubSub() {
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(listener.capture(), any(ChannelTopic.class));
+
+        quizContentCache.get("quiz1");
+        listener.getValue().onMessage(new DefaultMessage(
+                QuizContentCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "quiz1".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(quizContentCache.getStats().size()).isZero();
+        assertThat(quizContentCache.getStats().invalidations()).isEqualTo(1);
+
+        quizContentCache.get("quiz2");
+        quizContentCache.invalidate("quiz2");
+
+        assertThat(quizContentCache.getStats().size()).isZero();
+        verify(redisTemplate).convertAndSend(QuizContentCache.INVALIDATION_CHANNEL, "quiz2");
+    }
+}
@@ -0,0 +1,249 @@
+package com.ll.quizzle.domain.quiz.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.ll.quizzle.domain.quiz.parser.IncrementalQuizParser;
+import com.ll.quizzle.domain.quiz.parser.ParsedQuestion;
+import com.ll.quizzle.global.config.OpenAIProperties;
+import com.ll.quizzle.global.exceptions.ServiceException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+@DisplayName("OpenAIClient 비동기 요청 테스트")
+class OpenAIClientTest {
+
+    private static final String COMPLETION_BODY = """
+            {"choices":[{"message":{"role":"assistant","content":"1. 문제\\nA) 보기\\n정답: A"}}]}
+            """;
+
+    private HttpServer server;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxObservedInFlight = new AtomicInteger();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile int failuresBeforeSuccess;
+    private volatile int failureStatus;
+    private volatile long responseDelayMillis;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(64));
+        server.createContext("/v1/chat/completions", this::handle);
+        server.createContext("/v1/stream", this::handleStream);
+        server.createContext("/v1/broken-stream", this::handleBrokenStream);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int current = inFlight.incrementAndGet();
+        maxObservedInFlight.accumulateAndGet(current, Math::max);
+        try {
+            exchange.getRequestBody().readAllBytes();
+            int count = requestCount.incrementAndGet();
+            if (responseDelayMillis > 0) {
+                Thread.sleep(responseDelayMillis);
+            }
+
+            if (count <= failuresBeforeSuccess) {
+                exchange.sendResponseHeaders(failureStatus, -1);
+                return;
+            }
+
+            byte[] body = COMPLETION_BODY.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    // 문제 1 까지 보낸 뒤, 테스트가 문제 1 수신을 확인할 때까지 나머지 스트림 전송을 멈춘다.
+    private final CountDownLatch firstQuestionObserved = new CountDownLatch(1);
+
+    private void handleStream(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream os = exchange.getResponseBody()) {
+            writeEvent(os, "1. 대한민국의 수도는?\\n");
+            writeEvent(os, "a) 서울\\nb) 부산\\n정");
+            writeEvent(os, "답: a\\n\\n");
+            firstQuestionObserved.await(5, TimeUnit.SECONDS);
+            writeEvent(os, "2. 1 + 1 은?\\na) 1\\nb) 2\\n정답: b");
+            os.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+            os.flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // 문제 1 을 보낸 뒤 선언한 길이를 다 채우지 않고 연결을 끊는다.
+    private void handleBrokenStream(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 64 * 1024);
+        try (OutputStream os = exchange.getResponseBody()) {
+            writeEvent(os, "1. 대한민국의 수도는?\\na) 서울\\nb) 부산\\n정답: a\\n\\n");
+            writeEvent(os, "2. 1 + 1 은?\\na) 1");
+        } catch (IOException e) {
+            // 길이를 채우지 않고 닫으면 서버가 연결을 끊으며 예외를 던진다.
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void writeEvent(OutputStream os, String content) throws IOException {
+        String event = "data: {\"choices\":[{\"delta\":{\"content\":\"" + content + "\"}}]}\n\n";
+        os.write(event.getBytes(StandardCharsets.UTF_8));
+        os.flush();
+    }
+
+    private OpenAIClient client(int maxInFlight, int maxRetries) {
+        return client("/v1/chat/completions", maxInFlight, maxRetries);
+    }
+
+    private OpenAIClient client(String path, int maxInFlight, int maxRetries) {
+        OpenAIProperties properties = new OpenAIProperties(
+                "http://127.0.0.1:" + server.getAddress().getPort() + path,
+                "test-model",
+                "test-key",
+                maxInFlight,
+                1000,
+                5000,
+                maxRetries,
+                10,
+                50
+        );
+        return new OpenAIClient(properties);
+    }
+
+    @Test
+    @DisplayName("429 응답은 백오프 후 재시도하여 성공한다")
+    void retryOnTooManyRequests() {
+        // given
+        failuresBeforeSuccess = 2;
+        failureStatus = 429;
+        OpenAIClient client = client(4, 3);
+
+        // when
+        String body = client.sendRequestAsync("system", "user").join();
+
+        // then
+        assertThat(body).contains("choices");
+        assertThat(requestCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘긴 5xx 응답은 ServiceException 으로 실패한다")
+    void failAfterMaxRetries() {
+        // given
+        failuresBeforeSuccess = Integer.MAX_VALUE;
+        failureStatus = 503;
+        OpenAIClient client = client(4, 2);
+
+        // when & then
+        assertThatThrownBy(() -> client.sendRequestAsync("system", "user").join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ServiceException.class);
+        assertThat(requestCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("동시 요청 수는 maxInFlight 를 넘지 않으며 모든 요청이 완료된다")
+    void boundedConcurrency() {
+        // given
+        int maxInFlight = 4;
+        int totalRequests = 40;
+        responseDelayMillis = 20;
+        OpenAIClient client = client(maxInFlight, 0);
+
+        // when
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < totalRequests; i++) {
+            futures.add(client.sendRequestAsync("system", "user"));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // then
+        assertThat(futures).allMatch(future -> !future.isCompletedExceptionally());
+        assertThat(maxObservedInFlight.get()).isLessThanOrEqualTo(maxInFlight);
+        assertThat(client.getAvailablePermits()).isEqualTo(maxInFlight);
+    }
+
+    @Test
+    @DisplayName("스트리밍 응답은 정답 줄이 도착하는 즉시 문제 단위로 파싱된다")
+    void streamQuestionsIncrementally() {
+        // given
+        OpenAIClient client = client("/v1/stream", 4, 0);
+        List<ParsedQuestion> questions = Collections.synchronizedList(new ArrayList<>());
+        IncrementalQuizParser parser = new IncrementalQuizParser(question -> {
+            questions.add(question);
+            if (question.number() == 1) {
+                firstQuestionObserved.countDown();
+            }
+        });
+
+        // when
+        CompletableFuture<Void> stream = client.streamRequestAsync("system", "user", parser::accept);
+
+        // then: 스트림이 끝나기 전에 첫 문제가 파싱되어야 서버가 나머지를 전송한다.
+        stream.join();
+        parser.finish();
+
+        assertThat(firstQuestionObserved.getCount()).isZero();
+        assertThat(questions).extracting(ParsedQuestion::number).containsExactly(1, 2);
+        assertThat(questions.get(0).questionText()).isEqualTo("대한민국의 수도는?\na) 서울\nb) 부산");
+        assertThat(questions.get(0).answer()).isEqualTo("a");
+        assertThat(questions.get(1).answer()).isEqualTo("b");
+    }
+
+    @Test
+    @DisplayName("스트림이 시작된 뒤 연결이 끊기면 재시도하지 않고 실패해, 받은 조각이 다시 전달되지 않는다")
+    void doNotRetryAfterStreamStarted() {
+        // given
+        OpenAIClient client = client("/v1/broken-stream", 4, 3);
+        List<ParsedQuestion> questions = Collections.synchronizedList(new ArrayList<>());
+        IncrementalQuizParser parser = new IncrementalQuizParser(questions::add);
+
+        // when & then
+        assertThatThrownBy(() -> client.streamRequestAsync("system", "user", parser::accept).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ServiceException.class);
+        assertThat(requestCount.get()).isEqualTo(1);
+        assertThat(questions).extracting(ParsedQuestion::number).containsExactly(1);
+        assertThat(client.getAvailablePermits()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,121 @@
+package com.ll.quizzle.domain.quiz.parser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 파서 테스트와 성능 측정(src/benchmark)이 함께 쓰는 OpenAI 응답 본문 생성기
+ */
+final class QuizResponseFixtures {
+
+    private static final String[] SUBJECTS = {"조선 건국", "임진왜란", "훈민정음 창제", "광합성", "뉴턴의 운동 법칙"};
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private QuizResponseFixtures() {
+    }
+
+    static String textContent(int count) {
+        StringBuilder content = new StringBuilder();
+        for (int i = 1; i <= count; i++) {
+            content.append(i).append(". ").append(SUBJECTS[i % SUBJECTS.length])
+                    .append("에 대한 설명으로 옳은 것은? (").append(i).append(")\n");
+            for (int choice = 0; choice < 4; choice++) {
+                content.append((char) ('a' + choice)).append(") 보기 ").append(i).append('-').append(choice + 1).append('\n');
+            }
+            content.append("정답: ").append("ABCD".charAt(i % 4)).append("\n\n");
+        }
+        return content.toString();
+    }
+
+    static String structuredContent(int count) throws Exception {
+        List<Map<String, Object>> questions = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            Map<String, Object> question = new LinkedHashMap<>();
+            question.put("number", i);
+            question.put("question", SUBJECTS[i % SUBJECTS.length] + "에 대한 설명으로 옳은 것은? (" + i + ")");
+            List<String> choices = new ArrayList<>();
+            for (int choice = 0; choice < 4; choice++) {
+                choices.add("보기 " + i + "-" + (choice + 1));
+            }
+            question.put("choices", choices);
+            question.put("answer", String.valueOf("abcd".charAt(i % 4)));
+            questions.add(question);
+        }
+        return OBJECT_MAPPER.writeValueAsString(Map.of("questions", questions));
+    }
+
+    static String responseBody(String content) throws Exception {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("id", "chatcmpl-test");
+        body.put("object", "chat.completion");
+        body.put("choices", List.of(Map.of(
+                "index", 0,
+                "message", Map.of("role", "assistant", "content", content),
+                "finish_reason", "stop"
+        )));
+        body.put("usage", Map.of("prompt_tokens", 120, "completion_tokens", 900, "total_tokens", 1020));
+        return OBJECT_MAPPER.writeValueAsString(body);
+    }
+
+    /**
+     * 변경 전 정규식 기반 parseContent 로 파싱한다. (동일 결과 확인 / 성능 비교용)
+     */
+    static QuizGenerationResponse legacyParse(String content) {
+        return LegacyRegexParser.parseContent(content);
+    }
+
+    private static class LegacyRegexParser {
+        private static final Pattern QUESTION_PATTERN =
+                Pattern.compile("^(?:Question\\s+|문제\\s*)?(\\d+)\\.");
+        private static final Pattern ANSWER_PATTERN =
+                Pattern.compile("(?i)(?:정답|answer)[:：]\\s*([A-DOX])");
+
+        static QuizGenerationResponse parseContent(String content) {
+            Map<Integer, String> questionMap = new LinkedHashMap<>();
+            Map<Integer, String> answerMap = new LinkedHashMap<>();
+            int currentQuestion = 0;
+            StringBuilder currentQuestionText = new StringBuilder();
+
+            for (String line : content.split("\\r?\\n")) {
+                String trimmedLine = line.trim();
+                if (trimmedLine.isEmpty()) {
+                    continue;
+                }
+
+                Matcher qm = QUESTION_PATTERN.matcher(trimmedLine);
+                if (qm.find()) {
+                    if (currentQuestion != 0) {
+                        questionMap.put(currentQuestion, currentQuestionText.toString().trim());
+                    }
+                    currentQuestion = Integer.parseInt(qm.group(1));
+                    currentQuestionText = new StringBuilder();
+                    currentQuestionText.append(trimmedLine.replaceFirst("^\\d+\\.\\s*", "")).append("\n");
+                    continue;
+                }
+
+                Matcher am = ANSWER_PATTERN.matcher(trimmedLine);
+                if (am.find() && currentQuestion > 0) {
+                    answerMap.put(currentQuestion, am.group(1).toLowerCase());
+                    continue;
+                }
+
+                if (currentQuestion != 0) {
+                    currentQuestionText.append(line).append("\n");
+                }
+            }
+
+            if (currentQuestion != 0) {
+                questionMap.put(currentQuestion, currentQuestionText.toString().trim());
+            }
+
+            return new QuizGenerationResponse(questionMap, answerMap);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.ll.quizzle.domain.quiz.parser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.ll.quizzle.domain.quiz.parser.QuizResponseFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuizResponseParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final QuizResponseParser parser = new QuizResponseParser();
+
+    @Test
+    @DisplayName("정규식 없는 텍스트 파서는 기존 정규식 파서와 같은 결과를 낸다")
+    void testTextParserParity() throws Exception {
+        List<String> contents = new ArrayList<>(List.of(
+                textContent(10),
+                textContent(50),
+                textContent(10).replace("\n", "\r\n"),
+                "퀴즈를 시작합니다.\n\nQuestion 1. 첫 문제\na) 가\nb) 나\nAnswer： B\n문제 2. 두 번째 문제\nO 또는 X\n정답: o\n",
+                "1.붙어 있는 번호\n정답:c\n정답: d\n2. 정답 없는 문제\n보기만 있음\n3. 잘못된 정답\n정답: E\n",
+                "0. 번호가 0 인 문제\n정답: a\n  4.   앞뒤 공백   \n\tb) 탭 보기\n참고 answer:  x 설명\n",
+                "Question1. 공백 없는 접두어\n문제3 번호 뒤 점 없음\n5. 마지막 줄 개행 없음\n정답: A"
+        ));
+
+        for (String content : contents) {
+            QuizGenerationResponse expected = legacyParse(content);
+            QuizGenerationResponse actual = parser.parse(responseBody(content));
+
+            assertThat(actual.quizText()).containsExactlyEntriesOf(expected.quizText());
+            assertThat(actual.answerMap()).containsExactlyEntriesOf(expected.answerMap());
+        }
+    }
+
+    @Test
+    @DisplayName("구조화 출력(JSON)은 같은 퀴즈의 텍스트 형식과 같은 결과로 파싱된다")
+    void testStructuredMatchesText() throws Exception {
+        for (int count : new int[]{10, 50}) {
+            QuizGenerationResponse fromText = parser.parse(responseBody(textContent(count)));
+            QuizGenerationResponse fromJson = parser.parse(responseBody(structuredContent(count)));
+
+            assertThat(fromJson.quizText()).hasSize(count).containsExactlyEntriesOf(fromText.quizText());
+            assertThat(fromJson.answerMap()).containsExactlyEntriesOf(fromText.answerMap());
+        }
+    }
+
+    @Test
+    @DisplayName("스트리밍 JSON 은 어느 위치에서 잘려 도착해도 문제 객체가 닫히는 즉시 같은 결과를 내보낸다")
+    void testStructuredStreamingChunks() throws Exception {
+        String content = structuredContent(10);
+        List<ParsedQuestion> expected = StructuredQuizParser.parseAll(content);
+
+        for (int chunkSize = 1; chunkSize <= 7; chunkSize++) {
+            List<ParsedQuestion> streamed = new ArrayList<>();
+            List<Integer> fedLengthAtEmit = new ArrayList<>();
+            int[] fed = {0};
+            StructuredQuizParser streamingParser = new StructuredQuizParser(question -> {
+                streamed.add(question);
+                fedLengthAtEmit.add(fed[0]);
+            });
+
+            for (int i = 0; i < content.length(); i += chunkSize) {
+                String chunk = content.substring(i, Math.min(content.length(), i + chunkSize));
+                fed[0] += chunk.length();
+                streamingParser.accept(chunk);
+            }
+            streamingParser.finish();
+
+            assertThat(streamed).containsExactlyElementsOf(expected);
+            assertThat(streamingParser.getEmittedCount()).isEqualTo(10);
+            // 첫 문제는 전체 본문이 도착하기 전에 나와야 한다.
+            assertThat(fedLengthAtEmit.get(0)).isLessThan(content.length() / 5);
+        }
+    }
+
+    @Test
+    @DisplayName("JSON 처럼 보이지만 문제를 얻지 못하면 텍스트 형식으로 파싱한다")
+    void testFallbackToText() throws Exception {
+        QuizGenerationResponse malformed = parser.parse(responseBody("{\"questions\": [ {\"number\": 1, "));
+        assertThat(malformed.quizText()).isEmpty();
+
+        String bracketedText = "[퀴즈]\n1. 대한민국의 수도는?\na) 서울\nb) 부산\n정답: a\n";
+        QuizGenerationResponse fallback = parser.parse(responseBody(bracketedText));
+        assertThat(fallback.quizText()).containsExactly(Map.entry(1, "대한민국의 수도는?\na) 서울\nb) 부산"));
+        assertThat(fallback.answerMap()).containsExactly(Map.entry(1, "a"));
+    }
+
+    @Test
+    @DisplayName("정답이 올바르지 않은 문제는 버리고, O/X 문제는 보기 없이 만든다")
+    void testStructuredValidation() throws Exception {
+        String content = objectMapper.writeValueAsString(Map.of("questions", List.of(
+                Map.of("number", 1, "question", "지구는 둥글다.", "choices", List.of(), "answer", "O"),
+                Map.of("number", 2, "question", "잘못된 정답", "choices", List.of("가", "나"), "answer", "e"),
+                Map.of("number", 3, "question", "3. 기호가 붙은 보기", "choices", List.of("a) 가", "B. 나"), "answer", "b")
+        )));
+
+        List<ParsedQuestion> questions = StructuredQuizParser.parseAll(content);
+
+        assertThat(questions).containsExactly(
+                new ParsedQuestion(1, "지구는 둥글다.", "o"),
+                new ParsedQuestion(3, "기호가 붙은 보기\na) 가\nb) 나", "b")
+        );
+    }
+}
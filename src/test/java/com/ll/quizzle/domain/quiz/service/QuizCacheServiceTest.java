@@ -0,0 +1,127 @@
+package com.ll.quizzle.domain.quiz.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.ll.quizzle.global.config.QuizCacheProperties;
+
+/**
+ * ACQUIRE_SCRIPT 를 실제 Redis 에서 실행해 재사용 정책을 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class QuizCacheServiceTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @Autowired
+    private QuizCacheService quizCacheService;
+
+    @Autowired
+    private QuizCacheProperties cacheProperties;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private String promptHash;
+    private final List<String> setIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        promptHash = "test-" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        List<String> keys = new ArrayList<>();
+        keys.add("quiz:cache:" + promptHash);
+        setIds.forEach(setId -> {
+            keys.add("quiz:set:" + setId + ":meta");
+            keys.add("quiz:set:" + setId + ":members");
+        });
+        redisTemplate.delete(keys);
+    }
+
+    @Test
+    @DisplayName("처음 제공된 방을 포함해 maxReuse 개 방까지 같은 세트를 주고, 그 다음 방은 미스로 처리한다")
+    void testReuseUpToMaxReuse() {
+        // given
+        String setId = register(Set.of(1L));
+
+        // when & then
+        for (long room = 2; room <= cacheProperties.getMaxReuse(); room++) {
+            assertThat(quizCacheService.acquire(promptHash, Set.of(room))).contains(setId);
+        }
+        assertThat(quizCacheService.acquire(promptHash, Set.of(100L))).isEmpty();
+        assertThat(redisTemplate.opsForHash().get("quiz:set:" + setId + ":meta", "reuseCount"))
+                .isEqualTo(String.valueOf(cacheProperties.getMaxReuse()));
+    }
+
+    @Test
+    @DisplayName("세트를 이미 받은 회원이 한 명이라도 있으면 미스로 처리하고, 새로 받은 회원도 제공 이력에 남긴다")
+    void testMemberAlreadyServed() {
+        // given
+        String setId = register(Set.of(1L, 2L));
+
+        // when & then
+        assertThat(quizCacheService.acquire(promptHash, Set.of(2L, 3L))).isEmpty();
+        assertThat(quizCacheService.acquire(promptHash, Set.of(3L))).contains(setId);
+        assertThat(quizCacheService.acquire(promptHash, Set.of(3L, 4L))).isEmpty();
+        assertThat(redisTemplate.opsForSet().members("quiz:set:" + setId + ":members"))
+                .containsExactlyInAnyOrder("1", "2", "3");
+    }
+
+    @Test
+    @DisplayName("신선도 기간이 지난 세트는 후보에서 지우고 미스로 처리한다")
+    void testStaleSetIsEvicted() {
+        // given
+        String setId = register(Set.of(1L));
+        long staleScore = System.currentTimeMillis() - cacheProperties.getFreshness().toMillis() - 1_000;
+        redisTemplate.opsForZSet().add("quiz:cache:" + promptHash, setId, staleScore);
+
+        // when
+        Optional<String> acquired = quizCacheService.acquire(promptHash, Set.of(2L));
+
+        // then
+        assertThat(acquired).isEmpty();
+        assertThat(redisTemplate.opsForZSet().score("quiz:cache:" + promptHash, setId)).isNull();
+    }
+
+    @Test
+    @DisplayName("메타 데이터가 만료된 세트는 후보에서 지우고 다음 후보를 확인한다")
+    void testExpiredSetIsSkipped() {
+        // given
+        String older = register(Set.of(1L));
+        String newer = register(Set.of(2L));
+        redisTemplate.delete("quiz:set:" + newer + ":meta");
+
+        // when
+        Optional<String> acquired = quizCacheService.acquire(promptHash, Set.of(3L));
+
+        // then
+        assertThat(acquired).contains(older);
+        assertThat(redisTemplate.opsForZSet().score("quiz:cache:" + promptHash, newer)).isNull();
+    }
+
+    private String register(Set<Long> memberIds) {
+        String setId = UUID.randomUUID().toString();
+        setIds.add(setId);
+        quizCacheService.register(promptHash, setId, memberIds, TTL);
+        return setId;
+    }
+}
@@ -0,0 +1,193 @@
+package com.ll.quizzle.domain.quiz.service;
+
+import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
+import com.ll.quizzle.domain.quiz.pool.QuizPoolKey;
+import com.ll.quizzle.domain.room.type.AnswerType;
+import com.ll.quizzle.domain.room.type.Difficulty;
+import com.ll.quizzle.domain.room.type.SubCategory;
+import com.ll.quizzle.global.config.QuizPoolProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class QuizPoolServiceTest {
+
+    private static final int SET_SIZE = 5;
+
+    @Mock
+    private QuizGenerator quizGenerator;
+
+    private QuizPoolProperties properties;
+    private QuizPoolService quizPoolService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new QuizPoolProperties();
+        properties.setCapacity(2);
+        properties.setLowWaterMark(1);
+        properties.setSetSize(SET_SIZE);
+        quizPoolService = new QuizPoolService(properties, quizGenerator);
+
+        when(quizGenerator.generateAsync(any(QuizGenerationRequest.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(quizSet(SET_SIZE)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        quizPoolService.shutdown();
+    }
+
+    @Test
+    @DisplayName("처음 요청된 키는 미스로 끝나고 보충 대상이 되며, 보충된 뒤에는 요청한 문제 수만큼 잘라서 꺼낸다")
+    void testMissThenHit() {
+        // given
+        QuizGenerationRequest request = request(3);
+
+        // when
+        Optional<QuizGenerationResponse> first = quizPoolService.take(request);
+        quizPoolService.refillBelowLowWaterMark();
+        Optional<QuizGenerationResponse> second = quizPoolService.take(request);
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).hasValueSatisfying(response -> {
+            assertThat(response.quizText()).containsOnlyKeys(1, 2, 3);
+            assertThat(response.answerMap()).containsOnlyKeys(1, 2, 3);
+        });
+        verify(quizGenerator, times(2)).generateAsync(QuizPoolKey.from(request).toGenerationRequest(SET_SIZE));
+        assertThat(quizPoolService.getStats().hits()).isEqualTo(1);
+        assertThat(quizPoolService.getStats().misses()).isEqualTo(1);
+        assertThat(quizPoolService.getStats().refills()).isEqualTo(2);
+        assertThat(quizPoolService.getStats().pooledSets()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("남은 세트가 lowWaterMark 이상이면 보충하지 않고, 미만으로 떨어지면 capacity 까지 다시 채운다")
+    void testRefillBelowLowWaterMark() {
+        // given
+        QuizGenerationRequest request = request(3);
+        quizPoolService.take(request);
+        quizPoolService.refillBelowLowWaterMark();
+        clearInvocations(quizGenerator);
+
+        // when & then
+        assertThat(quizPoolService.take(request)).isPresent();
+        quizPoolService.refillBelowLowWaterMark();
+        verifyNoInteractions(quizGenerator);
+
+        assertThat(quizPoolService.take(request)).isPresent();
+        quizPoolService.refillBelowLowWaterMark();
+        verify(quizGenerator, times(2)).generateAsync(any(QuizGenerationRequest.class));
+        assertThat(quizPoolService.getStats().pooledSets()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("보충이 실패하면 실패 횟수만 남기고, 다음 주기에 다시 보충한다")
+    void testRefillFailure() {
+        // given
+        QuizGenerationRequest request = request(3);
+        when(quizGenerator.generateAsync(any(QuizGenerationRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("OpenAI 오류")))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(quizSet(SET_SIZE)));
+        quizPoolService.take(request);
+
+        // when
+        quizPoolService.refillBelowLowWaterMark();
+        quizPoolService.refillBelowLowWaterMark();
+
+        // then
+        assertThat(quizPoolService.getStats().refillFailures()).isEqualTo(1);
+        assertThat(quizPoolService.take(request)).isPresent();
+    }
+
+    @Test
+    @DisplayName("정답이 없는 문제는 잘라낼 때 버리고, 남은 문제가 부족한 세트는 폐기한 뒤 다음 세트를 쓴다")
+    void testTruncateDropsQuestionsWithoutAnswer() {
+        // given
+        QuizGenerationResponse missingOne = quizSet(SET_SIZE);
+        missingOne.answerMap().remove(2);
+        QuizGenerationResponse missingThree = quizSet(SET_SIZE);
+        missingThree.answerMap().remove(1);
+        missingThree.answerMap().remove(3);
+        missingThree.answerMap().remove(5);
+        when(quizGenerator.generateAsync(any(QuizGenerationRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(missingThree),
+                        CompletableFuture.completedFuture(missingOne));
+        QuizGenerationRequest request = request(3);
+        quizPoolService.take(request);
+        quizPoolService.refillBelowLowWaterMark();
+
+        // when
+        Optional<QuizGenerationResponse> taken = quizPoolService.take(request);
+
+        // then
+        assertThat(taken).hasValueSatisfying(response -> {
+            assertThat(response.quizText()).containsOnlyKeys(1, 3, 4);
+            assertThat(response.answerMap()).containsOnlyKeys(1, 3, 4);
+        });
+        assertThat(quizPoolService.getStats().pooledSets()).isZero();
+    }
+
+    @Test
+    @DisplayName("풀보다 많은 문제를 요청하면 풀을 건드리지 않고 미스로 처리한다")
+    void testProblemCountLargerThanSetSize() {
+        // when
+        Optional<QuizGenerationResponse> taken = quizPoolService.take(request(SET_SIZE + 1));
+        quizPoolService.refillBelowLowWaterMark();
+
+        // then
+        assertThat(taken).isEmpty();
+        assertThat(quizPoolService.getStats().pooledKeys()).isZero();
+        verifyNoInteractions(quizGenerator);
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서는 보충 스케줄러를 띄우지 않고 항상 미스를 반환한다")
+    void testDisabled() {
+        // given
+        properties.setEnabled(false);
+        quizPoolService.init();
+
+        // when
+        Optional<QuizGenerationResponse> taken = quizPoolService.take(request(3));
+
+        // then
+        assertThat(taken).isEmpty();
+        assertThat(quizPoolService.getStats().misses()).isEqualTo(1);
+        assertThat(quizPoolService.getStats().pooledKeys()).isZero();
+        verifyNoInteractions(quizGenerator);
+    }
+
+    private QuizGenerationRequest request(int problemCount) {
+        return new QuizGenerationRequest(SubCategory.PHYSICS.getMainCategory(), SubCategory.PHYSICS,
+                AnswerType.MULTIPLE_CHOICE, problemCount, Difficulty.EASY, "1");
+    }
+
+    private QuizGenerationResponse quizSet(int size) {
+        Map<Integer, String> quizText = new LinkedHashMap<>();
+        Map<Integer, String> answerMap = new LinkedHashMap<>();
+        for (int number = 1; number <= size; number++) {
+            quizText.put(number, number + ". 문제 " + number);
+            answerMap.put(number, "a");
+        }
+        return new QuizGenerationResponse(quizText, answerMap);
+    }
+}
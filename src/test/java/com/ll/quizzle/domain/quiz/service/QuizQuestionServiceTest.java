@@ -0,0 +1,113 @@
+package com.ll.quizzle.domain.quiz.service;
+
+import com.ll.quizzle.domain.quiz.dto.QuizRound;
+import com.ll.quizzle.domain.quiz.dto.response.QuizQuestionResponse;
+import com.ll.quizzle.domain.quiz.event.QuizRoundEvent;
+import com.ll.quizzle.domain.room.dto.response.RoomGameStatusResponse;
+import com.ll.quizzle.domain.room.dto.response.RoomSocketErrorResponse;
+import com.ll.quizzle.global.socket.fanout.RedisFanoutBroker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class QuizQuestionServiceTest {
+
+    private static final String ROOM_ID = "1";
+    private static final String QUIZ_ID = "quiz1";
+
+    @Mock
+    private RedisFanoutBroker fanoutBroker;
+
+    @Mock
+    private RedisQuizAnswerService redisQuizAnswerService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private QuizQuestionService quizQuestionService;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("문제는 QuizQuestionResponse 로 전송하고 마지막 문제 여부를 함께 담는다")
+    void testSendQuestionAsRecord() {
+        // given
+        when(redisQuizAnswerService.fetchRound(QUIZ_ID, 1, true))
+                .thenReturn(new QuizRound(2, "2: 두 번째 문제\n", "c"));
+
+        // when
+        quizQuestionService.sendQuizQuestion(ROOM_ID, QUIZ_ID, 1);
+
+        // then
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(fanoutBroker).publish(eq("/topic/room/1/question"), payload.capture());
+        assertThat(payload.getValue()).isInstanceOfSatisfying(QuizQuestionResponse.class, question -> {
+            assertThat(question.questionIndex()).isEqualTo(1);
+            assertThat(question.questionText()).isEqualTo("2: 두 번째 문제\n");
+            assertThat(question.correctAnswer()).isEqualTo("c");
+            assertThat(question.isLastQuestion()).isTrue();
+        });
+        verify(eventPublisher).publishEvent(QuizRoundEvent.questionSent(ROOM_ID, QUIZ_ID, 1, true));
+    }
+
+    @Test
+    @DisplayName("문제 수를 넘기면 게임 종료 상태를 RoomGameStatusResponse 로 전송한다")
+    void testSendGameEndAsRecord() {
+        // given
+        when(redisQuizAnswerService.fetchRound(QUIZ_ID, 2, true)).thenReturn(new QuizRound(2, null, null));
+
+        // when
+        quizQuestionService.sendQuizQuestion(ROOM_ID, QUIZ_ID, 2);
+
+        // then
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(fanoutBroker).publish(eq("/topic/room/1/game/status"), payload.capture());
+        assertThat(payload.getValue()).isInstanceOfSatisfying(RoomGameStatusResponse.class, status -> {
+            assertThat(status.status()).isEqualTo("FINISHED");
+            assertThat(status.message()).isEqualTo("모든 문제가 끝났습니다!");
+        });
+        verify(eventPublisher).publishEvent(QuizRoundEvent.finished(ROOM_ID, QUIZ_ID, 2));
+    }
+
+    @Test
+    @DisplayName("조회 중 오류가 나면 오류 메시지를 RoomSocketErrorResponse 로 전송한다")
+    void testSendErrorAsRecord() {
+        // given
+        when(redisQuizAnswerService.fetchRound(anyString(), anyInt(), anyBoolean()))
+                .thenThrow(new IllegalStateException("Redis 연결 실패"));
+
+        // when
+        quizQuestionService.sendQuizQuestion(ROOM_ID, QUIZ_ID, 0);
+
+        // then
+        verify(fanoutBroker).publish("/topic/room/1/error",
+                new RoomSocketErrorResponse("문제 정보 전송 중 오류가 발생했습니다: Redis 연결 실패"));
+        verifyNoInteractions(eventPublisher);
+    }
+}
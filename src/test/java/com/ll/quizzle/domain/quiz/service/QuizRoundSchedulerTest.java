@@ -0,0 +1,171 @@
+package com.ll.quizzle.domain.quiz.service;
+
+import com.ll.quizzle.domain.quiz.dto.response.QuizTimerExpiredResponse;
+import com.ll.quizzle.domain.quiz.dto.response.QuizTimerStartResponse;
+import com.ll.quizzle.domain.quiz.event.QuizRoundEvent;
+import com.ll.quizzle.domain.room.dto.response.QuestionResultResponse;
+import com.ll.quizzle.global.config.QuizRoundProperties;
+import com.ll.quizzle.global.socket.fanout.RedisFanoutBroker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class QuizRoundSchedulerTest {
+
+    private static final String ROOM_ID = "1";
+    private static final String QUIZ_ID = "quiz1";
+    private static final int QUESTION_COUNT = 2;
+
+    @Mock
+    private QuizQuestionService quizQuestionService;
+
+    @Mock
+    private RedisFanoutBroker fanoutBroker;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private QuizRoundProperties properties;
+    private QuizRoundScheduler scheduler;
+    private CountDownLatch finished;
+
+    @BeforeEach
+    void setUp() {
+        properties = new QuizRoundProperties();
+        properties.setQuestionDuration(Duration.ofSeconds(10));
+        properties.setResultDuration(Duration.ofMillis(10));
+        scheduler = new QuizRoundScheduler(properties, quizQuestionService, fanoutBroker,
+                listenerContainer);
+
+        finished = new CountDownLatch(1);
+
+        // 실제 QuizQuestionService 처럼 문제 전송 / 게임 종료 이벤트를 발행한다.
+        doAnswer(invocation -> {
+            int index = invocation.getArgument(2);
+            scheduler.onRoundEvent(index < QUESTION_COUNT
+                    ? QuizRoundEvent.questionSent(ROOM_ID, QUIZ_ID, index, index == QUESTION_COUNT - 1)
+                    : QuizRoundEvent.finished(ROOM_ID, QUIZ_ID, index));
+            if (index >= QUESTION_COUNT) {
+                finished.countDown();
+            }
+            return null;
+        }).when(quizQuestionService).sendQuizQuestion(anyString(), anyString(), anyInt());
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("제한 시간이 지나면 서버가 결과를 공개하고 다음 문제, 게임 종료까지 진행한다")
+    void testAdvanceOnDeadline() throws InterruptedException {
+        properties.setQuestionDuration(Duration.ofMillis(50));
+        scheduler.init();
+
+        scheduler.start(ROOM_ID, QUIZ_ID);
+
+        assertThat(finished.await(2, TimeUnit.SECONDS)).isTrue();
+        verify(quizQuestionService, times(1)).sendQuizQuestion(ROOM_ID, QUIZ_ID, 0);
+        verify(quizQuestionService, times(1)).sendQuizQuestion(ROOM_ID, QUIZ_ID, 1);
+        verify(quizQuestionService, times(1)).sendQuizQuestion(ROOM_ID, QUIZ_ID, 2);
+        verify(fanoutBroker, times(2)).publish(eq("/topic/room/1/timer/start"), any(QuizTimerStartResponse.class));
+        verify(fanoutBroker, times(2)).publish(eq("/topic/room/1/timer/expired"), any(QuizTimerExpiredResponse.class));
+        verify(fanoutBroker, times(2)).publish(eq("/topic/room/1/question/result"),
+                argThat(message -> message instanceof QuestionResultResponse result
+                        && result.showResult() && "TIMEOUT".equals(result.reason())));
+        assertThat(scheduler.activeRounds()).isZero();
+    }
+
+    @Test
+    @DisplayName("전원 제출 알림을 받으면 제한 시간 전에 라운드를 닫고, 중복 알림은 무시한다")
+    void testAdvanceOnAllSubmitted() {
+        scheduler.init();
+        scheduler.start(ROOM_ID, QUIZ_ID);
+        verify(fanoutBroker, timeout(2000)).publish(eq("/topic/room/1/timer/start"), any(Object.class));
+
+        scheduler.onSubmissionNotification("quiz:quiz1:notifications", "\"nextQuestion:1\"");
+        scheduler.onSubmissionNotification("quiz:quiz1:notifications", "\"nextQuestion:1\"");
+
+        verify(quizQuestionService, timeout(2000)).sendQuizQuestion(ROOM_ID, QUIZ_ID, 1);
+        verify(fanoutBroker, times(1)).publish(eq("/topic/room/1/question/result"),
+                argThat(message -> message instanceof QuestionResultResponse result
+                        && result.questionIndex() == 0 && "ALL_SUBMITTED".equals(result.reason())));
+        verify(fanoutBroker, never()).publish(eq("/topic/room/1/timer/expired"), any(Object.class));
+        assertThat(scheduler.activeRounds()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("문제 풀이 중인 라운드의 다음 문제 요청은 거부하고, 결과 공개 중에는 여러 클라이언트가 요청해도 한 번만 전송한다")
+    void testRequestNextOnlyDuringResult() {
+        properties.setResultDuration(Duration.ofSeconds(10));
+        scheduler.init();
+        scheduler.start(ROOM_ID, QUIZ_ID);
+        verify(fanoutBroker, timeout(2000)).publish(eq("/topic/room/1/timer/start"), any(Object.class));
+
+        assertThat(scheduler.requestNext(ROOM_ID, QUIZ_ID, 0, 1)).isFalse();
+
+        scheduler.closeRound(QUIZ_ID, 0, QuizRoundScheduler.CloseReason.ALL_SUBMITTED);
+
+        assertThat(scheduler.requestNext(ROOM_ID, QUIZ_ID, 0, 1)).isTrue();
+        assertThat(scheduler.requestNext(ROOM_ID, QUIZ_ID, 0, 1)).isFalse();
+
+        verify(quizQuestionService, times(1)).sendQuizQuestion(ROOM_ID, QUIZ_ID, 1);
+    }
+
+    @Test
+    @DisplayName("이 노드가 진행하지 않는 퀴즈의 다음 문제 요청은 무시한다")
+    void testRequestNextIgnoresUntrackedQuiz() {
+        scheduler.init();
+
+        assertThat(scheduler.requestNext(ROOM_ID, QUIZ_ID, 0, 1)).isFalse();
+
+        verify(quizQuestionService, never()).sendQuizQuestion(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("라운드를 건너뛰는 다음 문제 요청은 결과 공개 중에도 거부하고 라운드를 바꾸지 않는다")
+    void testRequestNextRejectsSkippedRound() {
+        properties.setResultDuration(Duration.ofSeconds(10));
+        scheduler.init();
+        scheduler.start(ROOM_ID, QUIZ_ID);
+        verify(fanoutBroker, timeout(2000)).publish(eq("/topic/room/1/timer/start"), any(Object.class));
+        scheduler.closeRound(QUIZ_ID, 0, QuizRoundScheduler.CloseReason.ALL_SUBMITTED);
+
+        assertThat(scheduler.requestNext(ROOM_ID, QUIZ_ID, 0, 2)).isFalse();
+        assertThat(scheduler.requestNext(ROOM_ID, QUIZ_ID, 0, 1)).isTrue();
+
+        verify(quizQuestionService, never()).sendQuizQuestion(anyString(), anyString(), eq(2));
+        verify(quizQuestionService, times(1)).sendQuizQuestion(ROOM_ID, QUIZ_ID, 1);
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서는 알림을 구독하지 않고 요청마다 그대로 전송한다")
+    void testDisabled() {
+        properties.setEnabled(false);
+        scheduler.init();
+
+        scheduler.requestNext(ROOM_ID, QUIZ_ID, 0, 1);
+        scheduler.requestNext(ROOM_ID, QUIZ_ID, 0, 1);
+
+        verify(quizQuestionService, times(2)).sendQuizQuestion(ROOM_ID, QUIZ_ID, 1);
+        verifyNoInteractions(listenerContainer);
+    }
+}
@@ -0,0 +1,207 @@
+package com.ll.quizzle.domain.quiz.service;
+
+import com.ll.quizzle.domain.quiz.cache.QuizContentCache;
+import com.ll.quizzle.domain.quiz.dto.QuizContent;
+import com.ll.quizzle.domain.quiz.dto.QuizRound;
+import com.ll.quizzle.domain.quiz.event.QuizRoundEvent;
+import com.ll.quizzle.domain.quiz.util.QuizContentScripts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisQuizAnswerServiceTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisTemplate<String, String> stringRedisTemplate;
+
+    @Mock
+    private ListOperations<String, Object> listOps;
+
+    @Mock
+    private ValueOperations<String, String> stringValueOps;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOps;
+
+    @Mock
+    private QuizContentCache quizContentCache;
+
+    @InjectMocks
+    private RedisQuizAnswerService redisQuizAnswerService;
+
+    private final String quizId = "quiz1";
+
+    @Test
+    @DisplayName("해시 형식 퀴즈는 스크립트 한 번으로 라운드를 조회한다")
+    void fetchRoundFromHashInSingleRoundTrip() {
+        when(stringRedisTemplate.execute(
+                ArgumentMatchers.<RedisScript<String>>any(), anyList(), any(), any(), any()))
+                .thenReturn("H\u001f3\u001fb\u001f2: 두 번째 문제\n");
+
+        QuizRound round = redisQuizAnswerService.fetchRound(quizId, 1, true);
+
+        assertThat(round.questionCount()).isEqualTo(3);
+        assertThat(round.questionText()).isEqualTo("2: 두 번째 문제\n");
+        assertThat(round.answer()).isEqualTo("b");
+
+        verify(stringRedisTemplate, times(1)).execute(
+                eq(QuizContentScripts.ROUND_SCRIPT), eq(QuizContentScripts.roundKeys(quizId)), eq("1"), eq("1"), any());
+        verifyNoInteractions(redisTemplate);
+        verify(stringRedisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    @DisplayName("로컬 캐시에 있는 퀴즈는 스크립트 없이 현재 라운드만 기록한다")
+    void fetchRoundFromLocalCache() {
+        when(quizContentCache.get(quizId)).thenReturn(Optional.of(new QuizContent(
+                List.of("1: 첫 번째 문제\n", "2: 두 번째 문제\n"), List.of("a", "c"))));
+        when(stringRedisTemplate.opsForValue()).thenReturn(stringValueOps);
+
+        QuizRound round = redisQuizAnswerService.fetchRound(quizId, 1, true);
+
+        assertThat(round.questionCount()).isEqualTo(2);
+        assertThat(round.questionText()).isEqualTo("2: 두 번째 문제\n");
+        assertThat(round.answer()).isEqualTo("c");
+        verify(stringValueOps).set("quiz:quiz1:currentRound", "1", RedisQuizAnswerService.QUIZ_TTL);
+        verify(stringRedisTemplate, never()).execute(
+                ArgumentMatchers.<RedisScript<String>>any(), anyList(), any(), any(), any());
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("캐시된 문제 수를 벗어난 인덱스는 Redis 에서 다시 확인한다")
+    void fetchRoundBeyondCachedContentGoesToRedis() {
+        when(quizContentCache.get(quizId)).thenReturn(Optional.of(new QuizContent(
+                List.of("1: 첫 번째 문제\n"), List.of("a"))));
+        when(stringRedisTemplate.execute(
+                ArgumentMatchers.<RedisScript<String>>any(), anyList(), any(), any(), any()))
+                .thenReturn("H\u001f1\u001f\u001f");
+
+        QuizRound round = redisQuizAnswerService.fetchRound(quizId, 1, true);
+
+        assertThat(round.hasQuestion()).isFalse();
+        verify(stringRedisTemplate).execute(
+                eq(QuizContentScripts.ROUND_SCRIPT), anyList(), eq("1"), eq("1"), any());
+    }
+
+    @Test
+    @DisplayName("해시가 없는 이전 리스트 형식 퀴즈는 퀴즈 ID 기준 리스트를 읽는다")
+    void fetchRoundFallsBackToLegacyLists() {
+        when(stringRedisTemplate.execute(
+                ArgumentMatchers.<RedisScript<String>>any(), anyList(), any(), any(), any()))
+                .thenReturn("L");
+        when(redisTemplate.opsForList()).thenReturn(listOps);
+        when(stringRedisTemplate.opsForValue()).thenReturn(stringValueOps);
+        when(listOps.size("quiz:quiz1:questions")).thenReturn(2L);
+        when(listOps.index("quiz:quiz1:questions", 0)).thenReturn("1: 첫 번째 문제\n");
+        when(listOps.index("quiz:quiz1:answers", 0)).thenReturn("1:C");
+
+        QuizRound round = redisQuizAnswerService.fetchRound(quizId, 0, true);
+
+        assertThat(round.questionCount()).isEqualTo(2);
+        assertThat(round.questionText()).isEqualTo("1: 첫 번째 문제\n");
+        assertThat(round.answer()).isEqualTo("c");
+        verify(stringValueOps).set("quiz:quiz1:currentRound", "0", RedisQuizAnswerService.QUIZ_TTL);
+    }
+
+    @Test
+    @DisplayName("문제 수를 벗어난 인덱스는 문제 없이 문제 수만 반환한다")
+    void fetchRoundOutOfRange() {
+        when(stringRedisTemplate.execute(
+                ArgumentMatchers.<RedisScript<String>>any(), anyList(), any(), any(), any()))
+                .thenReturn("H\u001f3\u001f\u001f");
+
+        QuizRound round = redisQuizAnswerService.fetchRound(quizId, 3, false);
+
+        assertThat(round.questionCount()).isEqualTo(3);
+        assertThat(round.hasQuestion()).isFalse();
+        assertThat(round.answer()).isNull();
+    }
+
+    @Test
+    @DisplayName("게임 종료 이벤트를 받으면 퀴즈 내용과 세트 참조를 지우고 로컬 캐시를 무효화한다")
+    void deleteQuizOnGameFinished() {
+        redisQuizAnswerService.onRoundEvent(QuizRoundEvent.finished("1", quizId, 3));
+
+        verify(stringRedisTemplate).delete(List.of(
+                "quiz:quiz1:set",
+                "quiz:quiz1:content",
+                "quiz:quiz1:questions",
+                "quiz:quiz1:answers",
+                "quiz:quiz1:generating"));
+        verify(quizContentCache).invalidate(quizId);
+    }
+
+    @Test
+    @DisplayName("문제 출제 이벤트로는 퀴즈 내용을 지우지 않는다")
+    void keepQuizOnQuestionSent() {
+        redisQuizAnswerService.onRoundEvent(QuizRoundEvent.questionSent("1", quizId, 0, false));
+
+        verify(stringRedisTemplate, never()).delete(anyCollection());
+        verifyNoInteractions(quizContentCache);
+    }
+
+    @Test
+    @DisplayName("퀴즈 저장 시 문제/정답/문제 수를 하나의 해시에 기록한다")
+    @SuppressWarnings("unchecked")
+    void saveQuizWritesSingleHash() {
+        when(stringRedisTemplate.opsForHash()).thenReturn(hashOps);
+
+        redisQuizAnswerService.saveQuiz(quizId,
+                Map.of(2, "두 번째 문제", 1, "첫 번째 문제"),
+                Map.of(1, "a", 2, "d"));
+
+        ArgumentCaptor<Map<String, String>> fields = ArgumentCaptor.forClass(Map.class);
+        verify(hashOps).putAll(eq("quiz:quiz1:content"), fields.capture());
+        verify(stringRedisTemplate).expire("quiz:quiz1:content", RedisQuizAnswerService.QUIZ_TTL);
+        verifyNoInteractions(redisTemplate);
+
+        assertThat(fields.getValue())
+                .containsEntry("count", "2")
+                .containsEntry("q:0", "1: 첫 번째 문제\n")
+                .containsEntry("a:0", "a")
+                .containsEntry("q:1", "2: 두 번째 문제\n")
+                .containsEntry("a:1", "d");
+    }
+
+    @Test
+    @DisplayName("스트리밍 문제 추가는 한 번의 HSET 으로 문제 수까지 갱신한다")
+    @SuppressWarnings("unchecked")
+    void appendQuestionUpdatesCountAtomically() {
+        when(stringRedisTemplate.opsForHash()).thenReturn(hashOps);
+
+        redisQuizAnswerService.appendQuestion(quizId, 4, 5, "다섯 번째 문제", "b");
+
+        ArgumentCaptor<Map<String, String>> fields = ArgumentCaptor.forClass(Map.class);
+        verify(hashOps, times(1)).putAll(eq("quiz:quiz1:content"), fields.capture());
+        assertThat(fields.getValue())
+                .hasSize(3)
+                .containsEntry("q:4", "5: 다섯 번째 문제\n")
+                .containsEntry("a:4", "b")
+                .containsEntry("count", "5");
+        verify(stringRedisTemplate).expire(anyString(), any(Duration.class));
+    }
+}
@@ -0,0 +1,42 @@
+package com.ll.quizzle.domain.quiz.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QuizPromptBuilderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("response_format 은 정의한 순서 그대로 직렬화되어 answer 가 문제 속성의 마지막에 온다")
+    void testResponseFormatKeepsPropertyOrder() throws Exception {
+        // when
+        String first = objectMapper.writeValueAsString(QuizPromptBuilder.responseFormat());
+        String second = objectMapper.writeValueAsString(QuizPromptBuilder.responseFormat());
+
+        // then
+        assertThat(first).isEqualTo(second);
+        assertThat(first).startsWith("{\"type\":\"json_schema\",\"json_schema\":{\"name\":\"quiz_set\",\"strict\":true,");
+        assertThat(first).contains("\"properties\":{\"number\":{\"type\":\"integer\"},"
+                + "\"question\":{\"type\":\"string\"},"
+                + "\"choices\":{\"type\":\"array\",\"items\":{\"type\":\"string\"}},"
+                + "\"answer\":{\"type\":\"string\",\"enum\":[\"a\",\"b\",\"c\",\"d\",\"o\",\"x\"]}}");
+    }
+
+    @Test
+    @DisplayName("공유되는 response_format 은 수정할 수 없다")
+    void testResponseFormatIsReadOnly() {
+        // given
+        Map<String, Object> responseFormat = QuizPromptBuilder.responseFormat();
+
+        // when & then
+        assertThatThrownBy(() -> responseFormat.put("type", "text"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
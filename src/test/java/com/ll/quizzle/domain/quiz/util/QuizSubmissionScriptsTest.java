@@ -0,0 +1,120 @@
+package com.ll.quizzle.domain.quiz.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.ll.quizzle.domain.quiz.dto.QuizSubmissionResult;
+import com.ll.quizzle.domain.quiz.dto.QuizSubmissionResult.Status;
+
+/**
+ * SUBMIT_SCRIPT 를 실제 Redis 에서 실행해 중복 제출 차단, 저장 형식(JSON 문자열), 결과 파싱을 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class QuizSubmissionScriptsTest {
+
+    private static final long ROOM_ID = 9_999L;
+    private static final String TTL_SECONDS = "60";
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private String quizId;
+
+    @BeforeEach
+    void setUp() {
+        quizId = "test-" + UUID.randomUUID();
+        redisTemplate.opsForHash().putAll(QuizContentScripts.contentKey("quiz:" + quizId), Map.of(
+                QuizContentScripts.COUNT_FIELD, "2",
+                QuizContentScripts.questionField(0), "1: 첫 번째 문제",
+                QuizContentScripts.answerField(0), "B",
+                QuizContentScripts.questionField(1), "2: 두 번째 문제",
+                QuizContentScripts.answerField(1), "c"));
+        redisTemplate.opsForSet().add("quiz:" + quizId + ":participants", "\"12\"", "\"13\"");
+    }
+
+    @AfterEach
+    void tearDown() {
+        List<String> keys = new ArrayList<>(List.of(
+                QuizContentScripts.contentKey("quiz:" + quizId),
+                "quiz:" + quizId + ":participants",
+                "quiz:" + quizId + ":currentRound",
+                QuizSubmissionScripts.roomQuizKey(ROOM_ID)));
+        for (String memberId : List.of("12", "13")) {
+            keys.addAll(QuizSubmissionScripts.submitKeys(quizId, memberId, 1));
+        }
+        redisTemplate.delete(keys);
+    }
+
+    @Test
+    @DisplayName("정답을 넘기지 않으면 퀴즈 해시에서 읽어 채점하고, 같은 회원의 두 번째 제출은 SADD 에서 막힌다")
+    void testSubmitReadsAnswerAndRejectsDuplicate() {
+        // when
+        QuizSubmissionResult first = submit("12", 1, "b", "", "");
+        QuizSubmissionResult second = submit("12", 1, "b", "", "");
+
+        // then
+        assertThat(first).isEqualTo(new QuizSubmissionResult(Status.ACCEPTED, true, "b", 2, 1, 2, null));
+        assertThat(second.status()).isEqualTo(Status.DUPLICATE);
+        assertThat(redisTemplate.opsForSet().members("quiz:" + quizId + ":submitted:1"))
+                .containsExactly("\"12\"");
+        assertThat(redisTemplate.opsForList().range("quiz:" + quizId + ":memberId:12:submissions", 0, -1))
+                .containsExactly("\"1:b:correct\"");
+        assertThat(redisTemplate.opsForValue().get("quiz:" + quizId + ":currentRound")).isEqualTo("0");
+    }
+
+    @Test
+    @DisplayName("마지막 참가자가 제출하면 이벤트를 발행하고, 제출 Set 은 SUBMITTED_MEMBERS_SCRIPT 로 다시 읽힌다")
+    void testLastSubmissionEmitsEvent() {
+        // given
+        submit("12", 1, "a", "b", "2");
+        redisTemplate.opsForValue().set(QuizSubmissionScripts.roomQuizKey(ROOM_ID), "\"" + quizId + "\"");
+
+        // when
+        QuizSubmissionResult last = submit("13", 1, "b", "b", "2");
+        String submittedMembers = redisTemplate.execute(QuizSubmissionScripts.SUBMITTED_MEMBERS_SCRIPT,
+                List.of(QuizSubmissionScripts.roomQuizKey(ROOM_ID)), "12", "13", "14");
+
+        // then
+        assertThat(last).isEqualTo(new QuizSubmissionResult(Status.ACCEPTED, true, "b", 2, 2, 2, "nextQuestion"));
+        assertThat(redisTemplate.opsForList().range("quiz:" + quizId + ":memberId:12:submissions", 0, -1))
+                .containsExactly("\"1:a:incorrect\"");
+        assertThat(submittedMembers).isEqualTo("12,13");
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 문제와 현재 라운드가 아닌 문제는 기록 없이 거부한다")
+    void testRejectedSubmissionsLeaveNoTrace() {
+        // when
+        QuizSubmissionResult outOfRange = submit("12", 3, "b", "", "");
+        QuizSubmissionResult notCurrent = submit("12", 2, "c", "", "");
+
+        // then
+        assertThat(outOfRange.status()).isEqualTo(Status.INVALID_QUESTION);
+        assertThat(notCurrent.status()).isEqualTo(Status.NOT_CURRENT_ROUND);
+        assertThat(redisTemplate.hasKey("quiz:" + quizId + ":submitted:2")).isFalse();
+        assertThat(redisTemplate.hasKey("quiz:" + quizId + ":memberId:12:submissions")).isFalse();
+    }
+
+    private QuizSubmissionResult submit(String memberId, int questionNumber, String submittedAnswer,
+                                        String correctAnswer, String totalQuestions) {
+        String result = redisTemplate.execute(QuizSubmissionScripts.SUBMIT_SCRIPT,
+                QuizSubmissionScripts.submitKeys(quizId, memberId, questionNumber),
+                memberId, String.valueOf(questionNumber), submittedAnswer, TTL_SECONDS,
+                correctAnswer, totalQuestions, QuizSubmissionScripts.notificationChannel(quizId));
+        return QuizSubmissionScripts.parseResult(result);
+    }
+}
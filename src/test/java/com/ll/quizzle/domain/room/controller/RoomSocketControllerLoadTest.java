@@ -0,0 +1,169 @@
+package com.ll.quizzle.domain.room.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.quizzle.domain.quiz.service.GPTQuizService;
+import com.ll.quizzle.domain.quiz.service.QuizQuestionService;
+import com.ll.quizzle.domain.quiz.service.QuizRoundScheduler;
+import com.ll.quizzle.domain.room.service.RoomService;
+import com.ll.quizzle.global.cluster.ClusterNode;
+import com.ll.quizzle.global.socket.broadcast.StompBroadcaster;
+import com.ll.quizzle.global.socket.config.WebSocketBrokerProperties;
+import com.ll.quizzle.global.socket.fanout.RedisFanoutBroker;
+import com.ll.quizzle.global.socket.scheduler.DelayedDispatcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 게임 시작이 몰릴 때 인바운드 스레드가 잠들지 않아 다른 방의 메시지 처리가 밀리지 않는지 확인한다.
+ * clientInboundChannel 과 같은 고정 크기 풀에서 게임 시작 요청과 일반 메시지를 함께 처리한다.
+ * 지연 작업은 직접 실행하는 디스패처에 쌓아 두어, 경과 시간이 아니라 실행 순서로 검증한다.
+ */
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class RoomSocketControllerLoadTest {
+
+    private static final int INBOUND_THREADS = 4;
+    private static final int GAME_STARTS = 40;
+    private static final int OTHER_MESSAGES = 400;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private RoomService roomService;
+
+    @Mock
+    private GPTQuizService gptQuizService;
+
+    @Mock
+    private QuizQuestionService quizQuestionService;
+
+    @Mock
+    private QuizRoundScheduler quizRoundScheduler;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOps;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private ManualDelayedDispatcher delayedDispatcher;
+    private RoomSocketController controller;
+    private ExecutorService inboundExecutor;
+
+    @BeforeEach
+    void setUp() {
+        delayedDispatcher = new ManualDelayedDispatcher();
+        StompBroadcaster broadcaster = new StompBroadcaster(messagingTemplate, new ObjectMapper());
+        RedisFanoutBroker fanoutBroker = new RedisFanoutBroker(new ClusterNode("node-a"), broadcaster, redisTemplate,
+                listenerContainer, new WebSocketBrokerProperties());
+        controller = new RoomSocketController(broadcaster, fanoutBroker, roomService, gptQuizService,
+                quizQuestionService, quizRoundScheduler, redisTemplate, delayedDispatcher);
+        inboundExecutor = Executors.newFixedThreadPool(INBOUND_THREADS);
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        when(valueOps.get(anyString())).thenAnswer(invocation -> {
+            String key = invocation.getArgument(0);
+            return key.endsWith(":quizId") ? "quiz-" + key.split(":")[1] : null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        inboundExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("게임 시작이 몰려도 인바운드 스레드가 바로 반환되어 다른 방의 메시지가 지연되지 않는다")
+    void testInboundThroughputDuringGameStartBurst() throws InterruptedException {
+        CountDownLatch processed = new CountDownLatch(GAME_STARTS * 2 + OTHER_MESSAGES);
+
+        for (int i = 1; i <= GAME_STARTS; i++) {
+            String roomId = String.valueOf(i);
+            inboundExecutor.execute(() -> {
+                controller.handleGameStart(roomId, Map.of(), null);
+                processed.countDown();
+            });
+            inboundExecutor.execute(() -> {
+                controller.broadcastGameStart(roomId, Map.of("quizId", "quiz-" + roomId));
+                processed.countDown();
+            });
+        }
+        for (int i = 0; i < OTHER_MESSAGES; i++) {
+            String roomId = String.valueOf(1000 + i);
+            inboundExecutor.execute(() -> {
+                controller.handlePlayerAnswer(roomId, Map.of("playerId", 1, "answer", "a"), null);
+                processed.countDown();
+            });
+        }
+
+        // 모든 핸들러는 예약한 지연 작업이 하나도 실행되지 않은 상태에서 반환되어야 한다.
+        // (Thread.sleep 후 직접 호출하는 방식이면 작업을 실행하기 전까지 반환되지 않거나 start 가 먼저 호출된다)
+        assertThat(processed.await(30, TimeUnit.SECONDS)).isTrue();
+        verify(quizRoundScheduler, never()).start(anyString(), anyString());
+        verify(messagingTemplate, times(GAME_STARTS))
+                .send(matches("^/topic/room/\\d+/status$"), any(Message.class));
+        // 방 메시지는 로컬 브로커뿐 아니라 다른 노드로도 발행된다.
+        verify(redisTemplate, atLeast(GAME_STARTS)).execute(any(RedisCallback.class));
+        assertThat(delayedDispatcher.scheduled).hasSize(GAME_STARTS * 2)
+                .allSatisfy(task -> assertThat(task.delay()).isPositive());
+
+        // 예약된 후속 작업을 실행하면 첫 문제 전송과 상태 재전송이 이어진다.
+        delayedDispatcher.runAll();
+        verify(quizRoundScheduler, times(GAME_STARTS)).start(anyString(), anyString());
+        verify(messagingTemplate, times(GAME_STARTS * 2))
+                .send(matches("^/topic/room/\\d+/status$"), any(Message.class));
+    }
+
+    /**
+     * 예약만 받아 두고, 테스트가 runAll 을 호출할 때 실행하는 디스패처
+     */
+    private static class ManualDelayedDispatcher extends DelayedDispatcher {
+
+        private final Queue<ScheduledTask> scheduled = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable task, Duration delay) {
+            scheduled.add(new ScheduledTask(task, delay));
+            return null;
+        }
+
+        void runAll() {
+            List.copyOf(scheduled).forEach(task -> task.task().run());
+        }
+    }
+
+    private record ScheduledTask(Runnable task, Duration delay) {
+    }
+}
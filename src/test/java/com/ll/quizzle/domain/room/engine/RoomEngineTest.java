@@ -0,0 +1,193 @@
+package com.ll.quizzle.domain.room.engine;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.ll.quizzle.domain.room.type.RoomStatus;
+import com.ll.quizzle.global.config.RoomEngineProperties;
+import com.ll.quizzle.global.exceptions.ServiceException;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class RoomEngineTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final Long OWNER_ID = 100L;
+
+    @Mock
+    private RoomStateStore store;
+
+    private RoomEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        RoomEngineProperties properties = new RoomEngineProperties();
+        properties.setEnabled(true);
+        properties.setPartitions(4);
+        // 주기 저장은 테스트에서 flush 로 직접 일으킨다.
+        properties.setPersistInterval(Duration.ofHours(1));
+
+        when(store.load(anyLong())).thenAnswer(invocation -> new RoomState(invocation.getArgument(0), 8,
+                RoomStatus.WAITING, false, null, OWNER_ID, Set.of(OWNER_ID), Set.of()));
+
+        engine = new RoomEngine(properties, store);
+        engine.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 방에 동시에 들어온 명령은 한 스레드에서 순서대로 실행되고, DB 에서는 한 번만 읽는다")
+    void testCommandsAreSerializedPerRoom() throws Exception {
+        // given
+        int players = 7;
+        int togglesPerPlayer = 101;
+        for (long playerId = 1; playerId <= players; playerId++) {
+            long id = playerId;
+            engine.execute(ROOM_ID, state -> state.addPlayer(id));
+        }
+
+        ExecutorService clients = Executors.newFixedThreadPool(players);
+        CountDownLatch done = new CountDownLatch(players);
+
+        // when
+        for (long playerId = 1; playerId <= players; playerId++) {
+            long id = playerId;
+            clients.submit(() -> {
+                try {
+                    for (int i = 0; i < togglesPerPlayer; i++) {
+                        engine.execute(ROOM_ID, state -> state.toggleReady(id));
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        clients.shutdown();
+
+        // then - 홀수 번 뒤집었으므로 모두 준비 상태여야 한다.
+        Optional<Set<Long>> readyPlayers = engine.execute(ROOM_ID, state -> Set.copyOf(state.getReadyPlayers()));
+        assertThat(readyPlayers).hasValueSatisfying(ready -> assertThat(ready).hasSize(players));
+        verify(store, times(1)).load(ROOM_ID);
+    }
+
+    @Test
+    @DisplayName("변경은 방마다 최신 사본 하나로 모였다가 한 번에 저장된다")
+    void testSnapshotsAreCoalescedAndBatched() {
+        // given
+        engine.execute(ROOM_ID, state -> state.addPlayer(1L));
+        engine.execute(ROOM_ID, state -> state.addPlayer(2L));
+        engine.execute(ROOM_ID, state -> state.toggleReady(2L));
+        engine.execute(2L, state -> state.addPlayer(3L));
+
+        // when
+        engine.shutdown();
+
+        // then
+        ArgumentCaptor<Collection<RoomSnapshot>> batch = ArgumentCaptor.forClass(Collection.class);
+        verify(store, times(1)).persist(batch.capture());
+        assertThat(batch.getValue()).hasSize(2);
+        RoomSnapshot snapshot = batch.getValue().stream()
+                .filter(value -> value.roomId().equals(ROOM_ID))
+                .findFirst()
+                .orElseThrow();
+        assertThat(snapshot.players()).containsExactlyInAnyOrder(OWNER_ID, 1L, 2L);
+        assertThat(snapshot.readyPlayers()).containsExactly(2L);
+        assertThat(snapshot.revision()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("DB 경로 작업 중인 방은 대기 중인 변경을 먼저 저장하고, 명령은 빈 결과를 받는다")
+    void testDetachedRoomFallsBack() {
+        // given
+        engine.execute(ROOM_ID, state -> state.addPlayer(1L));
+
+        // when
+        engine.detach(ROOM_ID);
+        Optional<Boolean> detached = engine.execute(ROOM_ID, state -> state.addPlayer(2L));
+        engine.attach(ROOM_ID);
+        Optional<Boolean> attached = engine.execute(ROOM_ID, state -> state.hasPlayer(1L));
+
+        // then
+        verify(store, times(1)).persist(anyCollection());
+        assertThat(detached).isEmpty();
+        assertThat(attached).isPresent();
+        verify(store, times(2)).load(ROOM_ID);
+    }
+
+    @Test
+    @DisplayName("명령에서 던진 예외는 호출자에게 그대로 전달되고, flush 중 저장에 실패한 변경은 그 자리에서 다시 쓴다")
+    void testErrorsPropagateAndFailedPersistIsRetried() {
+        // given
+        for (long playerId = 1; playerId <= 7; playerId++) {
+            long id = playerId;
+            engine.execute(ROOM_ID, state -> state.addPlayer(id));
+        }
+        List<Integer> persistedSizes = new ArrayList<>();
+        doThrow(new IllegalStateException("db down"))
+                .doAnswer(invocation -> persistedSizes.add(invocation.<Collection<?>>getArgument(0).size()))
+                .when(store).persist(anyCollection());
+
+        // when
+        Throwable full = catchThrowable(() -> engine.execute(ROOM_ID, state -> state.addPlayer(9L)));
+        engine.flush(ROOM_ID);
+        engine.flush(ROOM_ID);
+
+        // then
+        assertThat(full).isInstanceOf(ServiceException.class);
+        verify(store, times(2)).persist(anyCollection());
+        assertThat(persistedSizes).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("detach 중 저장이 계속 실패하면 예외를 던지고 방을 내려놓지 않으며, 변경은 다음 저장 때 다시 쓴다")
+    void testDetachAbortsWhenPersistFails() {
+        // given
+        engine.execute(ROOM_ID, state -> state.addPlayer(1L));
+        doThrow(new IllegalStateException("db down")).when(store).persist(anyCollection());
+
+        // when
+        Throwable failure = catchThrowable(() -> engine.detach(ROOM_ID));
+        Optional<Boolean> stillAttached = engine.execute(ROOM_ID, state -> state.hasPlayer(1L));
+        doNothing().when(store).persist(anyCollection());
+        engine.detach(ROOM_ID);
+        Optional<Boolean> detached = engine.execute(ROOM_ID, state -> state.hasPlayer(1L));
+
+        // then
+        assertThat(failure).isInstanceOf(ServiceException.class);
+        assertThat(stillAttached).contains(true);
+        assertThat(detached).isEmpty();
+        verify(store, times(RoomEngine.PERSIST_ATTEMPTS + 1)).persist(anyCollection());
+        verify(store, times(1)).load(ROOM_ID);
+    }
+}
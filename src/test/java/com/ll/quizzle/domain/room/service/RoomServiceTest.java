@@ -7,6 +7,7 @@ import static org.mockito.Mockito.*;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
@@ -29,6 +31,10 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 import com.ll.quizzle.domain.avatar.entity.Avatar;
 import com.ll.quizzle.domain.member.entity.Member;
 import com.ll.quizzle.domain.member.repository.MemberRepository;
+import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+import com.ll.quizzle.domain.quiz.dto.response.QuizResponse;
+import com.ll.quizzle.domain.quiz.service.GPTQuizService;
+import com.ll.quizzle.domain.quiz.service.QuizParticipantService;
 import com.ll.quizzle.domain.room.dto.request.RoomCreateRequest;
 import com.ll.quizzle.domain.room.dto.request.RoomUpdateRequest;
 import com.ll.quizzle.domain.room.dto.response.RoomResponse;
@@ -39,7 +45,9 @@ import com.ll.quizzle.domain.room.type.Difficulty;
 import com.ll.quizzle.domain.room.type.MainCategory;
 import com.ll.quizzle.domain.room.type.RoomStatus;
 import com.ll.quizzle.domain.room.type.SubCategory;
+import com.ll.quizzle.global.exceptions.ErrorCode;
 import com.ll.quizzle.global.exceptions.ServiceException;
+import com.ll.quizzle.global.redis.lock.DistributedLock;
 import com.ll.quizzle.global.redis.lock.DistributedLockService;
 
 @ExtendWith(MockitoExtension.class)
@@ -67,6 +75,12 @@ class RoomServiceTest {
     @Mock
     private Avatar defaultAvatar;
 
+    @Mock
+    private GPTQuizService gptQuizService;
+
+    @Mock
+    private QuizParticipantService quizParticipantService;
+
 
     @InjectMocks
     private RoomService roomService;
@@ -379,6 +393,8 @@ class RoomServiceTest {
         when(testRoom.isAllPlayersReady()).thenReturn(true);
         when(testRoom.getPlayers()).thenReturn(players);
         when(valueOperations.get(anyString())).thenReturn(null);
+        when(gptQuizService.generateQuiz(any(QuizGenerationRequest.class), anyCollection()))
+                .thenReturn(new QuizResponse("quiz-1", Map.of(), Map.of()));
 
         // when
         roomService.startGame(1L, 1L);
@@ -389,6 +405,51 @@ class RoomServiceTest {
         verify(testRoom).startGame(1L);
     }
 
+    @Test
+    @DisplayName("게임 시작 - 퀴즈를 생성하는 동안 room:{id} 락을 워치독으로 잡고 있다가 반영 후 해제한다")
+    void startGameHoldsRoomLockWhileGeneratingQuizTest() {
+        // given
+        Set<Long> players = new HashSet<>();
+        players.add(1L);
+
+        when(roomRepository.findById(1L)).thenReturn(Optional.of(testRoom));
+        when(testRoom.isOwner(anyLong())).thenReturn(true);
+        when(testRoom.isAllPlayersReady()).thenReturn(true);
+        when(testRoom.getPlayers()).thenReturn(players);
+        when(gptQuizService.generateQuiz(any(QuizGenerationRequest.class), anyCollection())).thenAnswer(invocation -> {
+            verify(redisLockService).acquireLock(eq("room:1"), anyLong(), eq(DistributedLock.WATCHDOG));
+            verify(redisLockService, never()).releaseLock(anyString());
+            return new QuizResponse("quiz-1", Map.of(), Map.of());
+        });
+
+        // when
+        roomService.startGame(1L, 1L);
+
+        // then
+        InOrder inOrder = inOrder(redisLockService, roomRepository, gptQuizService);
+        inOrder.verify(redisLockService).acquireLock(eq("room:1"), anyLong(), eq(DistributedLock.WATCHDOG));
+        inOrder.verify(roomRepository).findById(1L);
+        inOrder.verify(gptQuizService).generateQuiz(any(QuizGenerationRequest.class), anyCollection());
+        inOrder.verify(roomRepository).flush();
+        inOrder.verify(redisLockService).releaseLock("room:1");
+        verify(quizParticipantService).registerParticipant("quiz-1", 1L);
+    }
+
+    @Test
+    @DisplayName("게임 시작 - room:{id} 락을 얻지 못하면 방을 읽지 않고 락 획득 실패로 끝난다")
+    void startGameLockAcquisitionFailedTest() {
+        // given
+        when(redisLockService.acquireLock(eq("room:1"), anyLong(), anyLong())).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> roomService.startGame(1L, 1L))
+            .isInstanceOf(ServiceException.class)
+            .hasMessageContaining(ErrorCode.DISTRIBUTED_LOCK_ACQUISITION_FAILED.getMessage());
+
+        verify(roomRepository, never()).findById(anyLong());
+        verify(redisLockService, never()).releaseLock(anyString());
+    }
+
     @Test
     @DisplayName("게임 시작 테스트 - 방장 아님")
     void startGameNotOwnerTest() {
@@ -0,0 +1,74 @@
+package com.ll.quizzle.global.cluster;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConsistentHashRingTest {
+
+    private static final int VIRTUAL_NODES = 128;
+    private static final int ROOMS = 10_000;
+
+    @Test
+    @DisplayName("노드 목록 순서와 관계없이 모든 노드가 같은 담당 노드를 계산한다")
+    void testSameAssignmentOnEveryNode() {
+        // given
+        ConsistentHashRing ring = ConsistentHashRing.of(List.of("node-a", "node-b", "node-c"), VIRTUAL_NODES);
+        ConsistentHashRing reordered = ConsistentHashRing.of(List.of("node-c", "node-a", "node-b"), VIRTUAL_NODES);
+
+        // when & then
+        for (long roomId = 1; roomId <= ROOMS; roomId++) {
+            assertThat(reordered.nodeFor(roomId)).isEqualTo(ring.nodeFor(roomId));
+        }
+    }
+
+    @Test
+    @DisplayName("연속된 방 ID 도 노드들에 고르게 나뉜다")
+    void testRoomsAreSpreadEvenly() {
+        // given
+        ConsistentHashRing ring = ConsistentHashRing.of(List.of("node-a", "node-b", "node-c", "node-d"), VIRTUAL_NODES);
+
+        // when
+        Map<String, Integer> counts = new HashMap<>();
+        for (long roomId = 1; roomId <= ROOMS; roomId++) {
+            counts.merge(ring.nodeFor(roomId), 1, Integer::sum);
+        }
+
+        // then - 노드당 기대값 2,500 에서 크게 벗어나지 않아야 한다.
+        assertThat(counts).hasSize(4);
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(1_500, 3_500));
+    }
+
+    @Test
+    @DisplayName("노드가 들어오면 새 노드 몫의 방만 옮겨 가고, 나머지 방의 담당은 그대로다")
+    void testOnlyNewNodeShareMovesOnJoin() {
+        // given
+        ConsistentHashRing before = ConsistentHashRing.of(List.of("node-a", "node-b", "node-c"), VIRTUAL_NODES);
+        ConsistentHashRing after = ConsistentHashRing.of(List.of("node-a", "node-b", "node-c", "node-d"), VIRTUAL_NODES);
+
+        // when
+        int moved = 0;
+        for (long roomId = 1; roomId <= ROOMS; roomId++) {
+            String previousOwner = before.nodeFor(roomId);
+            String currentOwner = after.nodeFor(roomId);
+            if (!previousOwner.equals(currentOwner)) {
+                assertThat(currentOwner).isEqualTo("node-d");
+                moved++;
+            }
+        }
+
+        // then - 약 1/4 만 옮겨 간다.
+        assertThat(moved).isBetween(ROOMS / 8, ROOMS * 3 / 8);
+    }
+
+    @Test
+    @DisplayName("노드가 없으면 담당 노드도 없다")
+    void testEmptyRing() {
+        assertThat(ConsistentHashRing.of(List.of(), VIRTUAL_NODES).nodeFor(1L)).isNull();
+    }
+}
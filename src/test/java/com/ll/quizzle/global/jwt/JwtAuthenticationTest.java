@@ -19,6 +19,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -156,6 +157,24 @@ public class JwtAuthenticationTest {
         assertThat(email).isEqualTo(testMember.getEmail());
     }
 
+    @Test
+    @DisplayName("교체된 리프레시 토큰을 다시 쓰면 거부되고, 교체로 받은 리프레시 토큰도 함께 폐기된다")
+    void refreshToken_ReuseRevokesFamily() {
+        // given
+        String refreshToken = generatedTokens.refreshToken();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        GeneratedToken rotated = memberService.refreshTokens(refreshToken, response);
+
+        // when & then
+        assertThat(response.getCookie("refresh_token").getValue()).isEqualTo(rotated.refreshToken());
+        assertThatThrownBy(() -> memberService.refreshAccessToken(refreshToken))
+                .isInstanceOf(ServiceException.class)
+                .hasMessageContaining(REFRESH_TOKEN_REUSED.getMessage());
+        assertThatThrownBy(() -> memberService.refreshAccessToken(rotated.refreshToken()))
+                .isInstanceOf(ServiceException.class)
+                .hasMessageContaining(REFRESH_TOKEN_NOT_FOUND.getMessage());
+    }
+
     @Test
     @DisplayName("만료된 토큰 검증 테스트")
     void expiredToken_FailsValidation() {
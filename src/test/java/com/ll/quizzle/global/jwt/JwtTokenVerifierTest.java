@@ -0,0 +1,106 @@
+package com.ll.quizzle.global.jwt;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.ll.quizzle.global.config.JwtClaimsCacheProperties;
+import com.ll.quizzle.global.jwt.dto.JwtProperties;
+import com.ll.quizzle.global.jwt.dto.TokenClaims;
+import com.ll.quizzle.standard.util.Ut;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+class JwtTokenVerifierTest {
+
+    private static final String EMAIL = "verifier@example.com";
+
+    private JwtProperties jwtProperties;
+    private JwtClaimsCacheProperties cacheProperties;
+    private JwtTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setSecret("quizzle-jwt-verifier-test-secret-key-0123456789");
+        jwtProperties.setAccessTokenExpiration(3600);
+        jwtProperties.setRefreshTokenExpiration(86400);
+
+        cacheProperties = new JwtClaimsCacheProperties();
+        verifier = new JwtTokenVerifier(jwtProperties, cacheProperties);
+    }
+
+    @Test
+    @DisplayName("유효한 토큰은 클레임을 반환하고, 같은 토큰의 다음 검증은 캐시된 클레임을 그대로 쓴다")
+    void testVerifiedClaimsAreCached() {
+        // given
+        String token = accessToken(EMAIL);
+
+        // when
+        Optional<TokenClaims> first = verifier.verify(token);
+        Optional<TokenClaims> second = verifier.verify("Bearer " + token);
+
+        // then
+        assertThat(first).hasValueSatisfying(claims -> {
+            assertThat(claims.subject()).isEqualTo(EMAIL);
+            assertThat(claims.role()).isEqualTo("MEMBER");
+            assertThat(claims.type()).isEqualTo("access");
+        });
+        assertThat(second.get()).isSameAs(first.get());
+        assertThat(verifier.cachedTokenCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰의 서명을 다른 본문에 붙이거나 만료된 토큰을 보내면 거부하고 캐시하지 않는다")
+    void testTamperedAndExpiredTokensAreRejected() {
+        // given
+        String token = accessToken(EMAIL);
+        verifier.verify(token);
+        String[] original = token.split("\\.");
+        String[] forged = accessToken("attacker@example.com").split("\\.");
+        String tampered = forged[0] + "." + forged[1] + "." + original[2];
+        String expired = Jwts.builder()
+                .setSubject(EMAIL)
+                .claim("type", "access")
+                .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes()))
+                .compact();
+
+        // when & then
+        assertThat(verifier.verify(tampered)).isEmpty();
+        assertThat(verifier.verify(expired)).isEmpty();
+        assertThat(verifier.verify("not-a-jwt")).isEmpty();
+        assertThat(verifier.cachedTokenCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시는 maxEntries 를 넘지 않는다")
+    void testCacheIsBounded() {
+        // given
+        cacheProperties.setMaxEntries(20);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            assertThat(verifier.verify(accessToken("member" + i + "@example.com"))).isPresent();
+        }
+
+        // then
+        assertThat(verifier.cachedTokenCount()).isLessThanOrEqualTo(20);
+    }
+
+    private String accessToken(String email) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("sub", email);
+        claims.put("role", "MEMBER");
+        claims.put("type", "access");
+        return Ut.jwt.toString(jwtProperties, claims);
+    }
+}
@@ -0,0 +1,176 @@
+package com.ll.quizzle.global.jwt.revocation;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.ll.quizzle.global.config.TokenRevocationProperties;
+import com.ll.quizzle.global.jwt.dto.JwtProperties;
+import com.ll.quizzle.global.jwt.dto.TokenClaims;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    private static final String EMAIL = "revocation@example.com";
+    private static final String TOKEN = "header.payload.signature";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private StreamOperations<String, String, String> streamOperations;
+
+    @Mock
+    private Cursor<String> cursor;
+
+    private TokenRevocationService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.<String, String>opsForStream()).thenReturn(streamOperations);
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+        when(streamOperations.reverseRange(anyString(), any(Range.class), any(Limit.class))).thenReturn(List.of());
+        when(streamOperations.read(any(StreamReadOptions.class), any(StreamOffset.class))).thenReturn(List.of());
+
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setAccessTokenExpiration(3600);
+        service = new TokenRevocationService(new TokenRevocationProperties(), jwtProperties, redisTemplate);
+        service.resetFilters();
+    }
+
+    @Test
+    @DisplayName("필터가 채워진 뒤에는 폐기되지 않은 토큰을 Redis 조회 없이 통과시킨다")
+    void testActiveTokenSkipsRedisAfterSync() {
+        // given
+        TokenClaims claims = claims(UUID.randomUUID().toString());
+        service.isRevoked(claims, TOKEN);
+        verify(redisTemplate).hasKey("auth:revoked:" + claims.tokenId());
+
+        // when
+        service.sync();
+        clearInvocations(redisTemplate);
+        boolean revoked = service.isRevoked(claims, TOKEN);
+
+        // then
+        assertThat(revoked).isFalse();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("폐기하면 jti 키를 남은 유효기간만큼 저장하고 스트림에 발행하며, 같은 노드에서는 바로 거부된다")
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void testRevokeWritesKeyAndStream() {
+        // given
+        service.sync();
+        TokenClaims claims = claims(UUID.randomUUID().toString());
+        when(redisTemplate.hasKey("auth:revoked:" + claims.tokenId())).thenReturn(true);
+
+        // when
+        service.revoke(claims, TOKEN);
+
+        // then
+        verify(valueOperations).set(eq("auth:revoked:" + claims.tokenId()), eq(EMAIL), longThat(ttl -> ttl > 0),
+                eq(TimeUnit.MILLISECONDS));
+        ArgumentCaptor<MapRecord> record = ArgumentCaptor.forClass(MapRecord.class);
+        verify(streamOperations).add(record.capture());
+        assertThat(record.getValue().getStream()).isEqualTo(TokenRevocationService.REVOCATION_STREAM_KEY);
+        assertThat(service.isRevoked(claims, TOKEN)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 폐기는 스트림 동기화 후 필터에 걸려 Redis 로 확인된다")
+    @SuppressWarnings("unchecked")
+    void testRemoteRevocationIsSyncedFromStream() {
+        // given
+        TokenClaims claims = claims(UUID.randomUUID().toString());
+        MapRecord<String, String, String> remote = StreamRecords.string(Map.of("jti", claims.tokenId()))
+                .withStreamKey(TokenRevocationService.REVOCATION_STREAM_KEY)
+                .withId(RecordId.of("1-0"));
+        when(streamOperations.read(any(StreamReadOptions.class), any(StreamOffset.class)))
+                .thenReturn(List.of(), List.of(remote), List.of());
+        when(redisTemplate.hasKey("auth:revoked:" + claims.tokenId())).thenReturn(true);
+        service.sync();
+        assertThat(service.isRevoked(claims, TOKEN)).isFalse();
+
+        // when
+        service.sync();
+
+        // then
+        assertThat(service.isRevoked(claims, TOKEN)).isTrue();
+    }
+
+    @Test
+    @DisplayName("jti 가 없는 이전 토큰은 기존 LOGOUT 키로 폐기하고 확인한다")
+    void testLegacyTokenUsesLogoutKey() {
+        // given
+        service.sync();
+        TokenClaims claims = claims(null);
+        when(redisTemplate.hasKey("LOGOUT:" + TOKEN)).thenReturn(true);
+
+        // when
+        service.revoke(claims, TOKEN);
+
+        // then
+        verify(valueOperations).set(eq("LOGOUT:" + TOKEN), eq(EMAIL), longThat(ttl -> ttl > 0),
+                eq(TimeUnit.MILLISECONDS));
+        assertThat(service.isRevoked(claims, TOKEN)).isTrue();
+    }
+
+    @Test
+    @DisplayName("블룸 필터는 넣은 값을 놓치지 않고, 오탐률은 설정값 근처에 머문다")
+    void testBloomFilterFalsePositiveRate() {
+        // given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        List<String> inserted = IntStream.range(0, 10_000)
+                .mapToObj(i -> UUID.randomUUID().toString())
+                .toList();
+        inserted.forEach(filter::put);
+
+        // when
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> filter.mightContain(UUID.randomUUID().toString()))
+                .count();
+
+        // then
+        assertThat(inserted).allMatch(filter::mightContain);
+        assertThat(falsePositives).isLessThan(250);
+    }
+
+    private TokenClaims claims(String tokenId) {
+        return new TokenClaims(EMAIL, 1L, tokenId, "MEMBER", "access", System.currentTimeMillis() + 60_000);
+    }
+}
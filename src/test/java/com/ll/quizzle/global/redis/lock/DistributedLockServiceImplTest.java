@@ -0,0 +1,122 @@
+package com.ll.quizzle.global.redis.lock;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class DistributedLockServiceImplTest {
+
+    private static final String LOCK_KEY = "room:1";
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RLock lock;
+
+    @Mock
+    private RLock fairLock;
+
+    @Mock
+    private RAtomicLong fencingCounter;
+
+    private LockMetrics lockMetrics;
+    private DistributedLockServiceImpl lockService;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        when(redissonClient.getLock(anyString())).thenReturn(lock);
+        when(redissonClient.getFairLock(anyString())).thenReturn(fairLock);
+        when(redissonClient.getAtomicLong(DistributedLockServiceImpl.FENCING_COUNTER_KEY)).thenReturn(fencingCounter);
+        when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+        when(fairLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+        when(lock.isHeldByCurrentThread()).thenReturn(true);
+        when(fencingCounter.incrementAndGet()).thenReturn(1L, 2L, 3L);
+
+        lockMetrics = new LockMetrics();
+        lockService = new DistributedLockServiceImpl(redissonClient, lockMetrics);
+    }
+
+    @Test
+    @DisplayName("락을 얻을 때마다 더 큰 펜싱 토큰이 발급되고, 락을 가진 동안에만 현재 스레드에 등록된다")
+    void testFencingTokensIncreaseAndAreBoundWhileHeld() {
+        // when
+        LockHandle first = lockService.tryAcquire(LOCK_KEY, 100, 1000, false).orElseThrow();
+        Optional<Long> boundToken = FencingTokenContext.current(LOCK_KEY);
+        lockService.release(first);
+        LockHandle second = lockService.tryAcquire(LOCK_KEY, 100, 1000, false).orElseThrow();
+        lockService.release(second);
+
+        // then
+        assertThat(boundToken).contains(first.getFencingToken());
+        assertThat(second.getFencingToken()).isGreaterThan(first.getFencingToken());
+        assertThat(FencingTokenContext.current(LOCK_KEY)).isEmpty();
+        verify(lock, times(2)).unlock();
+    }
+
+    @Test
+    @DisplayName("워치독 락은 유효기간 없이 요청하고, 공정 락은 공정 락 객체로 잠근다")
+    void testWatchdogAndFairLock() throws InterruptedException {
+        // when
+        lockService.tryAcquire(LOCK_KEY, 100, DistributedLock.WATCHDOG, false);
+        lockService.tryAcquire("room:2", 100, 1000, true);
+
+        // then
+        verify(lock).tryLock(100, -1, TimeUnit.MILLISECONDS);
+        verify(fairLock).tryLock(100, 1000, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    @DisplayName("현재 스레드가 얻지 않은 락이나 유효기간이 지나 소유권을 잃은 락은 해제하지 않는다")
+    void testReleaseChecksOwnership() {
+        // given
+        lockService.releaseLock(LOCK_KEY);
+        assertThat(lockService.acquireLock(LOCK_KEY, 100, 1000)).isTrue();
+        when(lock.isHeldByCurrentThread()).thenReturn(false);
+
+        // when
+        lockService.releaseLock(LOCK_KEY);
+
+        // then
+        verify(lock, never()).unlock();
+        assertThat(FencingTokenContext.current(LOCK_KEY)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("획득 실패와 대기/보유 시간이 키별 지표에 기록된다")
+    void testMetricsAreRecordedPerKey() throws InterruptedException {
+        // given
+        LockHandle handle = lockService.tryAcquire(LOCK_KEY, 100, 1000, false).orElseThrow();
+        lockService.release(handle);
+        when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(false);
+
+        // when
+        Optional<LockHandle> failed = lockService.tryAcquire(LOCK_KEY, 100, 1000, false);
+
+        // then
+        assertThat(failed).isEmpty();
+        LockKeyStats stats = lockMetrics.getStats().keys().get(0);
+        assertThat(stats.key()).isEqualTo(LOCK_KEY);
+        assertThat(stats.acquisitions()).isEqualTo(1);
+        assertThat(stats.failures()).isEqualTo(1);
+        assertThat(stats.waitHistogram().values().stream().mapToLong(Long::longValue).sum()).isEqualTo(2);
+        assertThat(stats.holdHistogram().values().stream().mapToLong(Long::longValue).sum()).isEqualTo(1);
+    }
+}
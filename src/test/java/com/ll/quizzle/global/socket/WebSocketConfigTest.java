@@ -9,8 +9,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
 import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -19,6 +23,7 @@ import org.springframework.web.socket.WebSocketSession;
 import com.ll.quizzle.domain.member.entity.Member;
 import com.ll.quizzle.domain.member.service.MemberService;
 import com.ll.quizzle.domain.member.type.Role;
+import com.ll.quizzle.global.socket.config.WebSocketBrokerProperties;
 import com.ll.quizzle.global.socket.config.WebSocketConfig;
 import com.ll.quizzle.global.socket.interceptor.StompChannelInterceptor;
 import com.ll.quizzle.global.socket.interceptor.WebSocketHandshakeInterceptor;
@@ -51,7 +56,7 @@ class WebSocketConfigTest {
 
     @BeforeEach
     void setUp() {
-        webSocketConfig = new WebSocketConfig(handshakeInterceptor, channelInterceptor);
+        webSocketConfig = new WebSocketConfig(handshakeInterceptor, channelInterceptor, new WebSocketBrokerProperties());
         
         // 테스트 멤버 생성
         testMember = Member.builder()
@@ -117,6 +122,40 @@ class WebSocketConfigTest {
         assertThat(mockRegistration.getInterceptorCount()).isEqualTo(1);
     }
     
+    @Test
+    @DisplayName("기본 설정은 내장 브로커를, relay 모드는 외부 STOMP 브로커 중계를 사용한다")
+    void testBrokerModeConfiguration() {
+        // given
+        WebSocketBrokerProperties relayProperties = new WebSocketBrokerProperties();
+        relayProperties.setMode(WebSocketBrokerProperties.Mode.RELAY);
+        relayProperties.getRelay().setHost("broker.internal");
+        relayProperties.getRelay().setPort(61614);
+        WebSocketConfig relayConfig = new WebSocketConfig(handshakeInterceptor, channelInterceptor, relayProperties);
+
+        MessageBrokerRegistry simpleRegistry = newBrokerRegistry();
+        MessageBrokerRegistry relayRegistry = newBrokerRegistry();
+
+        // when
+        webSocketConfig.configureMessageBroker(simpleRegistry);
+        relayConfig.configureMessageBroker(relayRegistry);
+
+        // then
+        assertThat(ReflectionTestUtils.getField(simpleRegistry, "simpleBrokerRegistration")).isNotNull();
+        assertThat(ReflectionTestUtils.getField(simpleRegistry, "brokerRelayRegistration")).isNull();
+
+        Object relayRegistration = ReflectionTestUtils.getField(relayRegistry, "brokerRelayRegistration");
+        assertThat(ReflectionTestUtils.getField(relayRegistry, "simpleBrokerRegistration")).isNull();
+        assertThat(relayRegistration).isNotNull();
+        assertThat(ReflectionTestUtils.getField(relayRegistration, "relayHost")).isEqualTo("broker.internal");
+        assertThat(ReflectionTestUtils.getField(relayRegistration, "relayPort")).isEqualTo(61614);
+        assertThat(ReflectionTestUtils.getField(relayRegistration, "userRegistryBroadcast"))
+                .isEqualTo("/topic/simp-user-registry");
+    }
+
+    private MessageBrokerRegistry newBrokerRegistry() {
+        return new MessageBrokerRegistry(Mockito.mock(SubscribableChannel.class), Mockito.mock(MessageChannel.class));
+    }
+
     private static class MockChannelRegistration extends ChannelRegistration {
         private int interceptorCount = 0;
         
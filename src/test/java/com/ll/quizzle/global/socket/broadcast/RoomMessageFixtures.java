@@ -0,0 +1,52 @@
+package com.ll.quizzle.global.socket.broadcast;
+
+import com.ll.quizzle.global.socket.dto.response.WebSocketRoomMessageResponse;
+import com.ll.quizzle.global.socket.dto.response.WebSocketRoomPlayerResponse;
+import com.ll.quizzle.global.socket.type.RoomMessageType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 브로드캐스터 테스트와 성능 측정(src/benchmark)이 함께 쓰는 8인 방 메시지
+ */
+final class RoomMessageFixtures {
+
+    static final int PLAYERS = 8;
+
+    private RoomMessageFixtures() {
+    }
+
+    static WebSocketRoomMessageResponse roomMessage(String data) {
+        return WebSocketRoomMessageResponse.of(RoomMessageType.JOIN, "플레이어8님이 입장하셨습니다.", data,
+                "8", "플레이어8", 1_700_000_000_000L, "42");
+    }
+
+    /**
+     * 변경 전 Map 기반 플레이어 목록
+     */
+    static List<Map<String, Object>> legacyPlayers() {
+        List<Map<String, Object>> players = new ArrayList<>();
+        for (long id = 1; id <= PLAYERS; id++) {
+            Map<String, Object> playerInfo = new HashMap<>();
+            playerInfo.put("id", Long.toString(id));
+            playerInfo.put("name", "플레이어" + id);
+            playerInfo.put("isReady", id % 2 == 0);
+            playerInfo.put("isOwner", id == 1);
+            playerInfo.put("nickname", "플레이어" + id);
+            playerInfo.put("isSubmitted", false);
+            players.add(playerInfo);
+        }
+        return players;
+    }
+
+    static List<WebSocketRoomPlayerResponse> players() {
+        List<WebSocketRoomPlayerResponse> players = new ArrayList<>(PLAYERS);
+        for (long id = 1; id <= PLAYERS; id++) {
+            players.add(WebSocketRoomPlayerResponse.of(id, "플레이어" + id, null, id % 2 == 0, id == 1, false));
+        }
+        return players;
+    }
+}
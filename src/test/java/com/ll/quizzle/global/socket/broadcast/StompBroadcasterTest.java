@@ -0,0 +1,102 @@
+package com.ll.quizzle.global.socket.broadcast;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class StompBroadcasterTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private StompBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new StompBroadcaster(messagingTemplate, objectMapper);
+    }
+
+    @Test
+    @DisplayName("한 번 만든 메시지는 여러 목적지로 보내도 같은 본문 바이트를 공유한다")
+    void testSameMessageForEveryDestination() throws Exception {
+        // given
+        Message<byte[]> message = broadcaster.toMessage(Map.of("gameStatus", "IN_PROGRESS"));
+
+        // when
+        broadcaster.send("/topic/room/1/status", message);
+        broadcaster.send("/topic/room/1/game/status", message);
+
+        // then
+        ArgumentCaptor<Message<?>> sent = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate, times(2)).send(anyString(), sent.capture());
+        assertThat(sent.getAllValues()).allSatisfy(value -> assertThat(value).isSameAs(message));
+        assertThat(message.getHeaders().get(MessageHeaders.CONTENT_TYPE)).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("문자열은 UTF-8 텍스트로 보내고, 재사용 버퍼는 이전 내용을 남기지 않는다")
+    void testTextPayloadAndBufferReuse() throws Exception {
+        // given
+        broadcaster.encode(Map.of("content", "x".repeat(10_000)));
+
+        // when
+        byte[] small = broadcaster.encode(Map.of("type", "JOIN"));
+        broadcaster.broadcast("/topic/lobby", "안녕하세요");
+
+        // then
+        assertThat(new String(small, StandardCharsets.UTF_8)).isEqualTo("{\"type\":\"JOIN\"}");
+
+        ArgumentCaptor<Message<?>> sent = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate).send(eq("/topic/lobby"), sent.capture());
+        assertThat(new String((byte[]) sent.getValue().getPayload(), StandardCharsets.UTF_8)).isEqualTo("안녕하세요");
+        assertThat(sent.getValue().getHeaders().get(MessageHeaders.CONTENT_TYPE).toString()).isEqualTo("text/plain;charset=UTF-8");
+    }
+
+    @Test
+    @DisplayName("레코드를 한 번 인코딩한 8인 방 메시지는 기존 Map + convertAndSend 변환과 같은 JSON 을 만든다")
+    void testEncodedRoomMessageMatchesLegacyConversion() throws Exception {
+        // given
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(objectMapper);
+
+        // when
+        byte[] legacy = (byte[]) converter.toMessage(
+                RoomMessageFixtures.roomMessage(objectMapper.writeValueAsString(RoomMessageFixtures.legacyPlayers())),
+                null).getPayload();
+        byte[] encodedOnce = broadcaster.toMessage(broadcaster.encode(
+                RoomMessageFixtures.roomMessage(objectMapper.writeValueAsString(RoomMessageFixtures.players()))),
+                true).getPayload();
+
+        // then
+        // data 는 문자열로 담긴 플레이어 목록이라 따로 비교한다.
+        ObjectNode legacyJson = (ObjectNode) objectMapper.readTree(legacy);
+        ObjectNode encodedJson = (ObjectNode) objectMapper.readTree(encodedOnce);
+        assertThat(objectMapper.readTree(encodedJson.remove("data").asText()))
+                .isEqualTo(objectMapper.readTree(legacyJson.remove("data").asText()));
+        assertThat(encodedJson).isEqualTo(legacyJson);
+    }
+}
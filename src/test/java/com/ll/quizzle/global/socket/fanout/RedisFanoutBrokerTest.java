@@ -0,0 +1,142 @@
+package com.ll.quizzle.global.socket.fanout;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.quizzle.global.cluster.ClusterNode;
+import com.ll.quizzle.global.socket.broadcast.StompBroadcaster;
+import com.ll.quizzle.global.socket.config.WebSocketBrokerProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class RedisFanoutBrokerTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private RedisConnection connection;
+
+    private ObjectMapper objectMapper;
+    private WebSocketBrokerProperties brokerProperties;
+    private RedisFanoutBroker broker;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = spy(new ObjectMapper());
+        brokerProperties = new WebSocketBrokerProperties();
+        broker = new RedisFanoutBroker(new ClusterNode("node-a"), new StompBroadcaster(messagingTemplate, objectMapper),
+                redisTemplate, listenerContainer, brokerProperties);
+
+        when(redisTemplate.execute(any(RedisCallback.class))).thenAnswer(invocation ->
+                invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection));
+    }
+
+    @Test
+    @DisplayName("봉투는 발신 노드, 목적지, 본문 바이트를 그대로 복원한다")
+    void testEnvelopeRoundTrip() {
+        byte[] payload = "{\"type\":\"CHAT\",\"content\":\"안녕\"}".getBytes(StandardCharsets.UTF_8);
+        FanoutEnvelope envelope = new FanoutEnvelope("node-a", "/topic/room/12", true, payload);
+
+        FanoutEnvelope decoded = FanoutEnvelope.decode(envelope.encode());
+
+        assertThat(decoded.originNodeId()).isEqualTo("node-a");
+        assertThat(decoded.destination()).isEqualTo("/topic/room/12");
+        assertThat(decoded.json()).isTrue();
+        assertThat(decoded.payload()).isEqualTo(payload);
+        assertThatThrownBy(() -> FanoutEnvelope.decode(new byte[]{9, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("패턴 하나만 구독한다")
+    void testSinglePatternSubscription() {
+        broker.init();
+
+        verify(listenerContainer, times(1)).addMessageListener(any(), eq(new PatternTopic("ws:fanout:*")));
+    }
+
+    @Test
+    @DisplayName("발행 시 본문은 한 번만 직렬화되고, 같은 바이트가 로컬 브로커와 Redis 봉투에 쓰인다")
+    void testPublishSerializesOnce() throws Exception {
+        // given
+        Map<String, Object> payload = Map.of("type", "GAME_START", "roomId", 12);
+
+        // when
+        broker.publish("/topic/room/12", payload);
+
+        // then
+        verify(objectMapper, times(1)).writeValue(any(OutputStream.class), eq(payload));
+
+        ArgumentCaptor<Message<?>> local = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate).send(eq("/topic/room/12"), local.capture());
+        byte[] localBytes = (byte[]) local.getValue().getPayload();
+        assertThat(local.getValue().getHeaders().get(MessageHeaders.CONTENT_TYPE)).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+
+        ArgumentCaptor<byte[]> envelope = ArgumentCaptor.forClass(byte[].class);
+        verify(connection).publish(eq("ws:fanout:/topic/room/12".getBytes(StandardCharsets.UTF_8)), envelope.capture());
+        FanoutEnvelope published = FanoutEnvelope.decode(envelope.getValue());
+        assertThat(published.originNodeId()).isEqualTo("node-a");
+        assertThat(published.payload()).isEqualTo(localBytes);
+    }
+
+    @Test
+    @DisplayName("자기 노드가 발행한 메시지는 건너뛰고, 다른 노드 메시지는 바이트 그대로 전달한다")
+    void testSkipSelfAndForwardOthers() throws Exception {
+        byte[] payload = "ROOM_UPDATED:12".getBytes(StandardCharsets.UTF_8);
+
+        broker.onFanoutMessage(new FanoutEnvelope("node-a", "/topic/lobby", false, payload).encode());
+        verify(messagingTemplate, never()).send(anyString(), any(Message.class));
+
+        broker.onFanoutMessage(new FanoutEnvelope("node-b", "/topic/lobby", false, payload).encode());
+
+        ArgumentCaptor<Message<?>> delivered = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate).send(eq("/topic/lobby"), delivered.capture());
+        assertThat((byte[]) delivered.getValue().getPayload()).isEqualTo(payload);
+        verify(objectMapper, never()).writeValue(any(OutputStream.class), any());
+    }
+
+    @Test
+    @DisplayName("외부 브로커 중계 모드에서는 로컬 브로커로만 보낸다")
+    void testRelayModeSkipsRedis() {
+        brokerProperties.setMode(WebSocketBrokerProperties.Mode.RELAY);
+
+        broker.init();
+        broker.publish("/topic/room/12", "hello");
+
+        verify(messagingTemplate).send(eq("/topic/room/12"), any(Message.class));
+        verify(redisTemplate, never()).execute(any(RedisCallback.class));
+        verify(listenerContainer, never()).addMessageListener(any(), any(PatternTopic.class));
+    }
+}
@@ -0,0 +1,130 @@
+package com.ll.quizzle.global.socket.interceptor;
+
+import com.ll.quizzle.domain.member.service.MemberService;
+import com.ll.quizzle.global.socket.security.WebSocketSecurityService;
+import com.ll.quizzle.global.socket.service.WebSocketNotificationService;
+import com.ll.quizzle.global.socket.session.WebSocketSessionManager;
+import com.ll.quizzle.global.socket.session.WebSocketSessionRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class StompChannelInterceptorTest {
+
+    private static final String EMAIL = "test@example.com";
+    private static final String SESSION_ID = "stomp-session-1";
+
+    @Mock
+    private MemberService memberService;
+
+    @Mock
+    private WebSocketSessionRegistry sessionRegistry;
+
+    @Mock
+    private WebSocketNotificationService notificationService;
+
+    @Mock
+    private WebSocketSecurityService securityService;
+
+    @Mock
+    private WebSocketSessionManager sessionManager;
+
+    @Mock
+    private MessageChannel channel;
+
+    @InjectMocks
+    private StompChannelInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(interceptor, "sessionValidationCacheMillis", 60_000L);
+        when(sessionRegistry.getSessionManager()).thenReturn(sessionManager);
+    }
+
+    @Test
+    @DisplayName("검증된 세션의 연속 SEND 프레임은 보관 시간 동안 세션 저장소를 다시 조회하지 않는다")
+    void testSendUsesLocalValidationCache() {
+        // given
+        when(sessionManager.validateAndRefresh(EMAIL, SESSION_ID)).thenReturn(true);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            assertThat(interceptor.preSend(frame(StompCommand.SEND), channel)).isNotNull();
+        }
+
+        // then
+        verify(sessionManager, times(1)).validateAndRefresh(EMAIL, SESSION_ID);
+        verify(sessionManager, never()).isSessionValid(anyString(), anyString());
+        verify(sessionManager, never()).refreshSession(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 세션은 메시지를 막고 결과를 보관하지 않는다")
+    void testInvalidSessionIsRejectedEveryTime() {
+        // given
+        when(sessionManager.validateAndRefresh(EMAIL, SESSION_ID)).thenReturn(false);
+
+        // when
+        Message<?> first = interceptor.preSend(frame(StompCommand.SEND), channel);
+        Message<?> second = interceptor.preSend(frame(StompCommand.SEND), channel);
+
+        // then
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        verify(sessionManager, times(2)).validateAndRefresh(EMAIL, SESSION_ID);
+        verify(notificationService, times(2)).sendTokenExpiredNotification(EMAIL);
+    }
+
+    @Test
+    @DisplayName("보관 시간이 지나거나 연결이 끊기면 다음 SEND 에서 다시 검증한다")
+    void testCacheExpiresAndIsClearedOnDisconnect() {
+        // given
+        when(sessionManager.validateAndRefresh(EMAIL, SESSION_ID)).thenReturn(true);
+
+        // when
+        interceptor.preSend(frame(StompCommand.SEND), channel);
+        interceptor.preSend(frame(StompCommand.DISCONNECT), channel);
+        interceptor.preSend(frame(StompCommand.SEND), channel);
+        interceptor.preSend(frame(StompCommand.DISCONNECT), channel);
+
+        ReflectionTestUtils.setField(interceptor, "sessionValidationCacheMillis", 0L);
+        interceptor.preSend(frame(StompCommand.SEND), channel);
+        interceptor.preSend(frame(StompCommand.SEND), channel);
+
+        // then
+        verify(sessionManager, times(4)).validateAndRefresh(EMAIL, SESSION_ID);
+    }
+
+    private Message<byte[]> frame(StompCommand command) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(SESSION_ID);
+        accessor.setUser(new UsernamePasswordAuthenticationToken(EMAIL, null));
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        sessionAttributes.put("email", EMAIL);
+        accessor.setSessionAttributes(sessionAttributes);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
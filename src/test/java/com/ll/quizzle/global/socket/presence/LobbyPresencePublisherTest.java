@@ -0,0 +1,155 @@
+package com.ll.quizzle.global.socket.presence;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.quizzle.domain.member.cache.MemberSummaryCache;
+import com.ll.quizzle.domain.member.dto.MemberSummary;
+import com.ll.quizzle.global.config.LobbyPresenceProperties;
+import com.ll.quizzle.global.socket.core.MessageService;
+import com.ll.quizzle.global.socket.core.MessageServiceFactory;
+import com.ll.quizzle.global.socket.core.SessionInfo;
+import com.ll.quizzle.global.socket.session.WebSocketSessionManager;
+import com.ll.quizzle.global.socket.session.WebSocketSessionRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class LobbyPresencePublisherTest {
+
+    @Mock
+    private WebSocketSessionRegistry sessionRegistry;
+
+    @Mock
+    private WebSocketSessionManager sessionManager;
+
+    @Mock
+    private MemberSummaryCache memberSummaryCache;
+
+    @Mock
+    private MessageServiceFactory messageServiceFactory;
+
+    @Mock
+    private MessageService messageService;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private LobbyPresenceProperties properties;
+    private LobbyPresencePublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LobbyPresenceProperties();
+        properties.setFlushInterval(Duration.ofSeconds(10));
+        publisher = new LobbyPresencePublisher(properties, sessionRegistry, memberSummaryCache,
+                messageServiceFactory, messagingTemplate, objectMapper);
+
+        when(sessionRegistry.getSessionManager()).thenReturn(sessionManager);
+        when(messageServiceFactory.getRoomService()).thenReturn(messageService);
+        when(memberSummaryCache.getAll(anyCollection())).thenAnswer(invocation -> {
+            Map<String, MemberSummary> summaries = new HashMap<>();
+            for (String email : invocation.<Collection<String>>getArgument(0)) {
+                summaries.put(email, new MemberSummary((long) email.hashCode(), email, "닉네임-" + email, null));
+            }
+            return summaries;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown();
+    }
+
+    @Test
+    @DisplayName("짧은 시간에 몰린 접속/종료는 변경분 한 번으로 묶어 보낸다")
+    void testBurstIsCoalescedIntoOneDelta() throws Exception {
+        // given
+        properties.setFlushInterval(Duration.ofMillis(200));
+        publisher.init();
+        Set<String> online = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            if (i % 4 != 0) {
+                online.add("user" + i + "@test.com");
+            }
+        }
+        when(sessionManager.findOnlineUsers(anyCollection())).thenReturn(online);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            String email = "user" + i + "@test.com";
+            publisher.presenceChanged(email);
+            publisher.presenceChanged(email);
+        }
+
+        // then
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(messageService, timeout(2000).times(1)).send(eq(LobbyPresencePublisher.DELTA_DESTINATION), payload.capture());
+        JsonNode delta = objectMapper.readTree((String) payload.getValue());
+        assertThat(delta.get("joined")).hasSize(75);
+        assertThat(delta.get("left")).hasSize(25);
+        assertThat(delta.get("joined").get(0).get("nickname").asText()).startsWith("닉네임-");
+
+        verify(memberSummaryCache, times(1)).getAll(anyCollection());
+        verify(sessionManager, never()).getActiveUserSessions();
+    }
+
+    @Test
+    @DisplayName("전송 후 들어온 변경은 새로 예약되고, 변경이 없으면 아무것도 보내지 않는다")
+    void testFlushReschedulesOnlyForNewChanges() {
+        // given
+        properties.setFlushInterval(Duration.ofMillis(50));
+        publisher.init();
+        when(sessionManager.findOnlineUsers(anyCollection())).thenReturn(Set.of("a@test.com"));
+        publisher.presenceChanged("a@test.com");
+        verify(messageService, timeout(2000).times(1)).send(eq(LobbyPresencePublisher.DELTA_DESTINATION), any());
+
+        // when
+        publisher.presenceChanged("b@test.com");
+        verify(messageService, timeout(2000).times(2)).send(eq(LobbyPresencePublisher.DELTA_DESTINATION), any());
+        publisher.flush();
+
+        // then
+        verify(messageService, times(2)).send(eq(LobbyPresencePublisher.DELTA_DESTINATION), any());
+    }
+
+    @Test
+    @DisplayName("전체 목록은 요청자에게만 보내고, 짧은 시간 안의 요청은 만든 목록을 재사용한다")
+    void testSnapshotOnDemand() {
+        // given
+        Map<String, Map<String, SessionInfo>> activeSessions = new HashMap<>();
+        activeSessions.put("a@test.com", Map.of("s1", new SessionInfo("token", Long.MAX_VALUE, "s1")));
+        when(sessionManager.getActiveUserSessions()).thenReturn(activeSessions);
+
+        // when
+        publisher.sendSnapshot("닉네임1");
+        publisher.sendSnapshot("닉네임2");
+
+        // then
+        verify(messagingTemplate).convertAndSend(eq("/user/닉네임1/queue/lobby/users"), anyString());
+        verify(messagingTemplate).convertAndSend(eq("/user/닉네임2/queue/lobby/users"), anyString());
+        verify(sessionManager, times(1)).getActiveUserSessions();
+        verify(messageService, never()).send(anyString(), any());
+    }
+}
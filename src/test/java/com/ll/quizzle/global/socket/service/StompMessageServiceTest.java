@@ -1,21 +1,29 @@
 package com.ll.quizzle.global.socket.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.quizzle.global.socket.broadcast.StompBroadcaster;
 import com.ll.quizzle.global.socket.core.MessageCallback;
 import com.ll.quizzle.global.socket.service.stomp.StompMessageService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.MimeTypeUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -30,7 +38,8 @@ class StompMessageServiceTest {
 
     @BeforeEach
     void setUp() {
-        stompMessageService = new StompMessageService(messagingTemplate);
+        stompMessageService = new StompMessageService(messagingTemplate,
+                new StompBroadcaster(messagingTemplate, new ObjectMapper()));
     }
 
     @Test
@@ -47,6 +56,24 @@ class StompMessageServiceTest {
         verify(messagingTemplate, times(1)).convertAndSend(eq(destination), eq(message));
     }
 
+    @Test
+    @DisplayName("인코딩된 JSON 바이트는 변환 없이 그대로 전송한다")
+    void testSendEncodedMessage() {
+        // given
+        String destination = "/topic/room/1";
+        byte[] payload = "{\"type\":\"JOIN\"}".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        stompMessageService.send(destination, payload);
+
+        // then
+        ArgumentCaptor<Message<?>> sent = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate, times(1)).send(eq(destination), sent.capture());
+        assertThat(sent.getValue().getPayload()).isSameAs(payload);
+        assertThat(sent.getValue().getHeaders().get(MessageHeaders.CONTENT_TYPE)).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
     @Test
     @DisplayName("개인 메시지 전송 테스트")
     void testSendToUser() {
@@ -1,6 +1,10 @@
 package com.ll.quizzle.global.socket.service;
 
 import com.ll.quizzle.domain.member.service.MemberService;
+import com.ll.quizzle.domain.quiz.cache.QuizContentCache;
+import com.ll.quizzle.domain.quiz.dto.QuizContent;
+import com.ll.quizzle.domain.quiz.dto.QuizRound;
+import com.ll.quizzle.domain.quiz.util.QuizSubmissionScripts;
 import com.ll.quizzle.global.socket.dto.response.WebSocketQuizSubmitResponse;
 import com.ll.quizzle.global.socket.service.quiz.RedisQuizSubmissionService;
 import com.ll.quizzle.global.socket.type.RoomMessageType;
@@ -8,18 +12,29 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
-import org.springframework.data.redis.core.ListOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.SetOperations;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -35,16 +50,10 @@ class RedisQuizSubmissionServiceTest {
     private RedisTemplate<String, Object> redisTemplate;
 
     @Mock
-    private ListOperations<String, Object> listOps;
-
-    @Mock
-    private SetOperations<String, Object> setOps;
-
-    @Mock
-    private ValueOperations<String, Object> valueOps;
+    private MemberService memberService;
 
     @Mock
-    private MemberService memberService;
+    private QuizContentCache quizContentCache;
 
     @InjectMocks
     private RedisQuizSubmissionService quizSubmissionService;
@@ -54,36 +63,31 @@ class RedisQuizSubmissionServiceTest {
     private final String memberId = "12";
     private final int questionNumber = 1;
     private final String submittedAnswer = "a";
-    private final String answerKey = "quiz:" + quizId + ":answers";
-    private final String currentQuestionKey = "quiz:" + quizId + ":currentQuestion";
-    // 수정된 제출 키: "quiz:%s:memberId:%s:submissions"
-    private final String submissionKey = String.format("quiz:%s:memberId:%s:submissions", quizId, memberId);
-    private final String submittedSetKey = String.format("quiz:%s:submitted:%d", quizId, questionNumber);
-    private final String participantsKey = String.format("quiz:%s:participants", quizId);
+    private final String notificationChannel = String.format("quiz:%s:notifications", quizId);
+
+    private FakeSubmissionScript redis;
 
     @BeforeEach
     void setUp() {
-        // 각 Operations 객체를 목(mock)으로 설정
-        when(redisTemplate.opsForList()).thenReturn(listOps);
-        when(redisTemplate.opsForSet()).thenReturn(setOps);
-        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        // 제출 스크립트를 Redis 처럼 한 번에 하나씩 실행하는 가짜 구현으로 대체
+        redis = new FakeSubmissionScript();
+        doAnswer(invocation -> redis.execute(invocation.getArgument(3), invocation.getArguments()))
+                .when(redisTemplate).execute(
+                        ArgumentMatchers.<RedisScript<String>>any(),
+                        ArgumentMatchers.<RedisSerializer<?>>any(),
+                        ArgumentMatchers.<RedisSerializer<String>>any(),
+                        anyList(),
+                        any(Object[].class));
     }
 
     @Test
     @DisplayName("정상 제출 흐름 - 올바른 WebSocketQuizSubmitResponse 반환")
     void testValidSubmissionFlow() {
         // 전체 문제 수 1, 정답 리스트에 "1:a" 저장되어 있다고 가정
-        when(listOps.size(eq(answerKey))).thenReturn(1L);
-        when(listOps.index(eq(answerKey), eq((long) questionNumber - 1))).thenReturn("1:a");
-        // 활성 문제 번호가 없으므로 null -> 서비스 내에서 1로 초기화
-        when(valueOps.get(eq(currentQuestionKey))).thenReturn(null);
-        // 중복 제출 검사: 제출 키의 range는 빈 리스트 반환
-        when(listOps.range(eq(submissionKey), anyLong(), anyLong())).thenReturn(Collections.emptyList());
-        // 제출 Set: 아직 제출되지 않음
-        when(setOps.isMember(eq(submittedSetKey), eq(memberId))).thenReturn(false);
+        redis.answers.add("\"1:a\"");
         // 참가자 수와 제출된 인원이 모두 2명인 경우 -> 이벤트 발행 대상
-        when(setOps.size(eq(participantsKey))).thenReturn(2L);
-        when(setOps.size(eq(submittedSetKey))).thenReturn(2L);
+        redis.participants = 2;
+        redis.submitted("quiz:quiz1:submitted:1").add("\"99\"");
 
         WebSocketQuizSubmitResponse response = quizSubmissionService.submitAnswer(
                 quizId, memberId, questionNumber, submittedAnswer
@@ -95,26 +99,30 @@ class RedisQuizSubmissionServiceTest {
         assertThat(response.questionNumber()).isEqualTo(questionNumber);
         assertThat(response.correct()).isTrue();
         assertThat(response.correctAnswer()).isEqualTo("a");
-        // DTO에는 message 필드가 없으므로 검증하지 않음.
         assertThat(response.memberId()).isEqualTo(memberId);
         // 테스트 환경에서는 nickname을 memberId로 설정했다고 가정함.
         assertThat(response.nickname()).isEqualTo(memberId);
         assertThat(response.isSubmitted()).isTrue();
         assertThat(response.quizId()).isEqualTo(quizId);
 
-        // 모든 참가자가 제출되었으므로, convertAndSend()가 호출되어 "quizEnd" 이벤트가 발행되어야 함.
-        ArgumentCaptor<String> channelCaptor = ArgumentCaptor.forClass(String.class);
-        ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
-        verify(redisTemplate, times(1))
-                .convertAndSend(channelCaptor.capture(), eventCaptor.capture());
-        assertThat(channelCaptor.getValue()).isEqualTo(String.format("quiz:%s:notifications", quizId));
-        assertThat(eventCaptor.getValue()).isEqualTo("quizEnd");
+        // 모든 참가자가 제출되었으므로 "quizEnd" 이벤트가 스크립트 안에서 발행되어야 함.
+        assertThat(redis.published).containsExactly(notificationChannel + "=\"quizEnd:1\"");
+        assertThat(redis.submissions).containsExactly("\"1:a:correct\"");
+        assertThat(redis.currentRound).isEqualTo("0");
+        // 한 번의 스크립트 호출로 처리
+        verify(redisTemplate, times(1)).execute(
+                eq(QuizSubmissionScripts.SUBMIT_SCRIPT), any(), any(),
+                eq(QuizSubmissionScripts.submitKeys(quizId, memberId, questionNumber)), any(Object[].class));
+        verify(redisTemplate, never()).opsForList();
+        verify(redisTemplate, never()).opsForSet();
+        verify(redisTemplate, never()).opsForValue();
     }
 
     @Test
     @DisplayName("잘못된 문제 번호 처리 - 문제 번호가 전체 문제 수 초과인 경우 예외 발생")
     void testInvalidQuestionNumber() {
-        when(listOps.size(eq(answerKey))).thenReturn(2L);
+        redis.answers.add("\"1:a\"");
+        redis.answers.add("\"2:b\"");
         assertThrows(IllegalArgumentException.class, () ->
                 quizSubmissionService.submitAnswer(quizId, memberId, 3, submittedAnswer)
         );
@@ -123,8 +131,7 @@ class RedisQuizSubmissionServiceTest {
     @Test
     @DisplayName("정답 형식 오류 - Redis에 저장된 정답 형식이 잘못된 경우 예외 발생")
     void testAnswerFormatError() {
-        when(listOps.size(eq(answerKey))).thenReturn(1L);
-        when(listOps.index(eq(answerKey), eq((long) questionNumber - 1))).thenReturn("invalidFormat");
+        redis.answers.add("\"invalidFormat\"");
         assertThrows(IllegalStateException.class, () ->
                 quizSubmissionService.submitAnswer(quizId, memberId, questionNumber, submittedAnswer)
         );
@@ -133,16 +140,9 @@ class RedisQuizSubmissionServiceTest {
     @Test
     @DisplayName("중복 제출 방지 - 같은 사용자가 두 번 제출 시 예외 발생")
     void testDuplicateSubmission() {
-        when(listOps.size(eq(answerKey))).thenReturn(1L);
-        when(listOps.index(eq(answerKey), eq((long) questionNumber - 1))).thenReturn("1:a");
-        when(valueOps.get(eq(currentQuestionKey))).thenReturn(1);
-        // 첫 호출: 빈 리스트, 두 번째 호출: 이미 제출된 기록이 포함되어 중복 제출로 판단
-        when(listOps.range(eq(submissionKey), anyLong(), anyLong()))
-                .thenReturn(Collections.emptyList())
-                .thenReturn(Collections.singletonList("1:a:correct"));
-        when(setOps.isMember(eq(submittedSetKey), eq(memberId))).thenReturn(false);
-        when(setOps.size(eq(participantsKey))).thenReturn(1L);
-        when(setOps.size(eq(submittedSetKey))).thenReturn(1L);
+        redis.answers.add("\"1:a\"");
+        redis.currentRound = "0";
+        redis.participants = 1;
 
         WebSocketQuizSubmitResponse firstResponse = quizSubmissionService.submitAnswer(quizId, memberId, questionNumber, submittedAnswer);
         assertThat(firstResponse).isNotNull();
@@ -150,35 +150,189 @@ class RedisQuizSubmissionServiceTest {
         assertThrows(IllegalStateException.class, () ->
                 quizSubmissionService.submitAnswer(quizId, memberId, questionNumber, submittedAnswer)
         );
+        assertThat(redis.submissions).hasSize(1);
     }
 
     @Test
     @DisplayName("현재 활성 문제 번호 검증 - 제출 요청 문제 번호가 활성 문제 번호와 다르면 예외 발생")
     void testCurrentQuestionMismatch() {
-        when(listOps.size(eq(answerKey))).thenReturn(1L);
-        when(listOps.index(eq(answerKey), eq((long) questionNumber - 1))).thenReturn("1:a");
-        when(valueOps.get(eq(currentQuestionKey))).thenReturn(2);
+        redis.answers.add("\"1:a\"");
+        redis.currentRound = "2";
         assertThrows(IllegalStateException.class, () ->
                 quizSubmissionService.submitAnswer(quizId, memberId, questionNumber, submittedAnswer)
         );
+        assertThat(redis.submissions).isEmpty();
     }
 
     @Test
     @DisplayName("모든 참가자 제출 후 이벤트 발행 테스트 - 제출 인원과 참가자 수가 일치하면 이벤트 발행")
     void testAllParticipantsSubmittedEventEmitted() {
-        when(listOps.size(eq(answerKey))).thenReturn(1L);
-        when(listOps.index(eq(answerKey), eq((long) questionNumber - 1))).thenReturn("1:a");
-        when(valueOps.get(eq(currentQuestionKey))).thenReturn(1);
-        when(listOps.range(eq(submissionKey), anyLong(), anyLong())).thenReturn(Collections.emptyList());
-        when(setOps.isMember(eq(submittedSetKey), eq(memberId))).thenReturn(false);
-        when(setOps.size(eq(participantsKey))).thenReturn(3L);
-        when(setOps.size(eq(submittedSetKey))).thenReturn(3L);
+        redis.answers.add("\"1:a\"");
+        redis.answers.add("\"2:c\"");
+        redis.currentRound = "0";
+        redis.participants = 3;
+        redis.submitted("quiz:quiz1:submitted:1").addAll(Set.of("\"1\"", "\"2\""));
 
         WebSocketQuizSubmitResponse response = quizSubmissionService.submitAnswer(quizId, memberId, questionNumber, submittedAnswer);
 
-        verify(redisTemplate, times(1)).convertAndSend(eq(String.format("quiz:%s:notifications", quizId)), eq("quizEnd"));
+        assertThat(redis.published).containsExactly(notificationChannel + "=\"nextQuestion:1\"");
         assertThat(response).isNotNull();
         assertThat(response.questionNumber()).isEqualTo(questionNumber);
         assertThat(response.quizId()).isEqualTo(quizId);
     }
+
+    @Test
+    @DisplayName("로컬 캐시에 퀴즈가 있으면 정답과 문제 수를 스크립트에 함께 넘긴다")
+    void testCachedContentPassedToScript() {
+        when(quizContentCache.get(quizId)).thenReturn(Optional.of(new QuizContent(
+                List.of("1: 첫 번째 문제\n", "2: 두 번째 문제\n"), List.of("B", "c"))));
+        redis.participants = 2;
+
+        WebSocketQuizSubmitResponse response = quizSubmissionService.submitAnswer(quizId, memberId, questionNumber, "b");
+
+        assertThat(response.correct()).isTrue();
+        assertThat(response.correctAnswer()).isEqualTo("b");
+        assertThat(redis.contentReads.get()).isZero();
+
+        assertThrows(IllegalArgumentException.class, () ->
+                quizSubmissionService.submitAnswer(quizId, memberId, 3, "b"));
+        verify(redisTemplate, times(1)).execute(
+                eq(QuizSubmissionScripts.SUBMIT_SCRIPT), any(), any(), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("로컬 캐시에 정답이 없으면 빈 값을 넘겨 스크립트가 Redis 에서 정답을 읽는다")
+    void testCachedContentWithoutAnswerFallsBackToRedis() {
+        QuizContent content = mock(QuizContent.class);
+        when(content.questionCount()).thenReturn(1);
+        when(content.round(0)).thenReturn(new QuizRound(1, "1: 첫 번째 문제\n", null));
+        when(quizContentCache.get(quizId)).thenReturn(Optional.of(content));
+        redis.answers.add("\"1:a\"");
+        redis.participants = 2;
+
+        WebSocketQuizSubmitResponse response = quizSubmissionService.submitAnswer(quizId, memberId, questionNumber, submittedAnswer);
+
+        assertThat(response.correct()).isTrue();
+        assertThat(redis.contentReads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 회원이 같은 문제에 동시에 여러 번 제출해도 한 건만 기록된다")
+    void testConcurrentDuplicateSubmissions() throws Exception {
+        redis.answers.add("\"1:a\"");
+        redis.currentRound = "0";
+        redis.participants = 4;
+
+        int attempts = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(attempts);
+        CountDownLatch ready = new CountDownLatch(attempts);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger duplicates = new AtomicInteger();
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < attempts; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    try {
+                        quizSubmissionService.submitAnswer(quizId, memberId, questionNumber, submittedAnswer);
+                        accepted.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        duplicates.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            ready.await(5, TimeUnit.SECONDS);
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(accepted.get()).isEqualTo(1);
+        assertThat(duplicates.get()).isEqualTo(attempts - 1);
+        assertThat(redis.submissions).hasSize(1);
+        assertThat(redis.submitted("quiz:quiz1:submitted:1")).containsExactly("\"12\"");
+    }
+
+    /**
+     * SUBMIT_SCRIPT 와 같은 규칙을 따르는 인메모리 구현
+     * Redis 가 스크립트를 한 번에 하나씩 실행하는 것처럼 synchronized 로 직렬화한다.
+     */
+    private static class FakeSubmissionScript {
+        private final List<String> answers = new ArrayList<>();
+        private final List<String> submissions = new ArrayList<>();
+        private final List<String> published = new ArrayList<>();
+        private final Map<String, Set<String>> submittedSets = new ConcurrentHashMap<>();
+        private final AtomicInteger contentReads = new AtomicInteger();
+        private volatile String currentRound;
+        private volatile int participants;
+
+        Set<String> submitted(String key) {
+            return submittedSets.computeIfAbsent(key, k -> new HashSet<>());
+        }
+
+        synchronized String execute(List<String> keys, Object[] arguments) {
+            // arguments: script, argsSerializer, resultSerializer, keys, ARGV... (가변 인자는 펼쳐진 상태)
+            String[] argv = new String[arguments.length - 4];
+            for (int i = 0; i < argv.length; i++) {
+                argv[i] = (String) arguments[i + 4];
+            }
+
+            int question = Integer.parseInt(argv[1]);
+            String answer = argv[4];
+            int total = argv[5].isEmpty() ? -1 : Integer.parseInt(argv[5]);
+
+            if (answer.isEmpty()) {
+                contentReads.incrementAndGet();
+                total = answers.size();
+                if (question >= 1 && question <= total) {
+                    String entry = answers.get(question - 1).replace("\"", "");
+                    int separator = entry.indexOf(':');
+                    if (separator < 0) {
+                        return "MALFORMED_ANSWER";
+                    }
+                    answer = entry.substring(separator + 1).trim();
+                }
+            }
+
+            if (question < 1 || question > total) {
+                return "INVALID_QUESTION";
+            }
+            if (answer.isEmpty()) {
+                return "ANSWER_NOT_FOUND";
+            }
+            answer = answer.toLowerCase();
+
+            if (currentRound == null) {
+                currentRound = "0";
+            }
+            if (Integer.parseInt(currentRound) != question - 1) {
+                return "NOT_CURRENT_ROUND";
+            }
+
+            Set<String> submittedSet = submitted(keys.get(4));
+            if (!submittedSet.add("\"" + argv[0] + "\"")) {
+                return "DUPLICATE";
+            }
+
+            boolean correct = answer.equals(argv[2]);
+            submissions.add("\"" + question + ":" + argv[2] + ":" + (correct ? "correct" : "incorrect") + "\"");
+
+            int submitted = submittedSet.size();
+            String event = "";
+            if (submitted == participants) {
+                event = question == total ? "quizEnd" : "nextQuestion";
+                published.add(argv[6] + "=\"" + event + ":" + question + "\"");
+            }
+
+            return String.join("\u001f", "ACCEPTED", correct ? "1" : "0", answer,
+                    String.valueOf(total), String.valueOf(submitted), String.valueOf(participants), event);
+        }
+    }
 }
@@ -0,0 +1,138 @@
+package com.ll.quizzle.global.socket.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.quizzle.domain.member.cache.MemberSummaryCache;
+import com.ll.quizzle.domain.member.dto.MemberSummary;
+import com.ll.quizzle.domain.member.entity.Member;
+import com.ll.quizzle.domain.quiz.util.QuizSubmissionScripts;
+import com.ll.quizzle.domain.room.entity.Room;
+import com.ll.quizzle.domain.room.type.RoomStatus;
+import com.ll.quizzle.global.socket.broadcast.StompBroadcaster;
+import com.ll.quizzle.global.socket.core.MessageService;
+import com.ll.quizzle.global.socket.core.MessageServiceFactory;
+import com.ll.quizzle.global.socket.type.RoomMessageType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class WebSocketRoomMessageServiceTest {
+
+    private static final Long ROOM_ID = 42L;
+
+    @Mock
+    private MessageServiceFactory messageServiceFactory;
+
+    @Mock
+    private MessageService messageService;
+
+    @Mock
+    private MemberSummaryCache memberSummaryCache;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private Room room;
+
+    @Mock
+    private Member owner;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private WebSocketRoomMessageService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new WebSocketRoomMessageService(objectMapper, messageServiceFactory, memberSummaryCache,
+                redisTemplate, new StompBroadcaster(messagingTemplate, objectMapper));
+
+        Set<Long> players = new LinkedHashSet<>();
+        Map<Long, MemberSummary> summaries = new HashMap<>();
+        for (long id = 1; id <= 8; id++) {
+            players.add(id);
+            summaries.put(id, new MemberSummary(id, "user" + id + "@test.com", "플레이어" + id, "/avatars/" + id + ".png"));
+        }
+
+        when(messageServiceFactory.getRoomService()).thenReturn(messageService);
+        when(memberSummaryCache.getAllByIds(anyCollection())).thenReturn(summaries);
+        when(room.getId()).thenReturn(ROOM_ID);
+        when(room.getPlayers()).thenReturn(players);
+        when(room.getReadyPlayers()).thenReturn(Set.of(2L, 3L));
+        when(owner.getId()).thenReturn(1L);
+        when(room.getOwner()).thenReturn(owner);
+    }
+
+    @Test
+    @DisplayName("플레이어 목록은 회원 조회 한 번과 제출 여부 스크립트 한 번으로 만든다")
+    void testPlayersListIsBatched() throws Exception {
+        // given
+        when(room.getStatus()).thenReturn(RoomStatus.IN_GAME);
+        when(redisTemplate.execute(eq(QuizSubmissionScripts.SUBMITTED_MEMBERS_SCRIPT), any(RedisSerializer.class),
+                any(RedisSerializer.class), anyList(), any(Object[].class))).thenReturn("1,5");
+
+        // when
+        service.sendSystemWithPlayersList(room, RoomMessageType.ROOM_UPDATED, "방 정보가 업데이트되었습니다.");
+
+        // then
+        verify(memberSummaryCache, times(1)).getAllByIds(anyCollection());
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), any(RedisSerializer.class),
+                any(RedisSerializer.class), eq(List.of("room:42:quizId")), args.capture());
+        assertThat(args.getValue()).hasSize(8);
+
+        JsonNode players = playersOfSentMessage();
+        assertThat(players).hasSize(8);
+        assertThat(players.get(0).get("isOwner").asBoolean()).isTrue();
+        assertThat(players.get(1).get("isReady").asBoolean()).isTrue();
+        assertThat(players.get(4).get("avatarUrl").asText()).isEqualTo("/avatars/5.png");
+        assertThat(players).filteredOn(player -> player.get("isSubmitted").asBoolean())
+                .extracting(player -> player.get("id").asText())
+                .containsExactly("1", "5");
+    }
+
+    @Test
+    @DisplayName("게임 중이 아니면 제출 여부를 Redis 에서 읽지 않는다")
+    void testWaitingRoomSkipsSubmissionLookup() throws Exception {
+        // given
+        when(room.getStatus()).thenReturn(RoomStatus.WAITING);
+
+        // when
+        service.sendSystemWithPlayersList(room, RoomMessageType.ROOM_UPDATED, "방 정보가 업데이트되었습니다.");
+
+        // then
+        verifyNoInteractions(redisTemplate);
+        assertThat(playersOfSentMessage()).allSatisfy(player -> assertThat(player.get("isSubmitted").asBoolean()).isFalse());
+    }
+
+    private JsonNode playersOfSentMessage() throws Exception {
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(messageService).send(eq("/topic/room/" + ROOM_ID), payload.capture());
+        JsonNode message = objectMapper.readTree((byte[]) payload.getValue());
+        return objectMapper.readTree(message.get("data").asText());
+    }
+}
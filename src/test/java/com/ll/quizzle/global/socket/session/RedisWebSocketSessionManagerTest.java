@@ -0,0 +1,185 @@
+package com.ll.quizzle.global.socket.session;
+
+import com.ll.quizzle.global.socket.core.SessionInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class RedisWebSocketSessionManagerTest {
+
+    private static final String ONLINE_USERS_KEY = "ws:online";
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, Object> zSetOps;
+
+    @Mock
+    private ValueOperations<String, Object> valueOps;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOps;
+
+    @InjectMocks
+    private RedisWebSocketSessionManager sessionManager;
+
+    private final long now = System.currentTimeMillis();
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOps);
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        doReturn(hashOps).when(redisTemplate).opsForHash();
+    }
+
+    @Test
+    @DisplayName("접속 사용자 목록은 KEYS 없이 색인 범위 조회와 MGET 한 번으로 만든다")
+    void testGetActiveUserSessionsWithoutKeys() {
+        // given
+        SessionInfo first = new SessionInfo("token-a", now + 60_000, "s1");
+        SessionInfo second = new SessionInfo("token-a", now + 60_000, "s2");
+        SessionInfo third = new SessionInfo("token-b", now + 60_000, "s3");
+
+        when(zSetOps.rangeByScore(eq(ONLINE_USERS_KEY), anyDouble(), anyDouble()))
+                .thenReturn(new LinkedHashSet<>(List.of("a@test.com", "b@test.com", "gone@test.com")));
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(new ArrayList<>(List.of(
+                Map.of("s1", now, "s2", now),
+                Map.of("s3", now),
+                Map.of()
+        )));
+        when(valueOps.multiGet(anyCollection())).thenAnswer(invocation -> {
+            List<String> keys = new ArrayList<>(invocation.getArgument(0));
+            return keys.stream().map(key -> switch (key) {
+                case "ws:session:s1" -> first;
+                case "ws:session:s2" -> second;
+                case "ws:session:s3" -> third;
+                default -> null;
+            }).toList();
+        });
+
+        // when
+        Map<String, Map<String, SessionInfo>> activeSessions = sessionManager.getActiveUserSessions();
+
+        // then
+        assertThat(activeSessions).containsOnlyKeys("a@test.com", "b@test.com");
+        assertThat(activeSessions.get("a@test.com")).containsOnlyKeys("s1", "s2");
+        assertThat(activeSessions.get("b@test.com")).containsEntry("s3", third);
+
+        verify(redisTemplate, never()).keys(anyString());
+        verify(valueOps, times(1)).multiGet(anyCollection());
+        verify(valueOps, never()).get(anyString());
+    }
+
+    @Test
+    @DisplayName("만료 정리는 오래된 색인을 지우고 만료된 세션만 콜백 후 제거한다")
+    void testRemoveExpiredSessions() {
+        // given
+        SessionInfo expired = new SessionInfo("token-a", now - 1_000, "s1");
+        SessionInfo valid = new SessionInfo("token-a", now + 60_000, "s2");
+
+        when(zSetOps.range(ONLINE_USERS_KEY, 0, -1)).thenReturn(Set.of("a@test.com"));
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenReturn(new ArrayList<>(List.of(Map.of("s1", now, "s2", now))));
+        when(valueOps.multiGet(anyCollection())).thenAnswer(invocation -> {
+            List<String> keys = new ArrayList<>(invocation.getArgument(0));
+            return keys.stream().map(key -> key.equals("ws:session:s1") ? expired : valid).toList();
+        });
+        when(hashOps.size("ws:user:a@test.com")).thenReturn(1L);
+
+        List<String> expiredSessionIds = new ArrayList<>();
+
+        // when
+        sessionManager.removeExpiredSessions(now, (email, info) -> expiredSessionIds.add(info.sessionId()));
+
+        // then
+        assertThat(expiredSessionIds).containsExactly("s1");
+        verify(zSetOps).removeRangeByScore(eq(ONLINE_USERS_KEY), eq(Double.NEGATIVE_INFINITY), anyDouble());
+        verify(redisTemplate).delete("ws:session:s1");
+        verify(redisTemplate, never()).delete("ws:session:s2");
+        verify(redisTemplate, never()).keys(anyString());
+        // 세션이 남아 있으므로 색인에서는 빠지지 않는다.
+        verify(zSetOps, never()).remove(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("세션 등록은 기존 세션 정보를 MGET 한 번으로 읽고 쓰기는 파이프라인 한 번으로 보낸다")
+    void testRegisterSessionPipelined() {
+        // given
+        String email = "a@test.com";
+        when(hashOps.entries("ws:user:" + email)).thenReturn(Map.of("old-1", now - 60_000, "old-2", now - 60_000));
+        when(valueOps.multiGet(anyCollection())).thenAnswer(invocation -> {
+            List<String> keys = new ArrayList<>(invocation.getArgument(0));
+            return keys.stream().map(key -> (Object) new SessionInfo("token-old", now + 60_000, key)).toList();
+        });
+
+        // when
+        sessionManager.registerSession(email, "s1", "token-a", now + 60_000);
+
+        // then
+        verify(valueOps, times(1)).multiGet(anyCollection());
+        verify(valueOps, never()).get(anyString());
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+        verify(valueOps, never()).set(anyString(), any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("유효성 검사와 갱신은 스크립트 한 번으로 처리하고 결과 코드에 따라 성공 여부를 반환한다")
+    @SuppressWarnings("unchecked")
+    void testValidateAndRefreshSingleScript() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(1L, 0L, -1L);
+
+        // when & then
+        assertThat(sessionManager.validateAndRefresh("a@test.com", "s1")).isTrue();
+        assertThat(sessionManager.validateAndRefresh("a@test.com", "s1")).isFalse();
+        assertThat(sessionManager.validateAndRefresh("a@test.com", "s1")).isFalse();
+
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(redisTemplate, times(3)).execute(any(RedisScript.class), keys.capture(), any(Object[].class));
+        assertThat(keys.getValue()).containsExactly("ws:session:s1", "ws:user:a@test.com", ONLINE_USERS_KEY);
+        verify(valueOps, never()).get(anyString());
+        verify(hashOps, never()).hasKey(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("마지막 세션이 제거되면 색인에서 뺀다")
+    void testOnlineIndexRemoval() {
+        // given
+        String email = "a@test.com";
+        when(hashOps.size("ws:user:" + email)).thenReturn(0L);
+
+        // when
+        sessionManager.removeSession(email, "s1");
+
+        // then
+        verify(zSetOps).remove(ONLINE_USERS_KEY, email);
+        verify(redisTemplate).delete("ws:user:" + email);
+    }
+}